@@ -0,0 +1,26 @@
+package com.nexashop.api.config;
+
+import com.nexashop.application.port.out.AuditPartitionManager;
+import com.nexashop.infrastructure.audit.NoopAuditPartitionManager;
+import com.nexashop.infrastructure.audit.PostgresAuditPartitionManager;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class AuditConfig {
+
+    @Bean
+    public AuditPartitionManager auditPartitionManager(
+            @Value("${audit.partitioning.enabled:false}") boolean partitioningEnabled,
+            @Value("${spring.datasource.url:}") String datasourceUrl,
+            DataSource dataSource
+    ) {
+        if (partitioningEnabled && datasourceUrl.startsWith("jdbc:postgresql:")) {
+            return new PostgresAuditPartitionManager(new JdbcTemplate(dataSource));
+        }
+        return new NoopAuditPartitionManager();
+    }
+}
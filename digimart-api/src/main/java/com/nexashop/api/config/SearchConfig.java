@@ -0,0 +1,43 @@
+package com.nexashop.api.config;
+
+import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.application.port.out.ProductSearchIndex;
+import com.nexashop.infrastructure.search.LuceneProductSearchIndex;
+import com.nexashop.infrastructure.search.PostgresProductSearchIndex;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public ProductSearchIndex productSearchIndex(
+            @Value("${search.engine:auto}") String engine,
+            @Value("${spring.datasource.url:}") String datasourceUrl,
+            DataSource dataSource
+    ) {
+        boolean postgres = "auto".equalsIgnoreCase(engine)
+                ? datasourceUrl.startsWith("jdbc:postgresql:")
+                : "postgres".equalsIgnoreCase(engine);
+        if (postgres) {
+            return new PostgresProductSearchIndex(new NamedParameterJdbcTemplate(dataSource));
+        }
+        return new LuceneProductSearchIndex();
+    }
+
+    @Bean
+    public ApplicationRunner productSearchIndexLoader(
+            ProductSearchIndex productSearchIndex,
+            ProductRepository productRepository
+    ) {
+        return args -> {
+            if (productSearchIndex instanceof LuceneProductSearchIndex) {
+                productSearchIndex.indexAll(productRepository.findAll());
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.nexashop.api.config;
+
+import com.nexashop.application.port.out.AfterCommitExecutor;
+import com.nexashop.infrastructure.transaction.SpringAfterCommitExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public AfterCommitExecutor afterCommitExecutor() {
+        return new SpringAfterCommitExecutor();
+    }
+}
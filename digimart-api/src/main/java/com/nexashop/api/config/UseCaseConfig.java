@@ -1,25 +1,33 @@
 package com.nexashop.api.config;
 
 import com.nexashop.application.port.out.ActivitySectorRepository;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.AiTextProvider;
 import com.nexashop.application.port.out.AuditEventRepository;
+import com.nexashop.application.port.out.AuditEventSink;
+import com.nexashop.application.port.out.AuditPartitionManager;
+import com.nexashop.application.port.out.AuditRetentionPolicyRepository;
+import com.nexashop.application.port.out.CategoryClosureRepository;
 import com.nexashop.application.port.out.CategoryRepository;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.PermissionRepository;
 import com.nexashop.application.port.out.PlanFeatureRepository;
 import com.nexashop.application.port.out.PlatformConfigRepository;
 import com.nexashop.application.port.out.PremiumFeatureRepository;
+import com.nexashop.application.port.out.PrincipalCache;
 import com.nexashop.application.port.out.ProductCategoryRepository;
 import com.nexashop.application.port.out.ProductImageRepository;
 import com.nexashop.application.port.out.ProductOptionRepository;
 import com.nexashop.application.port.out.ProductOptionValueRepository;
 import com.nexashop.application.port.out.ProductPriceHistoryRepository;
 import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.application.port.out.ProductSearchIndex;
 import com.nexashop.application.port.out.ProductStoreInventoryRepository;
 import com.nexashop.application.port.out.ProductVariantRepository;
 import com.nexashop.application.port.out.RefreshTokenRepository;
 import com.nexashop.application.port.out.RolePermissionRepository;
 import com.nexashop.application.port.out.RoleRepository;
+import com.nexashop.application.port.out.StoreProductVisibilityRepository;
 import com.nexashop.application.port.out.StoreRepository;
 import com.nexashop.application.port.out.SubscriptionHistoryRepository;
 import com.nexashop.application.port.out.SubscriptionPlanRepository;
@@ -32,6 +40,14 @@ import com.nexashop.application.port.out.VariantOptionValueRepository;
 import com.nexashop.application.port.out.VariantStoreInventoryRepository;
 import com.nexashop.application.port.out.WalletTransactionRepository;
 import com.nexashop.application.service.AuthTokenService;
+import com.nexashop.application.service.EntitlementService;
+import com.nexashop.application.service.CategoryTreeCache;
+import com.nexashop.application.service.PermissionBitsetCache;
+import com.nexashop.application.service.ProductListAssembler;
+import com.nexashop.application.service.ProductLowStockService;
+import com.nexashop.application.service.ProductStructureSynchronizer;
+import com.nexashop.application.service.StoreDirectoryCache;
+import com.nexashop.application.service.StoreProductVisibilityService;
 import com.nexashop.application.service.TenantProvisioningService;
 import com.nexashop.application.usecase.ActivitySectorUseCase;
 import com.nexashop.application.usecase.AiTextUseCase;
@@ -46,6 +62,7 @@ import com.nexashop.application.usecase.AuditMaintenanceUseCase;
 import com.nexashop.application.usecase.PermissionUseCase;
 import com.nexashop.application.usecase.PlatformConfigUseCase;
 import com.nexashop.application.usecase.PremiumFeatureUseCase;
+import com.nexashop.application.usecase.ProductMaintenanceUseCase;
 import com.nexashop.application.usecase.ProductUseCase;
 import com.nexashop.application.usecase.RoleUseCase;
 import com.nexashop.application.usecase.StoreUseCase;
@@ -54,6 +71,8 @@ import com.nexashop.application.usecase.TenantSubscriptionUseCase;
 import com.nexashop.application.usecase.TenantUseCase;
 import com.nexashop.application.usecase.UserUseCase;
 import com.nexashop.application.usecase.WalletUseCase;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -61,8 +80,28 @@ import org.springframework.context.annotation.Configuration;
 public class UseCaseConfig {
 
     @Bean
-    public AuthTokenService authTokenService(RefreshTokenRepository refreshTokenRepository) {
-        return new AuthTokenService(refreshTokenRepository);
+    public AuthTokenService authTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            PrincipalCache principalCache
+    ) {
+        return new AuthTokenService(refreshTokenRepository, principalCache);
+    }
+
+    @Bean
+    public EntitlementService entitlementService(
+            TenantSubscriptionRepository subscriptionRepository,
+            PlanFeatureRepository planFeatureRepository,
+            PremiumFeatureRepository featureRepository,
+            @Value("${entitlements.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${entitlements.cache.max-tenants:10000}") int maxTenants
+    ) {
+        return new EntitlementService(
+                subscriptionRepository,
+                planFeatureRepository,
+                featureRepository,
+                Duration.ofSeconds(ttlSeconds),
+                maxTenants
+        );
     }
 
     @Bean
@@ -72,7 +111,9 @@ public class UseCaseConfig {
             TenantWalletRepository walletRepository,
             WalletTransactionRepository transactionRepository,
             TenantSubscriptionRepository subscriptionRepository,
-            SubscriptionHistoryRepository historyRepository
+            SubscriptionHistoryRepository historyRepository,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new TenantProvisioningService(
                 configRepository,
@@ -80,7 +121,9 @@ public class UseCaseConfig {
                 walletRepository,
                 transactionRepository,
                 subscriptionRepository,
-                historyRepository
+                historyRepository,
+                entitlementService,
+                afterCommitExecutor
         );
     }
 
@@ -106,21 +149,30 @@ public class UseCaseConfig {
             CategoryRepository categoryRepository,
             TenantRepository tenantRepository,
             AiTextProvider aiTextProvider,
-            TenantSubscriptionRepository subscriptionRepository,
-            PlanFeatureRepository planFeatureRepository,
-            PremiumFeatureRepository featureRepository
+            EntitlementService entitlementService,
+            CategoryTreeCache categoryTreeCache,
+            CategoryClosureRepository categoryClosureRepository
     ) {
         return new CategoryUseCase(
                 currentUserProvider,
                 categoryRepository,
                 tenantRepository,
                 aiTextProvider,
-                subscriptionRepository,
-                planFeatureRepository,
-                featureRepository
+                entitlementService,
+                categoryTreeCache,
+                categoryClosureRepository
         );
     }
 
+    @Bean
+    public CategoryTreeCache categoryTreeCache(
+            CategoryRepository categoryRepository,
+            @Value("${catalog.category-tree-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${catalog.category-tree-cache.max-tenants:10000}") int maxTenants
+    ) {
+        return new CategoryTreeCache(categoryRepository, Duration.ofSeconds(ttlSeconds), maxTenants);
+    }
+
     @Bean
     public AdminProvisionUseCase adminProvisionUseCase(
             CurrentUserProvider currentUserProvider,
@@ -137,7 +189,9 @@ public class UseCaseConfig {
             SubscriptionPlanRepository planRepository,
             SubscriptionHistoryRepository historyRepository,
             TenantRepository tenantRepository,
-            TenantProvisioningService provisioningService
+            TenantProvisioningService provisioningService,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new AdminTenantSubscriptionUseCase(
                 currentUserProvider,
@@ -145,7 +199,9 @@ public class UseCaseConfig {
                 planRepository,
                 historyRepository,
                 tenantRepository,
-                provisioningService
+                provisioningService,
+                entitlementService,
+                afterCommitExecutor
         );
     }
 
@@ -173,32 +229,43 @@ public class UseCaseConfig {
     @Bean
     public PermissionUseCase permissionUseCase(
             CurrentUserProvider currentUserProvider,
-            PermissionRepository permissionRepository
+            PermissionRepository permissionRepository,
+            PermissionBitsetCache permissionBitsetCache
     ) {
-        return new PermissionUseCase(currentUserProvider, permissionRepository);
+        return new PermissionUseCase(currentUserProvider, permissionRepository, permissionBitsetCache);
     }
 
     @Bean
-    public AuthorizationUseCase authorizationUseCase(
-            CurrentUserProvider currentUserProvider,
-            UserRoleAssignmentRepository userRoleAssignmentRepository,
+    public PermissionBitsetCache permissionBitsetCache(
+            PermissionRepository permissionRepository,
+            RoleRepository roleRepository,
             RolePermissionRepository rolePermissionRepository,
-            PermissionRepository permissionRepository
+            @Value("${authorization.permission-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${authorization.permission-cache.max-tenants:10000}") int maxTenants
     ) {
-        return new AuthorizationUseCase(
-                currentUserProvider,
-                userRoleAssignmentRepository,
+        return new PermissionBitsetCache(
+                permissionRepository,
+                roleRepository,
                 rolePermissionRepository,
-                permissionRepository
+                Duration.ofSeconds(ttlSeconds),
+                maxTenants
         );
     }
 
+    @Bean
+    public AuthorizationUseCase authorizationUseCase(
+            CurrentUserProvider currentUserProvider,
+            PermissionBitsetCache permissionBitsetCache
+    ) {
+        return new AuthorizationUseCase(currentUserProvider, permissionBitsetCache);
+    }
+
     @Bean
     public AuditEventUseCase auditEventUseCase(
             CurrentUserProvider currentUserProvider,
-            AuditEventRepository auditEventRepository
+            AuditEventSink auditEventSink
     ) {
-        return new AuditEventUseCase(currentUserProvider, auditEventRepository);
+        return new AuditEventUseCase(currentUserProvider, auditEventSink);
     }
 
     @Bean
@@ -206,16 +273,39 @@ public class UseCaseConfig {
             CurrentUserProvider currentUserProvider,
             AuditEventRepository auditEventRepository,
             UserRepository userRepository,
-            TenantRepository tenantRepository
+            TenantRepository tenantRepository,
+            @Value("${audit.query.default-window-days:90}") long defaultWindowDays,
+            @Value("${audit.enrichment.cache.ttl-seconds:300}") long enrichmentTtlSeconds,
+            @Value("${audit.enrichment.cache.max-entries:10000}") int enrichmentMaxEntries
     ) {
-        return new AuditLogUseCase(currentUserProvider, auditEventRepository, userRepository, tenantRepository);
+        return new AuditLogUseCase(
+                currentUserProvider,
+                auditEventRepository,
+                userRepository,
+                tenantRepository,
+                Duration.ofDays(defaultWindowDays),
+                Duration.ofSeconds(enrichmentTtlSeconds),
+                enrichmentMaxEntries
+        );
     }
 
     @Bean
     public AuditMaintenanceUseCase auditMaintenanceUseCase(
-            AuditEventRepository auditEventRepository
+            AuditEventRepository auditEventRepository,
+            AuditRetentionPolicyRepository retentionPolicyRepository,
+            AuditPartitionManager auditPartitionManager,
+            @Value("${audit.cleanup.chunk-size:5000}") int chunkSize,
+            @Value("${audit.cleanup.pause-ms:200}") long pauseMs,
+            @Value("${audit.cleanup.archive-enabled:false}") boolean archiveEnabled
     ) {
-        return new AuditMaintenanceUseCase(auditEventRepository);
+        return new AuditMaintenanceUseCase(
+                auditEventRepository,
+                retentionPolicyRepository,
+                auditPartitionManager,
+                chunkSize,
+                Duration.ofMillis(pauseMs),
+                archiveEnabled
+        );
     }
 
     @Bean
@@ -230,9 +320,92 @@ public class UseCaseConfig {
     public PremiumFeatureUseCase premiumFeatureUseCase(
             CurrentUserProvider currentUserProvider,
             PremiumFeatureRepository featureRepository,
-            PlanFeatureRepository planFeatureRepository
+            PlanFeatureRepository planFeatureRepository,
+            EntitlementService entitlementService
+    ) {
+        return new PremiumFeatureUseCase(
+                currentUserProvider,
+                featureRepository,
+                planFeatureRepository,
+                entitlementService
+        );
+    }
+
+    @Bean
+    public ProductListAssembler productListAssembler(
+            ProductImageRepository productImageRepository,
+            ProductPriceHistoryRepository priceHistoryRepository,
+            ProductStoreInventoryRepository inventoryRepository,
+            ProductVariantRepository productVariantRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository,
+            StoreDirectoryCache storeDirectoryCache
+    ) {
+        return new ProductListAssembler(
+                productImageRepository,
+                priceHistoryRepository,
+                inventoryRepository,
+                productVariantRepository,
+                variantStoreInventoryRepository,
+                storeDirectoryCache
+        );
+    }
+
+    @Bean
+    public StoreDirectoryCache storeDirectoryCache(
+            StoreRepository storeRepository,
+            @Value("${store.directory-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${store.directory-cache.max-tenants:10000}") int maxTenants
+    ) {
+        return new StoreDirectoryCache(storeRepository, Duration.ofSeconds(ttlSeconds), maxTenants);
+    }
+
+    @Bean
+    public ProductLowStockService productLowStockService(
+            ProductRepository productRepository,
+            ProductListAssembler productListAssembler
+    ) {
+        return new ProductLowStockService(productRepository, productListAssembler);
+    }
+
+    @Bean
+    public StoreProductVisibilityService storeProductVisibilityService(
+            ProductVariantRepository productVariantRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository,
+            ProductStoreInventoryRepository inventoryRepository,
+            StoreProductVisibilityRepository storeProductVisibilityRepository
+    ) {
+        return new StoreProductVisibilityService(
+                productVariantRepository,
+                variantStoreInventoryRepository,
+                inventoryRepository,
+                storeProductVisibilityRepository
+        );
+    }
+
+    @Bean
+    public ProductStructureSynchronizer productStructureSynchronizer(
+            ProductOptionRepository productOptionRepository,
+            ProductOptionValueRepository productOptionValueRepository,
+            ProductVariantRepository productVariantRepository,
+            VariantOptionValueRepository variantOptionValueRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository
     ) {
-        return new PremiumFeatureUseCase(currentUserProvider, featureRepository, planFeatureRepository);
+        return new ProductStructureSynchronizer(
+                productOptionRepository,
+                productOptionValueRepository,
+                productVariantRepository,
+                variantOptionValueRepository,
+                variantStoreInventoryRepository
+        );
+    }
+
+    @Bean
+    public ProductMaintenanceUseCase productMaintenanceUseCase(
+            ProductRepository productRepository,
+            ProductLowStockService productLowStockService,
+            StoreProductVisibilityService storeProductVisibilityService
+    ) {
+        return new ProductMaintenanceUseCase(productRepository, productLowStockService, storeProductVisibilityService);
     }
 
     @Bean
@@ -251,7 +424,14 @@ public class UseCaseConfig {
             VariantStoreInventoryRepository variantStoreInventoryRepository,
             TenantRepository tenantRepository,
             CategoryRepository categoryRepository,
-            StoreRepository storeRepository
+            StoreRepository storeRepository,
+            ProductListAssembler productListAssembler,
+            ProductSearchIndex productSearchIndex,
+            ProductLowStockService productLowStockService,
+            StoreProductVisibilityService storeProductVisibilityService,
+            CategoryTreeCache categoryTreeCache,
+            StoreDirectoryCache storeDirectoryCache,
+            ProductStructureSynchronizer productStructureSynchronizer
     ) {
         return new ProductUseCase(
                 currentUserProvider,
@@ -268,7 +448,14 @@ public class UseCaseConfig {
                 variantStoreInventoryRepository,
                 tenantRepository,
                 categoryRepository,
-                storeRepository
+                storeRepository,
+                productListAssembler,
+                productSearchIndex,
+                productLowStockService,
+                storeProductVisibilityService,
+                categoryTreeCache,
+                storeDirectoryCache,
+                productStructureSynchronizer
         );
     }
 
@@ -278,14 +465,20 @@ public class UseCaseConfig {
             RoleRepository roleRepository,
             RolePermissionRepository rolePermissionRepository,
             PermissionRepository permissionRepository,
-            UserRoleAssignmentRepository userRoleAssignmentRepository
+            UserRoleAssignmentRepository userRoleAssignmentRepository,
+            PrincipalCache principalCache,
+            PermissionBitsetCache permissionBitsetCache,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new RoleUseCase(
                 currentUserProvider,
                 roleRepository,
                 rolePermissionRepository,
                 permissionRepository,
-                userRoleAssignmentRepository
+                userRoleAssignmentRepository,
+                principalCache,
+                permissionBitsetCache,
+                afterCommitExecutor
         );
     }
 
@@ -295,14 +488,16 @@ public class UseCaseConfig {
             StoreRepository storeRepository,
             TenantRepository tenantRepository,
             AuthorizationUseCase authorizationUseCase,
-            AuditEventUseCase auditEventUseCase
+            AuditEventUseCase auditEventUseCase,
+            StoreDirectoryCache storeDirectoryCache
     ) {
         return new StoreUseCase(
                 currentUserProvider,
                 storeRepository,
                 tenantRepository,
                 authorizationUseCase,
-                auditEventUseCase
+                auditEventUseCase,
+                storeDirectoryCache
         );
     }
 
@@ -312,14 +507,18 @@ public class UseCaseConfig {
             SubscriptionPlanRepository planRepository,
             PremiumFeatureRepository featureRepository,
             PlanFeatureRepository planFeatureRepository,
-            TenantSubscriptionRepository tenantSubscriptionRepository
+            TenantSubscriptionRepository tenantSubscriptionRepository,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new SubscriptionPlanUseCase(
                 currentUserProvider,
                 planRepository,
                 featureRepository,
                 planFeatureRepository,
-                tenantSubscriptionRepository
+                tenantSubscriptionRepository,
+                entitlementService,
+                afterCommitExecutor
         );
     }
 
@@ -330,7 +529,9 @@ public class UseCaseConfig {
             SubscriptionPlanRepository planRepository,
             SubscriptionHistoryRepository historyRepository,
             TenantRepository tenantRepository,
-            TenantProvisioningService provisioningService
+            TenantProvisioningService provisioningService,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new TenantSubscriptionUseCase(
                 currentUserProvider,
@@ -338,7 +539,9 @@ public class UseCaseConfig {
                 planRepository,
                 historyRepository,
                 tenantRepository,
-                provisioningService
+                provisioningService,
+                entitlementService,
+                afterCommitExecutor
         );
     }
 
@@ -359,7 +562,9 @@ public class UseCaseConfig {
             RoleRepository roleRepository,
             TenantRepository tenantRepository,
             UserRoleAssignmentRepository assignmentRepository,
-            AuthorizationUseCase authorizationUseCase
+            AuthorizationUseCase authorizationUseCase,
+            PrincipalCache principalCache,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         return new UserUseCase(
                 currentUserProvider,
@@ -367,7 +572,9 @@ public class UseCaseConfig {
                 userRepository,
                 roleRepository,
                 assignmentRepository,
-                authorizationUseCase
+                authorizationUseCase,
+                principalCache,
+                afterCommitExecutor
         );
     }
 
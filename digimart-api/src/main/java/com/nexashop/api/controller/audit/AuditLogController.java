@@ -1,23 +1,22 @@
 package com.nexashop.api.controller.audit;
 
 import com.nexashop.api.dto.response.PageResponse;
+import com.nexashop.api.dto.response.audit.AuditExportEstimateResponse;
 import com.nexashop.api.dto.response.audit.AuditLogResponse;
+import com.nexashop.api.service.AuditPdfExportService;
+import com.nexashop.application.common.ExportStream;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.usecase.AuditLogUseCase;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -27,6 +26,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/audit-events")
@@ -34,16 +34,17 @@ public class AuditLogController {
 
     private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
     private static final DateTimeFormatter PRINT_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    private static final int EXPORT_LIMIT = 10_000;
 
     private final AuditLogUseCase auditLogUseCase;
+    private final AuditPdfExportService auditPdfExportService;
 
-    public AuditLogController(AuditLogUseCase auditLogUseCase) {
+    public AuditLogController(AuditLogUseCase auditLogUseCase, AuditPdfExportService auditPdfExportService) {
         this.auditLogUseCase = auditLogUseCase;
+        this.auditPdfExportService = auditPdfExportService;
     }
 
     @GetMapping("/paged")
-    public PageResponse<AuditLogResponse> listAuditEvents(
+    public ResponseEntity<PageResponse<AuditLogResponse>> listAuditEvents(
             @RequestParam(required = false) Long tenantId,
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) String action,
@@ -53,58 +54,83 @@ public class AuditLogController {
             @RequestParam(defaultValue = "20") int size
     ) {
         PageRequest request = PageRequest.of(page, size);
-        return PageResponse.from(
-                auditLogUseCase.listAuditEvents(request, tenantId, entityType, action, from, to),
+        AuditLogUseCase.TimeWindow window = auditLogUseCase.resolveTimeWindow(from, to);
+        return withWindow(ResponseEntity.ok(), window).body(PageResponse.from(
+                auditLogUseCase.listAuditEvents(request, tenantId, entityType, action, window.from(), window.to()),
                 this::toResponse
-        );
+        ));
     }
 
     @GetMapping(value = "/export/csv", produces = "text/csv")
-    public ResponseEntity<byte[]> exportCsv(
+    public ResponseEntity<StreamingResponseBody> exportCsv(
             @RequestParam(required = false) Long tenantId,
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) String action,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
-    ) throws IOException {
-        List<AuditLogUseCase.AuditLogEntry> entries = auditLogUseCase.listAuditEventsForExport(
+    ) {
+        AuditLogUseCase.TimeWindow window = auditLogUseCase.resolveTimeWindow(from, to);
+        ExportStream<AuditLogUseCase.AuditLogEntry> entries = auditLogUseCase.exportAuditEvents(
                 tenantId,
                 entityType,
                 action,
-                from,
-                to,
-                EXPORT_LIMIT
+                window.from(),
+                window.to()
         );
-        byte[] bytes = toCsv(entries);
         String fileName = "audit-log-" + LocalDateTime.now().format(FILE_TS) + ".csv";
-        return ResponseEntity.ok()
+        return withWindow(ResponseEntity.ok(), window)
                 .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
                 .contentType(MediaType.parseMediaType("text/csv"))
-                .body(bytes);
+                .body(output -> writeCsv(entries, output));
     }
 
     @GetMapping(value = "/export/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
-    public ResponseEntity<byte[]> exportPdf(
+    public ResponseEntity<StreamingResponseBody> exportPdf(
             @RequestParam(required = false) Long tenantId,
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) String action,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
-    ) throws IOException {
-        List<AuditLogUseCase.AuditLogEntry> entries = auditLogUseCase.listAuditEventsForExport(
+    ) {
+        AuditLogUseCase.TimeWindow window = auditLogUseCase.resolveTimeWindow(from, to);
+        ExportStream<AuditLogUseCase.AuditLogEntry> entries = auditLogUseCase.exportAuditEvents(
                 tenantId,
                 entityType,
                 action,
-                from,
-                to,
-                EXPORT_LIMIT
+                window.from(),
+                window.to()
         );
-        byte[] bytes = toPdf(entries);
         String fileName = "audit-log-" + LocalDateTime.now().format(FILE_TS) + ".pdf";
-        return ResponseEntity.ok()
+        return withWindow(ResponseEntity.ok(), window)
                 .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
                 .contentType(MediaType.APPLICATION_PDF)
-                .body(bytes);
+                .body(output -> auditPdfExportService.render(entries, output));
+    }
+
+    @GetMapping("/export/pdf/estimate")
+    public ResponseEntity<AuditExportEstimateResponse> estimatePdfExport(
+            @RequestParam(required = false) Long tenantId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        AuditLogUseCase.TimeWindow window = auditLogUseCase.resolveTimeWindow(from, to);
+        long rowCount = auditLogUseCase.countAuditEvents(tenantId, entityType, action, window.from(), window.to());
+        AuditPdfExportService.ExportEstimate estimate = auditPdfExportService.estimate(rowCount);
+        return withWindow(ResponseEntity.ok(), window).body(AuditExportEstimateResponse.builder()
+                .rowCount(estimate.rowCount())
+                .estimatedPages(estimate.estimatedPages())
+                .estimatedBytes(estimate.estimatedBytes())
+                .build());
+    }
+
+    // Tells the caller which window was actually scanned, and whether it was the default one.
+    private ResponseEntity.BodyBuilder withWindow(ResponseEntity.BodyBuilder builder, AuditLogUseCase.TimeWindow window) {
+        return builder
+                .header("X-Audit-Window-From", window.from().toString())
+                .header("X-Audit-Window-To", window.to().toString())
+                .header("X-Audit-Window-Defaulted", String.valueOf(window.defaulted()));
     }
 
     private AuditLogResponse toResponse(AuditLogUseCase.AuditLogEntry entry) {
@@ -126,10 +152,9 @@ public class AuditLogController {
                 .build();
     }
 
-    private byte[] toCsv(List<AuditLogUseCase.AuditLogEntry> entries) throws IOException {
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
-        try (CSVPrinter printer = new CSVPrinter(
-                new OutputStreamWriter(output, StandardCharsets.UTF_8),
+    private void writeCsv(ExportStream<AuditLogUseCase.AuditLogEntry> entries, OutputStream output) throws IOException {
+        CSVPrinter printer = new CSVPrinter(
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)),
                 CSVFormat.DEFAULT.builder()
                         .setHeader(
                                 "id",
@@ -147,8 +172,9 @@ public class AuditLogController {
                                 "afterJson"
                         )
                         .build()
-        )) {
-            for (AuditLogUseCase.AuditLogEntry entry : entries) {
+        );
+        entries.forEach(entry -> {
+            try {
                 printer.printRecord(
                         entry.id(),
                         formatDate(entry.occurredAt()),
@@ -164,94 +190,11 @@ public class AuditLogController {
                         entry.beforeJson(),
                         entry.afterJson()
                 );
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
             }
-        }
-        return output.toByteArray();
-    }
-
-    private byte[] toPdf(List<AuditLogUseCase.AuditLogEntry> entries) throws IOException {
-        try (PDDocument document = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.A4);
-            document.addPage(page);
-
-            float margin = 36f;
-            float y = page.getMediaBox().getHeight() - margin;
-            float maxWidth = page.getMediaBox().getWidth() - (2 * margin);
-            float lineHeight = 12f;
-
-            PDPageContentStream stream = new PDPageContentStream(document, page);
-            stream.setFont(PDType1Font.HELVETICA_BOLD, 12);
-            y = writeLine(stream, margin, y, "Audit Journal Export", lineHeight);
-            stream.setFont(PDType1Font.HELVETICA, 9);
-            y = writeLine(stream, margin, y, "Generated at: " + formatDate(LocalDateTime.now()), lineHeight);
-            y = writeLine(stream, margin, y, "Rows: " + entries.size(), lineHeight);
-            y -= lineHeight;
-
-            for (AuditLogUseCase.AuditLogEntry entry : entries) {
-                if (y < margin + (lineHeight * 8)) {
-                    stream.close();
-                    page = new PDPage(PDRectangle.A4);
-                    document.addPage(page);
-                    stream = new PDPageContentStream(document, page);
-                    stream.setFont(PDType1Font.HELVETICA, 9);
-                    y = page.getMediaBox().getHeight() - margin;
-                }
-                String summary = String.format(
-                        "%s | %s | %s#%s | tenant=%s | actor=%s",
-                        formatDate(entry.occurredAt()),
-                        safe(entry.action()),
-                        safe(entry.entityType()),
-                        entry.entityId(),
-                        safe(entry.tenantName(), String.valueOf(entry.tenantId())),
-                        safe(entry.actorEmail(), String.valueOf(entry.actorUserId()))
-                );
-                y = writeWrapped(stream, margin, y, summary, maxWidth, lineHeight);
-                y = writeWrapped(stream, margin, y, "before: " + compactJson(entry.beforeJson()), maxWidth, lineHeight);
-                y = writeWrapped(stream, margin, y, "after: " + compactJson(entry.afterJson()), maxWidth, lineHeight);
-                y -= lineHeight * 0.5f;
-            }
-
-            stream.close();
-            ByteArrayOutputStream output = new ByteArrayOutputStream();
-            document.save(output);
-            return output.toByteArray();
-        }
-    }
-
-    private float writeLine(PDPageContentStream stream, float x, float y, String text, float lineHeight) throws IOException {
-        stream.beginText();
-        stream.newLineAtOffset(x, y);
-        stream.showText(text);
-        stream.endText();
-        return y - lineHeight;
-    }
-
-    private float writeWrapped(
-            PDPageContentStream stream,
-            float x,
-            float y,
-            String text,
-            float maxWidth,
-            float lineHeight
-    ) throws IOException {
-        String[] words = safe(text).split("\\s+");
-        StringBuilder line = new StringBuilder();
-        for (String word : words) {
-            String candidate = line.isEmpty() ? word : (line + " " + word);
-            float width = PDType1Font.HELVETICA.getStringWidth(candidate) / 1000f * 9f;
-            if (width > maxWidth && !line.isEmpty()) {
-                y = writeLine(stream, x, y, line.toString(), lineHeight);
-                line.setLength(0);
-                line.append(word);
-            } else {
-                line.setLength(0);
-                line.append(candidate);
-            }
-        }
-        if (!line.isEmpty()) {
-            y = writeLine(stream, x, y, line.toString(), lineHeight);
-        }
-        return y;
+        });
+        printer.flush();
     }
 
     private String formatDate(LocalDateTime value) {
@@ -260,26 +203,4 @@ public class AuditLogController {
         }
         return value.format(PRINT_TS);
     }
-
-    private String compactJson(String value) {
-        if (value == null || value.isBlank()) {
-            return "-";
-        }
-        String compact = value.replace('\n', ' ').replace('\r', ' ').replace('\t', ' ').trim();
-        if (compact.length() > 220) {
-            return compact.substring(0, 220) + "...";
-        }
-        return compact;
-    }
-
-    private String safe(String value) {
-        return value == null ? "" : value;
-    }
-
-    private String safe(String primary, String fallback) {
-        if (primary != null && !primary.isBlank()) {
-            return primary;
-        }
-        return fallback == null ? "" : fallback;
-    }
 }
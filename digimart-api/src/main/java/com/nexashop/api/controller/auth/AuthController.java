@@ -46,6 +46,14 @@ public class AuthController {
                 .build();
     }
 
+    @PostMapping("/logout")
+    public void logout(HttpServletRequest httpRequest) {
+        String authHeader = httpRequest.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            authUseCase.logout(authHeader.substring("Bearer ".length()).trim());
+        }
+    }
+
     @PostMapping("/register-tenant")
     public void registerTenantLegacy() {
         throw new ResponseStatusException(
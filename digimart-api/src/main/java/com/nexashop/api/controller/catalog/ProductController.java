@@ -15,28 +15,44 @@ import com.nexashop.api.dto.request.product.UpdateProductImageOrderRequest;
 import com.nexashop.api.dto.request.product.UpdateProductImageFocusRequest;
 import com.nexashop.api.dto.request.product.UpdateProductOptionsRequest;
 import com.nexashop.api.dto.request.product.UpdateProductVariantsRequest;
+import com.nexashop.api.dto.response.CursorPageResponse;
 import com.nexashop.api.dto.response.PageResponse;
+import com.nexashop.api.dto.response.product.ImageProcessingJobResponse;
 import com.nexashop.api.dto.response.product.ProductDescriptionAiResponse;
 import com.nexashop.api.dto.response.product.ProductDetailsResponse;
 import com.nexashop.api.dto.response.product.ProductBulkActionResponse;
+import com.nexashop.api.dto.response.product.ProductBulkItemResponse;
 import com.nexashop.api.dto.response.product.ProductImportErrorResponse;
-import com.nexashop.api.dto.response.product.ProductImportResponse;
+import com.nexashop.api.dto.response.product.ProductImportJobResponse;
 import com.nexashop.api.dto.response.product.ProductImageResponse;
+import com.nexashop.api.dto.response.product.ProductImageVariantResponse;
 import com.nexashop.api.dto.response.product.ProductInventoryResponse;
 import com.nexashop.api.dto.response.product.ProductOptionResponse;
 import com.nexashop.api.dto.response.product.ProductOptionValueResponse;
 import com.nexashop.api.dto.response.product.ProductPriceHistoryResponse;
 import com.nexashop.api.dto.response.product.ProductResponse;
+import com.nexashop.api.dto.response.product.ProductSearchHitResponse;
 import com.nexashop.api.dto.response.product.ProductStoreRefResponse;
 import com.nexashop.api.dto.response.product.ProductVariantResponse;
 import com.nexashop.api.dto.response.product.VariantInventoryResponse;
+import com.nexashop.api.service.ImageProcessingJob;
+import com.nexashop.api.service.ImageProcessingJobService;
+import com.nexashop.api.service.ProductImageDerivativeService;
 import com.nexashop.api.service.ProductImageBackgroundRemovalService;
+import com.nexashop.api.service.ProductImportJob;
+import com.nexashop.api.service.ProductImportJobService;
 import com.nexashop.api.util.UploadUtil;
+import com.nexashop.application.common.CursorPageRequest;
+import com.nexashop.application.common.CursorPageResult;
+import com.nexashop.application.common.ExportStream;
 import com.nexashop.application.common.PageRequest;
+import com.nexashop.application.common.PageResult;
+import com.nexashop.application.service.ProductListAssembler;
 import com.nexashop.application.usecase.ProductUseCase;
 import com.nexashop.domain.catalog.entity.Product;
 import com.nexashop.domain.catalog.entity.ProductAvailability;
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import com.nexashop.domain.catalog.entity.ProductOption;
 import com.nexashop.domain.catalog.entity.ProductOptionValue;
 import com.nexashop.domain.catalog.entity.ProductStoreInventory;
@@ -44,25 +60,31 @@ import com.nexashop.domain.catalog.entity.ProductVariant;
 import com.nexashop.domain.catalog.entity.ProductStatus;
 import com.nexashop.domain.catalog.entity.VariantStoreInventory;
 import jakarta.validation.Valid;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.io.StringWriter;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVPrinter;
-import org.apache.commons.csv.CSVRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -74,40 +96,64 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/products")
 public class ProductController {
 
-    private static final List<String> CSV_HEADERS = List.of(
-            "name",
-            "description",
-            "initial_price",
-            "final_price",
-            "cost_price",
-            "shipping_price",
-            "shipping_cost_price"
-    );
+    private static final List<String> CSV_HEADERS = ProductImportJobService.CSV_HEADERS;
+    private static final long IMAGE_JOB_EVENTS_TIMEOUT_MS = 5L * 60L * 1000L;
 
     private final ProductUseCase productUseCase;
+    private final ProductListAssembler productListAssembler;
     private final String uploadBaseDir;
     private final ProductImageBackgroundRemovalService imageBackgroundRemovalService;
+    private final ProductImportJobService productImportJobService;
+    private final ImageProcessingJobService imageProcessingJobService;
+    private final ProductImageDerivativeService imageDerivativeService;
 
     @Autowired
     public ProductController(
             ProductUseCase productUseCase,
+            ProductListAssembler productListAssembler,
             @Value("${app.upload.dir:}") String uploadBaseDir,
-            ProductImageBackgroundRemovalService imageBackgroundRemovalService
+            ProductImageBackgroundRemovalService imageBackgroundRemovalService,
+            ProductImportJobService productImportJobService,
+            ImageProcessingJobService imageProcessingJobService,
+            ProductImageDerivativeService imageDerivativeService
     ) {
         this.productUseCase = productUseCase;
+        this.productListAssembler = productListAssembler;
         this.uploadBaseDir = uploadBaseDir;
         this.imageBackgroundRemovalService = imageBackgroundRemovalService;
+        this.productImportJobService = productImportJobService;
+        this.imageProcessingJobService = imageProcessingJobService;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
-    public ProductController(ProductUseCase productUseCase, String uploadBaseDir) {
+    public ProductController(
+            ProductUseCase productUseCase,
+            ProductListAssembler productListAssembler,
+            String uploadBaseDir
+    ) {
+        this(productUseCase, productListAssembler, uploadBaseDir, null);
+    }
+
+    public ProductController(
+            ProductUseCase productUseCase,
+            ProductListAssembler productListAssembler,
+            String uploadBaseDir,
+            ProductImportJobService productImportJobService
+    ) {
         this.productUseCase = productUseCase;
+        this.productListAssembler = productListAssembler;
         this.uploadBaseDir = uploadBaseDir;
         this.imageBackgroundRemovalService = null;
+        this.productImportJobService = productImportJobService;
+        this.imageProcessingJobService = null;
+        this.imageDerivativeService = null;
     }
 
     @PostMapping
@@ -143,7 +189,7 @@ public class ProductController {
 
         return ResponseEntity
                 .created(URI.create("/api/products/" + saved.getId()))
-                .body(toResponse(saved, null, List.of()));
+                .body(toResponse(saved));
     }
 
     @GetMapping("/{id}")
@@ -193,12 +239,8 @@ public class ProductController {
 
     @GetMapping
     public List<ProductResponse> listProducts(@RequestParam Long tenantId) {
-        return productUseCase.listProducts(tenantId).stream()
-                .map(product -> toResponse(
-                        product,
-                        resolvePrimaryImage(product.getId()),
-                        productUseCase.listActiveStores(product.getId())
-                ))
+        return productListAssembler.assemble(productUseCase.listProducts(tenantId)).stream()
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -213,27 +255,80 @@ public class ProductController {
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Long categoryId
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeDescendants
     ) {
         PageRequest request = PageRequest.of(page, size);
-        return PageResponse.from(
-                productUseCase.listProducts(
-                        request,
-                        tenantId,
-                        status,
-                        availability,
-                        stockLow,
-                        minPrice,
-                        maxPrice,
-                        search,
-                        categoryId
-                ),
-                product -> toResponse(
-                        product,
-                        resolvePrimaryImage(product.getId()),
-                        productUseCase.listActiveStores(product.getId())
-                )
+        PageResult<Product> result = productUseCase.listProducts(
+                request,
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                search,
+                categoryId,
+                includeDescendants
         );
+        Map<Long, ProductListAssembler.ProductListItem> items = productListAssembler.assemble(result.items()).stream()
+                .collect(Collectors.toMap(item -> item.product().getId(), Function.identity(), (a, b) -> a));
+        return PageResponse.from(result, product -> toResponse(items.get(product.getId())));
+    }
+
+    @GetMapping("/search")
+    public List<ProductSearchHitResponse> searchProducts(
+            @RequestParam Long tenantId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<ProductUseCase.ProductSearchResult> results = productUseCase.searchProducts(tenantId, q, limit);
+        List<ProductListAssembler.ProductListItem> items = productListAssembler.assemble(
+                results.stream().map(ProductUseCase.ProductSearchResult::product).toList()
+        );
+        List<ProductSearchHitResponse> responses = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            ProductUseCase.ProductSearchResult result = results.get(i);
+            responses.add(ProductSearchHitResponse.builder()
+                    .product(toResponse(items.get(i)))
+                    .score(result.score())
+                    .highlight(result.highlight())
+                    .build());
+        }
+        return responses;
+    }
+
+    @GetMapping(value = "/paged", params = "after")
+    public CursorPageResponse<ProductResponse> listProductsAfter(
+            @RequestParam Long tenantId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "8") int size,
+            @RequestParam(defaultValue = "false") boolean skipTotal,
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) ProductAvailability availability,
+            @RequestParam(required = false) Boolean stockLow,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeDescendants
+    ) {
+        CursorPageRequest request = CursorPageRequest.of(after, size, skipTotal);
+        CursorPageResult<Product> result = productUseCase.listProducts(
+                request,
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                search,
+                categoryId,
+                includeDescendants
+        );
+        Map<Long, ProductListAssembler.ProductListItem> items = productListAssembler.assemble(result.items()).stream()
+                .collect(Collectors.toMap(item -> item.product().getId(), Function.identity(), (a, b) -> a));
+        return CursorPageResponse.from(result, product -> toResponse(items.get(product.getId())));
     }
 
     @PutMapping("/{id}")
@@ -267,11 +362,7 @@ public class ProductController {
                 request.getPrimaryCategoryId(),
                 toInventories(request.getInventories())
         );
-        return toResponse(
-                saved,
-                resolvePrimaryImage(saved.getId()),
-                productUseCase.listActiveStores(saved.getId())
-        );
+        return toResponse(saved);
     }
 
     @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -294,65 +385,83 @@ public class ProductController {
         image.setFocusX(focusX);
         image.setFocusY(focusY);
         ProductImage saved = productUseCase.addProductImage(id, image);
+        submitDerivatives(saved);
         return toImageResponse(saved);
     }
 
-    @PostMapping(
-            value = "/images/remove-background",
-            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
-            produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp"}
-    )
-    public ResponseEntity<byte[]> removeProductImageBackground(
+    @PostMapping(value = "/images/remove-background", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageProcessingJobResponse> removeProductImageBackground(
             @RequestParam("file") MultipartFile file
     ) throws IOException {
-        if (imageBackgroundRemovalService == null) {
+        if (imageBackgroundRemovalService == null || imageProcessingJobService == null) {
             throw new ResponseStatusException(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE, "Background removal is not configured");
         }
-        ProductImageBackgroundRemovalService.ProcessedImage result = imageBackgroundRemovalService
-                .removeBackground(file);
-
-        MediaType mediaType;
-        try {
-            mediaType = MediaType.parseMediaType(result.contentType());
-        } catch (IllegalArgumentException ex) {
-            mediaType = MediaType.IMAGE_PNG;
-        }
-
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .body(result.bytes());
+        ImageProcessingJob job = imageProcessingJobService.submit(
+                ImageProcessingJob.Operation.REMOVE_BACKGROUND,
+                imageBackgroundRemovalService.prepareRemoveBackground(file)
+        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/products/images/jobs/" + job.getId()))
+                .body(toImageJobResponse(job));
     }
 
-    @PostMapping(
-            value = "/images/change-background",
-            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
-            produces = {MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp"}
-    )
-    public ResponseEntity<byte[]> changeProductImageBackground(
+    @PostMapping(value = "/images/change-background", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageProcessingJobResponse> changeProductImageBackground(
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "backgroundFile", required = false) MultipartFile backgroundFile,
             @RequestParam(value = "fit", defaultValue = "COVER") String fit
     ) throws IOException {
-        if (imageBackgroundRemovalService == null) {
+        if (imageBackgroundRemovalService == null || imageProcessingJobService == null) {
             throw new ResponseStatusException(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE, "Image processing is not configured");
         }
-        ProductImageBackgroundRemovalService.ProcessedImage result = imageBackgroundRemovalService
-                .changeBackground(
+        ImageProcessingJob job = imageProcessingJobService.submit(
+                ImageProcessingJob.Operation.CHANGE_BACKGROUND,
+                imageBackgroundRemovalService.prepareChangeBackground(
                         file,
                         backgroundFile,
                         ProductImageBackgroundRemovalService.BackgroundFit.from(fit)
-                );
+                )
+        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/products/images/jobs/" + job.getId()))
+                .body(toImageJobResponse(job));
+    }
 
-        MediaType mediaType;
-        try {
-            mediaType = MediaType.parseMediaType(result.contentType());
-        } catch (IllegalArgumentException ex) {
-            mediaType = MediaType.IMAGE_PNG;
+    @GetMapping("/images/jobs/{jobId}")
+    public ImageProcessingJobResponse getImageJob(@PathVariable String jobId) {
+        if (imageProcessingJobService == null) {
+            throw new ResponseStatusException(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE, "Image processing is not configured");
         }
+        return toImageJobResponse(imageProcessingJobService.getJob(jobId));
+    }
 
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .body(result.bytes());
+    @GetMapping(value = "/images/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamImageJob(@PathVariable String jobId) {
+        if (imageProcessingJobService == null) {
+            throw new ResponseStatusException(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE, "Image processing is not configured");
+        }
+        ImageProcessingJob job = imageProcessingJobService.getJob(jobId);
+        SseEmitter emitter = new SseEmitter(IMAGE_JOB_EVENTS_TIMEOUT_MS);
+        Consumer<ImageProcessingJob> listener = (updated) -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(updated.getStatus().name().toLowerCase(Locale.ROOT))
+                        .data(toImageJobResponse(updated), MediaType.APPLICATION_JSON));
+                if (updated.isFinished()) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+            }
+        };
+        emitter.onCompletion(() -> job.removeListener(listener));
+        emitter.onTimeout(() -> job.removeListener(listener));
+        emitter.onError((ex) -> job.removeListener(listener));
+        if (!job.isFinished()) {
+            listener.accept(job);
+        }
+        job.addListener(listener);
+        return emitter;
     }
 
     @PostMapping(
@@ -397,14 +506,17 @@ public class ProductController {
     }
 
     @PutMapping("/{id}/options")
-    public List<ProductOptionResponse> replaceProductOptions(
+    @Transactional
+    public ResponseEntity<List<ProductOptionResponse>> replaceProductOptions(
             @PathVariable Long id,
             @Valid @RequestBody UpdateProductOptionsRequest request
     ) {
         List<ProductUseCase.ProductOptionGroup> groups = toOptionGroups(request == null ? null : request.getOptions());
-        return productUseCase.replaceProductOptions(id, groups).stream()
-                .map(this::toOptionResponse)
-                .collect(Collectors.toList());
+        ProductUseCase.OptionsReplacement replacement = productUseCase.replaceProductOptions(id, groups);
+        return withStructureChanges(replacement.changes())
+                .body(replacement.options().stream()
+                        .map(this::toOptionResponse)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}/variants")
@@ -413,13 +525,22 @@ public class ProductController {
     }
 
     @PutMapping("/{id}/variants")
-    public List<ProductVariantResponse> replaceProductVariants(
+    @Transactional
+    public ResponseEntity<List<ProductVariantResponse>> replaceProductVariants(
             @PathVariable Long id,
             @Valid @RequestBody UpdateProductVariantsRequest request
     ) {
         List<ProductUseCase.ProductVariantGroup> groups = toVariantGroups(request == null ? null : request.getVariants());
-        List<ProductUseCase.ProductVariantGroup> saved = productUseCase.replaceProductVariants(id, groups);
-        return mapVariantResponses(id, saved);
+        ProductUseCase.VariantsReplacement replacement = productUseCase.replaceProductVariants(id, groups);
+        return withStructureChanges(replacement.changes())
+                .body(mapVariantResponses(id, replacement.variants()));
+    }
+
+    private ResponseEntity.BodyBuilder withStructureChanges(ProductUseCase.StructureChanges changes) {
+        return ResponseEntity.ok()
+                .header("X-Rows-Inserted", String.valueOf(changes.inserted()))
+                .header("X-Rows-Updated", String.valueOf(changes.updated()))
+                .header("X-Rows-Deleted", String.valueOf(changes.deleted()));
     }
 
     @PutMapping("/{id}/images/order")
@@ -444,6 +565,7 @@ public class ProductController {
                 request.getFocusX(),
                 request.getFocusY()
         );
+        submitDerivatives(saved);
         return toImageResponse(saved);
     }
 
@@ -466,58 +588,62 @@ public class ProductController {
     public ProductBulkActionResponse bulkUpdatePricing(
             @Valid @RequestBody ProductBulkPriceUpdateRequest request
     ) {
-        int updated = productUseCase.bulkUpdatePricing(
+        ProductUseCase.BulkActionResult result = productUseCase.bulkUpdatePricing(
                 request.getProductIds(),
                 request.getInitialPrice(),
                 request.getFinalPrice(),
                 request.getShippingPrice(),
                 request.getShippingCostPrice()
         );
-        return ProductBulkActionResponse.builder().affected(updated).build();
+        return toBulkResponse(result);
     }
 
     @PutMapping("/bulk/status")
     public ProductBulkActionResponse bulkUpdateStatus(
             @Valid @RequestBody ProductBulkStatusUpdateRequest request
     ) {
-        int updated = productUseCase.bulkUpdateStatus(
+        ProductUseCase.BulkActionResult result = productUseCase.bulkUpdateStatus(
                 request.getProductIds(),
                 request.getStatus()
         );
-        return ProductBulkActionResponse.builder().affected(updated).build();
+        return toBulkResponse(result);
     }
 
     @DeleteMapping("/bulk")
     public ProductBulkActionResponse bulkDeleteProducts(
             @Valid @RequestBody ProductBulkDeleteRequest request
     ) {
-        int deleted = productUseCase.bulkDeleteProducts(request.getProductIds());
-        return ProductBulkActionResponse.builder().affected(deleted).build();
+        ProductUseCase.BulkActionResult result = productUseCase.bulkDeleteProducts(request.getProductIds());
+        return toBulkResponse(result);
     }
 
     @GetMapping(value = "/export", produces = "text/csv")
-    public ResponseEntity<String> exportProducts(@RequestParam Long tenantId) throws IOException {
-        List<Product> products = productUseCase.listProducts(tenantId).stream()
-                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
-                .toList();
-        StringWriter out = new StringWriter();
-        try (CSVPrinter printer = new CSVPrinter(out, CSVFormat.DEFAULT.withHeader(CSV_HEADERS.toArray(String[]::new)))) {
-            for (Product product : products) {
-                printer.printRecord(
-                        safe(product.getName()),
-                        safe(product.getDescription()),
-                        toPlain(product.getInitialPrice()),
-                        toPlain(product.getFinalPrice()),
-                        toPlain(product.getCostPrice()),
-                        toPlain(product.getShippingPrice()),
-                        toPlain(product.getShippingCostPrice())
-                );
-            }
-        }
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam Long tenantId) {
+        ExportStream<Product> products = productUseCase.exportProducts(tenantId);
+        StreamingResponseBody body = (output) -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(CSV_HEADERS.toArray(String[]::new)));
+            products.forEach((product) -> {
+                try {
+                    printer.printRecord(
+                            safe(product.getName()),
+                            safe(product.getDescription()),
+                            toPlain(product.getInitialPrice()),
+                            toPlain(product.getFinalPrice()),
+                            toPlain(product.getCostPrice()),
+                            toPlain(product.getShippingPrice()),
+                            toPlain(product.getShippingCostPrice())
+                    );
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            printer.flush();
+        };
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products_export.csv")
                 .contentType(MediaType.parseMediaType("text/csv"))
-                .body(out.toString());
+                .body(body);
     }
 
     @GetMapping(value = "/export/template", produces = "text/csv")
@@ -533,97 +659,63 @@ public class ProductController {
     }
 
     @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ProductImportResponse importProducts(
+    public ResponseEntity<ProductImportJobResponse> importProducts(
             @RequestParam Long tenantId,
             @RequestParam("file") MultipartFile file
     ) throws IOException {
-        if (file.isEmpty()) {
-            return ProductImportResponse.builder()
-                    .totalRows(0)
-                    .imported(0)
-                    .failed(0)
-                    .errors(List.of(ProductImportErrorResponse.builder()
-                            .row(0)
-                            .message("CSV file is empty")
-                            .build()))
-                    .build();
-        }
+        ProductImportJob job = productImportJobService.submit(tenantId, file);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/products/import/" + job.getId()))
+                .body(toImportJobResponse(job));
+    }
 
-        int imported = 0;
-        List<ProductImportErrorResponse> errors = new ArrayList<>();
-        int totalRows = 0;
-
-        try (InputStreamReader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8);
-             CSVParser parser = CSVFormat.DEFAULT.builder()
-                     .setHeader()
-                     .setSkipHeaderRecord(true)
-                     .setIgnoreEmptyLines(true)
-                     .setTrim(true)
-                     .build()
-                     .parse(reader)) {
-            List<String> missingHeaders = CSV_HEADERS.stream()
-                    .filter((header) -> !parser.getHeaderMap().containsKey(header))
-                    .toList();
-            if (!missingHeaders.isEmpty()) {
-                return ProductImportResponse.builder()
-                        .totalRows(0)
-                        .imported(0)
-                        .failed(1)
-                        .errors(List.of(ProductImportErrorResponse.builder()
-                                .row(0)
-                                .message("CSV non conforme. Exportez le template et remplissez-le. " +
-                                        "Colonnes manquantes: " + String.join(", ", missingHeaders))
-                                .build()))
-                        .build();
-            }
-            for (CSVRecord record : parser) {
-                totalRows += 1;
-                int rowNumber = (int) record.getRecordNumber() + 1;
-                try {
-                    String name = read(record, "name");
-                    if (name == null || name.isBlank()) {
-                        throw new IllegalArgumentException("name is required");
-                    }
-                    BigDecimal initialPrice = parseRequiredDecimal(read(record, "initial_price"), "initial_price");
-                    BigDecimal shippingPrice = parseRequiredDecimal(read(record, "shipping_price"), "shipping_price");
-
-                    Product product = new Product();
-                    product.setName(name.trim());
-                    product.setDescription(read(record, "description"));
-                    product.setInitialPrice(initialPrice);
-                    product.setFinalPrice(parseDecimal(read(record, "final_price")));
-                    product.setCostPrice(parseDecimal(read(record, "cost_price")));
-                    product.setShippingPrice(shippingPrice);
-                    product.setShippingCostPrice(parseDecimal(read(record, "shipping_cost_price")));
-                    product.setStatus(parseStatus(read(record, "status")));
-                    product.setAvailability(parseAvailability(read(record, "availability")));
-                    product.setAvailabilityText(read(record, "availability_text"));
-                    product.setSku(read(record, "sku"));
-
-                    productUseCase.createProduct(product, tenantId, null, null, null);
-                    imported += 1;
-                } catch (Exception ex) {
-                    errors.add(ProductImportErrorResponse.builder()
-                            .row(rowNumber)
-                            .message(ex.getMessage())
-                            .build());
-                }
-            }
-        }
+    @GetMapping("/import/{jobId}")
+    public ProductImportJobResponse getImportJob(@PathVariable String jobId) {
+        return toImportJobResponse(productImportJobService.getJob(jobId));
+    }
 
-        return ProductImportResponse.builder()
-                .totalRows(totalRows)
-                .imported(imported)
-                .failed(errors.size())
+    private ImageProcessingJobResponse toImageJobResponse(ImageProcessingJob job) {
+        return ImageProcessingJobResponse.builder()
+                .jobId(job.getId())
+                .operation(job.getOperation().name())
+                .status(job.getStatus().name())
+                .attempts(job.getAttempts())
+                .resultUrl(job.getResultUrl())
+                .resultContentType(job.getResultContentType())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private ProductImportJobResponse toImportJobResponse(ProductImportJob job) {
+        List<ProductImportErrorResponse> errors = job.getErrors().stream()
+                .map((error) -> ProductImportErrorResponse.builder()
+                        .row(error.rowNumber())
+                        .message(error.message())
+                        .build())
+                .toList();
+        return ProductImportJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .totalRows(job.getTotalRows())
+                .processed(job.getProcessed())
+                .imported(job.getImported())
+                .failed(job.getFailed())
                 .errors(errors)
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
                 .build();
     }
 
-    private ProductResponse toResponse(
-            Product product,
-            ProductImage primaryImage,
-            List<ProductUseCase.StoreRef> storeRefs
-    ) {
+    private ProductResponse toResponse(Product product) {
+        return toResponse(productListAssembler.assemble(List.of(product)).get(0));
+    }
+
+    private ProductResponse toResponse(ProductListAssembler.ProductListItem item) {
+        Product product = item.product();
+        ProductImage primaryImage = item.primaryImage();
+        List<ProductUseCase.StoreRef> storeRefs = item.stores();
         List<ProductStoreRefResponse> storeResponses = new ArrayList<>();
         List<String> storeNames = new ArrayList<>();
         if (storeRefs != null) {
@@ -638,13 +730,14 @@ public class ProductController {
                 storeNames.add(ref.name());
             }
         }
-        BigDecimal lowestPrice = product.isShowLowestPrice()
-                ? productUseCase.getLowestPrice(product.getId())
-                : null;
-        boolean lowStock = productUseCase.isLowStock(product);
+        BigDecimal lowestPrice = product.isShowLowestPrice() ? item.lowestPrice() : null;
+        boolean lowStock = item.lowStock();
         String imageUrl = primaryImage == null ? null : primaryImage.getImageUrl();
         Integer imageFocusX = primaryImage == null ? null : primaryImage.getFocusX();
         Integer imageFocusY = primaryImage == null ? null : primaryImage.getFocusY();
+        List<ProductImageVariant> imageVariants = primaryImage == null || primaryImage.getVariants() == null
+                ? List.of()
+                : primaryImage.getVariants();
         return ProductResponse.builder()
                 .id(product.getId())
                 .tenantId(product.getTenantId())
@@ -670,6 +763,9 @@ public class ProductController {
                 .imageUrl(imageUrl)
                 .imageFocusX(imageFocusX)
                 .imageFocusY(imageFocusY)
+                .imageThumbnailUrl(thumbnailUrl(imageVariants))
+                .imageSrcset(buildSrcset(imageVariants, false))
+                .imageWebpSrcset(buildSrcset(imageVariants, true))
                 .stores(storeResponses)
                 .storeNames(storeNames)
                 .createdBy(product.getCreatedBy())
@@ -679,6 +775,19 @@ public class ProductController {
                 .build();
     }
 
+    private ProductBulkActionResponse toBulkResponse(ProductUseCase.BulkActionResult result) {
+        return ProductBulkActionResponse.builder()
+                .affected(result.affected())
+                .results(result.outcomes().stream()
+                        .map(outcome -> ProductBulkItemResponse.builder()
+                                .productId(outcome.productId())
+                                .success(outcome.success())
+                                .error(outcome.error())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     private ProductDetailsResponse toDetailsResponse(ProductUseCase.ProductDetails details, ProductImage primaryImage) {
         Product product = details.product();
         BigDecimal lowestPrice = product.isShowLowestPrice()
@@ -688,6 +797,9 @@ public class ProductController {
         String imageUrl = primaryImage == null ? null : primaryImage.getImageUrl();
         Integer imageFocusX = primaryImage == null ? null : primaryImage.getFocusX();
         Integer imageFocusY = primaryImage == null ? null : primaryImage.getFocusY();
+        List<ProductImageVariant> imageVariants = primaryImage == null || primaryImage.getVariants() == null
+                ? List.of()
+                : primaryImage.getVariants();
         return ProductDetailsResponse.builder()
                 .id(product.getId())
                 .tenantId(product.getTenantId())
@@ -713,6 +825,9 @@ public class ProductController {
                 .imageUrl(imageUrl)
                 .imageFocusX(imageFocusX)
                 .imageFocusY(imageFocusY)
+                .imageThumbnailUrl(thumbnailUrl(imageVariants))
+                .imageSrcset(buildSrcset(imageVariants, false))
+                .imageWebpSrcset(buildSrcset(imageVariants, true))
                 .createdBy(product.getCreatedBy())
                 .updatedBy(product.getUpdatedBy())
                 .createdAt(product.getCreatedAt())
@@ -762,6 +877,7 @@ public class ProductController {
                 continue;
             }
             ProductOption option = new ProductOption();
+            option.setId(request.getId());
             option.setName(request.getName());
             option.setType(request.getType());
             option.setRequired(Boolean.TRUE.equals(request.getRequired()));
@@ -775,6 +891,7 @@ public class ProductController {
                         continue;
                     }
                     ProductOptionValue value = new ProductOptionValue();
+                    value.setId(valueRequest.getId());
                     value.setValue(valueRequest.getValue());
                     value.setHexColor(valueRequest.getHexColor());
                     value.setDisplayOrder(valueRequest.getDisplayOrder());
@@ -796,6 +913,7 @@ public class ProductController {
                 continue;
             }
             ProductVariant variant = new ProductVariant();
+            variant.setId(request.getId());
             variant.setSku(request.getSku());
             BigDecimal resolvedFinalOverride = request.getFinalPriceOverride() != null
                     ? request.getFinalPriceOverride()
@@ -927,7 +1045,14 @@ public class ProductController {
         return responses;
     }
 
+    private void submitDerivatives(ProductImage image) {
+        if (imageDerivativeService != null) {
+            imageDerivativeService.submit(image);
+        }
+    }
+
     private ProductImageResponse toImageResponse(ProductImage image) {
+        List<ProductImageVariant> variants = image.getVariants() == null ? List.of() : image.getVariants();
         return ProductImageResponse.builder()
                 .id(image.getId())
                 .productId(image.getProductId())
@@ -937,10 +1062,38 @@ public class ProductController {
                 .primary(image.isPrimary())
                 .focusX(image.getFocusX())
                 .focusY(image.getFocusY())
+                .variants(variants.stream()
+                        .map((variant) -> ProductImageVariantResponse.builder()
+                                .width(variant.getWidth())
+                                .height(variant.getHeight())
+                                .contentType(variant.getContentType())
+                                .url(variant.getUrl())
+                                .build())
+                        .toList())
+                .srcset(buildSrcset(variants, false))
+                .webpSrcset(buildSrcset(variants, true))
                 .createdAt(image.getCreatedAt())
                 .build();
     }
 
+    // Smallest derivative, preferring the source format over its webp twin; null until
+    // derivatives exist, so clients fall back to imageUrl.
+    private String thumbnailUrl(List<ProductImageVariant> variants) {
+        return variants.stream()
+                .min(Comparator.comparingInt(ProductImageVariant::getWidth)
+                        .thenComparing((variant) -> "image/webp".equals(variant.getContentType())))
+                .map(ProductImageVariant::getUrl)
+                .orElse(null);
+    }
+
+    private String buildSrcset(List<ProductImageVariant> variants, boolean webp) {
+        String srcset = variants.stream()
+                .filter((variant) -> "image/webp".equals(variant.getContentType()) == webp)
+                .map((variant) -> variant.getUrl() + " " + variant.getWidth() + "w")
+                .collect(Collectors.joining(", "));
+        return srcset.isEmpty() ? null : srcset;
+    }
+
     private VariantInventoryResponse toVariantInventoryResponse(VariantStoreInventory inventory) {
         if (inventory == null) {
             return null;
@@ -986,13 +1139,6 @@ public class ProductController {
                 .collect(Collectors.toList());
     }
 
-    private ProductImage resolvePrimaryImage(Long productId) {
-        if (productId == null) {
-            return null;
-        }
-        return resolvePrimaryImage(productUseCase.listProductImages(productId));
-    }
-
     private ProductImage resolvePrimaryImage(List<ProductImage> images) {
         if (images == null || images.isEmpty()) {
             return null;
@@ -1012,44 +1158,4 @@ public class ProductController {
     private static String toPlain(BigDecimal value) {
         return value == null ? "" : value.stripTrailingZeros().toPlainString();
     }
-
-    private static String read(CSVRecord record, String key) {
-        if (record.isMapped(key)) {
-            String value = record.get(key);
-            return value == null || value.isBlank() ? null : value.trim();
-        }
-        return null;
-    }
-
-    private static BigDecimal parseRequiredDecimal(String value, String fieldName) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException(fieldName + " is required");
-        }
-        return parseDecimal(value);
-    }
-
-    private static BigDecimal parseDecimal(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return new BigDecimal(value.trim());
-        } catch (NumberFormatException ex) {
-            throw new IllegalArgumentException("Invalid number: " + value);
-        }
-    }
-
-    private static ProductStatus parseStatus(String value) {
-        if (value == null || value.isBlank()) {
-            return ProductStatus.ACTIVE;
-        }
-        return ProductStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
-    }
-
-    private static ProductAvailability parseAvailability(String value) {
-        if (value == null || value.isBlank()) {
-            return ProductAvailability.IN_STOCK;
-        }
-        return ProductAvailability.valueOf(value.trim().toUpperCase(Locale.ROOT));
-    }
 }
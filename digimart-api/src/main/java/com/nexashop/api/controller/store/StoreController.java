@@ -6,6 +6,7 @@ import com.nexashop.api.dto.response.PageResponse;
 import com.nexashop.api.dto.response.product.ProductResponse;
 import com.nexashop.api.dto.response.product.ProductStoreRefResponse;
 import com.nexashop.api.dto.response.store.StoreResponse;
+import com.nexashop.api.service.StoreVisibilityRebuildService;
 import com.nexashop.api.util.UploadUtil;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.usecase.ProductUseCase;
@@ -39,15 +40,18 @@ public class StoreController {
 
     private final StoreUseCase storeUseCase;
     private final ProductUseCase productUseCase;
+    private final StoreVisibilityRebuildService storeVisibilityRebuildService;
     private final String uploadBaseDir;
 
     public StoreController(
             StoreUseCase storeUseCase,
             ProductUseCase productUseCase,
+            StoreVisibilityRebuildService storeVisibilityRebuildService,
             @Value("${app.upload.dir:}") String uploadBaseDir
     ) {
         this.storeUseCase = storeUseCase;
         this.productUseCase = productUseCase;
+        this.storeVisibilityRebuildService = storeVisibilityRebuildService;
         this.uploadBaseDir = uploadBaseDir;
     }
 
@@ -93,6 +97,25 @@ public class StoreController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/{id}/products/paged")
+    public PageResponse<ProductResponse> listStoreProductsPaged(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        PageRequest request = PageRequest.of(page, size);
+        return PageResponse.from(
+                productUseCase.listProductsForStore(request, id),
+                this::toProductResponse
+        );
+    }
+
+    @PostMapping("/visibility/rebuild")
+    public ResponseEntity<Void> rebuildStoreVisibility(@RequestParam Long tenantId) {
+        storeVisibilityRebuildService.submit(tenantId);
+        return ResponseEntity.accepted().build();
+    }
+
     @GetMapping
     public List<StoreResponse> listStores(@RequestParam Long tenantId) {
         return storeUseCase.listStores(tenantId).stream()
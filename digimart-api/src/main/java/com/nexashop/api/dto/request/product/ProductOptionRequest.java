@@ -10,6 +10,8 @@ import lombok.Setter;
 @Setter
 public class ProductOptionRequest {
 
+    private Long id;
+
     private String name;
 
     private OptionType type;
@@ -7,6 +7,8 @@ import lombok.Setter;
 @Setter
 public class ProductOptionValueRequest {
 
+    private Long id;
+
     private String value;
 
     private String hexColor;
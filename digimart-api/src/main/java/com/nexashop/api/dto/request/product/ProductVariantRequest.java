@@ -10,6 +10,8 @@ import lombok.Setter;
 @Setter
 public class ProductVariantRequest {
 
+    private Long id;
+
     private String sku;
 
     private BigDecimal priceOverride;
@@ -0,0 +1,25 @@
+package com.nexashop.api.dto.response;
+
+import com.nexashop.application.common.CursorPageResult;
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalItems
+) {
+
+    public static <T, R> CursorPageResponse<R> from(CursorPageResult<T> result, Function<T, R> mapper) {
+        List<R> mapped = result.items().stream().map(mapper).toList();
+        return new CursorPageResponse<>(
+                mapped,
+                result.size(),
+                result.nextCursor(),
+                result.hasNext(),
+                result.totalItems()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.nexashop.api.dto.response.audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuditExportEstimateResponse {
+
+    private long rowCount;
+    private long estimatedPages;
+    private long estimatedBytes;
+}
@@ -0,0 +1,20 @@
+package com.nexashop.api.dto.response.product;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImageProcessingJobResponse {
+
+    private String jobId;
+    private String operation;
+    private String status;
+    private int attempts;
+    private String resultUrl;
+    private String resultContentType;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.nexashop.api.dto.response.product;
 
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,4 +9,5 @@ import lombok.Getter;
 public class ProductBulkActionResponse {
 
     private int affected;
+    private List<ProductBulkItemResponse> results;
 }
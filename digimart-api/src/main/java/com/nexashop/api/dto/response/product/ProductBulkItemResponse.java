@@ -0,0 +1,13 @@
+package com.nexashop.api.dto.response.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductBulkItemResponse {
+
+    private Long productId;
+    private boolean success;
+    private String error;
+}
@@ -36,6 +36,9 @@ public class ProductDetailsResponse {
     private String imageUrl;
     private Integer imageFocusX;
     private Integer imageFocusY;
+    private String imageThumbnailUrl;
+    private String imageSrcset;
+    private String imageWebpSrcset;
     private Long createdBy;
     private Long updatedBy;
     private LocalDateTime createdAt;
@@ -1,6 +1,7 @@
 package com.nexashop.api.dto.response.product;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,5 +17,8 @@ public class ProductImageResponse {
     private boolean primary;
     private Integer focusX;
     private Integer focusY;
+    private List<ProductImageVariantResponse> variants;
+    private String srcset;
+    private String webpSrcset;
     private LocalDateTime createdAt;
 }
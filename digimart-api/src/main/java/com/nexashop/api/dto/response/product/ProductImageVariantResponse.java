@@ -0,0 +1,14 @@
+package com.nexashop.api.dto.response.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductImageVariantResponse {
+
+    private Integer width;
+    private Integer height;
+    private String contentType;
+    private String url;
+}
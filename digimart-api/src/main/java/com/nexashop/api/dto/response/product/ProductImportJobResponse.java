@@ -1,15 +1,21 @@
 package com.nexashop.api.dto.response.product;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
-public class ProductImportResponse {
+public class ProductImportJobResponse {
 
+    private String jobId;
+    private String status;
     private int totalRows;
+    private int processed;
     private int imported;
     private int failed;
     private List<ProductImportErrorResponse> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
 }
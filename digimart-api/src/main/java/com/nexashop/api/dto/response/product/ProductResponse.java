@@ -36,6 +36,9 @@ public class ProductResponse {
     private String imageUrl;
     private Integer imageFocusX;
     private Integer imageFocusY;
+    private String imageThumbnailUrl;
+    private String imageSrcset;
+    private String imageWebpSrcset;
     private List<ProductStoreRefResponse> stores;
     private List<String> storeNames;
     private Long createdBy;
@@ -0,0 +1,13 @@
+package com.nexashop.api.dto.response.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductSearchHitResponse {
+
+    private ProductResponse product;
+    private double score;
+    private String highlight;
+}
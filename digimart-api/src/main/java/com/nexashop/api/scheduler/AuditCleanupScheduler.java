@@ -3,14 +3,15 @@ package com.nexashop.api.scheduler;
 import com.nexashop.application.usecase.AuditMaintenanceUseCase;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @ConditionalOnProperty(prefix = "audit.cleanup", name = "enabled", havingValue = "true")
@@ -20,20 +21,54 @@ public class AuditCleanupScheduler {
 
     private final AuditMaintenanceUseCase auditMaintenanceUseCase;
     private final ZoneId cleanupZone;
+    private final int progressLogEvery;
+    private final int partitionMonthsAhead;
 
     public AuditCleanupScheduler(
             AuditMaintenanceUseCase auditMaintenanceUseCase,
-            @Value("${audit.cleanup.zone:Africa/Tunis}") String cleanupZoneId
+            @Value("${audit.cleanup.zone:Africa/Tunis}") String cleanupZoneId,
+            @Value("${audit.cleanup.progress-log-every:50}") int progressLogEvery,
+            @Value("${audit.partitioning.months-ahead:3}") int partitionMonthsAhead
     ) {
         this.auditMaintenanceUseCase = auditMaintenanceUseCase;
         this.cleanupZone = ZoneId.of(cleanupZoneId);
+        this.progressLogEvery = Math.max(1, progressLogEvery);
+        this.partitionMonthsAhead = partitionMonthsAhead;
     }
 
-    @Scheduled(cron = "${audit.cleanup.cron:0 1 0 1 * *}", zone = "${audit.cleanup.zone:Africa/Tunis}")
-    @Transactional
-    public void purgeMonthlyTenantAuditLogs() {
-        LocalDateTime cutoff = LocalDate.now(cleanupZone).withDayOfMonth(1).atStartOfDay();
-        long deleted = auditMaintenanceUseCase.purgeBefore(cutoff);
-        log.info("Monthly audit cleanup done (cutoff={}, deletedRows={})", cutoff, deleted);
+    @Scheduled(cron = "${audit.cleanup.cron:0 15 0 * * *}", zone = "${audit.cleanup.zone:Africa/Tunis}")
+    public void purgeTenantAuditLogs() {
+        LocalDateTime now = LocalDateTime.now(cleanupZone);
+        List<String> createdPartitions = auditMaintenanceUseCase.ensurePartitions(
+                YearMonth.from(now),
+                partitionMonthsAhead
+        );
+        if (!createdPartitions.isEmpty()) {
+            log.info("Audit partitions created: {}", createdPartitions);
+        }
+        LocalDateTime defaultCutoff = LocalDate.now(cleanupZone).withDayOfMonth(1).atStartOfDay();
+        int[] chunks = {0};
+        AuditMaintenanceUseCase.PurgeReport report = auditMaintenanceUseCase.purge(
+                defaultCutoff,
+                now,
+                progress -> {
+                    if (++chunks[0] % progressLogEvery == 0) {
+                        log.info("Audit cleanup progress (tenant={}, cutoff={}, lastId={}, deletedRows={})",
+                                progress.tenantId() == null ? "default" : progress.tenantId(),
+                                progress.cutoff(),
+                                progress.toIdExclusive() - 1,
+                                progress.totalDeleted());
+                    }
+                }
+        );
+        log.info("Audit cleanup done (defaultCutoff={}, tenantPolicies={}, removedPartitions={}, chunks={}, "
+                        + "deletedRows={}, elapsedMs={}, rowsPerSecond={})",
+                defaultCutoff,
+                report.tenantPolicies(),
+                report.removedPartitions(),
+                report.chunks(),
+                report.deleted(),
+                report.elapsed().toMillis(),
+                Math.round(report.rowsPerSecond()));
     }
 }
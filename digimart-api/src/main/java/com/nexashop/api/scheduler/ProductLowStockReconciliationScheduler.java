@@ -0,0 +1,33 @@
+package com.nexashop.api.scheduler;
+
+import com.nexashop.application.usecase.ProductMaintenanceUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "product.low-stock.reconcile", name = "enabled", havingValue = "true")
+public class ProductLowStockReconciliationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductLowStockReconciliationScheduler.class);
+
+    private final ProductMaintenanceUseCase productMaintenanceUseCase;
+    private final int batchSize;
+
+    public ProductLowStockReconciliationScheduler(
+            ProductMaintenanceUseCase productMaintenanceUseCase,
+            @Value("${product.low-stock.reconcile.batch-size:500}") int batchSize
+    ) {
+        this.productMaintenanceUseCase = productMaintenanceUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${product.low-stock.reconcile.cron:0 30 3 * * *}", zone = "${product.low-stock.reconcile.zone:Africa/Tunis}")
+    public void reconcileLowStockFlags() {
+        int corrected = productMaintenanceUseCase.reconcileLowStock(batchSize);
+        log.info("Low-stock reconciliation done (correctedRows={})", corrected);
+    }
+}
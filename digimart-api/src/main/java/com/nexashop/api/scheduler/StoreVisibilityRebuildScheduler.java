@@ -0,0 +1,33 @@
+package com.nexashop.api.scheduler;
+
+import com.nexashop.application.usecase.ProductMaintenanceUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "product.store-visibility.rebuild", name = "enabled", havingValue = "true")
+public class StoreVisibilityRebuildScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreVisibilityRebuildScheduler.class);
+
+    private final ProductMaintenanceUseCase productMaintenanceUseCase;
+    private final int batchSize;
+
+    public StoreVisibilityRebuildScheduler(
+            ProductMaintenanceUseCase productMaintenanceUseCase,
+            @Value("${product.store-visibility.rebuild.batch-size:500}") int batchSize
+    ) {
+        this.productMaintenanceUseCase = productMaintenanceUseCase;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${product.store-visibility.rebuild.cron:0 45 3 * * *}", zone = "${product.store-visibility.rebuild.zone:Africa/Tunis}")
+    public void rebuildStoreVisibility() {
+        int written = productMaintenanceUseCase.rebuildStoreVisibility(null, batchSize);
+        log.info("Store visibility rebuild done (rows={})", written);
+    }
+}
@@ -28,17 +28,20 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private final UserRepository userRepository;
     private final UserRoleAssignmentRepository assignmentRepository;
     private final RoleRepository roleRepository;
+    private final AuthenticatedPrincipalCache principalCache;
 
     public AuthTokenFilter(
             AuthTokenService authTokenService,
             UserRepository userRepository,
             UserRoleAssignmentRepository assignmentRepository,
-            RoleRepository roleRepository
+            RoleRepository roleRepository,
+            AuthenticatedPrincipalCache principalCache
     ) {
         this.authTokenService = authTokenService;
         this.userRepository = userRepository;
         this.assignmentRepository = assignmentRepository;
         this.roleRepository = roleRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -50,25 +53,34 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String rawToken = authHeader.substring("Bearer ".length()).trim();
-            authTokenService.validateToken(rawToken).ifPresent(token -> {
-                userRepository.findById(token.getUserId()).ifPresent(user -> {
-                    AuthenticatedUser principal = buildPrincipal(user);
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    principal,
-                                    null,
-                                    principal.getRoles().stream()
-                                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                                            .collect(Collectors.toSet())
-                            );
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                });
-            });
+            String tokenHash = AuthTokenService.hashToken(rawToken);
+            AuthenticatedUser principal = principalCache.get(tokenHash, this::loadPrincipal);
+            if (principal != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                principal.getRoles().stream()
+                                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                                        .collect(Collectors.toSet())
+                        );
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private AuthenticatedPrincipalCache.CachedPrincipal loadPrincipal(String tokenHash) {
+        return authTokenService.validateTokenHash(tokenHash)
+                .flatMap(token -> userRepository.findById(token.getUserId())
+                        .map(user -> new AuthenticatedPrincipalCache.CachedPrincipal(
+                                buildPrincipal(user),
+                                token.getExpiresAt()
+                        )))
+                .orElse(null);
+    }
+
     private AuthenticatedUser buildPrincipal(User user) {
         List<UserRoleAssignment> assignments =
                 assignmentRepository.findByTenantIdAndUserIdAndActiveTrue(
@@ -0,0 +1,88 @@
+package com.nexashop.api.security;
+
+import com.nexashop.application.common.TtlCache;
+import com.nexashop.application.port.out.PrincipalCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthenticatedPrincipalCache implements PrincipalCache, MeterBinder {
+
+    private static final String METRIC_PREFIX = "auth.principal.cache";
+
+    private final TtlCache<String, CachedPrincipal> cache;
+
+    public AuthenticatedPrincipalCache(
+            @Value("${auth.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${auth.principal-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.cache = new TtlCache<>(Duration.ofSeconds(Math.max(1L, ttlSeconds)), maxEntries);
+    }
+
+    public AuthenticatedUser get(String tokenHash, Function<String, CachedPrincipal> loader) {
+        CachedPrincipal cached = cache.get(tokenHash, loader);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.tokenExpiresAt() != null && !cached.tokenExpiresAt().isAfter(LocalDateTime.now())) {
+            cache.invalidate(tokenHash);
+            return null;
+        }
+        return cached.principal();
+    }
+
+    @Override
+    public void invalidateToken(String tokenHash) {
+        if (tokenHash != null) {
+            cache.invalidate(tokenHash);
+        }
+    }
+
+    @Override
+    public void invalidateUser(Long userId) {
+        if (userId != null) {
+            cache.invalidateIf(cached -> userId.equals(cached.principal().getUserId()));
+        }
+    }
+
+    @Override
+    public void invalidateTenant(Long tenantId) {
+        if (tenantId != null) {
+            cache.invalidateIf(cached -> tenantId.equals(cached.principal().getTenantId()));
+        }
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", cache, TtlCache::hitCount)
+                .description("Requests authenticated from the principal cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", cache, TtlCache::missCount)
+                .description("Requests that had to load the principal from the database")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, TtlCache::evictionCount)
+                .description("Principals evicted because the cache was full")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", cache, TtlCache::size)
+                .description("Cached principals")
+                .register(registry);
+    }
+
+    public record CachedPrincipal(AuthenticatedUser principal, LocalDateTime tokenExpiresAt) {
+    }
+}
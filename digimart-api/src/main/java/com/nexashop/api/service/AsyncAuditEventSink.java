@@ -0,0 +1,392 @@
+package com.nexashop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexashop.application.port.out.AuditEventRepository;
+import com.nexashop.application.port.out.AuditEventSink;
+import com.nexashop.domain.audit.entity.AuditAction;
+import com.nexashop.domain.audit.entity.AuditEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AsyncAuditEventSink implements AuditEventSink, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncAuditEventSink.class);
+
+    private static final String METRIC_PREFIX = "audit.sink";
+
+    private final AuditEventRepository auditEventRepository;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final Path walFile;
+    private final Path replayFile;
+    private final Path replayOffsetFile;
+    private final Path rejectedFile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Object walLock = new Object();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncAuditEventSink(
+            AuditEventRepository auditEventRepository,
+            @Value("${audit.sink.capacity:10000}") int capacity,
+            @Value("${audit.sink.batch-size:200}") int batchSize,
+            @Value("${audit.sink.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${audit.sink.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${audit.sink.shutdown-timeout-seconds:10}") long shutdownTimeoutSeconds,
+            @Value("${audit.sink.wal-file:data/audit/wal-local.jsonl}") String walFile
+    ) {
+        this.auditEventRepository = auditEventRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, flushIntervalMs));
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, offerTimeoutMs));
+        this.shutdownTimeout = Duration.ofSeconds(Math.max(1L, shutdownTimeoutSeconds));
+        this.walFile = Path.of(walFile);
+        this.replayFile = Path.of(walFile + ".replay");
+        this.replayOffsetFile = Path.of(walFile + ".replay.offset");
+        this.rejectedFile = Path.of(walFile + ".rejected");
+        this.writer = new Thread(this::runWriter, "audit-sink-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @Override
+    public void submit(AuditEvent auditEvent) {
+        if (auditEvent == null) {
+            return;
+        }
+        if (!running) {
+            spill(List.of(auditEvent));
+            return;
+        }
+        try {
+            if (queue.offer(auditEvent, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        long total = dropped.incrementAndGet();
+        log.warn("Audit queue full, dropped {} event for {} #{} (dropped so far: {})",
+                auditEvent.getAction(), auditEvent.getEntityType(), auditEvent.getEntityId(), total);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+        List<AuditEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+            log.info("Spilled {} pending audit events to {}", remaining.size(), walFile);
+        }
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public long writtenCount() {
+        return written.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".written", written, AtomicLong::get)
+                .description("Audit events persisted by the background writer")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".dropped", dropped, AtomicLong::get)
+                .description("Audit events dropped because the queue stayed full")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spilled", spilled, AtomicLong::get)
+                .description("Audit events written to the local write-ahead file")
+                .register(registry);
+    }
+
+    private void runWriter() {
+        replayWal();
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                AuditEvent first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (!batch.isEmpty()) {
+                spill(batch);
+            }
+        }
+    }
+
+    private void fillBatch(List<AuditEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+            AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            auditEventRepository.saveAll(batch);
+            written.addAndGet(batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Unable to write {} audit events, spilling to {}", batch.size(), walFile, ex);
+            spill(batch);
+        }
+    }
+
+    private void spill(List<AuditEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (AuditEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(WalRecord.from(event))).append('\n');
+            }
+            synchronized (walLock) {
+                Path parent = walFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (FileChannel channel = FileChannel.open(
+                        walFile,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND
+                )) {
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                }
+            }
+            spilled.addAndGet(events.size());
+        } catch (IOException ex) {
+            dropped.addAndGet(events.size());
+            log.error("Unable to spill {} audit events to {}", events.size(), walFile, ex);
+        }
+    }
+
+    // The live WAL is rotated into the replay file only once the previous replay
+    // file is fully drained. Progress is committed as a byte offset after every
+    // saved batch, so a restart after a partial replay never re-inserts rows.
+    private void replayWal() {
+        try {
+            while (true) {
+                synchronized (walLock) {
+                    if (!Files.exists(replayFile)) {
+                        if (!Files.exists(walFile)) {
+                            return;
+                        }
+                        Files.move(walFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                        Files.deleteIfExists(replayOffsetFile);
+                    }
+                }
+                long replayed = replayFrom(readReplayOffset());
+                Files.delete(replayFile);
+                Files.deleteIfExists(replayOffsetFile);
+                written.addAndGet(replayed);
+                log.info("Replayed {} audit events from {}", replayed, replayFile);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.error("Unable to replay audit write-ahead file {}, will resume on next start", replayFile, ex);
+        }
+    }
+
+    private long replayFrom(long offset) throws IOException {
+        long replayed = 0;
+        long position = Math.min(offset, Files.size(replayFile));
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(replayFile))) {
+            in.skipNBytes(position);
+            int next;
+            while ((next = in.read()) != -1) {
+                position++;
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                AuditEvent event = parseLine(line.toString(StandardCharsets.UTF_8));
+                line.reset();
+                if (event != null) {
+                    batch.add(event);
+                }
+                if (batch.size() >= batchSize) {
+                    auditEventRepository.saveAll(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                    writeReplayOffset(position);
+                }
+            }
+        }
+        if (line.size() > 0) {
+            // A hard kill can leave the last record without its newline.
+            reject(line.toString(StandardCharsets.UTF_8));
+        }
+        if (!batch.isEmpty()) {
+            auditEventRepository.saveAll(batch);
+            replayed += batch.size();
+            writeReplayOffset(position);
+        }
+        return replayed;
+    }
+
+    private AuditEvent parseLine(String line) throws IOException {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, WalRecord.class).toAuditEvent();
+        } catch (IOException | RuntimeException ex) {
+            reject(line);
+            return null;
+        }
+    }
+
+    private void reject(String line) throws IOException {
+        log.warn("Skipping unreadable audit write-ahead record, moved to {}", rejectedFile);
+        Files.writeString(
+                rejectedFile,
+                line + "\n",
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        );
+    }
+
+    private long readReplayOffset() {
+        try {
+            return Files.exists(replayOffsetFile)
+                    ? Long.parseLong(Files.readString(replayOffsetFile, StandardCharsets.UTF_8).trim())
+                    : 0L;
+        } catch (IOException | NumberFormatException ex) {
+            log.warn("Ignoring unreadable audit replay offset {}", replayOffsetFile, ex);
+            return 0L;
+        }
+    }
+
+    private void writeReplayOffset(long offset) throws IOException {
+        Path temp = Path.of(replayOffsetFile + ".tmp");
+        Files.writeString(temp, Long.toString(offset), StandardCharsets.UTF_8);
+        Files.move(temp, replayOffsetFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    record WalRecord(
+            Long tenantId,
+            String entityType,
+            Long entityId,
+            String action,
+            String beforeJson,
+            String afterJson,
+            Long actorUserId,
+            String ipAddress,
+            String userAgent,
+            String correlationId,
+            String occurredAt
+    ) {
+
+        static WalRecord from(AuditEvent event) {
+            return new WalRecord(
+                    event.getTenantId(),
+                    event.getEntityType(),
+                    event.getEntityId(),
+                    event.getAction() == null ? null : event.getAction().name(),
+                    event.getBeforeJson(),
+                    event.getAfterJson(),
+                    event.getActorUserId(),
+                    event.getIpAddress(),
+                    event.getUserAgent(),
+                    event.getCorrelationId(),
+                    event.getOccurredAt() == null ? null : event.getOccurredAt().toString()
+            );
+        }
+
+        AuditEvent toAuditEvent() {
+            AuditEvent event = new AuditEvent();
+            event.setTenantId(tenantId);
+            event.setEntityType(entityType);
+            event.setEntityId(entityId);
+            event.setAction(action == null ? null : AuditAction.valueOf(action));
+            event.setBeforeJson(beforeJson);
+            event.setAfterJson(afterJson);
+            event.setActorUserId(actorUserId);
+            event.setIpAddress(ipAddress);
+            event.setUserAgent(userAgent);
+            event.setCorrelationId(correlationId);
+            event.setOccurredAt(occurredAt == null ? null : LocalDateTime.parse(occurredAt));
+            return event;
+        }
+    }
+}
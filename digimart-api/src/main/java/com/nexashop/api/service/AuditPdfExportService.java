@@ -0,0 +1,173 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.common.ExportStream;
+import com.nexashop.application.usecase.AuditLogUseCase;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuditPdfExportService {
+
+    private static final DateTimeFormatter PRINT_TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final float MARGIN = 36f;
+    private static final float LINE_HEIGHT = 12f;
+    private static final float FONT_SIZE = 9f;
+    private static final float TITLE_SIZE = 12f;
+    private static final float MAX_WIDTH = StreamingPdfWriter.PAGE_WIDTH - (2 * MARGIN);
+    private static final int JSON_PREVIEW_LENGTH = 220;
+
+    // Measured with AuditPdfExportBenchmarkTest on rows with short before/after payloads;
+    // rows whose JSON wraps over several lines take more room.
+    private static final long BASE_BYTES = 1_000L;
+    private static final long BYTES_PER_ROW = 40L;
+    private static final long BYTES_PER_PAGE = 230L;
+    private static final long ROWS_PER_PAGE = 17L;
+
+    public void render(ExportStream<AuditLogUseCase.AuditLogEntry> entries, OutputStream output) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(output, 64 * 1024);
+        StreamingPdfWriter writer = new StreamingPdfWriter(buffered);
+        PageCursor cursor = new PageCursor(writer);
+        cursor.newPage();
+        cursor.line(StreamingPdfWriter.Font.BOLD, TITLE_SIZE, "Audit Journal Export");
+        cursor.line(StreamingPdfWriter.Font.REGULAR, FONT_SIZE, "Generated at: " + formatDate(LocalDateTime.now()));
+        cursor.skip(LINE_HEIGHT);
+
+        long[] rows = new long[1];
+        try {
+            entries.forEach(entry -> {
+                try {
+                    cursor.ensureSpace(LINE_HEIGHT * 8);
+                    cursor.wrapped(summary(entry));
+                    cursor.wrapped("before: " + compactJson(entry.beforeJson()));
+                    cursor.wrapped("after: " + compactJson(entry.afterJson()));
+                    cursor.skip(LINE_HEIGHT * 0.5f);
+                    rows[0]++;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        cursor.ensureSpace(LINE_HEIGHT * 2);
+        cursor.line(StreamingPdfWriter.Font.BOLD, FONT_SIZE, "Rows exported: " + rows[0]);
+        writer.close();
+        buffered.flush();
+    }
+
+    public ExportEstimate estimate(long rowCount) {
+        long rows = Math.max(0L, rowCount);
+        long pages = Math.max(1L, (rows + 2 + ROWS_PER_PAGE - 1) / ROWS_PER_PAGE);
+        return new ExportEstimate(rows, pages, BASE_BYTES + (rows * BYTES_PER_ROW) + (pages * BYTES_PER_PAGE));
+    }
+
+    private String summary(AuditLogUseCase.AuditLogEntry entry) {
+        return String.format(
+                "%s | %s | %s#%s | tenant=%s | actor=%s",
+                formatDate(entry.occurredAt()),
+                safe(entry.action()),
+                safe(entry.entityType()),
+                entry.entityId(),
+                safe(entry.tenantName(), String.valueOf(entry.tenantId())),
+                safe(entry.actorEmail(), String.valueOf(entry.actorUserId()))
+        );
+    }
+
+    private String formatDate(LocalDateTime value) {
+        if (value == null) {
+            return "";
+        }
+        return value.format(PRINT_TS);
+    }
+
+    private String compactJson(String value) {
+        if (value == null || value.isBlank()) {
+            return "-";
+        }
+        String compact = value.replace('\n', ' ').replace('\r', ' ').replace('\t', ' ').trim();
+        if (compact.length() > JSON_PREVIEW_LENGTH) {
+            return compact.substring(0, JSON_PREVIEW_LENGTH) + "...";
+        }
+        return compact;
+    }
+
+    private String safe(String value) {
+        return value == null ? "" : value;
+    }
+
+    private String safe(String primary, String fallback) {
+        if (primary != null && !primary.isBlank()) {
+            return primary;
+        }
+        return fallback == null ? "" : fallback;
+    }
+
+    public record ExportEstimate(long rowCount, long estimatedPages, long estimatedBytes) {
+    }
+
+    private static final class PageCursor {
+        private final StreamingPdfWriter writer;
+        private float y;
+
+        private PageCursor(StreamingPdfWriter writer) {
+            this.writer = writer;
+        }
+
+        private void newPage() throws IOException {
+            writer.beginPage();
+            y = StreamingPdfWriter.PAGE_HEIGHT - MARGIN;
+        }
+
+        private void ensureSpace(float height) throws IOException {
+            if (y < MARGIN + height) {
+                newPage();
+            }
+        }
+
+        private void skip(float height) {
+            y -= height;
+        }
+
+        private void line(StreamingPdfWriter.Font font, float size, String text) {
+            writer.text(font, size, MARGIN, y, text);
+            y -= LINE_HEIGHT;
+        }
+
+        private void wrapped(String text) throws IOException {
+            String[] words = text.split("\\s+");
+            StringBuilder line = new StringBuilder();
+            float lineWidth = 0f;
+            float spaceWidth = StreamingPdfWriter.textWidth(StreamingPdfWriter.Font.REGULAR, FONT_SIZE, " ");
+            for (String word : words) {
+                float wordWidth = StreamingPdfWriter.textWidth(StreamingPdfWriter.Font.REGULAR, FONT_SIZE, word);
+                float candidateWidth = line.isEmpty() ? wordWidth : lineWidth + spaceWidth + wordWidth;
+                if (candidateWidth > MAX_WIDTH && !line.isEmpty()) {
+                    emit(line.toString());
+                    line.setLength(0);
+                    line.append(word);
+                    lineWidth = wordWidth;
+                } else {
+                    if (!line.isEmpty()) {
+                        line.append(' ');
+                    }
+                    line.append(word);
+                    lineWidth = candidateWidth;
+                }
+            }
+            if (!line.isEmpty()) {
+                emit(line.toString());
+            }
+        }
+
+        private void emit(String text) throws IOException {
+            ensureSpace(0f);
+            line(StreamingPdfWriter.Font.REGULAR, FONT_SIZE, text);
+        }
+    }
+}
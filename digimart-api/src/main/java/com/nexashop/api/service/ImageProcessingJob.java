@@ -0,0 +1,138 @@
+package com.nexashop.api.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class ImageProcessingJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        RETRYING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum Operation {
+        REMOVE_BACKGROUND,
+        CHANGE_BACKGROUND
+    }
+
+    private final String id;
+    private final Long tenantId;
+    private final Operation operation;
+    private final LocalDateTime createdAt;
+    private final List<Consumer<ImageProcessingJob>> listeners = new CopyOnWriteArrayList<>();
+    private Status status = Status.QUEUED;
+    private int attempts;
+    private String resultUrl;
+    private String resultContentType;
+    private String error;
+    private LocalDateTime finishedAt;
+
+    public ImageProcessingJob(String id, Long tenantId, Operation operation) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.operation = operation;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    public synchronized String getResultUrl() {
+        return resultUrl;
+    }
+
+    public synchronized String getResultContentType() {
+        return resultContentType;
+    }
+
+    public synchronized String getError() {
+        return error;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void addListener(Consumer<ImageProcessingJob> listener) {
+        listeners.add(listener);
+        if (isFinished()) {
+            listener.accept(this);
+        }
+    }
+
+    public void removeListener(Consumer<ImageProcessingJob> listener) {
+        listeners.remove(listener);
+    }
+
+    void startAttempt() {
+        synchronized (this) {
+            attempts++;
+            status = Status.RUNNING;
+        }
+        notifyListeners();
+    }
+
+    void retry(String message) {
+        synchronized (this) {
+            status = Status.RETRYING;
+            error = message;
+        }
+        notifyListeners();
+    }
+
+    void complete(String url, String contentType) {
+        synchronized (this) {
+            status = Status.COMPLETED;
+            resultUrl = url;
+            resultContentType = contentType;
+            error = null;
+            finishedAt = LocalDateTime.now();
+        }
+        notifyListeners();
+    }
+
+    void fail(String message) {
+        synchronized (this) {
+            status = Status.FAILED;
+            error = message;
+            finishedAt = LocalDateTime.now();
+        }
+        notifyListeners();
+    }
+
+    private void notifyListeners() {
+        for (Consumer<ImageProcessingJob> listener : listeners) {
+            listener.accept(this);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.nexashop.api.service;
+
+import com.nexashop.api.util.UploadUtil;
+import com.nexashop.application.exception.NotFoundException;
+import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.security.CurrentUser;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ImageProcessingJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageProcessingJobService.class);
+    // Job results are copied here; the processed image cache evicts its own files.
+    private static final String RESULT_FOLDER = "products/processed";
+
+    private final ProductImageBackgroundRemovalService backgroundRemovalService;
+    private final CurrentUserProvider currentUserProvider;
+    private final ProcessedImageCache processedImageCache;
+    private final String uploadBaseDir;
+    private final ExecutorService executor;
+    private final Semaphore rembgPermits;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration retention;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<String, ImageProcessingJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageProcessingJobService(
+            ProductImageBackgroundRemovalService backgroundRemovalService,
+            CurrentUserProvider currentUserProvider,
+            ProcessedImageCache processedImageCache,
+            @Value("${app.upload.dir:}") String uploadBaseDir,
+            @Value("${image.jobs.max-concurrency:4}") int maxConcurrency,
+            @Value("${image.jobs.queue-capacity:64}") int queueCapacity,
+            @Value("${image.jobs.max-attempts:3}") int maxAttempts,
+            @Value("${image.jobs.initial-backoff-ms:500}") long initialBackoffMs,
+            @Value("${image.jobs.retention-minutes:30}") long retentionMinutes
+    ) {
+        this(
+                backgroundRemovalService,
+                currentUserProvider,
+                processedImageCache,
+                uploadBaseDir,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-job-", 1).factory()),
+                maxConcurrency,
+                queueCapacity,
+                maxAttempts,
+                Duration.ofMillis(Math.max(0L, initialBackoffMs)),
+                Duration.ofMinutes(Math.max(1L, retentionMinutes))
+        );
+    }
+
+    public ImageProcessingJobService(
+            ProductImageBackgroundRemovalService backgroundRemovalService,
+            CurrentUserProvider currentUserProvider,
+            ProcessedImageCache processedImageCache,
+            String uploadBaseDir,
+            ExecutorService executor,
+            int maxConcurrency,
+            int queueCapacity,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration retention
+    ) {
+        this.backgroundRemovalService = backgroundRemovalService;
+        this.currentUserProvider = currentUserProvider;
+        this.processedImageCache = processedImageCache;
+        this.uploadBaseDir = uploadBaseDir;
+        this.executor = executor;
+        this.rembgPermits = new Semaphore(Math.max(1, maxConcurrency), true);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.retention = retention;
+    }
+
+    public ImageProcessingJob submit(
+            ImageProcessingJob.Operation operation,
+            ProductImageBackgroundRemovalService.PreparedImage prepared
+    ) {
+        purgeExpiredJobs();
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        Optional<UploadUtil.StoredFile> cached = publishCached(prepared);
+        if (cached.isPresent()) {
+            ImageProcessingJob job = new ImageProcessingJob(UUID.randomUUID().toString(), currentUser.tenantId(), operation);
+            jobs.put(job.getId(), job);
+            job.complete(cached.get().relativeUrl(), cached.get().contentType());
+            return job;
+        }
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            throw new ResponseStatusException(
+                    HttpStatus.SERVICE_UNAVAILABLE,
+                    "Image processing queue is full, please retry shortly"
+            );
+        }
+        ImageProcessingJob job = new ImageProcessingJob(UUID.randomUUID().toString(), currentUser.tenantId(), operation);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, prepared));
+        } catch (RuntimeException ex) {
+            pending.decrementAndGet();
+            jobs.remove(job.getId());
+            throw ex;
+        }
+        return job;
+    }
+
+    public ImageProcessingJob getJob(String jobId) {
+        ImageProcessingJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Image job not found");
+        }
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        if (!currentUser.hasRole("SUPER_ADMIN") && !job.getTenantId().equals(currentUser.tenantId())) {
+            throw new NotFoundException("Image job not found");
+        }
+        return job;
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImageProcessingJob job, ProductImageBackgroundRemovalService.PreparedImage prepared) {
+        String failure;
+        try {
+            ProductImageBackgroundRemovalService.ProcessedImage result = processWithRetries(job, prepared);
+            processedImageCache.put(prepared.cacheKey(), prepared.filename(), result);
+            UploadUtil.StoredFile stored = publish(prepared, result.bytes(), result.contentType());
+            pending.decrementAndGet();
+            job.complete(stored.relativeUrl(), stored.contentType());
+            return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = "Image processing interrupted";
+        } catch (ResponseStatusException ex) {
+            failure = ex.getReason();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Image job {} failed", job.getId(), ex);
+            failure = ex.getMessage();
+        }
+        pending.decrementAndGet();
+        job.fail(failure);
+    }
+
+    // A cache entry evicted between lookup and copy is treated as a miss.
+    private Optional<UploadUtil.StoredFile> publishCached(ProductImageBackgroundRemovalService.PreparedImage prepared) {
+        Optional<ProcessedImageCache.CachedImage> cached = processedImageCache.get(prepared.cacheKey());
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            byte[] bytes = processedImageCache.read(cached.get());
+            return Optional.of(publish(prepared, bytes, cached.get().contentType()));
+        } catch (IOException ex) {
+            log.debug("Cached image {} vanished before it could be published", cached.get().file(), ex);
+            return Optional.empty();
+        }
+    }
+
+    private UploadUtil.StoredFile publish(
+            ProductImageBackgroundRemovalService.PreparedImage prepared,
+            byte[] bytes,
+            String contentType
+    ) throws IOException {
+        return UploadUtil.storeImageBytes(bytes, prepared.filename(), contentType, uploadBaseDir, RESULT_FOLDER);
+    }
+
+    private ProductImageBackgroundRemovalService.ProcessedImage processWithRetries(
+            ImageProcessingJob job,
+            ProductImageBackgroundRemovalService.PreparedImage prepared
+    ) throws InterruptedException {
+        Duration backoff = initialBackoff;
+        while (true) {
+            rembgPermits.acquire();
+            try {
+                job.startAttempt();
+                return backgroundRemovalService.process(prepared);
+            } catch (ProductImageBackgroundRemovalService.RembgException ex) {
+                if (!ex.isRetryable() || job.getAttempts() >= maxAttempts) {
+                    throw ex;
+                }
+                log.info("Image job {} attempt {} failed, retrying in {} ms: {}",
+                        job.getId(), job.getAttempts(), backoff.toMillis(), ex.getReason());
+                job.retry(ex.getReason());
+            } finally {
+                rembgPermits.release();
+            }
+            Thread.sleep(backoff);
+            backoff = backoff.multipliedBy(2);
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf((job) -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,263 @@
+package com.nexashop.api.service;
+
+import com.nexashop.api.util.UploadUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+public class ProcessedImageCache implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedImageCache.class);
+
+    private static final String METRIC_PREFIX = "image.result.cache";
+    static final String FOLDER = "processed-cache";
+
+    private final String uploadBaseDir;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Map<String, CachedImage> index = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long totalBytes;
+
+    public ProcessedImageCache(
+            @Value("${app.upload.dir:}") String uploadBaseDir,
+            @Value("${image.cache.max-size:1GB}") DataSize maxSize
+    ) {
+        this.uploadBaseDir = uploadBaseDir;
+        this.cacheDir = UploadUtil.resolveBaseDir(uploadBaseDir).resolve(FOLDER);
+        this.maxBytes = Math.max(1L, maxSize.toBytes());
+    }
+
+    public static KeyBuilder key(String operation) {
+        return new KeyBuilder(operation);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(cacheDir)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toCollection(ArrayList::new));
+        } catch (IOException ex) {
+            log.warn("Unable to scan processed image cache {}", cacheDir, ex);
+            return;
+        }
+        files.sort(Comparator.comparing(ProcessedImageCache::lastModified));
+        synchronized (this) {
+            for (Path file : files) {
+                String filename = file.getFileName().toString();
+                int dot = filename.lastIndexOf('.');
+                String contentType = UploadUtil.contentTypeForFilename(filename);
+                if (dot <= 0 || contentType == null) {
+                    deleteQuietly(file);
+                    continue;
+                }
+                long size = sizeOf(file);
+                CachedImage previous = index.put(
+                        filename.substring(0, dot),
+                        new CachedImage("/uploads/" + FOLDER + "/" + filename, contentType, file, size)
+                );
+                totalBytes += size - (previous == null ? 0L : previous.size());
+            }
+            evictOverflow(null);
+        }
+        log.info("Loaded {} processed image cache entries ({} bytes)", index.size(), totalBytes);
+    }
+
+    public Optional<CachedImage> get(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        CachedImage cached;
+        synchronized (this) {
+            cached = index.get(key);
+            if (cached != null && !Files.exists(cached.file())) {
+                index.remove(key);
+                totalBytes -= cached.size();
+                cached = null;
+            }
+        }
+        if (cached == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        try {
+            Files.setLastModifiedTime(cached.file(), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            log.debug("Unable to touch cached image {}", cached.file(), ex);
+        }
+        return Optional.of(cached);
+    }
+
+    public CachedImage put(String key, String originalName, ProductImageBackgroundRemovalService.ProcessedImage image)
+            throws IOException {
+        UploadUtil.StoredFile stored = UploadUtil.storeImageBytesAs(
+                image.bytes(),
+                originalName,
+                image.contentType(),
+                uploadBaseDir,
+                FOLDER,
+                key
+        );
+        CachedImage cached = new CachedImage(
+                stored.relativeUrl(),
+                stored.contentType(),
+                cacheDir.resolve(stored.filename()),
+                stored.size()
+        );
+        synchronized (this) {
+            CachedImage previous = index.put(key, cached);
+            totalBytes += cached.size() - (previous == null ? 0L : previous.size());
+            if (previous != null && !previous.file().equals(cached.file())) {
+                deleteQuietly(previous.file());
+            }
+            evictOverflow(key);
+        }
+        return cached;
+    }
+
+    public byte[] read(CachedImage cached) throws IOException {
+        return Files.readAllBytes(cached.file());
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".size.bytes", this, ProcessedImageCache::totalBytes)
+                .description("Bytes held by the processed image cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".hits", hits, AtomicLong::get)
+                .description("Image operations served from the processed image cache")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".misses", misses, AtomicLong::get)
+                .description("Image operations that had to be computed")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .description("Processed images evicted to stay under the size cap")
+                .register(registry);
+    }
+
+    private void evictOverflow(String keep) {
+        Iterator<Map.Entry<String, CachedImage>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedImage> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue().size();
+            evictions.incrementAndGet();
+            deleteQuietly(eldest.getValue().file());
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            return 0L;
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Unable to delete cached image {}", file, ex);
+        }
+    }
+
+    public record CachedImage(String relativeUrl, String contentType, Path file, long size) {
+    }
+
+    public static final class KeyBuilder {
+
+        private static final String VERSION = "v1";
+
+        private final MessageDigest digest;
+
+        private KeyBuilder(String operation) {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 is not available", ex);
+            }
+            add(VERSION);
+            add(operation);
+        }
+
+        public KeyBuilder add(String value) {
+            return add(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public KeyBuilder add(byte[] value) {
+            if (value == null) {
+                digest.update((byte) 0);
+                return this;
+            }
+            digest.update((byte) 1);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value.length).array());
+            digest.update(value);
+            return this;
+        }
+
+        public String build() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -1,17 +1,11 @@
 package com.nexashop.api.service;
 
 import com.nexashop.application.port.out.CurrentUserProvider;
-import com.nexashop.application.port.out.PlanFeatureRepository;
 import com.nexashop.application.port.out.PlatformConfigRepository;
-import com.nexashop.application.port.out.PremiumFeatureRepository;
 import com.nexashop.application.port.out.TenantRepository;
-import com.nexashop.application.port.out.TenantSubscriptionRepository;
 import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.EntitlementService;
 import com.nexashop.domain.billing.entity.PlatformConfig;
-import com.nexashop.domain.billing.entity.PlanFeature;
-import com.nexashop.domain.billing.entity.PremiumFeature;
-import com.nexashop.domain.billing.entity.TenantSubscription;
-import com.nexashop.domain.billing.enums.SubscriptionStatus;
 import com.nexashop.domain.tenant.entity.Tenant;
 import java.awt.AlphaComposite;
 import java.awt.Color;
@@ -74,12 +68,11 @@ public class ProductImageBackgroundRemovalService {
     private final Duration timeout;
     private final HttpClient httpClient;
     private final CurrentUserProvider currentUserProvider;
-    private final TenantSubscriptionRepository subscriptionRepository;
-    private final PlanFeatureRepository planFeatureRepository;
+    private final EntitlementService entitlementService;
     private final PlatformConfigRepository platformConfigRepository;
-    private final PremiumFeatureRepository featureRepository;
     private final TenantRepository tenantRepository;
     private final Path uploadBaseDir;
+    private final ProcessedImageCache processedImageCache;
     private final boolean platformWatermarkEnabled;
     private final String platformWatermarkText;
 
@@ -92,11 +85,10 @@ public class ProductImageBackgroundRemovalService {
             @Value("${image.bg-removal.platform-watermark-text:Digimart}") String platformWatermarkText,
             @Value("${app.upload.dir:}") String uploadBaseDir,
             CurrentUserProvider currentUserProvider,
-            TenantSubscriptionRepository subscriptionRepository,
-            PlanFeatureRepository planFeatureRepository,
+            EntitlementService entitlementService,
             PlatformConfigRepository platformConfigRepository,
-            PremiumFeatureRepository featureRepository,
-            TenantRepository tenantRepository
+            TenantRepository tenantRepository,
+            ProcessedImageCache processedImageCache
     ) {
         this.enabled = enabled;
         this.rembgUri = resolveRembgUri(rembgBaseUrl, rembgEndpoint);
@@ -108,28 +100,28 @@ public class ProductImageBackgroundRemovalService {
         this.platformWatermarkEnabled = platformWatermarkEnabled;
         this.platformWatermarkText = platformWatermarkText == null ? "" : platformWatermarkText.trim();
         this.currentUserProvider = currentUserProvider;
-        this.subscriptionRepository = subscriptionRepository;
-        this.planFeatureRepository = planFeatureRepository;
+        this.entitlementService = entitlementService;
         this.platformConfigRepository = platformConfigRepository;
-        this.featureRepository = featureRepository;
         this.tenantRepository = tenantRepository;
         this.uploadBaseDir = UploadUtil.resolveBaseDir(uploadBaseDir);
+        this.processedImageCache = processedImageCache;
     }
 
-    public ProcessedImage removeBackground(MultipartFile file) throws IOException {
+    public PreparedImage prepareRemoveBackground(MultipartFile file) throws IOException {
+        requireEnabled();
         requireFeatureForCurrentTenant(
                 BACKGROUND_REMOVAL_FEATURE_CODE,
                 "Background removal"
         );
-        ProcessedImage processed = removeBackgroundRaw(file);
-        WatermarkPayload payload = resolveAutoPlatformWatermarkPayload();
-        if (payload != null) {
-            return applyWatermark(processed.bytes(), processed.contentType(), payload);
-        }
-        return processed;
+        return prepare(file, ImageProcessingJob.Operation.REMOVE_BACKGROUND, null, null);
     }
 
-    public ProcessedImage changeBackground(MultipartFile file, MultipartFile backgroundFile, BackgroundFit fit) throws IOException {
+    public PreparedImage prepareChangeBackground(
+            MultipartFile file,
+            MultipartFile backgroundFile,
+            BackgroundFit fit
+    ) throws IOException {
+        requireEnabled();
         requireFeatureForCurrentTenant(
                 BACKGROUND_REMOVAL_FEATURE_CODE,
                 "Background removal"
@@ -138,19 +130,30 @@ public class ProductImageBackgroundRemovalService {
                 BACKGROUND_CHANGE_FEATURE_CODE,
                 "Background change"
         );
-        ProcessedImage foreground = removeBackgroundRaw(file);
-        BufferedImage background = resolveBackgroundImage(backgroundFile);
-        ProcessedImage composed = composeWithBackground(
-                foreground.bytes(),
-                foreground.contentType(),
+        UploadUtil.validateImage(file);
+        ManagedImage background = resolveBackgroundImage(backgroundFile);
+        return prepare(
+                file,
+                ImageProcessingJob.Operation.CHANGE_BACKGROUND,
                 background,
                 fit == null ? BackgroundFit.COVER : fit
         );
-        WatermarkPayload payload = resolveAutoPlatformWatermarkPayload();
-        if (payload != null) {
-            return applyWatermark(composed.bytes(), composed.contentType(), payload);
+    }
+
+    public ProcessedImage process(PreparedImage prepared) {
+        ProcessedImage processed = removeBackgroundRaw(prepared);
+        if (prepared.background() != null) {
+            processed = composeWithBackground(
+                    processed.bytes(),
+                    processed.contentType(),
+                    prepared.background(),
+                    prepared.fit()
+            );
         }
-        return composed;
+        if (prepared.watermark() != null) {
+            return applyWatermark(processed.bytes(), processed.contentType(), prepared.watermark());
+        }
+        return processed;
     }
 
     public ProcessedImage addWatermark(MultipartFile file, WatermarkMode mode) throws IOException {
@@ -163,7 +166,26 @@ public class ProductImageBackgroundRemovalService {
 
         WatermarkMode resolvedMode = mode == null ? WatermarkMode.AUTO : mode;
         WatermarkPayload payload = resolveRequestedWatermarkPayload(resolvedMode);
-        return applyWatermark(sourceBytes, contentType, payload);
+        String cacheKey = ProcessedImageCache.key("WATERMARK")
+                .add(sourceBytes)
+                .add(contentType)
+                .add(payload.fingerprint())
+                .build();
+        Optional<ProcessedImageCache.CachedImage> cached = processedImageCache.get(cacheKey);
+        if (cached.isPresent()) {
+            try {
+                return new ProcessedImage(processedImageCache.read(cached.get()), cached.get().contentType());
+            } catch (IOException ex) {
+                log.warn("Unable to read cached watermark result {}", cached.get().file(), ex);
+            }
+        }
+        ProcessedImage result = applyWatermark(sourceBytes, contentType, payload);
+        try {
+            processedImageCache.put(cacheKey, file.getOriginalFilename(), result);
+        } catch (IOException | ResponseStatusException ex) {
+            log.warn("Unable to cache watermark result", ex);
+        }
+        return result;
     }
 
     private void requireFeatureForCurrentTenant(String featureCode, String featureLabel) {
@@ -182,14 +204,15 @@ public class ProductImageBackgroundRemovalService {
         }
     }
 
-    private BufferedImage resolveBackgroundImage(MultipartFile backgroundFile) throws IOException {
+    private ManagedImage resolveBackgroundImage(MultipartFile backgroundFile) throws IOException {
         if (backgroundFile != null && !backgroundFile.isEmpty()) {
             UploadUtil.validateImage(backgroundFile);
-            BufferedImage uploaded = ImageIO.read(new ByteArrayInputStream(backgroundFile.getBytes()));
+            byte[] backgroundBytes = backgroundFile.getBytes();
+            BufferedImage uploaded = ImageIO.read(new ByteArrayInputStream(backgroundBytes));
             if (uploaded == null) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Uploaded background image is invalid");
             }
-            return uploaded;
+            return new ManagedImage(uploaded, "upload:" + ProcessedImageCache.key("BACKGROUND").add(backgroundBytes).build());
         }
 
         CurrentUser currentUser = currentUserProvider.getCurrentUser();
@@ -208,7 +231,7 @@ public class ProductImageBackgroundRemovalService {
                     "No studio background configured for this tenant. Upload one in tenant settings."
             );
         }
-        BufferedImage studioBackground = loadManagedUploadImage(backgroundUrl);
+        ManagedImage studioBackground = loadManagedUploadImage(backgroundUrl);
         if (studioBackground == null) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
@@ -282,22 +305,53 @@ public class ProductImageBackgroundRemovalService {
         return new DrawSpec(x, y, drawWidth, drawHeight);
     }
 
-    private ProcessedImage removeBackgroundRaw(MultipartFile file) throws IOException {
+    private void requireEnabled() {
         if (!enabled) {
             throw new ResponseStatusException(
                     HttpStatus.SERVICE_UNAVAILABLE,
                     "Background removal is disabled. Set image.bg-removal.enabled=true"
             );
         }
+    }
 
+    private PreparedImage prepare(
+            MultipartFile file,
+            ImageProcessingJob.Operation operation,
+            ManagedImage background,
+            BackgroundFit fit
+    ) throws IOException {
         UploadUtil.validateImage(file);
         byte[] sourceBytes = file.getBytes();
         String originalName = Optional.ofNullable(file.getOriginalFilename())
                 .filter((name) -> !name.isBlank())
                 .orElse("product-image");
         String inputType = normalizeContentType(file.getContentType()).orElse(null);
+        WatermarkPayload watermark = resolveAutoPlatformWatermarkPayload();
+        String cacheKey = ProcessedImageCache.key(operation.name())
+                .add(sourceBytes)
+                .add(background == null ? null : background.fingerprint())
+                .add(fit == null ? null : fit.name())
+                .add(watermark == null ? null : watermark.fingerprint())
+                .build();
+        return new PreparedImage(
+                sourceBytes,
+                originalName,
+                inputType,
+                background == null ? null : background.image(),
+                fit,
+                watermark,
+                cacheKey
+        );
+    }
 
-        MultipartPayload multipartPayload = buildMultipartPayload(sourceBytes, originalName, inputType);
+    private ProcessedImage removeBackgroundRaw(PreparedImage prepared) {
+        String inputType = prepared.contentType();
+        MultipartPayload multipartPayload;
+        try {
+            multipartPayload = buildMultipartPayload(prepared.bytes(), prepared.filename(), inputType);
+        } catch (IOException ex) {
+            throw new RembgException("Unable to prepare background removal request", false, ex);
+        }
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(rembgUri)
                 .timeout(timeout)
@@ -310,27 +364,24 @@ public class ProductImageBackgroundRemovalService {
             response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Background removal interrupted", ex);
+            throw new RembgException("Background removal interrupted", false, ex);
         } catch (IOException ex) {
             log.warn("Unable to reach rembg service at {}", rembgUri, ex);
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_GATEWAY,
-                    "Background removal service is unreachable",
-                    ex
-            );
+            throw new RembgException("Background removal service is unreachable", true, ex);
         }
 
-        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
             String payload = new String(response.body(), StandardCharsets.UTF_8);
             String detail = payload.isBlank()
-                    ? ("HTTP " + response.statusCode())
-                    : ("HTTP " + response.statusCode() + " - " + truncate(payload));
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Background removal failed: " + detail);
+                    ? ("HTTP " + status)
+                    : ("HTTP " + status + " - " + truncate(payload));
+            throw new RembgException("Background removal failed: " + detail, status == 429 || status >= 500, null);
         }
 
         byte[] processedBytes = response.body();
         if (processedBytes == null || processedBytes.length == 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Background removal returned an empty image");
+            throw new RembgException("Background removal returned an empty image", false, null);
         }
 
         String headerType = normalizeContentType(response.headers().firstValue("Content-Type").orElse(null)).orElse(null);
@@ -449,28 +500,7 @@ public class ProductImageBackgroundRemovalService {
     }
 
     private boolean hasFeatureEnabled(Long tenantId, String featureCode) {
-        TenantSubscription subscription = subscriptionRepository
-                .findByTenantIdAndStatus(tenantId, SubscriptionStatus.ACTIVE)
-                .orElseGet(() -> subscriptionRepository
-                        .findByTenantIdAndStatus(tenantId, SubscriptionStatus.PENDING_ACTIVATION)
-                        .orElse(null));
-        if (subscription == null || subscription.getPlanId() == null) {
-            return false;
-        }
-        List<PlanFeature> planFeatures = planFeatureRepository.findByPlanId(subscription.getPlanId());
-        for (PlanFeature planFeature : planFeatures) {
-            if (planFeature == null || planFeature.getFeatureId() == null) {
-                continue;
-            }
-            PremiumFeature feature = featureRepository.findById(planFeature.getFeatureId()).orElse(null);
-            if (feature == null || feature.getCode() == null) {
-                continue;
-            }
-            if (featureCode.equalsIgnoreCase(feature.getCode()) && feature.isActive()) {
-                return true;
-            }
-        }
-        return false;
+        return entitlementService.hasFeature(tenantId, featureCode);
     }
 
     private WatermarkPayload resolveRequestedWatermarkPayload(WatermarkMode mode) {
@@ -527,7 +557,7 @@ public class ProductImageBackgroundRemovalService {
                 && hasFeatureEnabled(currentUser.tenantId(), CUSTOM_WATERMARK_FEATURE_CODE)) {
             Tenant tenant = tenantRepository.findById(currentUser.tenantId()).orElse(null);
             if (tenant != null) {
-                BufferedImage tenantLogo = loadManagedUploadImage(tenant.getLogoUrl());
+                ManagedImage tenantLogo = loadManagedUploadImage(tenant.getLogoUrl());
                 if (tenantLogo != null) {
                     return WatermarkPayload.image(tenantLogo);
                 }
@@ -543,7 +573,7 @@ public class ProductImageBackgroundRemovalService {
     private WatermarkPayload resolvePlatformWatermarkPayloadOrNull() {
         String kind = resolveConfiguredPlatformWatermarkKind();
         if (WATERMARK_KIND_IMAGE.equals(kind)) {
-            BufferedImage logo = resolveConfiguredPlatformWatermarkLogo();
+            ManagedImage logo = resolveConfiguredPlatformWatermarkLogo();
             if (logo != null) {
                 return WatermarkPayload.image(logo);
             }
@@ -554,7 +584,7 @@ public class ProductImageBackgroundRemovalService {
         if (!text.isBlank()) {
             return WatermarkPayload.text(text);
         }
-        BufferedImage logoFallback = resolveConfiguredPlatformWatermarkLogo();
+        ManagedImage logoFallback = resolveConfiguredPlatformWatermarkLogo();
         if (logoFallback != null) {
             return WatermarkPayload.image(logoFallback);
         }
@@ -594,7 +624,7 @@ public class ProductImageBackgroundRemovalService {
         return WATERMARK_KIND_TEXT;
     }
 
-    private BufferedImage resolveConfiguredPlatformWatermarkLogo() {
+    private ManagedImage resolveConfiguredPlatformWatermarkLogo() {
         String logoUrl = platformConfigRepository.findByConfigKey(PLATFORM_WATERMARK_LOGO_URL_CONFIG_KEY)
                 .map(PlatformConfig::getConfigValue)
                 .map(String::trim)
@@ -602,7 +632,7 @@ public class ProductImageBackgroundRemovalService {
         return loadManagedUploadImage(logoUrl);
     }
 
-    private BufferedImage loadManagedUploadImage(String logoUrl) {
+    private ManagedImage loadManagedUploadImage(String logoUrl) {
         String safeUrl = logoUrl == null ? "" : logoUrl.trim();
         if (safeUrl.isBlank()) {
             return null;
@@ -629,7 +659,12 @@ public class ProductImageBackgroundRemovalService {
         }
 
         try (InputStream in = Files.newInputStream(resolved)) {
-            return ImageIO.read(in);
+            BufferedImage image = ImageIO.read(in);
+            if (image == null) {
+                return null;
+            }
+            String fingerprint = relativePath + ":" + Files.size(resolved) + ":" + Files.getLastModifiedTime(resolved).toMillis();
+            return new ManagedImage(image, fingerprint);
         } catch (IOException ex) {
             log.warn("Unable to load managed upload image from {}", safeUrl, ex);
             return null;
@@ -797,16 +832,44 @@ public class ProductImageBackgroundRemovalService {
     private record DrawSpec(int x, int y, int width, int height) {
     }
 
-    private record WatermarkPayload(String text, BufferedImage logo) {
+    record WatermarkPayload(String text, BufferedImage logo, String fingerprint) {
         private static WatermarkPayload text(String text) {
-            return new WatermarkPayload(text, null);
+            return new WatermarkPayload(text, null, "text:" + text);
         }
 
-        private static WatermarkPayload image(BufferedImage logo) {
-            return new WatermarkPayload(null, logo);
+        private static WatermarkPayload image(ManagedImage logo) {
+            return new WatermarkPayload(null, logo.image(), "logo:" + logo.fingerprint());
         }
     }
 
+    private record ManagedImage(BufferedImage image, String fingerprint) {
+    }
+
     public record ProcessedImage(byte[] bytes, String contentType) {
     }
+
+    public record PreparedImage(
+            byte[] bytes,
+            String filename,
+            String contentType,
+            BufferedImage background,
+            BackgroundFit fit,
+            WatermarkPayload watermark,
+            String cacheKey
+    ) {
+    }
+
+    public static class RembgException extends ResponseStatusException {
+
+        private final boolean retryable;
+
+        public RembgException(String reason, boolean retryable, Throwable cause) {
+            super(HttpStatus.BAD_GATEWAY, reason, cause);
+            this.retryable = retryable;
+        }
+
+        public boolean isRetryable() {
+            return retryable;
+        }
+    }
 }
@@ -0,0 +1,401 @@
+package com.nexashop.api.service;
+
+import com.nexashop.api.util.UploadUtil;
+import com.nexashop.application.usecase.ProductUseCase;
+import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ProductImageDerivativeService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImageDerivativeService.class);
+
+    private static final String METRIC_PREFIX = "image.derivatives";
+    static final String FOLDER = "products/derivatives";
+    private static final String JPEG = "image/jpeg";
+    private static final String PNG = "image/png";
+    private static final String WEBP = "image/webp";
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    private final ProductUseCase productUseCase;
+    private final String uploadBaseDir;
+    private final Path baseDir;
+    private final List<Integer> widths;
+    private final double aspectRatio;
+    private final float jpegQuality;
+    private final ExecutorService executor;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Autowired
+    public ProductImageDerivativeService(
+            ProductUseCase productUseCase,
+            @Value("${app.upload.dir:}") String uploadBaseDir,
+            @Value("${image.derivatives.widths:160,480,1080}") String widths,
+            @Value("${image.derivatives.aspect-ratio:1.0}") double aspectRatio,
+            @Value("${image.derivatives.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${image.derivatives.workers:2}") int workers,
+            @Value("${image.derivatives.queue-capacity:256}") int queueCapacity
+    ) {
+        this(
+                productUseCase,
+                uploadBaseDir,
+                parseWidths(widths),
+                aspectRatio,
+                jpegQuality,
+                new ThreadPoolExecutor(
+                        Math.max(1, workers),
+                        Math.max(1, workers),
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                        daemonThreadFactory()
+                )
+        );
+    }
+
+    public ProductImageDerivativeService(
+            ProductUseCase productUseCase,
+            String uploadBaseDir,
+            List<Integer> widths,
+            double aspectRatio,
+            float jpegQuality,
+            ExecutorService executor
+    ) {
+        this.productUseCase = productUseCase;
+        this.uploadBaseDir = uploadBaseDir;
+        this.baseDir = UploadUtil.resolveBaseDir(uploadBaseDir);
+        this.widths = widths.stream().filter((width) -> width > 0).distinct().sorted().toList();
+        this.aspectRatio = aspectRatio;
+        this.jpegQuality = Math.max(0.1f, Math.min(1f, jpegQuality));
+        this.executor = executor;
+    }
+
+    public static boolean webpSupported() {
+        return ImageIO.getImageWritersByMIMEType(WEBP).hasNext();
+    }
+
+    public void submit(ProductImage image) {
+        if (image == null || image.getId() == null || image.getImageUrl() == null || widths.isEmpty()) {
+            return;
+        }
+        Task task = new Task(
+                image.getId(),
+                image.getImageUrl(),
+                image.getFocusX(),
+                image.getFocusY(),
+                image.getVariants() == null ? List.of() : List.copyOf(image.getVariants())
+        );
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException ex) {
+            rejected.incrementAndGet();
+            log.warn("Image derivative queue is full, skipping image {}", task.imageId());
+        }
+    }
+
+    public long generatedCount() {
+        return generated.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (executor instanceof ThreadPoolExecutor pool) {
+            Gauge.builder(METRIC_PREFIX + ".queue.size", pool, (p) -> p.getQueue().size())
+                    .description("Images waiting for derivative generation")
+                    .register(registry);
+        }
+        FunctionCounter.builder(METRIC_PREFIX + ".generated", generated, AtomicLong::get)
+                .description("Image derivatives written")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".rejected", rejected, AtomicLong::get)
+                .description("Images skipped because the derivative queue was full")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".failed", failed, AtomicLong::get)
+                .description("Images whose derivatives could not be generated")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Task task) {
+        try {
+            List<ProductImageVariant> variants = generate(task);
+            if (variants.isEmpty()) {
+                return;
+            }
+            boolean attached = productUseCase.attachProductImageVariants(
+                    task.imageId(),
+                    task.imageUrl(),
+                    task.focusX(),
+                    task.focusY(),
+                    variants
+            );
+            if (!attached) {
+                deleteVariants(variants, List.of());
+                return;
+            }
+            deleteVariants(task.previousVariants(), variants);
+        } catch (IOException | RuntimeException ex) {
+            failed.incrementAndGet();
+            log.warn("Unable to generate derivatives for image {}", task.imageId(), ex);
+        }
+    }
+
+    List<ProductImageVariant> generate(Task task) throws IOException {
+        Path source = resolveUpload(task.imageUrl());
+        if (source == null || !Files.isRegularFile(source)) {
+            return List.of();
+        }
+        BufferedImage original = ImageIO.read(source.toFile());
+        if (original == null) {
+            log.info("Skipping derivatives for image {}: format is not readable", task.imageId());
+            return List.of();
+        }
+        String sourceType = UploadUtil.contentTypeForFilename(source.getFileName().toString());
+        boolean webp = webpSupported();
+        String primaryType = primaryContentType(sourceType, webp);
+
+        BufferedImage cropped = cropAroundFocus(original, focus(task.focusX()), focus(task.focusY()));
+        String stem = stem(source.getFileName().toString(), task);
+        List<ProductImageVariant> variants = new ArrayList<>();
+        BufferedImage previous = cropped;
+        for (int i = widths.size() - 1; i >= 0; i--) {
+            int width = widths.get(i);
+            if (width >= cropped.getWidth()) {
+                continue;
+            }
+            int height = Math.max(1, Math.round((float) cropped.getHeight() * width / cropped.getWidth()));
+            BufferedImage scaled = downscale(previous, width, height);
+            previous = scaled;
+            variants.add(store(scaled, primaryType, stem + "-" + width));
+            if (webp && !WEBP.equals(primaryType)) {
+                variants.add(store(scaled, WEBP, stem + "-" + width));
+            }
+        }
+        variants.sort((left, right) -> Integer.compare(left.getWidth(), right.getWidth()));
+        return variants;
+    }
+
+    private ProductImageVariant store(BufferedImage image, String contentType, String stem) throws IOException {
+        byte[] bytes = encode(image, contentType);
+        UploadUtil.StoredFile stored = UploadUtil.storeImageBytesAs(
+                bytes,
+                null,
+                contentType,
+                uploadBaseDir,
+                FOLDER,
+                stem
+        );
+        generated.incrementAndGet();
+        return new ProductImageVariant(image.getWidth(), image.getHeight(), stored.contentType(), stored.relativeUrl());
+    }
+
+    private byte[] encode(BufferedImage image, String contentType) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(contentType);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + contentType);
+        }
+        ImageWriter writer = writers.next();
+        BufferedImage output = JPEG.equals(contentType) ? flatten(image) : image;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (!PNG.equals(contentType) && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0 && param.getCompressionType() == null) {
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(output, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    BufferedImage cropAroundFocus(BufferedImage image, int focusX, int focusY) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (aspectRatio <= 0) {
+            return image;
+        }
+        int cropWidth = width;
+        int cropHeight = height;
+        if ((double) width / height > aspectRatio) {
+            cropWidth = Math.max(1, (int) Math.round(height * aspectRatio));
+        } else {
+            cropHeight = Math.max(1, (int) Math.round(width / aspectRatio));
+        }
+        int x = clamp((int) Math.round(width * focusX / 100.0 - cropWidth / 2.0), 0, width - cropWidth);
+        int y = clamp((int) Math.round(height * focusY / 100.0 - cropHeight / 2.0), 0, height - cropHeight);
+        if (cropWidth == width && cropHeight == height) {
+            return image;
+        }
+        return image.getSubimage(x, y, cropWidth, cropHeight);
+    }
+
+    // Halving first keeps bicubic sampling from skipping source pixels on large reductions.
+    private static BufferedImage downscale(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = resize(current, width, height);
+        }
+        if (width != targetWidth || height != targetHeight) {
+            current = resize(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+        return target;
+    }
+
+    private static BufferedImage flatten(BufferedImage image) {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return rgb;
+    }
+
+    private void deleteVariants(List<ProductImageVariant> variants, List<ProductImageVariant> keep) {
+        Set<String> kept = keep.stream().map(ProductImageVariant::getUrl).collect(Collectors.toSet());
+        for (ProductImageVariant variant : variants) {
+            if (variant.getUrl() == null || kept.contains(variant.getUrl())) {
+                continue;
+            }
+            Path file = resolveUpload(variant.getUrl());
+            if (file == null) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                log.warn("Unable to delete image derivative {}", file, ex);
+            }
+        }
+    }
+
+    private Path resolveUpload(String url) {
+        if (url == null || !url.startsWith(UPLOADS_PREFIX)) {
+            return null;
+        }
+        Path resolved = baseDir.resolve(url.substring(UPLOADS_PREFIX.length())).normalize();
+        return resolved.startsWith(baseDir) ? resolved : null;
+    }
+
+    private static String primaryContentType(String sourceType, boolean webp) {
+        if (JPEG.equals(sourceType)) {
+            return JPEG;
+        }
+        if (WEBP.equals(sourceType) && webp) {
+            return WEBP;
+        }
+        return PNG;
+    }
+
+    private static String stem(String filename, Task task) {
+        int dot = filename.lastIndexOf('.');
+        String base = dot > 0 ? filename.substring(0, dot) : filename;
+        return base + "-f" + focus(task.focusX()) + "x" + focus(task.focusY());
+    }
+
+    private static int focus(Integer value) {
+        return value == null ? 50 : clamp(value, 0, 100);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    static List<Integer> parseWidths(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter((part) -> !part.isEmpty())
+                .map(Integer::parseInt)
+                .toList();
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, "image-derivative-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    record Task(
+            Long imageId,
+            String imageUrl,
+            Integer focusX,
+            Integer focusY,
+            List<ProductImageVariant> previousVariants
+    ) {
+    }
+}
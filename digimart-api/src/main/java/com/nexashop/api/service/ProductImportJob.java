@@ -0,0 +1,113 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.usecase.ProductUseCase;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Long tenantId;
+    private final int maxErrors;
+    private final LocalDateTime createdAt;
+    private final List<ProductUseCase.ImportRowError> errors = new ArrayList<>();
+    private Status status = Status.QUEUED;
+    private int totalRows;
+    private int imported;
+    private int failed;
+    private LocalDateTime finishedAt;
+
+    public ProductImportJob(String id, Long tenantId, int maxErrors) {
+        this.id = id;
+        this.tenantId = tenantId;
+        this.maxErrors = maxErrors;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized int getTotalRows() {
+        return totalRows;
+    }
+
+    public synchronized int getImported() {
+        return imported;
+    }
+
+    public synchronized int getFailed() {
+        return failed;
+    }
+
+    public synchronized int getProcessed() {
+        return imported + failed;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized List<ProductUseCase.ImportRowError> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    public synchronized boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    synchronized void start() {
+        status = Status.RUNNING;
+    }
+
+    synchronized void recordRows(int rows) {
+        totalRows += rows;
+    }
+
+    synchronized void recordImported(int count) {
+        imported += count;
+    }
+
+    synchronized void recordErrors(List<ProductUseCase.ImportRowError> rowErrors) {
+        failed += rowErrors.size();
+        for (ProductUseCase.ImportRowError error : rowErrors) {
+            if (errors.size() >= maxErrors) {
+                break;
+            }
+            errors.add(error);
+        }
+    }
+
+    synchronized void complete() {
+        status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String message) {
+        if (message != null) {
+            recordErrors(List.of(new ProductUseCase.ImportRowError(0, message)));
+        }
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+}
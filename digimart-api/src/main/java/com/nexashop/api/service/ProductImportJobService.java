@@ -0,0 +1,291 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.exception.NotFoundException;
+import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.usecase.ProductUseCase;
+import com.nexashop.domain.catalog.entity.Product;
+import com.nexashop.domain.catalog.entity.ProductAvailability;
+import com.nexashop.domain.catalog.entity.ProductStatus;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class ProductImportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportJobService.class);
+
+    public static final List<String> CSV_HEADERS = List.of(
+            "name",
+            "description",
+            "initial_price",
+            "final_price",
+            "cost_price",
+            "shipping_price",
+            "shipping_cost_price"
+    );
+
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private final ProductUseCase productUseCase;
+    private final CurrentUserProvider currentUserProvider;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Duration retention;
+    private final Map<String, ProductImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProductImportJobService(
+            ProductUseCase productUseCase,
+            CurrentUserProvider currentUserProvider,
+            @Value("${product.import.workers:2}") int workers,
+            @Value("${product.import.chunk-size:500}") int chunkSize,
+            @Value("${product.import.max-errors:1000}") int maxErrors,
+            @Value("${product.import.retention-minutes:60}") long retentionMinutes
+    ) {
+        this(
+                productUseCase,
+                currentUserProvider,
+                Executors.newFixedThreadPool(Math.max(1, workers), importThreadFactory()),
+                chunkSize,
+                maxErrors,
+                Duration.ofMinutes(Math.max(1L, retentionMinutes))
+        );
+    }
+
+    public ProductImportJobService(
+            ProductUseCase productUseCase,
+            CurrentUserProvider currentUserProvider,
+            ExecutorService executor,
+            int chunkSize,
+            int maxErrors,
+            Duration retention
+    ) {
+        this.productUseCase = productUseCase;
+        this.currentUserProvider = currentUserProvider;
+        this.executor = executor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxErrors = Math.max(1, maxErrors);
+        this.retention = retention;
+    }
+
+    public ProductImportJob submit(Long tenantId, MultipartFile file) throws IOException {
+        purgeExpiredJobs();
+        ProductUseCase.ImportSession session = productUseCase.openImport(tenantId);
+        Long jobTenantId = session == null ? tenantId : session.tenantId();
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), jobTenantId, maxErrors);
+        jobs.put(job.getId(), job);
+
+        if (file.isEmpty()) {
+            job.fail("CSV file is empty");
+            return job;
+        }
+
+        Path csvFile = Files.createTempFile("product-import-", ".csv");
+        try {
+            file.transferTo(csvFile);
+            List<String> missingHeaders = findMissingHeaders(csvFile);
+            if (!missingHeaders.isEmpty()) {
+                Files.deleteIfExists(csvFile);
+                job.fail("CSV non conforme. Exportez le template et remplissez-le. " +
+                        "Colonnes manquantes: " + String.join(", ", missingHeaders));
+                return job;
+            }
+            executor.execute(() -> run(job, session, csvFile));
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(csvFile);
+            jobs.remove(job.getId());
+            throw ex;
+        }
+        return job;
+    }
+
+    public ProductImportJob getJob(String jobId) {
+        ProductImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Import job not found");
+        }
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        if (!currentUser.hasRole("SUPER_ADMIN") && !job.getTenantId().equals(currentUser.tenantId())) {
+            throw new NotFoundException("Import job not found");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ProductImportJob job, ProductUseCase.ImportSession session, Path csvFile) {
+        job.start();
+        try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+             CSVParser parser = CSV_FORMAT.parse(reader)) {
+            List<ProductUseCase.ImportRow> chunk = new ArrayList<>(chunkSize);
+            for (CSVRecord record : parser) {
+                job.recordRows(1);
+                int rowNumber = (int) record.getRecordNumber() + 1;
+                try {
+                    chunk.add(new ProductUseCase.ImportRow(rowNumber, toProduct(record)));
+                } catch (RuntimeException ex) {
+                    job.recordErrors(List.of(new ProductUseCase.ImportRowError(rowNumber, ex.getMessage())));
+                }
+                if (chunk.size() >= chunkSize) {
+                    importChunk(job, session, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            importChunk(job, session, chunk);
+            job.complete();
+        } catch (Exception ex) {
+            log.warn("Product import {} failed", job.getId(), ex);
+            job.fail(ex.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(csvFile);
+            } catch (IOException ex) {
+                log.warn("Unable to delete import file {}", csvFile, ex);
+            }
+        }
+    }
+
+    private void importChunk(
+            ProductImportJob job,
+            ProductUseCase.ImportSession session,
+            List<ProductUseCase.ImportRow> chunk
+    ) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            ProductUseCase.ImportBatchResult result = productUseCase.importBatch(session, chunk);
+            job.recordImported(result.imported());
+            job.recordErrors(result.errors());
+        } catch (RuntimeException ex) {
+            log.warn("Product import {} chunk failed", job.getId(), ex);
+            List<ProductUseCase.ImportRowError> errors = new ArrayList<>(chunk.size());
+            for (ProductUseCase.ImportRow row : chunk) {
+                errors.add(new ProductUseCase.ImportRowError(row.rowNumber(), ex.getMessage()));
+            }
+            job.recordErrors(errors);
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf((job) -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    private static List<String> findMissingHeaders(Path csvFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+             CSVParser parser = CSV_FORMAT.parse(reader)) {
+            return CSV_HEADERS.stream()
+                    .filter((header) -> !parser.getHeaderMap().containsKey(header))
+                    .toList();
+        }
+    }
+
+    private static Product toProduct(CSVRecord record) {
+        String name = read(record, "name");
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        BigDecimal initialPrice = parseRequiredDecimal(read(record, "initial_price"), "initial_price");
+        BigDecimal shippingPrice = parseRequiredDecimal(read(record, "shipping_price"), "shipping_price");
+
+        Product product = new Product();
+        product.setName(name.trim());
+        product.setDescription(read(record, "description"));
+        product.setInitialPrice(initialPrice);
+        product.setFinalPrice(parseDecimal(read(record, "final_price")));
+        product.setCostPrice(parseDecimal(read(record, "cost_price")));
+        product.setShippingPrice(shippingPrice);
+        product.setShippingCostPrice(parseDecimal(read(record, "shipping_cost_price")));
+        product.setStatus(parseStatus(read(record, "status")));
+        product.setAvailability(parseAvailability(read(record, "availability")));
+        product.setAvailabilityText(read(record, "availability_text"));
+        product.setSku(read(record, "sku"));
+        return product;
+    }
+
+    private static ThreadFactory importThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, "product-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String read(CSVRecord record, String key) {
+        if (record.isMapped(key)) {
+            String value = record.get(key);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+        return null;
+    }
+
+    private static BigDecimal parseRequiredDecimal(String value, String fieldName) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(fieldName + " is required");
+        }
+        return parseDecimal(value);
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    private static ProductStatus parseStatus(String value) {
+        if (value == null || value.isBlank()) {
+            return ProductStatus.ACTIVE;
+        }
+        return ProductStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static ProductAvailability parseAvailability(String value) {
+        if (value == null || value.isBlank()) {
+            return ProductAvailability.IN_STOCK;
+        }
+        return ProductAvailability.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,76 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.exception.ForbiddenException;
+import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.usecase.ProductMaintenanceUseCase;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class StoreVisibilityRebuildService {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreVisibilityRebuildService.class);
+
+    private final ProductMaintenanceUseCase productMaintenanceUseCase;
+    private final CurrentUserProvider currentUserProvider;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("store-visibility-rebuild").daemon(true).factory()
+    );
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public StoreVisibilityRebuildService(
+            ProductMaintenanceUseCase productMaintenanceUseCase,
+            CurrentUserProvider currentUserProvider,
+            @Value("${product.store-visibility.rebuild.batch-size:500}") int batchSize
+    ) {
+        this.productMaintenanceUseCase = productMaintenanceUseCase;
+        this.currentUserProvider = currentUserProvider;
+        this.batchSize = batchSize;
+    }
+
+    public boolean submit(Long tenantId) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        if (!currentUser.hasRole("SUPER_ADMIN") && !tenantId.equals(currentUser.tenantId())) {
+            throw new ForbiddenException("Tenant access required");
+        }
+        if (!running.add(tenantId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> rebuild(tenantId));
+        } catch (RuntimeException ex) {
+            running.remove(tenantId);
+            throw ex;
+        }
+        return true;
+    }
+
+    public boolean isRunning(Long tenantId) {
+        return running.contains(tenantId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void rebuild(Long tenantId) {
+        try {
+            int written = productMaintenanceUseCase.rebuildStoreVisibility(tenantId, batchSize);
+            log.info("Store visibility rebuilt (tenantId={}, rows={})", tenantId, written);
+        } catch (RuntimeException ex) {
+            log.warn("Store visibility rebuild failed (tenantId={})", tenantId, ex);
+        } finally {
+            running.remove(tenantId);
+        }
+    }
+}
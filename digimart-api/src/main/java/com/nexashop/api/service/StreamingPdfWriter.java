@@ -0,0 +1,284 @@
+package com.nexashop.api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+import org.apache.pdfbox.pdmodel.font.encoding.WinAnsiEncoding;
+
+// Writes each page to the output as soon as it is finished; only object offsets and
+// one page-tree node id per PAGES_PER_NODE pages stay in memory.
+public class StreamingPdfWriter implements Closeable {
+
+    public enum Font {
+        REGULAR("F1", PDType1Font.HELVETICA),
+        BOLD("F2", PDType1Font.HELVETICA_BOLD);
+
+        private final String resourceName;
+        private final float[] widths = new float[256];
+
+        Font(String resourceName, PDType1Font font) {
+            this.resourceName = resourceName;
+            for (Map.Entry<Integer, String> entry : WinAnsiEncoding.INSTANCE.getCodeToNameMap().entrySet()) {
+                try {
+                    widths[entry.getKey()] = font.getWidth(entry.getKey());
+                } catch (IOException ex) {
+                    widths[entry.getKey()] = font.getAverageFontWidth();
+                }
+            }
+        }
+    }
+
+    public static final float PAGE_WIDTH = PDRectangle.A4.getWidth();
+    public static final float PAGE_HEIGHT = PDRectangle.A4.getHeight();
+
+    private static final int PAGES_PER_NODE = 64;
+    private static final short[] WIN_ANSI_BY_CHAR = buildWinAnsiTable();
+
+    private final CountingOutputStream out;
+    private final int catalogId;
+    private final int rootPagesId;
+    private final int regularFontId;
+    private final int boldFontId;
+    private long[] offsets = new long[256];
+    private int nextObjectId = 1;
+    private int[] nodeIds = new int[16];
+    private int nodeCount;
+    private final int[] currentKids = new int[PAGES_PER_NODE];
+    private int currentKidCount;
+    private int currentNodeId;
+    private long pageCount;
+    private ByteArrayOutputStream pageContent;
+    private boolean closed;
+
+    public StreamingPdfWriter(OutputStream output) throws IOException {
+        this.out = new CountingOutputStream(output);
+        this.catalogId = reserveObject();
+        this.rootPagesId = reserveObject();
+        this.regularFontId = reserveObject();
+        this.boldFontId = reserveObject();
+        writeAscii("%PDF-1.4\n%âãÏÓ\n");
+        writeObject(catalogId, "<< /Type /Catalog /Pages " + rootPagesId + " 0 R >>");
+        writeObject(regularFontId, fontDictionary("Helvetica"));
+        writeObject(boldFontId, fontDictionary("Helvetica-Bold"));
+    }
+
+    public static float textWidth(Font font, float size, String text) {
+        if (text == null || text.isEmpty()) {
+            return 0f;
+        }
+        float width = 0f;
+        for (int i = 0; i < text.length(); i++) {
+            width += font.widths[encodeChar(text.charAt(i)) & 0xFF];
+        }
+        return width / 1000f * size;
+    }
+
+    public long pageCount() {
+        return pageCount;
+    }
+
+    public long bytesWritten() {
+        return out.count;
+    }
+
+    public void beginPage() throws IOException {
+        if (pageContent != null) {
+            endPage();
+        }
+        pageContent = new ByteArrayOutputStream(8 * 1024);
+    }
+
+    public void text(Font font, float size, float x, float y, String text) {
+        if (pageContent == null) {
+            throw new IllegalStateException("No page started");
+        }
+        String operators = String.format(Locale.ROOT, "BT /%s %.1f Tf %.2f %.2f Td (", font.resourceName, size, x, y);
+        pageContent.writeBytes(operators.getBytes(StandardCharsets.US_ASCII));
+        String value = text == null ? "" : text;
+        for (int i = 0; i < value.length(); i++) {
+            byte code = encodeChar(value.charAt(i));
+            if (code == '(' || code == ')' || code == '\\') {
+                pageContent.write('\\');
+            }
+            pageContent.write(code);
+        }
+        pageContent.writeBytes(") Tj ET\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public void endPage() throws IOException {
+        if (pageContent == null) {
+            return;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(pageContent.size() / 3 + 64);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+            pageContent.writeTo(deflater);
+        }
+        pageContent = null;
+
+        if (currentKidCount == 0) {
+            currentNodeId = reserveObject();
+        }
+        int contentId = reserveObject();
+        int pageId = reserveObject();
+        beginObject(contentId);
+        writeAscii("<< /Length " + compressed.size() + " /Filter /FlateDecode >>\nstream\n");
+        compressed.writeTo(out);
+        writeAscii("\nendstream\nendobj\n");
+        writeObject(pageId, String.format(
+                Locale.ROOT,
+                "<< /Type /Page /Parent %d 0 R /MediaBox [0 0 %.2f %.2f] "
+                        + "/Resources << /Font << /F1 %d 0 R /F2 %d 0 R >> >> /Contents %d 0 R >>",
+                currentNodeId,
+                PAGE_WIDTH,
+                PAGE_HEIGHT,
+                regularFontId,
+                boldFontId,
+                contentId
+        ));
+        currentKids[currentKidCount++] = pageId;
+        pageCount++;
+        if (currentKidCount == PAGES_PER_NODE) {
+            flushPageNode();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        endPage();
+        if (pageCount == 0) {
+            beginPage();
+            endPage();
+        }
+        flushPageNode();
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < nodeCount; i++) {
+            kids.append(nodeIds[i]).append(" 0 R ");
+        }
+        writeObject(rootPagesId, "<< /Type /Pages /Kids [ " + kids + "] /Count " + pageCount + " >>");
+
+        long xrefOffset = out.count;
+        StringBuilder xref = new StringBuilder(nextObjectId * 20 + 64);
+        xref.append("xref\n0 ").append(nextObjectId).append('\n');
+        xref.append("0000000000 65535 f \n");
+        for (int id = 1; id < nextObjectId; id++) {
+            xref.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets[id]));
+            if (xref.length() > 64 * 1024) {
+                writeAscii(xref.toString());
+                xref.setLength(0);
+            }
+        }
+        xref.append("trailer\n<< /Size ").append(nextObjectId)
+                .append(" /Root ").append(catalogId).append(" 0 R >>\n")
+                .append("startxref\n").append(xrefOffset).append("\n%%EOF\n");
+        writeAscii(xref.toString());
+        out.flush();
+    }
+
+    private void flushPageNode() throws IOException {
+        if (currentKidCount == 0) {
+            return;
+        }
+        StringBuilder kids = new StringBuilder();
+        for (int i = 0; i < currentKidCount; i++) {
+            kids.append(currentKids[i]).append(" 0 R ");
+        }
+        writeObject(currentNodeId, "<< /Type /Pages /Parent " + rootPagesId + " 0 R /Kids [ " + kids
+                + "] /Count " + currentKidCount + " >>");
+        if (nodeCount == nodeIds.length) {
+            nodeIds = Arrays.copyOf(nodeIds, nodeCount * 2);
+        }
+        nodeIds[nodeCount++] = currentNodeId;
+        currentKidCount = 0;
+    }
+
+    private int reserveObject() {
+        int id = nextObjectId++;
+        if (id >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        return id;
+    }
+
+    private void beginObject(int id) throws IOException {
+        offsets[id] = out.count;
+        writeAscii(id + " 0 obj\n");
+    }
+
+    private void writeObject(int id, String body) throws IOException {
+        beginObject(id);
+        writeAscii(body + "\nendobj\n");
+    }
+
+    private void writeAscii(String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String fontDictionary(String baseFont) {
+        return "<< /Type /Font /Subtype /Type1 /BaseFont /" + baseFont + " /Encoding /WinAnsiEncoding >>";
+    }
+
+    private static byte encodeChar(char value) {
+        if (value == '\n' || value == '\r' || value == '\t') {
+            return ' ';
+        }
+        short code = WIN_ANSI_BY_CHAR[value];
+        return code < 0 ? (byte) '?' : (byte) code;
+    }
+
+    private static short[] buildWinAnsiTable() {
+        short[] table = new short[Character.MAX_VALUE + 1];
+        Arrays.fill(table, (short) -1);
+        GlyphList glyphList = GlyphList.getAdobeGlyphList();
+        for (Map.Entry<Integer, String> entry : WinAnsiEncoding.INSTANCE.getCodeToNameMap().entrySet()) {
+            int code = entry.getKey();
+            String unicode = glyphList.toUnicode(entry.getValue());
+            if (code < 0x20 || unicode == null || unicode.length() != 1) {
+                continue;
+            }
+            char character = unicode.charAt(0);
+            if (table[character] < 0) {
+                table[character] = (short) code;
+            }
+        }
+        return table;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            delegate.write(value);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -71,6 +72,17 @@ public final class UploadUtil {
             String contentType,
             String configuredBaseDir,
             String folder
+    ) throws IOException {
+        return storeImageBytesAs(imageBytes, originalName, contentType, configuredBaseDir, folder, UUID.randomUUID().toString());
+    }
+
+    public static StoredFile storeImageBytesAs(
+            byte[] imageBytes,
+            String originalName,
+            String contentType,
+            String configuredBaseDir,
+            String folder,
+            String filenameStem
     ) throws IOException {
         if (imageBytes == null || imageBytes.length == 0) {
             throw new ResponseStatusException(BAD_REQUEST, "Image content is required");
@@ -86,14 +98,21 @@ public final class UploadUtil {
         Path uploadDir = baseDir.resolve(folder);
         Files.createDirectories(uploadDir);
 
-        String filename = UUID.randomUUID() + extension;
+        String filename = filenameStem + extension;
         Path target = uploadDir.resolve(filename);
-        Files.write(target, imageBytes);
+        Path partial = uploadDir.resolve(filename + "." + UUID.randomUUID() + ".part");
+        Files.write(partial, imageBytes);
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 
         String relativeUrl = "/uploads/" + folder + "/" + filename;
         return new StoredFile(relativeUrl, filename, storedContentType, imageBytes.length);
     }
 
+    public static String contentTypeForFilename(String filename) {
+        String extension = extractExtension(filename == null ? "" : filename);
+        return extension == null ? null : contentTypeFromExtension(extension);
+    }
+
     public static void validateImage(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new ResponseStatusException(BAD_REQUEST, "Image file is required");
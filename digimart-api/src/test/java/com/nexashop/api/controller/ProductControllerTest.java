@@ -2,29 +2,49 @@ package com.nexashop.api.controller;
 
 import com.nexashop.api.controller.catalog.ProductController;
 import com.nexashop.api.dto.request.product.CreateProductRequest;
+import com.nexashop.api.dto.request.product.ProductBulkDeleteRequest;
 import com.nexashop.api.dto.request.product.ProductDescriptionAiRequest;
+import com.nexashop.api.dto.response.CursorPageResponse;
 import com.nexashop.api.dto.response.PageResponse;
+import com.nexashop.api.dto.response.product.ProductBulkActionResponse;
 import com.nexashop.api.dto.response.product.ProductDescriptionAiResponse;
-import com.nexashop.api.dto.response.product.ProductImportResponse;
+import com.nexashop.api.dto.response.product.ProductImportJobResponse;
 import com.nexashop.api.dto.response.product.ProductPriceHistoryResponse;
 import com.nexashop.api.dto.response.product.ProductResponse;
+import com.nexashop.api.dto.response.product.ProductSearchHitResponse;
+import com.nexashop.api.service.ProductImportJobService;
+import com.nexashop.application.common.CursorPageRequest;
+import com.nexashop.application.common.CursorPageResult;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
+import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.ProductListAssembler;
 import com.nexashop.application.usecase.ProductUseCase;
 import com.nexashop.domain.catalog.entity.Product;
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import com.nexashop.domain.catalog.entity.ProductPriceHistory;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -35,7 +55,8 @@ class ProductControllerTest {
     @Test
     void createProductReturnsResponse() {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductListAssembler assembler = Mockito.mock(ProductListAssembler.class);
+        ProductController controller = new ProductController(useCase, assembler, "");
 
         CreateProductRequest request = new CreateProductRequest();
         request.setTenantId(5L);
@@ -53,6 +74,9 @@ class ProductControllerTest {
 
         when(useCase.createProduct(any(Product.class), eq(5L), any(), any(), any()))
                 .thenReturn(saved);
+        when(assembler.assemble(List.of(saved))).thenReturn(List.of(
+                new ProductListAssembler.ProductListItem(saved, null, List.of(), null, false)
+        ));
 
         ResponseEntity<ProductResponse> response = controller.createProduct(request);
         assertEquals(201, response.getStatusCode().value());
@@ -64,7 +88,8 @@ class ProductControllerTest {
     @Test
     void listProductsPagedReturnsPage() {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductListAssembler assembler = Mockito.mock(ProductListAssembler.class);
+        ProductController controller = new ProductController(useCase, assembler, "");
 
         Product product = new Product();
         product.setId(11L);
@@ -75,6 +100,12 @@ class ProductControllerTest {
         ProductImage primary = new ProductImage();
         primary.setImageUrl("/uploads/products/primary.png");
         primary.setPrimary(true);
+        primary.setVariants(List.of(
+                new ProductImageVariant(480, 480, "image/png", "/uploads/products/derived/p-480.png"),
+                new ProductImageVariant(480, 480, "image/webp", "/uploads/products/derived/p-480.webp"),
+                new ProductImageVariant(160, 160, "image/png", "/uploads/products/derived/p-160.png"),
+                new ProductImageVariant(160, 160, "image/webp", "/uploads/products/derived/p-160.webp")
+        ));
 
         when(useCase.listProducts(
                 any(PageRequest.class),
@@ -85,10 +116,19 @@ class ProductControllerTest {
                 Mockito.isNull(),
                 Mockito.isNull(),
                 Mockito.isNull(),
-                Mockito.isNull()
+                Mockito.isNull(),
+                eq(false)
         )).thenReturn(PageResult.of(List.of(product), 0, 8, 1));
 
-        when(useCase.listProductImages(11L)).thenReturn(List.of(primary));
+        when(assembler.assemble(List.of(product))).thenReturn(List.of(
+                new ProductListAssembler.ProductListItem(
+                        product,
+                        primary,
+                        List.of(new ProductUseCase.StoreRef(3L, "Centre")),
+                        null,
+                        true
+                )
+        ));
 
         PageResponse<ProductResponse> response = controller.listProductsPaged(
                 7L,
@@ -100,18 +140,129 @@ class ProductControllerTest {
                 null,
                 null,
                 null,
-                null
+                null,
+                false
         );
 
         assertEquals(1, response.items().size());
         assertEquals("Bague", response.items().get(0).getName());
         assertEquals("/uploads/products/primary.png", response.items().get(0).getImageUrl());
+        assertEquals("/uploads/products/derived/p-160.png", response.items().get(0).getImageThumbnailUrl());
+        assertEquals(
+                "/uploads/products/derived/p-480.png 480w, /uploads/products/derived/p-160.png 160w",
+                response.items().get(0).getImageSrcset()
+        );
+        assertEquals(
+                "/uploads/products/derived/p-480.webp 480w, /uploads/products/derived/p-160.webp 160w",
+                response.items().get(0).getImageWebpSrcset()
+        );
+        assertEquals(List.of("Centre"), response.items().get(0).getStoreNames());
+        assertTrue(response.items().get(0).isLowStock());
+    }
+
+    @Test
+    void listProductsAfterReturnsCursorPage() {
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        ProductListAssembler assembler = Mockito.mock(ProductListAssembler.class);
+        ProductController controller = new ProductController(useCase, assembler, "");
+
+        Product product = new Product();
+        product.setId(12L);
+        product.setTenantId(7L);
+        product.setName("Collier");
+
+        when(useCase.listProducts(
+                any(CursorPageRequest.class),
+                eq(7L),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                Mockito.isNull(),
+                eq(false)
+        )).thenReturn(CursorPageResult.of(List.of(product), 8, "next-token", null));
+
+        when(assembler.assemble(List.of(product))).thenReturn(List.of(
+                new ProductListAssembler.ProductListItem(product, null, List.of(), null, false)
+        ));
+
+        CursorPageResponse<ProductResponse> response = controller.listProductsAfter(
+                7L,
+                "",
+                8,
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                false
+        );
+
+        assertEquals(1, response.items().size());
+        assertEquals("Collier", response.items().get(0).getName());
+        assertEquals("next-token", response.nextCursor());
+        assertTrue(response.hasNext());
+        assertNull(response.totalItems());
+    }
+
+    @Test
+    void searchProductsReturnsRankedHits() {
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        ProductListAssembler assembler = Mockito.mock(ProductListAssembler.class);
+        ProductController controller = new ProductController(useCase, assembler, "");
+
+        Product product = new Product();
+        product.setId(13L);
+        product.setTenantId(7L);
+        product.setName("Bague argent");
+
+        when(useCase.searchProducts(7L, "bag", 20)).thenReturn(List.of(
+                new ProductUseCase.ProductSearchResult(product, 3.0, "<mark>Bague</mark> argent")
+        ));
+        when(assembler.assemble(List.of(product))).thenReturn(List.of(
+                new ProductListAssembler.ProductListItem(product, null, List.of(), null, false)
+        ));
+
+        List<ProductSearchHitResponse> response = controller.searchProducts(7L, "bag", 20);
+
+        assertEquals(1, response.size());
+        assertEquals("Bague argent", response.get(0).getProduct().getName());
+        assertEquals("<mark>Bague</mark> argent", response.get(0).getHighlight());
+    }
+
+    @Test
+    void bulkDeleteReportsPerProductOutcomes() {
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        ProductController controller = new ProductController(useCase, Mockito.mock(ProductListAssembler.class), "");
+
+        ProductBulkDeleteRequest request = new ProductBulkDeleteRequest();
+        request.setProductIds(List.of(4L, 5L));
+
+        when(useCase.bulkDeleteProducts(List.of(4L, 5L))).thenReturn(new ProductUseCase.BulkActionResult(
+                1,
+                List.of(
+                        new ProductUseCase.BulkItemOutcome(4L, true, null),
+                        new ProductUseCase.BulkItemOutcome(5L, false, "Product not found")
+                )
+        ));
+
+        ProductBulkActionResponse response = controller.bulkDeleteProducts(request);
+
+        assertEquals(1, response.getAffected());
+        assertEquals(2, response.getResults().size());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals("Product not found", response.getResults().get(1).getError());
     }
 
     @Test
     void listPriceHistoryMapsResponse() {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductController controller = new ProductController(useCase, Mockito.mock(ProductListAssembler.class), "");
 
         ProductPriceHistory history = new ProductPriceHistory();
         history.setInitialPrice(BigDecimal.valueOf(10));
@@ -130,7 +281,7 @@ class ProductControllerTest {
     @Test
     void suggestProductDescriptionDelegates() {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductController controller = new ProductController(useCase, Mockito.mock(ProductListAssembler.class), "");
 
         ProductDescriptionAiRequest request = new ProductDescriptionAiRequest();
         request.setLanguage("FR");
@@ -148,7 +299,7 @@ class ProductControllerTest {
     @Test
     void exportTemplateContainsHeaders() throws Exception {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductController controller = new ProductController(useCase, Mockito.mock(ProductListAssembler.class), "");
 
         ResponseEntity<String> response = controller.exportProductsTemplate();
         assertTrue(response.getBody().contains(
@@ -156,10 +307,51 @@ class ProductControllerTest {
         ));
     }
 
+    @Test
+    void exportProductsStreamsRows() throws Exception {
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        ProductController controller = new ProductController(useCase, Mockito.mock(ProductListAssembler.class), "");
+
+        Product first = new Product();
+        first.setName("Bracelet");
+        first.setInitialPrice(BigDecimal.valueOf(10));
+        first.setShippingPrice(BigDecimal.valueOf(2));
+        Product second = new Product();
+        second.setName("Collier");
+        second.setInitialPrice(BigDecimal.valueOf(25.50));
+        second.setShippingPrice(BigDecimal.valueOf(3));
+        when(useCase.exportProducts(1L)).thenReturn(consumer -> {
+            consumer.accept(first);
+            consumer.accept(second);
+        });
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportProducts(1L);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("name,description,initial_price"));
+        assertTrue(csv.contains("Bracelet,,10,,,2,"));
+        assertTrue(csv.contains("Collier,,25.5,,,3,"));
+    }
+
     @Test
     void importRejectsMissingHeaders() throws Exception {
         ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
-        ProductController controller = new ProductController(useCase, "");
+        ProductImportJobService importService = new ProductImportJobService(
+                useCase,
+                Mockito.mock(CurrentUserProvider.class),
+                Executors.newSingleThreadExecutor(),
+                500,
+                100,
+                Duration.ofMinutes(5)
+        );
+        ProductController controller = new ProductController(
+                useCase,
+                Mockito.mock(ProductListAssembler.class),
+                "",
+                importService
+        );
 
         String csv = "name,initial_price\nProduit,10\n";
         MockMultipartFile file = new MockMultipartFile(
@@ -169,9 +361,63 @@ class ProductControllerTest {
                 csv.getBytes(StandardCharsets.UTF_8)
         );
 
-        ProductImportResponse response = controller.importProducts(1L, file);
+        ProductImportJobResponse response = controller.importProducts(1L, file).getBody();
+        assertEquals("FAILED", response.getStatus());
         assertEquals(0, response.getImported());
         assertEquals(1, response.getFailed());
         assertTrue(response.getErrors().get(0).getMessage().contains("Colonnes manquantes"));
     }
+
+    @Test
+    void importRunsInChunksAndReportsProgress() throws Exception {
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        CurrentUserProvider currentUserProvider = Mockito.mock(CurrentUserProvider.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ProductImportJobService importService = new ProductImportJobService(
+                useCase,
+                currentUserProvider,
+                executor,
+                2,
+                100,
+                Duration.ofMinutes(5)
+        );
+        ProductController controller = new ProductController(
+                useCase,
+                Mockito.mock(ProductListAssembler.class),
+                "",
+                importService
+        );
+        ProductUseCase.ImportSession session = new ProductUseCase.ImportSession(1L, 7L, new HashSet<>(), new HashSet<>());
+        when(useCase.openImport(1L)).thenReturn(session);
+        when(useCase.importBatch(eq(session), any())).thenAnswer((invocation) -> {
+            List<ProductUseCase.ImportRow> rows = invocation.getArgument(1);
+            return new ProductUseCase.ImportBatchResult(rows.size(), List.of());
+        });
+        when(currentUserProvider.requireUser()).thenReturn(new CurrentUser(7L, 1L, Set.of("ADMIN")));
+
+        String csv = "name,description,initial_price,final_price,cost_price,shipping_price,shipping_cost_price\n"
+                + "A,,10,,,2,\n"
+                + "B,,12,,,2,\n"
+                + ",,12,,,2,\n"
+                + "C,,15,,,2,\n";
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "products.csv",
+                "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8)
+        );
+
+        ResponseEntity<ProductImportJobResponse> accepted = controller.importProducts(1L, file);
+        assertEquals(202, accepted.getStatusCode().value());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        ProductImportJobResponse status = controller.getImportJob(accepted.getBody().getJobId());
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(4, status.getTotalRows());
+        assertEquals(3, status.getImported());
+        assertEquals(1, status.getFailed());
+        assertEquals(4, status.getErrors().get(0).getRow());
+        Mockito.verify(useCase, Mockito.times(2)).importBatch(eq(session), any());
+    }
 }
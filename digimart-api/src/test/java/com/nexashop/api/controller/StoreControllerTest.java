@@ -3,6 +3,7 @@ package com.nexashop.api.controller;
 import com.nexashop.api.controller.store.StoreController;
 import com.nexashop.api.dto.request.store.CreateStoreRequest;
 import com.nexashop.api.dto.response.store.StoreResponse;
+import com.nexashop.api.service.StoreVisibilityRebuildService;
 import com.nexashop.application.usecase.ProductUseCase;
 import com.nexashop.application.usecase.StoreUseCase;
 import com.nexashop.domain.store.entity.Store;
@@ -19,7 +20,12 @@ class StoreControllerTest {
     void listStoresReturnsResponses() {
         StoreUseCase useCase = Mockito.mock(StoreUseCase.class);
         ProductUseCase productUseCase = Mockito.mock(ProductUseCase.class);
-        StoreController controller = new StoreController(useCase, productUseCase, "");
+        StoreController controller = new StoreController(
+                useCase,
+                productUseCase,
+                Mockito.mock(StoreVisibilityRebuildService.class),
+                ""
+        );
 
         Store store = new Store();
         store.setId(1L);
@@ -37,7 +43,12 @@ class StoreControllerTest {
     void createStoreReturnsResponse() {
         StoreUseCase useCase = Mockito.mock(StoreUseCase.class);
         ProductUseCase productUseCase = Mockito.mock(ProductUseCase.class);
-        StoreController controller = new StoreController(useCase, productUseCase, "");
+        StoreController controller = new StoreController(
+                useCase,
+                productUseCase,
+                Mockito.mock(StoreVisibilityRebuildService.class),
+                ""
+        );
 
         CreateStoreRequest request = new CreateStoreRequest();
         request.setTenantId(2L);
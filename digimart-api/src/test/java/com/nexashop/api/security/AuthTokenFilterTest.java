@@ -0,0 +1,123 @@
+package com.nexashop.api.security;
+
+import com.nexashop.application.port.out.RoleRepository;
+import com.nexashop.application.port.out.UserRepository;
+import com.nexashop.application.port.out.UserRoleAssignmentRepository;
+import com.nexashop.application.service.AuthTokenService;
+import com.nexashop.domain.user.entity.RefreshToken;
+import com.nexashop.domain.user.entity.Role;
+import com.nexashop.domain.user.entity.User;
+import com.nexashop.domain.user.entity.UserRoleAssignment;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthTokenFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void secondRequestWithSameTokenUsesCachedPrincipal() throws Exception {
+        AuthTokenService tokenService = Mockito.mock(AuthTokenService.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserRoleAssignmentRepository assignmentRepository = Mockito.mock(UserRoleAssignmentRepository.class);
+        RoleRepository roleRepository = Mockito.mock(RoleRepository.class);
+        AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(60, 100);
+        AuthTokenFilter filter = new AuthTokenFilter(
+                tokenService,
+                userRepository,
+                assignmentRepository,
+                roleRepository,
+                cache
+        );
+        stubUser(tokenService, userRepository, assignmentRepository, roleRepository);
+
+        authenticate(filter, "raw-token");
+        SecurityContextHolder.clearContext();
+        authenticate(filter, "raw-token");
+
+        AuthenticatedUser principal =
+                (AuthenticatedUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(5L, principal.getUserId());
+        assertEquals(1L, cache.hitCount());
+        assertEquals(1L, cache.missCount());
+        verify(tokenService, times(1)).validateTokenHash(anyString());
+        verify(userRepository, times(1)).findById(5L);
+        verify(roleRepository, times(1)).findByTenantIdAndIdIn(any(), any());
+    }
+
+    @Test
+    void invalidatedUserIsReloaded() throws Exception {
+        AuthTokenService tokenService = Mockito.mock(AuthTokenService.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserRoleAssignmentRepository assignmentRepository = Mockito.mock(UserRoleAssignmentRepository.class);
+        RoleRepository roleRepository = Mockito.mock(RoleRepository.class);
+        AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache(60, 100);
+        AuthTokenFilter filter = new AuthTokenFilter(
+                tokenService,
+                userRepository,
+                assignmentRepository,
+                roleRepository,
+                cache
+        );
+        stubUser(tokenService, userRepository, assignmentRepository, roleRepository);
+
+        authenticate(filter, "raw-token");
+        cache.invalidateUser(5L);
+        when(tokenService.validateTokenHash(anyString())).thenReturn(Optional.empty());
+        SecurityContextHolder.clearContext();
+        authenticate(filter, "raw-token");
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(tokenService, times(2)).validateTokenHash(anyString());
+    }
+
+    private void stubUser(
+            AuthTokenService tokenService,
+            UserRepository userRepository,
+            UserRoleAssignmentRepository assignmentRepository,
+            RoleRepository roleRepository
+    ) {
+        RefreshToken token = new RefreshToken();
+        token.setTenantId(2L);
+        token.setUserId(5L);
+        token.setExpiresAt(LocalDateTime.now().plusDays(1));
+        User user = new User();
+        user.setId(5L);
+        user.setTenantId(2L);
+        UserRoleAssignment assignment = new UserRoleAssignment();
+        assignment.setRoleId(9L);
+        Role role = new Role();
+        role.setCode("ADMIN");
+
+        when(tokenService.validateTokenHash(AuthTokenService.hashToken("raw-token")))
+                .thenReturn(Optional.of(token));
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user));
+        when(assignmentRepository.findByTenantIdAndUserIdAndActiveTrue(2L, 5L)).thenReturn(List.of(assignment));
+        when(roleRepository.findByTenantIdAndIdIn(any(), any())).thenReturn(List.of(role));
+    }
+
+    private void authenticate(AuthTokenFilter filter, String rawToken) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + rawToken);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,200 @@
+package com.nexashop.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexashop.application.port.out.AuditEventRepository;
+import com.nexashop.domain.audit.entity.AuditAction;
+import com.nexashop.domain.audit.entity.AuditEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+class AsyncAuditEventSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writesSubmittedEventsInBatches() {
+        AuditEventRepository repository = Mockito.mock(AuditEventRepository.class);
+        List<AuditEvent> saved = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterable<AuditEvent> batch = invocation.getArgument(0);
+            synchronized (saved) {
+                batch.forEach(saved::add);
+            }
+            return List.of();
+        }).when(repository).saveAll(any());
+        AsyncAuditEventSink sink = newSink(repository);
+        sink.start();
+
+        for (int i = 0; i < 25; i++) {
+            sink.submit(event((long) i));
+        }
+        sink.shutdown();
+
+        assertEquals(25, saved.size());
+        assertEquals(25L, sink.writtenCount());
+        assertEquals(0L, sink.droppedCount());
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl")));
+    }
+
+    @Test
+    void spillsFailedBatchesAndReplaysThemOnNextStart() throws Exception {
+        AuditEventRepository failing = Mockito.mock(AuditEventRepository.class);
+        doThrow(new IllegalStateException("database down")).when(failing).saveAll(any());
+        AsyncAuditEventSink first = newSink(failing);
+        first.start();
+        first.submit(event(7L));
+        first.shutdown();
+        assertTrue(Files.exists(tempDir.resolve("audit-wal.jsonl")));
+
+        AuditEventRepository repository = Mockito.mock(AuditEventRepository.class);
+        List<AuditEvent> replayed = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterable<AuditEvent> batch = invocation.getArgument(0);
+            batch.forEach(replayed::add);
+            return List.of();
+        }).when(repository).saveAll(any());
+        AsyncAuditEventSink second = newSink(repository);
+        second.start();
+        second.shutdown();
+
+        assertEquals(1, replayed.size());
+        assertEquals(7L, replayed.get(0).getEntityId());
+        assertEquals(AuditAction.UPDATE, replayed.get(0).getAction());
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl")));
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl.replay")));
+    }
+
+    @Test
+    void resumesReplayFromCommittedOffsetWithoutDuplicates() throws Exception {
+        AuditEventRepository failing = Mockito.mock(AuditEventRepository.class);
+        doThrow(new IllegalStateException("database down")).when(failing).saveAll(any());
+        AsyncAuditEventSink first = newSink(failing);
+        first.start();
+        for (int i = 0; i < 25; i++) {
+            first.submit(event((long) i));
+        }
+        first.shutdown();
+
+        List<AuditEvent> saved = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        AuditEventRepository flaky = Mockito.mock(AuditEventRepository.class);
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() > 2) {
+                throw new IllegalStateException("connection lost");
+            }
+            Iterable<AuditEvent> batch = invocation.getArgument(0);
+            batch.forEach(saved::add);
+            return List.of();
+        }).when(flaky).saveAll(any());
+        AsyncAuditEventSink second = newSink(flaky);
+        second.start();
+        second.shutdown();
+        assertEquals(20, saved.size());
+        assertTrue(Files.exists(tempDir.resolve("audit-wal.jsonl.replay")));
+
+        AsyncAuditEventSink third = newSink(collecting(saved));
+        third.start();
+        third.shutdown();
+
+        Set<Long> ids = saved.stream().map(AuditEvent::getEntityId).collect(Collectors.toSet());
+        assertEquals(25, saved.size());
+        assertEquals(25, ids.size());
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl.replay")));
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl.replay.offset")));
+    }
+
+    @Test
+    void quarantinesUnreadableAndTruncatedLines() throws Exception {
+        String valid = objectMapper.writeValueAsString(AsyncAuditEventSink.WalRecord.from(event(3L)));
+        Files.writeString(
+                tempDir.resolve("audit-wal.jsonl"),
+                valid + "\nnot json\n" + valid.substring(0, valid.length() / 2)
+        );
+
+        List<AuditEvent> saved = new ArrayList<>();
+        AsyncAuditEventSink sink = newSink(collecting(saved));
+        sink.start();
+        sink.shutdown();
+
+        assertEquals(1, saved.size());
+        assertEquals(3L, saved.get(0).getEntityId());
+        assertEquals(2, Files.readAllLines(tempDir.resolve("audit-wal.jsonl.rejected")).size());
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl.replay")));
+    }
+
+    @Test
+    void rotatesLiveWalAfterDrainingLeftoverReplayFile() throws Exception {
+        Files.writeString(
+                tempDir.resolve("audit-wal.jsonl.replay"),
+                objectMapper.writeValueAsString(AsyncAuditEventSink.WalRecord.from(event(1L))) + "\n"
+        );
+        Files.writeString(
+                tempDir.resolve("audit-wal.jsonl"),
+                objectMapper.writeValueAsString(AsyncAuditEventSink.WalRecord.from(event(2L))) + "\n"
+        );
+
+        List<AuditEvent> saved = new ArrayList<>();
+        AsyncAuditEventSink sink = newSink(collecting(saved));
+        sink.start();
+        sink.shutdown();
+
+        assertEquals(List.of(1L, 2L), saved.stream().map(AuditEvent::getEntityId).toList());
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl")));
+        assertFalse(Files.exists(tempDir.resolve("audit-wal.jsonl.replay")));
+    }
+
+    private AuditEventRepository collecting(List<AuditEvent> saved) {
+        AuditEventRepository repository = Mockito.mock(AuditEventRepository.class);
+        doAnswer(invocation -> {
+            Iterable<AuditEvent> batch = invocation.getArgument(0);
+            synchronized (saved) {
+                batch.forEach(saved::add);
+            }
+            return List.of();
+        }).when(repository).saveAll(any());
+        return repository;
+    }
+
+    private AsyncAuditEventSink newSink(AuditEventRepository repository) {
+        return new AsyncAuditEventSink(
+                repository,
+                100,
+                10,
+                20,
+                50,
+                5,
+                tempDir.resolve("audit-wal.jsonl").toString()
+        );
+    }
+
+    private AuditEvent event(Long entityId) {
+        AuditEvent event = new AuditEvent();
+        event.setTenantId(2L);
+        event.setEntityType("STORE");
+        event.setEntityId(entityId);
+        event.setAction(AuditAction.UPDATE);
+        event.setActorUserId(5L);
+        event.setCorrelationId("corr-" + entityId);
+        event.setOccurredAt(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,77 @@
+package com.nexashop.api.service;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn -pl digimart-api test -Dtest=AuditPdfExportBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AuditPdfExportBenchmarkTest {
+
+    private static final long[] ROW_COUNTS = {1_000L, 10_000L, 100_000L, 1_000_000L};
+    // Page buffers, fonts and the output buffer, independent of the row count.
+    private static final long FIXED_BUDGET = 2L * 1024 * 1024;
+    // Only object offsets and page-tree ids are kept per page (with array growth slack).
+    private static final long BYTES_PER_PAGE_BUDGET = 64L;
+
+    @Test
+    void retainedHeapScalesOnlyWithPageBookkeeping() throws Exception {
+        AuditPdfExportService service = new AuditPdfExportService();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // Font metrics and PDFBox statics load once; keep them out of the baseline.
+        service.render(AuditPdfExportServiceTest.entries(100), OutputStream.nullOutputStream());
+        for (long rows : ROW_COUNTS) {
+            System.gc();
+            long baseline = memory.getHeapMemoryUsage().getUsed();
+            CountingSink sink = new CountingSink(memory);
+            service.render(AuditPdfExportServiceTest.entries(rows), sink);
+            sink.sampleNow();
+            long peakDelta = Math.max(0L, sink.peakHeap - baseline);
+            long budget = FIXED_BUDGET + service.estimate(rows).estimatedPages() * BYTES_PER_PAGE_BUDGET;
+            assertTrue(
+                    peakDelta <= budget,
+                    "rows=" + rows + " retained " + peakDelta + " bytes, budget " + budget
+            );
+        }
+    }
+
+    private static final class CountingSink extends OutputStream {
+        private final MemoryMXBean memory;
+        private long bytes;
+        private long peakHeap;
+        private long nextSample;
+
+        private CountingSink(MemoryMXBean memory) {
+            this.memory = memory;
+        }
+
+        @Override
+        public void write(int value) {
+            bytes++;
+            sample();
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            sample();
+        }
+
+        // Collects before sampling so the peak is what the writer retains, not garbage.
+        private void sample() {
+            if (bytes >= nextSample) {
+                sampleNow();
+                nextSample = bytes + 8L * 1024 * 1024;
+            }
+        }
+
+        private void sampleNow() {
+            System.gc();
+            peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.common.ExportStream;
+import com.nexashop.application.usecase.AuditLogUseCase;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditPdfExportServiceTest {
+
+    private final AuditPdfExportService service = new AuditPdfExportService();
+
+    @Test
+    void rendersReadableMultiPageDocument() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.render(entries(200), output);
+
+        try (PDDocument document = PDDocument.load(output.toByteArray())) {
+            assertTrue(document.getNumberOfPages() > 1);
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(1);
+            stripper.setEndPage(1);
+            String firstPage = stripper.getText(document);
+            assertTrue(firstPage.contains("Audit Journal Export"));
+            assertTrue(firstPage.contains("STORE#0"));
+            assertTrue(firstPage.contains("tenant=Caf? (main)"));
+            stripper.setStartPage(document.getNumberOfPages());
+            stripper.setEndPage(document.getNumberOfPages());
+            assertTrue(stripper.getText(document).contains("Rows exported: 200"));
+        }
+    }
+
+    @Test
+    void rendersEmptyExportAsSinglePage() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.render(entries(0), output);
+
+        try (PDDocument document = PDDocument.load(output.toByteArray())) {
+            assertEquals(1, document.getNumberOfPages());
+            assertTrue(new PDFTextStripper().getText(document).contains("Rows exported: 0"));
+        }
+    }
+
+    static ExportStream<AuditLogUseCase.AuditLogEntry> entries(long count) {
+        return consumer -> {
+            LocalDateTime occurredAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+            for (long i = 0; i < count; i++) {
+                consumer.accept(new AuditLogUseCase.AuditLogEntry(
+                        i,
+                        2L,
+                        "Caf☕ (main)",
+                        "STORE",
+                        i,
+                        "UPDATE",
+                        "{\"name\":\"Store " + i + "\",\"active\":true}",
+                        "{\"name\":\"Store " + i + " renamed\",\"active\":false}",
+                        5L,
+                        "owner@example.com",
+                        "Store Owner",
+                        "corr-" + i,
+                        occurredAt,
+                        occurredAt
+                ));
+            }
+        };
+    }
+}
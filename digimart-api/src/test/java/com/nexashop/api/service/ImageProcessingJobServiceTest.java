@@ -0,0 +1,164 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.port.out.PlatformConfigRepository;
+import com.nexashop.application.port.out.TenantRepository;
+import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.EntitlementService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class ImageProcessingJobServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private RembgStubServer rembg;
+    private ProductImageBackgroundRemovalService removalService;
+    private ImageProcessingJobService jobService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rembg = new RembgStubServer();
+        CurrentUserProvider currentUserProvider = Mockito.mock(CurrentUserProvider.class);
+        CurrentUser user = new CurrentUser(5L, 2L, Set.of("ADMIN"));
+        when(currentUserProvider.getCurrentUser()).thenReturn(user);
+        when(currentUserProvider.requireUser()).thenReturn(user);
+        EntitlementService entitlementService = Mockito.mock(EntitlementService.class);
+        when(entitlementService.hasFeature(anyLong(), anyString())).thenReturn(true);
+        ProcessedImageCache cache = new ProcessedImageCache(uploadDir.toString(), DataSize.ofMegabytes(10));
+        removalService = new ProductImageBackgroundRemovalService(
+                true,
+                rembg.baseUrl(),
+                "/api/remove",
+                5,
+                false,
+                "",
+                uploadDir.toString(),
+                currentUserProvider,
+                entitlementService,
+                Mockito.mock(PlatformConfigRepository.class),
+                Mockito.mock(TenantRepository.class),
+                cache
+        );
+        jobService = new ImageProcessingJobService(
+                removalService,
+                currentUserProvider,
+                cache,
+                uploadDir.toString(),
+                Executors.newVirtualThreadPerTaskExecutor(),
+                2,
+                10,
+                3,
+                Duration.ofMillis(10),
+                Duration.ofMinutes(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+        rembg.close();
+    }
+
+    @Test
+    void retriesTransientFailuresAndStoresResult() throws Exception {
+        rembg.failNext(1, 503);
+
+        ImageProcessingJob job = submit();
+        awaitFinished(job);
+
+        assertEquals(ImageProcessingJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertEquals(2, rembg.requestCount());
+        assertTrue(job.getResultUrl().startsWith("/uploads/products/processed/"));
+        assertTrue(Files.exists(resultFile(job)));
+        assertEquals(0, jobService.pendingCount());
+    }
+
+    @Test
+    void resubmittedImageIsServedFromCache() throws Exception {
+        ImageProcessingJob first = submit();
+        awaitFinished(first);
+
+        ImageProcessingJob second = submit();
+
+        assertEquals(ImageProcessingJob.Status.COMPLETED, second.getStatus());
+        assertEquals(0, second.getAttempts());
+        assertTrue(second.getResultUrl().startsWith("/uploads/products/processed/"));
+        assertArrayEquals(Files.readAllBytes(resultFile(first)), Files.readAllBytes(resultFile(second)));
+        assertEquals(1, rembg.requestCount());
+    }
+
+    @Test
+    void resultOutlivesCacheEviction() throws Exception {
+        ImageProcessingJob job = submit();
+        awaitFinished(job);
+
+        try (Stream<Path> cached = Files.list(uploadDir.resolve(ProcessedImageCache.FOLDER))) {
+            for (Path file : cached.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        assertTrue(Files.exists(resultFile(job)));
+        ImageProcessingJob again = submit();
+        awaitFinished(again);
+        assertEquals(ImageProcessingJob.Status.COMPLETED, again.getStatus());
+        assertEquals(2, rembg.requestCount());
+    }
+
+    @Test
+    void doesNotRetryClientErrors() throws Exception {
+        rembg.failNext(1, 400);
+
+        ImageProcessingJob job = submit();
+        awaitFinished(job);
+
+        assertEquals(ImageProcessingJob.Status.FAILED, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertTrue(job.getError().contains("HTTP 400"));
+    }
+
+    private ImageProcessingJob submit() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "shoe.png", "image/png", new byte[] {1, 2, 3});
+        return jobService.submit(
+                ImageProcessingJob.Operation.REMOVE_BACKGROUND,
+                removalService.prepareRemoveBackground(file)
+        );
+    }
+
+    private Path resultFile(ImageProcessingJob job) {
+        return uploadDir.resolve(job.getResultUrl().substring("/uploads/".length()));
+    }
+
+    private void awaitFinished(ImageProcessingJob job) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        job.addListener((updated) -> {
+            if (updated.isFinished()) {
+                finished.countDown();
+            }
+        });
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,56 @@
+package com.nexashop.api.service;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessedImageCacheTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void keyDependsOnEveryPart() {
+        String key = ProcessedImageCache.key("WATERMARK").add(new byte[] {1, 2}).add("text:Digimart").build();
+
+        assertEquals(key, ProcessedImageCache.key("WATERMARK").add(new byte[] {1, 2}).add("text:Digimart").build());
+        assertNotEquals(key, ProcessedImageCache.key("WATERMARK").add(new byte[] {1, 2}).add("text:Other").build());
+        assertNotEquals(key, ProcessedImageCache.key("REMOVE_BACKGROUND").add(new byte[] {1, 2}).add("text:Digimart").build());
+        assertNotEquals(
+                ProcessedImageCache.key("X").add("ab").add("c").build(),
+                ProcessedImageCache.key("X").add("a").add("bc").build()
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesAndReloadsIndexFromDisk() throws Exception {
+        ProcessedImageCache cache = new ProcessedImageCache(uploadDir.toString(), DataSize.ofBytes(250));
+        cache.put("a", "a.png", image(100));
+        cache.put("b", "b.png", image(100));
+        assertTrue(cache.get("a").isPresent());
+
+        cache.put("c", "c.png", image(100));
+
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("c").isPresent());
+        assertEquals(200L, cache.totalBytes());
+
+        ProcessedImageCache reloaded = new ProcessedImageCache(uploadDir.toString(), DataSize.ofBytes(250));
+        reloaded.load();
+
+        assertEquals(2, reloaded.size());
+        assertEquals("/uploads/processed-cache/a.png", reloaded.get("a").orElseThrow().relativeUrl());
+        assertEquals(100, reloaded.read(reloaded.get("c").orElseThrow()).length);
+    }
+
+    private ProductImageBackgroundRemovalService.ProcessedImage image(int size) {
+        return new ProductImageBackgroundRemovalService.ProcessedImage(new byte[size], "image/png");
+    }
+}
@@ -0,0 +1,153 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.usecase.ProductUseCase;
+import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductImageDerivativeServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void generatesFocusCroppedVariantsWithoutUpscaling() throws Exception {
+        BufferedImage source = new BufferedImage(600, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = source.createGraphics();
+        g2d.setColor(Color.BLUE);
+        g2d.fillRect(0, 0, 300, 300);
+        g2d.setColor(Color.RED);
+        g2d.fillRect(300, 0, 300, 300);
+        g2d.dispose();
+        Path products = Files.createDirectories(uploadDir.resolve("products"));
+        ImageIO.write(source, "jpg", products.resolve("photo.jpg").toFile());
+
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        when(useCase.attachProductImageVariants(eq(9L), any(), any(), any(), anyList())).thenReturn(true);
+        ProductImageDerivativeService service = new ProductImageDerivativeService(
+                useCase,
+                uploadDir.toString(),
+                List.of(160, 480, 1080),
+                1.0,
+                0.82f,
+                new DirectExecutorService()
+        );
+
+        ProductImage image = new ProductImage();
+        image.setId(9L);
+        image.setImageUrl("/uploads/products/photo.jpg");
+        image.setFocusX(100);
+        image.setFocusY(50);
+        service.submit(image);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductImageVariant>> captor = ArgumentCaptor.forClass(List.class);
+        verify(useCase).attachProductImageVariants(
+                eq(9L),
+                eq("/uploads/products/photo.jpg"),
+                eq(100),
+                eq(50),
+                captor.capture()
+        );
+        List<ProductImageVariant> primary = captor.getValue().stream()
+                .filter((variant) -> "image/jpeg".equals(variant.getContentType()))
+                .toList();
+        assertEquals(1, primary.size());
+        ProductImageVariant variant = primary.get(0);
+        assertEquals(160, variant.getWidth());
+        assertEquals(160, variant.getHeight());
+        assertTrue(variant.getUrl().startsWith("/uploads/" + ProductImageDerivativeService.FOLDER + "/"));
+
+        Path file = uploadDir.resolve(variant.getUrl().substring("/uploads/".length()));
+        BufferedImage derivative = ImageIO.read(file.toFile());
+        Color center = new Color(derivative.getRGB(80, 80));
+        assertTrue(center.getRed() > 200 && center.getBlue() < 60, "crop should follow the focus point");
+        assertEquals(ProductImageDerivativeService.webpSupported(), captor.getValue().size() == 2);
+    }
+
+    @Test
+    void deletesGeneratedFilesWhenImageChangedMeanwhile() throws Exception {
+        BufferedImage source = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+        Path products = Files.createDirectories(uploadDir.resolve("products"));
+        ImageIO.write(source, "png", products.resolve("logo.png").toFile());
+
+        ProductUseCase useCase = Mockito.mock(ProductUseCase.class);
+        when(useCase.attachProductImageVariants(any(), any(), any(), any(), anyList())).thenReturn(false);
+        ProductImageDerivativeService service = new ProductImageDerivativeService(
+                useCase,
+                uploadDir.toString(),
+                List.of(160),
+                1.0,
+                0.82f,
+                new DirectExecutorService()
+        );
+
+        ProductImage image = new ProductImage();
+        image.setId(3L);
+        image.setImageUrl("/uploads/products/logo.png");
+        service.submit(image);
+
+        Path derivatives = uploadDir.resolve(ProductImageDerivativeService.FOLDER);
+        try (var files = Files.list(derivatives)) {
+            assertFalse(files.findAny().isPresent());
+        }
+        assertTrue(service.generatedCount() > 0);
+    }
+
+    private static final class DirectExecutorService extends AbstractExecutorService {
+
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
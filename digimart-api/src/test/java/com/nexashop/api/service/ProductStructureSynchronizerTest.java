@@ -0,0 +1,311 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.port.out.ProductOptionRepository;
+import com.nexashop.application.port.out.ProductOptionValueRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.VariantOptionValueRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.application.service.ProductStructureSynchronizer;
+import com.nexashop.application.usecase.ProductUseCase.ProductOptionGroup;
+import com.nexashop.application.usecase.ProductUseCase.ProductVariantGroup;
+import com.nexashop.application.usecase.ProductUseCase.StructureChanges;
+import com.nexashop.domain.catalog.entity.ProductOption;
+import com.nexashop.domain.catalog.entity.ProductOptionValue;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantOptionValue;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import com.nexashop.domain.common.BaseEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProductStructureSynchronizerTest {
+
+    private static final long TENANT_ID = 3L;
+    private static final long PRODUCT_ID = 40L;
+
+    private final AtomicLong ids = new AtomicLong(1_000L);
+    private final List<List<String>> optionWrites = new ArrayList<>();
+    private final List<List<String>> valueWrites = new ArrayList<>();
+    private final List<List<String>> variantWrites = new ArrayList<>();
+
+    private ProductOptionRepository optionRepository;
+    private ProductOptionValueRepository valueRepository;
+    private ProductVariantRepository variantRepository;
+    private VariantOptionValueRepository linkRepository;
+    private VariantStoreInventoryRepository inventoryRepository;
+    private ProductStructureSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        optionRepository = Mockito.mock(ProductOptionRepository.class);
+        valueRepository = Mockito.mock(ProductOptionValueRepository.class);
+        variantRepository = Mockito.mock(ProductVariantRepository.class);
+        linkRepository = Mockito.mock(VariantOptionValueRepository.class);
+        inventoryRepository = Mockito.mock(VariantStoreInventoryRepository.class);
+        synchronizer = new ProductStructureSynchronizer(
+                optionRepository,
+                valueRepository,
+                variantRepository,
+                linkRepository,
+                inventoryRepository
+        );
+        when(optionRepository.saveAll(any())).thenAnswer(assignIds());
+        when(optionRepository.saveAllAndFlush(any())).thenAnswer(recording(optionWrites, ProductOption::getName));
+        when(valueRepository.saveAll(any())).thenAnswer(assignIds());
+        when(valueRepository.saveAllAndFlush(any())).thenAnswer(recording(valueWrites, ProductOptionValue::getValue));
+        when(variantRepository.saveAll(any())).thenAnswer(assignIds());
+        when(variantRepository.saveAllAndFlush(any())).thenAnswer(recording(variantWrites, ProductVariant::getSku));
+        when(linkRepository.saveAll(any())).thenAnswer(assignIds());
+        when(inventoryRepository.saveAll(any())).thenAnswer(assignIds());
+    }
+
+    @Test
+    void optionsMatchByIdAndByNameAndPruneRemovedRows() {
+        ProductOption size = option(1L, "Size", 0);
+        ProductOption color = option(2L, "Color", 1);
+        ProductOption material = option(3L, "Material", 2);
+        when(optionRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(size, color, material));
+        when(valueRepository.findByOptionIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                value(11L, 1L, "S", 0),
+                value(12L, 1L, "M", 1),
+                value(21L, 2L, "Red", 0),
+                value(31L, 3L, "Wool", 0)
+        ));
+        ProductVariant keep = variant(100L, "SKU-S-RED");
+        ProductVariant usesWool = variant(101L, "SKU-WOOL");
+        when(variantRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(keep, usesWool));
+        when(linkRepository.findByVariantIds(List.of(100L, 101L))).thenReturn(List.of(
+                link(500L, 100L, 11L),
+                link(501L, 100L, 21L),
+                link(502L, 101L, 11L),
+                link(503L, 101L, 21L),
+                link(504L, 101L, 31L)
+        ));
+        when(inventoryRepository.findByVariantIds(List.of(101L))).thenReturn(List.of(inventory(900L, 101L, 7L)));
+
+        ProductStructureSynchronizer.OptionsResult result = synchronizer.syncOptions(PRODUCT_ID, List.of(
+                // matched by id, renamed
+                group(option(1L, "Taille", 0), value(11L, null, "S", 0), value(12L, null, "M", 1)),
+                // matched by case-insensitive name, values unchanged
+                group(option(null, "color", 1), value(null, null, "red", 0), value(null, null, "Blue", 1))
+        ));
+
+        assertEquals(List.of(1L, 2L), result.options().stream().map(g -> g.option().getId()).toList());
+        assertEquals("Taille", size.getName());
+        assertEquals("color", color.getName());
+        assertEquals(21L, result.options().get(1).values().get(0).getId());
+        assertTrue(result.variantsRemoved());
+        verify(optionRepository).deleteByIdIn(List.of(3L));
+        verify(valueRepository).deleteByOptionIds(List.of(3L));
+        verify(variantRepository).deleteByIdIn(List.of(101L));
+        verify(optionRepository, never()).saveAll(any());
+        // updated: both options renamed, value "Red" -> "red"; inserted: "Blue";
+        // deleted: option + its value, variant 101 with 3 links and 1 inventory row
+        assertEquals(new StructureChanges(1, 3, 7), result.changes());
+        assertEquals(List.of(List.of("Taille", "color")), optionWrites);
+    }
+
+    @Test
+    void variantsMatchByIdSkuAndCombinationAndDeleteTheRest() {
+        ProductVariant byId = variant(100L, "A-1");
+        ProductVariant bySku = variant(101L, "B-1");
+        ProductVariant byCombination = variant(102L, "C-1");
+        ProductVariant dropped = variant(103L, "D-1");
+        when(variantRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(byId, bySku, byCombination, dropped));
+        when(linkRepository.findByVariantIds(List.of(100L, 101L, 102L, 103L))).thenReturn(List.of(
+                link(500L, 102L, 11L),
+                link(501L, 102L, 21L),
+                link(502L, 103L, 12L)
+        ));
+        when(inventoryRepository.findByVariantIds(List.of(100L, 101L, 102L, 103L))).thenReturn(List.of());
+        when(inventoryRepository.findByVariantIds(List.of(103L))).thenReturn(List.of(inventory(900L, 103L, 7L)));
+
+        ProductVariant renamed = variant(100L, "A-2");
+        ProductVariant sameSku = variant(null, "b-1");
+        ProductVariant sameCombination = variant(null, "C-1");
+        sameCombination.setStockQuantity(4);
+        ProductVariant added = variant(null, "E-1");
+        ProductStructureSynchronizer.VariantsResult result = synchronizer.syncVariants(PRODUCT_ID, List.of(
+                new ProductVariantGroup(renamed, List.of(), List.of()),
+                new ProductVariantGroup(sameSku, List.of(), List.of()),
+                new ProductVariantGroup(sameCombination, List.of(21L, 11L), List.of()),
+                new ProductVariantGroup(added, List.of(), List.of())
+        ), 8L);
+
+        assertEquals(100L, result.variants().get(0).variant().getId());
+        assertEquals(101L, result.variants().get(1).variant().getId());
+        assertEquals(102L, result.variants().get(2).variant().getId());
+        assertTrue(result.variants().get(3).variant().getId() >= 1_000L);
+        assertEquals(4, byCombination.getStockQuantity());
+        assertEquals(8L, byCombination.getUpdatedBy());
+        verify(variantRepository).deleteByIdIn(List.of(103L));
+        verify(inventoryRepository).deleteByVariantIds(List.of(103L));
+        verify(linkRepository).deleteByVariantIds(List.of(103L));
+        // updated: A-1 -> A-2, B-1 -> b-1, stock on C-1; inserted: E-1;
+        // deleted: D-1 with its link and inventory row
+        assertEquals(new StructureChanges(1, 3, 3), result.changes());
+        assertEquals(List.of(List.of("A-2", "b-1", "C-1")), variantWrites);
+    }
+
+    @Test
+    void swappedSkusArePassedThroughTemporaryKeys() {
+        ProductVariant first = variant(100L, "RED");
+        ProductVariant second = variant(101L, "BLUE");
+        when(variantRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(first, second));
+
+        ProductStructureSynchronizer.VariantsResult result = synchronizer.syncVariants(PRODUCT_ID, List.of(
+                new ProductVariantGroup(variant(100L, "BLUE"), List.of(), List.of()),
+                new ProductVariantGroup(variant(101L, "RED"), List.of(), List.of())
+        ), 8L);
+
+        assertEquals(List.of(
+                List.of("__sync_100", "__sync_101"),
+                List.of("BLUE", "RED")
+        ), variantWrites);
+        assertEquals(new StructureChanges(0, 2, 0), result.changes());
+    }
+
+    @Test
+    void swappedOptionNamesAndValuesArePassedThroughTemporaryKeys() {
+        when(optionRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(
+                option(1L, "Size", 0),
+                option(2L, "Color", 1)
+        ));
+        when(valueRepository.findByOptionIds(List.of(1L, 2L))).thenReturn(List.of(
+                value(11L, 1L, "S", 0),
+                value(12L, 1L, "M", 1),
+                value(21L, 2L, "S", 0)
+        ));
+
+        synchronizer.syncOptions(PRODUCT_ID, List.of(
+                group(option(1L, "Color", 0), value(11L, null, "M", 0), value(12L, null, "S", 1)),
+                group(option(2L, "Size", 1), value(21L, null, "S", 0))
+        ));
+
+        assertEquals(List.of(List.of("__sync_1", "__sync_2"), List.of("Color", "Size")), optionWrites);
+        assertEquals(List.of(List.of("__sync_11", "__sync_12"), List.of("M", "S")), valueWrites);
+    }
+
+    @Test
+    void renameIntoFreedKeyIsWrittenOnce() {
+        when(variantRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(
+                variant(100L, "RED"),
+                variant(101L, "BLUE")
+        ));
+
+        ProductStructureSynchronizer.VariantsResult result = synchronizer.syncVariants(PRODUCT_ID, List.of(
+                new ProductVariantGroup(variant(100L, "BLUE"), List.of(), List.of())
+        ), 8L);
+
+        assertEquals(List.of(List.of("BLUE")), variantWrites);
+        verify(variantRepository).deleteByIdIn(List.of(101L));
+        assertEquals(new StructureChanges(0, 1, 1), result.changes());
+    }
+
+    @Test
+    void unchangedStructureWritesNothing() {
+        when(variantRepository.findByProductId(PRODUCT_ID)).thenReturn(List.of(variant(100L, "RED")));
+
+        ProductStructureSynchronizer.VariantsResult result = synchronizer.syncVariants(PRODUCT_ID, List.of(
+                new ProductVariantGroup(variant(100L, "RED"), List.of(), List.of())
+        ), 8L);
+
+        assertEquals(new StructureChanges(0, 0, 0), result.changes());
+        assertTrue(variantWrites.isEmpty());
+        verify(variantRepository, never()).saveAll(any());
+        verify(variantRepository, never()).deleteByIdIn(anyList());
+        assertFalse(result.variants().isEmpty());
+    }
+
+    private Answer<List<Object>> assignIds() {
+        return invocation -> {
+            List<Object> saved = new ArrayList<>();
+            for (Object entity : (Iterable<?>) invocation.getArgument(0)) {
+                ((BaseEntity) entity).setId(ids.incrementAndGet());
+                saved.add(entity);
+            }
+            return saved;
+        };
+    }
+
+    // Keys are captured at call time: the synchronizer mutates the same rows afterwards.
+    @SuppressWarnings("unchecked")
+    private static <T> Answer<List<T>> recording(List<List<String>> writes, Function<T, String> key) {
+        return invocation -> {
+            List<T> saved = new ArrayList<>();
+            for (Object entity : (Iterable<?>) invocation.getArgument(0)) {
+                saved.add((T) entity);
+            }
+            writes.add(saved.stream().map(key).toList());
+            return saved;
+        };
+    }
+
+    private static ProductOptionGroup group(ProductOption option, ProductOptionValue... values) {
+        return new ProductOptionGroup(option, List.of(values));
+    }
+
+    private static ProductOption option(Long id, String name, int displayOrder) {
+        ProductOption option = new ProductOption();
+        option.setId(id);
+        option.setTenantId(TENANT_ID);
+        option.setProductId(PRODUCT_ID);
+        option.setName(name);
+        option.setUsedForVariants(true);
+        option.setDisplayOrder(displayOrder);
+        return option;
+    }
+
+    private static ProductOptionValue value(Long id, Long optionId, String value, int displayOrder) {
+        ProductOptionValue optionValue = new ProductOptionValue();
+        optionValue.setId(id);
+        optionValue.setTenantId(TENANT_ID);
+        optionValue.setOptionId(optionId);
+        optionValue.setValue(value);
+        optionValue.setDisplayOrder(displayOrder);
+        return optionValue;
+    }
+
+    private static ProductVariant variant(Long id, String sku) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setTenantId(TENANT_ID);
+        variant.setProductId(PRODUCT_ID);
+        variant.setSku(sku);
+        return variant;
+    }
+
+    private static VariantOptionValue link(Long id, Long variantId, Long optionValueId) {
+        VariantOptionValue link = new VariantOptionValue();
+        link.setId(id);
+        link.setTenantId(TENANT_ID);
+        link.setVariantId(variantId);
+        link.setOptionValueId(optionValueId);
+        return link;
+    }
+
+    private static VariantStoreInventory inventory(Long id, Long variantId, Long storeId) {
+        VariantStoreInventory inventory = new VariantStoreInventory();
+        inventory.setId(id);
+        inventory.setTenantId(TENANT_ID);
+        inventory.setVariantId(variantId);
+        inventory.setStoreId(storeId);
+        inventory.setQuantity(1);
+        return inventory;
+    }
+}
@@ -0,0 +1,53 @@
+package com.nexashop.api.service;
+
+import com.nexashop.infrastructure.transaction.SpringAfterCommitExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SpringAfterCommitExecutorTest {
+
+    private final SpringAfterCommitExecutor executor = new SpringAfterCommitExecutor();
+
+    @Test
+    void runsImmediatelyOutsideTransaction() {
+        AtomicInteger runs = new AtomicInteger();
+
+        executor.afterCommit(runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void defersUntilCommit() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            executor.afterCommit(runs::incrementAndGet);
+            assertEquals(0, runs.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, runs.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void skipsActionOnRollback() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            executor.afterCommit(runs::incrementAndGet);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertEquals(0, runs.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
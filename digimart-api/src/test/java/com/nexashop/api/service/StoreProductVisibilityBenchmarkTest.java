@@ -0,0 +1,211 @@
+package com.nexashop.api.service;
+
+import com.nexashop.NexaShopApplication;
+import com.nexashop.application.common.PageRequest;
+import com.nexashop.application.common.PageResult;
+import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.application.port.out.ProductStoreInventoryRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.application.usecase.ProductMaintenanceUseCase;
+import com.nexashop.domain.catalog.entity.Product;
+import com.nexashop.domain.catalog.entity.ProductStoreInventory;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantStatus;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with: mvn -pl digimart-api test -Dtest=StoreProductVisibilityBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest(classes = NexaShopApplication.class)
+class StoreProductVisibilityBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreProductVisibilityBenchmarkTest.class);
+
+    private static final long TENANT_ID = 9_001L;
+    private static final long[] STORE_IDS = {101L, 102L, 103L, 104L, 105L};
+    private static final int PRODUCTS = 6_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private VariantStoreInventoryRepository variantStoreInventoryRepository;
+
+    @Autowired
+    private ProductStoreInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ProductMaintenanceUseCase productMaintenanceUseCase;
+
+    @Test
+    void projectionMatchesInMemoryFilter() {
+        seed();
+        long rebuildStarted = System.nanoTime();
+        int rows = productMaintenanceUseCase.rebuildStoreVisibility(TENANT_ID, 500);
+        log.info("products={} projectionRows={} rebuildMs={}",
+                PRODUCTS, rows, (System.nanoTime() - rebuildStarted) / 1_000_000L);
+
+        for (long storeId : STORE_IDS) {
+            Set<Long> expected = inMemoryVisibleIds(storeId).stream().collect(Collectors.toSet());
+            PageResult<Product> projected = productRepository.findVisibleInStore(
+                    PageRequest.of(0, PRODUCTS),
+                    TENANT_ID,
+                    storeId
+            );
+            assertEquals(expected, projected.items().stream().map(Product::getId).collect(Collectors.toSet()));
+        }
+
+        long inMemoryNanos = 0L;
+        long projectedNanos = 0L;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long storeId : STORE_IDS) {
+                long started = System.nanoTime();
+                inMemoryVisibleIds(storeId);
+                inMemoryNanos += System.nanoTime() - started;
+
+                started = System.nanoTime();
+                productRepository.findVisibleInStore(PageRequest.of(0, PAGE_SIZE), TENANT_ID, storeId);
+                projectedNanos += System.nanoTime() - started;
+            }
+        }
+        int calls = ROUNDS * STORE_IDS.length;
+        log.info("firstPage inMemoryAvgMs={} projectedAvgMs={}",
+                inMemoryNanos / 1_000_000L / calls,
+                projectedNanos / 1_000_000L / calls);
+    }
+
+    private void seed() {
+        Random random = new Random(42L);
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = new Product();
+            product.setTenantId(TENANT_ID);
+            product.setName("Benchmark product " + i);
+            product.setSlug("benchmark-product-" + i);
+            product.setSku("BENCH-" + i);
+            product.setTrackStock(i % 3 == 1);
+            product.setStockQuantity(0);
+            products.add(product);
+        }
+        List<Product> saved = productRepository.saveAll(products);
+
+        List<ProductVariant> variants = new ArrayList<>();
+        List<ProductStoreInventory> productInventories = new ArrayList<>();
+        for (Product product : saved) {
+            int kind = (int) (product.getId() % 3);
+            if (product.isTrackStock()) {
+                for (long storeId : STORE_IDS) {
+                    if (random.nextInt(3) == 0) {
+                        ProductStoreInventory inventory = new ProductStoreInventory();
+                        inventory.setTenantId(TENANT_ID);
+                        inventory.setProductId(product.getId());
+                        inventory.setStoreId(storeId);
+                        inventory.setQuantity(random.nextInt(4));
+                        inventory.setActiveInStore(random.nextInt(5) > 0);
+                        productInventories.add(inventory);
+                    }
+                }
+            } else if (kind == 2) {
+                for (int v = 0; v < 3; v++) {
+                    ProductVariant variant = new ProductVariant();
+                    variant.setTenantId(TENANT_ID);
+                    variant.setProductId(product.getId());
+                    variant.setSku("BENCH-" + product.getId() + "-" + v);
+                    variant.setTrackStock(random.nextInt(4) > 0);
+                    variant.setStockQuantity(random.nextInt(3));
+                    variant.setStatus(random.nextInt(6) == 0 ? VariantStatus.DISABLED : VariantStatus.ACTIVE);
+                    variants.add(variant);
+                }
+            }
+        }
+        inventoryRepository.saveAll(productInventories);
+
+        List<VariantStoreInventory> variantInventories = new ArrayList<>();
+        for (ProductVariant variant : productVariantRepository.saveAll(variants)) {
+            if (!variant.isTrackStock()) {
+                continue;
+            }
+            for (long storeId : STORE_IDS) {
+                if (random.nextInt(3) == 0) {
+                    VariantStoreInventory inventory = new VariantStoreInventory();
+                    inventory.setTenantId(TENANT_ID);
+                    inventory.setVariantId(variant.getId());
+                    inventory.setStoreId(storeId);
+                    inventory.setQuantity(random.nextInt(4));
+                    inventory.setActiveInStore(random.nextInt(5) > 0);
+                    variantInventories.add(inventory);
+                }
+            }
+        }
+        variantStoreInventoryRepository.saveAll(variantInventories);
+    }
+
+    // The pre-projection listProductsForStore path: load the whole tenant and filter in memory.
+    private List<Long> inMemoryVisibleIds(long storeId) {
+        List<Product> products = productRepository.findByTenantId(TENANT_ID);
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        List<ProductVariant> variants = productVariantRepository.findByProductIds(productIds);
+        Map<Long, List<ProductVariant>> variantsByProductId = variants.stream()
+                .collect(Collectors.groupingBy(ProductVariant::getProductId));
+        Map<Long, ProductVariant> variantById = new HashMap<>();
+        for (ProductVariant variant : variants) {
+            variantById.put(variant.getId(), variant);
+        }
+        Set<Long> variantVisible = new HashSet<>();
+        for (VariantStoreInventory inventory : variantStoreInventoryRepository.findByStoreId(storeId)) {
+            ProductVariant variant = variantById.get(inventory.getVariantId());
+            if (variant != null && variant.isTrackStock() && isActive(variant)
+                    && inventory.isActiveInStore() && positive(inventory.getQuantity())) {
+                variantVisible.add(variant.getProductId());
+            }
+        }
+        Set<Long> globalVisible = variants.stream()
+                .filter(variant -> !variant.isTrackStock() && isActive(variant) && positive(variant.getStockQuantity()))
+                .map(ProductVariant::getProductId)
+                .collect(Collectors.toSet());
+        Set<Long> stocked = inventoryRepository.findByStoreId(storeId).stream()
+                .filter(inventory -> inventory.isActiveInStore() && positive(inventory.getQuantity()))
+                .map(ProductStoreInventory::getProductId)
+                .collect(Collectors.toSet());
+        return products.stream()
+                .filter(product -> {
+                    if (variantsByProductId.containsKey(product.getId())) {
+                        return variantVisible.contains(product.getId()) || globalVisible.contains(product.getId());
+                    }
+                    return !product.isTrackStock() || stocked.contains(product.getId());
+                })
+                .map(Product::getId)
+                .toList();
+    }
+
+    private static boolean isActive(ProductVariant variant) {
+        return variant.getStatus() == null || variant.getStatus() == VariantStatus.ACTIVE;
+    }
+
+    private static boolean positive(Integer quantity) {
+        return quantity != null && quantity > 0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.nexashop.api.service;
+
+import com.nexashop.application.port.out.ProductStoreInventoryRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.StoreProductVisibilityRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.application.service.StoreProductVisibilityService;
+import com.nexashop.domain.catalog.entity.Product;
+import com.nexashop.domain.catalog.entity.ProductStoreInventory;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantStatus;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StoreProductVisibilityServiceTest {
+
+    private static final long TENANT_ID = 7L;
+
+    private ProductVariantRepository productVariantRepository;
+    private VariantStoreInventoryRepository variantStoreInventoryRepository;
+    private ProductStoreInventoryRepository inventoryRepository;
+    private StoreProductVisibilityRepository visibilityRepository;
+    private StoreProductVisibilityService service;
+
+    @BeforeEach
+    void setUp() {
+        productVariantRepository = Mockito.mock(ProductVariantRepository.class);
+        variantStoreInventoryRepository = Mockito.mock(VariantStoreInventoryRepository.class);
+        inventoryRepository = Mockito.mock(ProductStoreInventoryRepository.class);
+        visibilityRepository = Mockito.mock(StoreProductVisibilityRepository.class);
+        service = new StoreProductVisibilityService(
+                productVariantRepository,
+                variantStoreInventoryRepository,
+                inventoryRepository,
+                visibilityRepository
+        );
+        when(productVariantRepository.findByProductIds(anyList())).thenReturn(List.of());
+        when(variantStoreInventoryRepository.findByVariantIds(anyList())).thenReturn(List.of());
+        when(inventoryRepository.findByProductIds(anyList())).thenReturn(List.of());
+    }
+
+    @Test
+    void untrackedProductIsVisibleInEveryStore() {
+        int written = service.refresh(List.of(product(1L, TENANT_ID, false)));
+
+        assertEquals(1, written);
+        verify(visibilityRepository).replaceForProducts(TENANT_ID, List.of(1L), List.of(entry(1L, null)));
+        verify(inventoryRepository, never()).findByProductIds(anyList());
+    }
+
+    @Test
+    void trackedProductIsVisibleOnlyInStoresWithActivePositiveStock() {
+        when(inventoryRepository.findByProductIds(List.of(2L))).thenReturn(List.of(
+                productInventory(2L, 101L, 3, true),
+                productInventory(2L, 102L, 0, true),
+                productInventory(2L, 103L, 5, false),
+                productInventory(2L, null, 4, true),
+                productInventory(2L, 104L, 1, true)
+        ));
+
+        int written = service.refresh(List.of(product(2L, TENANT_ID, true)));
+
+        assertEquals(2, written);
+        verify(visibilityRepository).replaceForProducts(
+                TENANT_ID,
+                List.of(2L),
+                List.of(entry(2L, 101L), entry(2L, 104L))
+        );
+    }
+
+    @Test
+    void trackedVariantsDecideStoresAndProductInventoryIsIgnored() {
+        when(productVariantRepository.findByProductIds(List.of(3L))).thenReturn(List.of(
+                variant(31L, 3L, true, VariantStatus.ACTIVE, 0),
+                variant(32L, 3L, true, VariantStatus.DISABLED, 0)
+        ));
+        when(variantStoreInventoryRepository.findByVariantIds(anyList())).thenReturn(List.of(
+                variantInventory(31L, 101L, 2, true),
+                variantInventory(31L, 102L, 2, false),
+                variantInventory(31L, 103L, 0, true),
+                variantInventory(32L, 104L, 4, true)
+        ));
+
+        int written = service.refresh(List.of(product(3L, TENANT_ID, true)));
+
+        assertEquals(1, written);
+        verify(visibilityRepository).replaceForProducts(TENANT_ID, List.of(3L), List.of(entry(3L, 101L)));
+        verify(inventoryRepository, never()).findByProductIds(anyList());
+    }
+
+    @Test
+    void untrackedVariantMakesProductVisibleEverywhereOnlyWhenActiveAndInStock() {
+        when(productVariantRepository.findByProductIds(List.of(4L, 5L))).thenReturn(List.of(
+                variant(41L, 4L, false, VariantStatus.ACTIVE, 0),
+                variant(42L, 4L, false, null, 2),
+                variant(51L, 5L, false, VariantStatus.DISABLED, 5),
+                variant(52L, 5L, false, VariantStatus.ACTIVE, 0)
+        ));
+
+        int written = service.refresh(List.of(product(4L, TENANT_ID, false), product(5L, TENANT_ID, false)));
+
+        assertEquals(1, written);
+        verify(visibilityRepository).replaceForProducts(TENANT_ID, List.of(4L, 5L), List.of(entry(4L, null)));
+        verifyNoInteractions(variantStoreInventoryRepository);
+    }
+
+    @Test
+    void writesEachTenantSeparatelyAndSkipsUnsavedProducts() {
+        int written = service.refresh(List.of(
+                product(1L, TENANT_ID, false),
+                product(null, TENANT_ID, false),
+                product(6L, 8L, false)
+        ));
+
+        assertEquals(2, written);
+        verify(visibilityRepository).replaceForProducts(TENANT_ID, List.of(1L), List.of(entry(1L, null)));
+        verify(visibilityRepository).replaceForProducts(8L, List.of(6L), List.of(entry(6L, null)));
+    }
+
+    @Test
+    void ignoresEmptyInput() {
+        assertEquals(0, service.refresh(List.of()));
+        assertEquals(0, service.refresh(List.of(product(null, TENANT_ID, false))));
+
+        verify(visibilityRepository, never()).replaceForProducts(any(), any(), any());
+    }
+
+    private static StoreProductVisibilityRepository.Entry entry(Long productId, Long storeId) {
+        return new StoreProductVisibilityRepository.Entry(productId, storeId);
+    }
+
+    private static Product product(Long id, Long tenantId, boolean trackStock) {
+        Product product = new Product();
+        product.setId(id);
+        product.setTenantId(tenantId);
+        product.setTrackStock(trackStock);
+        return product;
+    }
+
+    private static ProductVariant variant(Long id, Long productId, boolean trackStock, VariantStatus status, int stock) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setTenantId(TENANT_ID);
+        variant.setProductId(productId);
+        variant.setTrackStock(trackStock);
+        variant.setStatus(status);
+        variant.setStockQuantity(stock);
+        return variant;
+    }
+
+    private static ProductStoreInventory productInventory(Long productId, Long storeId, int quantity, boolean active) {
+        ProductStoreInventory inventory = new ProductStoreInventory();
+        inventory.setTenantId(TENANT_ID);
+        inventory.setProductId(productId);
+        inventory.setStoreId(storeId);
+        inventory.setQuantity(quantity);
+        inventory.setActiveInStore(active);
+        return inventory;
+    }
+
+    private static VariantStoreInventory variantInventory(Long variantId, Long storeId, int quantity, boolean active) {
+        VariantStoreInventory inventory = new VariantStoreInventory();
+        inventory.setTenantId(TENANT_ID);
+        inventory.setVariantId(variantId);
+        inventory.setStoreId(storeId);
+        inventory.setQuantity(quantity);
+        inventory.setActiveInStore(active);
+        return inventory;
+    }
+}
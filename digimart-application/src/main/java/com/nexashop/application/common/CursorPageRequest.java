@@ -0,0 +1,10 @@
+package com.nexashop.application.common;
+
+public record CursorPageRequest(String after, int size, boolean skipTotal) {
+
+    public static CursorPageRequest of(String after, int size, boolean skipTotal) {
+        String resolvedAfter = after == null || after.isBlank() ? null : after.trim();
+        int resolvedSize = size < 1 ? 20 : size;
+        return new CursorPageRequest(resolvedAfter, resolvedSize, skipTotal);
+    }
+}
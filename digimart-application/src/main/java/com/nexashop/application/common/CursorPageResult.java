@@ -0,0 +1,17 @@
+package com.nexashop.application.common;
+
+import java.util.List;
+
+public record CursorPageResult<T>(
+        List<T> items,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalItems
+) {
+
+    public static <T> CursorPageResult<T> of(List<T> items, int size, String nextCursor, Long totalItems) {
+        int resolvedSize = size < 1 ? 1 : size;
+        return new CursorPageResult<>(items, resolvedSize, nextCursor, nextCursor != null, totalItems);
+    }
+}
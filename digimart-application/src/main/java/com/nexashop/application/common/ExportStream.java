@@ -0,0 +1,9 @@
+package com.nexashop.application.common;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface ExportStream<T> {
+
+    void forEach(Consumer<? super T> consumer);
+}
@@ -0,0 +1,7 @@
+package com.nexashop.application.exception;
+
+public class DuplicateSlugException extends ConflictException {
+    public DuplicateSlugException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.nexashop.application.port.out;
+
+public interface AfterCommitExecutor {
+
+    // Runs the action once the surrounding transaction commits, or immediately outside one.
+    void afterCommit(Runnable action);
+}
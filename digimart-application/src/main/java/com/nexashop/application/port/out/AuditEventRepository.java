@@ -5,7 +5,8 @@ import com.nexashop.application.common.PageResult;
 import com.nexashop.domain.audit.entity.AuditEvent;
 import com.nexashop.domain.audit.entity.AuditAction;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface AuditEventRepository extends CrudRepositoryPort<AuditEvent, Long> {
 
@@ -18,14 +19,38 @@ public interface AuditEventRepository extends CrudRepositoryPort<AuditEvent, Lon
             LocalDateTime occurredTo
     );
 
-    List<AuditEvent> findByFiltersForExport(
+    long countByFilters(
+            Long tenantId,
+            String entityType,
+            AuditAction action,
+            LocalDateTime occurredFrom,
+            LocalDateTime occurredTo
+    );
+
+    void streamByFilters(
             Long tenantId,
             String entityType,
             AuditAction action,
             LocalDateTime occurredFrom,
             LocalDateTime occurredTo,
-            int limit
+            Consumer<? super AuditEvent> consumer
     );
 
     long deleteByOccurredAtBefore(LocalDateTime occurredBefore);
+
+    Long findFirstIdBefore(
+            LocalDateTime occurredBefore,
+            Long tenantId,
+            Collection<Long> excludedTenantIds,
+            long fromId
+    );
+
+    long purgeChunk(
+            long fromId,
+            long toIdExclusive,
+            LocalDateTime occurredBefore,
+            Long tenantId,
+            Collection<Long> excludedTenantIds,
+            boolean archive
+    );
 }
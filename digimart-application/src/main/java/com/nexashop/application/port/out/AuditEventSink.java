@@ -0,0 +1,8 @@
+package com.nexashop.application.port.out;
+
+import com.nexashop.domain.audit.entity.AuditEvent;
+
+public interface AuditEventSink {
+
+    void submit(AuditEvent auditEvent);
+}
@@ -0,0 +1,13 @@
+package com.nexashop.application.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface AuditPartitionManager {
+
+    boolean isPartitioned();
+
+    List<String> ensurePartitions(YearMonth fromMonth, YearMonth toMonth);
+
+    List<String> dropPartitionsBefore(YearMonth firstKeptMonth, boolean detachOnly);
+}
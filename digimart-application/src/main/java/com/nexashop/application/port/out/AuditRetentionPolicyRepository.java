@@ -0,0 +1,6 @@
+package com.nexashop.application.port.out;
+
+import com.nexashop.domain.audit.entity.AuditRetentionPolicy;
+
+public interface AuditRetentionPolicyRepository extends CrudRepositoryPort<AuditRetentionPolicy, Long> {
+}
@@ -0,0 +1,12 @@
+package com.nexashop.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CategoryClosureRepository {
+
+    void replaceForDescendants(Long tenantId, Collection<Long> descendantIds, List<Link> links);
+
+    record Link(Long ancestorId, Long descendantId, int depth) {
+    }
+}
@@ -12,6 +12,8 @@ public interface CategoryRepository extends CrudRepositoryPort<Category, Long> {
 
     Optional<Category> findByTenantIdAndSlug(Long tenantId, String slug);
 
+    List<String> findSlugsByTenantIdAndPrefix(Long tenantId, String baseSlug, Long excludeId);
+
     Optional<Category> findByIdAndTenantId(Long id, Long tenantId);
 
     List<Category> findByTenantId(Long tenantId);
@@ -9,6 +9,8 @@ public interface CrudRepositoryPort<T, ID> {
 
     <S extends T> List<S> saveAll(Iterable<S> entities);
 
+    <S extends T> List<S> saveAllAndFlush(Iterable<S> entities);
+
     Optional<T> findById(ID id);
 
     List<T> findAll();
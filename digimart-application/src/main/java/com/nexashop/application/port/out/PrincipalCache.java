@@ -0,0 +1,10 @@
+package com.nexashop.application.port.out;
+
+public interface PrincipalCache {
+
+    void invalidateToken(String tokenHash);
+
+    void invalidateUser(Long userId);
+
+    void invalidateTenant(Long tenantId);
+}
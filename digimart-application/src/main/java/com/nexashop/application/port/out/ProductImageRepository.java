@@ -1,11 +1,22 @@
 package com.nexashop.application.port.out;
 
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import java.util.List;
 
 public interface ProductImageRepository extends CrudRepositoryPort<ProductImage, Long> {
 
     List<ProductImage> findByProductId(Long productId);
 
+    List<ProductImage> findByProductIds(List<Long> productIds);
+
     void deleteByProductId(Long productId);
+
+    boolean updateVariantsIfUnchanged(
+            Long imageId,
+            String imageUrl,
+            Integer focusX,
+            Integer focusY,
+            List<ProductImageVariant> variants
+    );
 }
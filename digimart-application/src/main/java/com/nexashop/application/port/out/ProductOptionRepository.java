@@ -8,4 +8,6 @@ public interface ProductOptionRepository extends CrudRepositoryPort<ProductOptio
     List<ProductOption> findByProductId(Long productId);
 
     void deleteByProductId(Long productId);
+
+    void deleteByIdIn(List<Long> ids);
 }
@@ -12,4 +12,6 @@ public interface ProductOptionValueRepository extends CrudRepositoryPort<Product
     void deleteByOptionId(Long optionId);
 
     void deleteByOptionIds(List<Long> optionIds);
+
+    void deleteByIdIn(List<Long> ids);
 }
@@ -6,6 +6,7 @@ import com.nexashop.domain.catalog.entity.ProductPriceHistory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface ProductPriceHistoryRepository {
 
@@ -18,4 +19,8 @@ public interface ProductPriceHistoryRepository {
     BigDecimal findLowestPriceAllTime(Long productId);
 
     BigDecimal findLowestPriceSince(Long productId, LocalDateTime since);
+
+    Map<Long, BigDecimal> findLowestPricesAllTime(List<Long> productIds);
+
+    Map<Long, BigDecimal> findLowestPricesSince(List<Long> productIds, LocalDateTime since);
 }
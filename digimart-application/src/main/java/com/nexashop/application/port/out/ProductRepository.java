@@ -1,13 +1,16 @@
 package com.nexashop.application.port.out;
 
+import com.nexashop.application.common.KeysetCursor;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.domain.catalog.entity.ProductAvailability;
 import com.nexashop.domain.catalog.entity.ProductStatus;
 import com.nexashop.domain.catalog.entity.Product;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ProductRepository extends CrudRepositoryPort<Product, Long> {
 
@@ -15,12 +18,43 @@ public interface ProductRepository extends CrudRepositoryPort<Product, Long> {
 
     boolean existsByTenantIdAndSku(Long tenantId, String sku);
 
+    List<String> findSlugsByTenantId(Long tenantId);
+
+    List<String> findSlugsByTenantIdAndPrefix(Long tenantId, String baseSlug, Long excludeId);
+
+    List<String> findSkusByTenantId(Long tenantId);
+
     Optional<Product> findByIdAndTenantId(Long id, Long tenantId);
 
     List<Product> findByTenantId(Long tenantId);
 
     PageResult<Product> findByTenantId(PageRequest request, Long tenantId);
 
+    void streamByTenantId(Long tenantId, Consumer<? super Product> consumer);
+
+    List<Product> findBatchAfterId(Long afterId, int limit);
+
+    List<Product> findBatchByTenantIdAfterId(Long tenantId, Long afterId, int limit);
+
+    PageResult<Product> findVisibleInStore(PageRequest request, Long tenantId, Long storeId);
+
+    void updateLowStock(Collection<Long> productIds, boolean lowStock);
+
+    List<Product> findAllByIdIn(Collection<Long> ids);
+
+    int updateStatusByIdIn(Collection<Long> ids, ProductStatus status, Long updatedBy);
+
+    int updatePricingByIdIn(
+            Collection<Long> ids,
+            BigDecimal initialPrice,
+            BigDecimal finalPrice,
+            BigDecimal shippingPrice,
+            BigDecimal shippingCostPrice,
+            Long updatedBy
+    );
+
+    int deleteCascadeByIdIn(Collection<Long> ids);
+
     PageResult<Product> searchProducts(
             PageRequest request,
             Long tenantId,
@@ -29,7 +63,75 @@ public interface ProductRepository extends CrudRepositoryPort<Product, Long> {
             Boolean stockLow,
             BigDecimal minPrice,
             BigDecimal maxPrice,
-            String search,
-            Long categoryId
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
+    );
+
+    List<Product> searchProductsAfter(
+            KeysetCursor after,
+            int limit,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
+    );
+
+    long countProducts(
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
+    );
+
+    // Text-matching listings for search indexes that match in the database; pages are
+    // ordered by relevance, cursor pages by (created_at, id).
+    PageResult<Product> searchProductsMatching(
+            PageRequest request,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
+    );
+
+    List<Product> searchProductsMatchingAfter(
+            KeysetCursor after,
+            int limit,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
+    );
+
+    long countProductsMatching(
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
     );
 }
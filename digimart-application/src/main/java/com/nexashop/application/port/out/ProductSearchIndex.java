@@ -0,0 +1,27 @@
+package com.nexashop.application.port.out;
+
+import com.nexashop.domain.catalog.entity.Product;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductSearchIndex {
+
+    void index(Product product);
+
+    void indexAll(Collection<Product> products);
+
+    void remove(Long productId);
+
+    void removeAll(Collection<Long> productIds);
+
+    List<SearchHit> search(Long tenantId, String query, int limit);
+
+    // Ranked ids without highlights, capped at limit.
+    List<Long> searchIds(Long tenantId, String query, int limit);
+
+    // True when ProductRepository can apply the match inside its own listing queries.
+    boolean matchesInDatabase();
+
+    record SearchHit(Long productId, double score, String highlight) {
+    }
+}
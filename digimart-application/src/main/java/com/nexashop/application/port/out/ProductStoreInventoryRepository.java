@@ -7,6 +7,8 @@ public interface ProductStoreInventoryRepository extends CrudRepositoryPort<Prod
 
     List<ProductStoreInventory> findByProductId(Long productId);
 
+    List<ProductStoreInventory> findByProductIds(List<Long> productIds);
+
     List<ProductStoreInventory> findByStoreId(Long storeId);
 
     boolean existsLowStockByProductId(Long productId);
@@ -22,4 +22,6 @@ public interface ProductVariantRepository extends CrudRepositoryPort<ProductVari
     boolean existsDefaultVariant(Long productId);
 
     void clearProductImage(Long productId, Long productImageId);
+
+    void deleteByIdIn(List<Long> ids);
 }
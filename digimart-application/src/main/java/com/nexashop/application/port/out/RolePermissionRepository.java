@@ -6,6 +6,8 @@ import java.util.List;
 
 public interface RolePermissionRepository extends CrudRepositoryPort<RolePermission, Long> {
 
+    List<RolePermission> findByTenantId(Long tenantId);
+
     List<RolePermission> findByTenantIdAndRoleId(Long tenantId, Long roleId);
 
     List<RolePermission> findByTenantIdAndRoleIdIn(Long tenantId, Collection<Long> roleIds);
@@ -0,0 +1,13 @@
+package com.nexashop.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StoreProductVisibilityRepository {
+
+    void replaceForProducts(Long tenantId, Collection<Long> productIds, List<Entry> entries);
+
+    // A null storeId marks a product that is visible in every store of the tenant.
+    record Entry(Long productId, Long storeId) {
+    }
+}
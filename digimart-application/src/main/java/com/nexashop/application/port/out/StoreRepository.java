@@ -17,4 +17,6 @@ public interface StoreRepository extends CrudRepositoryPort<Store, Long> {
     PageResult<Store> findByTenantId(PageRequest request, Long tenantId);
 
     List<Store> findByTenantIdIn(List<Long> tenantIds);
+
+    List<Store> findByIdIn(List<Long> ids);
 }
@@ -3,6 +3,7 @@ package com.nexashop.application.port.out;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.domain.tenant.entity.Tenant;
+import java.util.Collection;
 import java.util.List;
 
 public interface TenantRepository extends CrudRepositoryPort<Tenant, Long> {
@@ -13,5 +14,7 @@ public interface TenantRepository extends CrudRepositoryPort<Tenant, Long> {
 
     List<Tenant> findBySectorIdIn(List<Long> sectorIds);
 
+    List<Tenant> findByIdIn(Collection<Long> ids);
+
     PageResult<Tenant> findAll(PageRequest request);
 }
@@ -3,6 +3,7 @@ package com.nexashop.application.port.out;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.domain.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,8 @@ public interface UserRepository extends CrudRepositoryPort<User, Long> {
 
     List<User> findByTenantId(Long tenantId);
 
+    List<User> findByIdIn(Collection<Long> ids);
+
     PageResult<User> findByTenantId(PageRequest request, Long tenantId);
 
     Optional<User> findFirstByTenantIdOrderByIdAsc(Long tenantId);
@@ -12,4 +12,6 @@ public interface VariantOptionValueRepository extends CrudRepositoryPort<Variant
     void deleteByVariantId(Long variantId);
 
     void deleteByVariantIds(List<Long> variantIds);
+
+    void deleteByIdIn(List<Long> ids);
 }
@@ -14,4 +14,6 @@ public interface VariantStoreInventoryRepository extends CrudRepositoryPort<Vari
     void deleteByVariantId(Long variantId);
 
     void deleteByVariantIds(List<Long> variantIds);
+
+    void deleteByIdIn(List<Long> ids);
 }
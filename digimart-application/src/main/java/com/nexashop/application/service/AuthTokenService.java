@@ -1,5 +1,6 @@
 package com.nexashop.application.service;
 
+import com.nexashop.application.port.out.PrincipalCache;
 import com.nexashop.application.port.out.RefreshTokenRepository;
 import com.nexashop.domain.user.entity.RefreshToken;
 import java.nio.charset.StandardCharsets;
@@ -14,9 +15,11 @@ public class AuthTokenService {
     private static final int TOKEN_DAYS_VALID = 7;
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final PrincipalCache principalCache;
 
-    public AuthTokenService(RefreshTokenRepository refreshTokenRepository) {
+    public AuthTokenService(RefreshTokenRepository refreshTokenRepository, PrincipalCache principalCache) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.principalCache = principalCache;
     }
 
     public String createToken(Long tenantId, Long userId, String deviceInfo) {
@@ -36,11 +39,23 @@ public class AuthTokenService {
     }
 
     public Optional<RefreshToken> validateToken(String rawToken) {
-        String hash = hashToken(rawToken);
-        return refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(hash)
+        return validateTokenHash(hashToken(rawToken));
+    }
+
+    public Optional<RefreshToken> validateTokenHash(String tokenHash) {
+        return refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)
                 .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()));
     }
 
+    public void revokeToken(String rawToken) {
+        String hash = hashToken(rawToken);
+        refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(hash).ifPresent(token -> {
+            token.setRevokedAt(LocalDateTime.now());
+            refreshTokenRepository.save(token);
+        });
+        principalCache.invalidateToken(hash);
+    }
+
     public static String hashToken(String token) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
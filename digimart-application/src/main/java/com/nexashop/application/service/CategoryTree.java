@@ -0,0 +1,272 @@
+package com.nexashop.application.service;
+
+import com.nexashop.domain.catalog.entity.Category;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Nodes are stored in pre-order, so a subtree is the contiguous slice
+// [position, position + subtreeSize) and children are a slice of childPositions.
+public final class CategoryTree {
+
+    private static final String PATH_SEPARATOR = " > ";
+
+    private final Category[] categories;
+    private final long[] ids;
+    private final int[] parents;
+    private final int[] depths;
+    private final int[] subtreeSizes;
+    private final String[] paths;
+    private final int[] childStart;
+    private final int[] childPositions;
+    private final int[] rootPositions;
+    private final Map<Long, Integer> positionById;
+
+    private CategoryTree(
+            Category[] categories,
+            long[] ids,
+            int[] parents,
+            int[] depths,
+            int[] subtreeSizes,
+            String[] paths,
+            int[] childStart,
+            int[] childPositions,
+            int[] rootPositions,
+            Map<Long, Integer> positionById
+    ) {
+        this.categories = categories;
+        this.ids = ids;
+        this.parents = parents;
+        this.depths = depths;
+        this.subtreeSizes = subtreeSizes;
+        this.paths = paths;
+        this.childStart = childStart;
+        this.childPositions = childPositions;
+        this.rootPositions = rootPositions;
+        this.positionById = positionById;
+    }
+
+    public static CategoryTree build(List<Category> source) {
+        List<Category> sorted = source.stream()
+                .filter(category -> category.getId() != null)
+                .sorted(Comparator.comparing(Category::getId))
+                .toList();
+        int size = sorted.size();
+        Map<Long, Integer> inputIndex = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            inputIndex.put(sorted.get(i).getId(), i);
+        }
+        List<List<Integer>> childrenByInput = new ArrayList<>(size);
+        List<Integer> rootInputs = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            childrenByInput.add(new ArrayList<>(0));
+        }
+        for (int i = 0; i < size; i++) {
+            Integer parent = inputIndex.get(sorted.get(i).getParentCategoryId());
+            if (parent == null || parent == i) {
+                rootInputs.add(i);
+            } else {
+                childrenByInput.get(parent).add(i);
+            }
+        }
+
+        Category[] categories = new Category[size];
+        long[] ids = new long[size];
+        int[] parents = new int[size];
+        int[] depths = new int[size];
+        int[] subtreeSizes = new int[size];
+        String[] paths = new String[size];
+        int[] positionByInput = new int[size];
+        Arrays.fill(positionByInput, -1);
+        List<Integer> roots = new ArrayList<>();
+        int[] next = {0};
+        for (Integer root : rootInputs) {
+            roots.add(visit(root, -1, sorted, childrenByInput, positionByInput, categories, ids, parents, depths,
+                    subtreeSizes, paths, next));
+        }
+        // Parent cycles are unreachable from any root; break each one at its lowest id.
+        for (int i = 0; i < size; i++) {
+            if (positionByInput[i] < 0) {
+                roots.add(visit(i, -1, sorted, childrenByInput, positionByInput, categories, ids, parents, depths,
+                        subtreeSizes, paths, next));
+            }
+        }
+
+        int[] childCounts = new int[size + 1];
+        for (int position = 0; position < size; position++) {
+            if (parents[position] >= 0) {
+                childCounts[parents[position] + 1]++;
+            }
+        }
+        int[] childStart = new int[size + 1];
+        for (int position = 0; position < size; position++) {
+            childStart[position + 1] = childStart[position] + childCounts[position + 1];
+        }
+        int[] childPositions = new int[childStart[size]];
+        int[] fill = Arrays.copyOf(childStart, size);
+        for (int position = 0; position < size; position++) {
+            if (parents[position] >= 0) {
+                childPositions[fill[parents[position]]++] = position;
+            }
+        }
+
+        Map<Long, Integer> positionById = new HashMap<>(size * 2);
+        for (int position = 0; position < size; position++) {
+            positionById.put(ids[position], position);
+        }
+        return new CategoryTree(
+                categories,
+                ids,
+                parents,
+                depths,
+                subtreeSizes,
+                paths,
+                childStart,
+                childPositions,
+                roots.stream().mapToInt(Integer::intValue).toArray(),
+                Map.copyOf(positionById)
+        );
+    }
+
+    private static int visit(
+            int rootInput,
+            int rootParent,
+            List<Category> sorted,
+            List<List<Integer>> childrenByInput,
+            int[] positionByInput,
+            Category[] categories,
+            long[] ids,
+            int[] parents,
+            int[] depths,
+            int[] subtreeSizes,
+            String[] paths,
+            int[] next
+    ) {
+        int rootPosition = next[0];
+        List<int[]> stack = new ArrayList<>();
+        stack.add(new int[] {rootInput, rootParent});
+        while (!stack.isEmpty()) {
+            int[] frame = stack.remove(stack.size() - 1);
+            int input = frame[0];
+            if (positionByInput[input] >= 0) {
+                continue;
+            }
+            int parent = frame[1];
+            int position = next[0]++;
+            positionByInput[input] = position;
+            Category category = sorted.get(input);
+            categories[position] = category;
+            ids[position] = category.getId();
+            parents[position] = parent;
+            depths[position] = parent < 0 ? 0 : depths[parent] + 1;
+            paths[position] = appendPath(parent < 0 ? null : paths[parent], category.getName());
+            List<Integer> children = childrenByInput.get(input);
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.add(new int[] {children.get(i), position});
+            }
+        }
+        for (int position = next[0] - 1; position >= rootPosition; position--) {
+            subtreeSizes[position] += 1;
+            if (position > rootPosition) {
+                subtreeSizes[parents[position]] += subtreeSizes[position];
+            }
+        }
+        return rootPosition;
+    }
+
+    private static String appendPath(String parentPath, String name) {
+        if (name == null || name.isBlank()) {
+            return parentPath;
+        }
+        String trimmed = name.trim();
+        return parentPath == null ? trimmed : parentPath + PATH_SEPARATOR + trimmed;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(Long id) {
+        return id != null && positionById.containsKey(id);
+    }
+
+    public Optional<Category> find(Long id) {
+        Integer position = position(id);
+        return position == null ? Optional.empty() : Optional.of(categories[position]);
+    }
+
+    public List<Category> all() {
+        return List.of(categories);
+    }
+
+    public List<Category> roots() {
+        List<Category> result = new ArrayList<>(rootPositions.length);
+        for (int position : rootPositions) {
+            if (categories[position].getParentCategoryId() == null) {
+                result.add(categories[position]);
+            }
+        }
+        return result;
+    }
+
+    public List<Category> children(Long id) {
+        Integer position = position(id);
+        if (position == null) {
+            return List.of();
+        }
+        List<Category> result = new ArrayList<>(childStart[position + 1] - childStart[position]);
+        for (int i = childStart[position]; i < childStart[position + 1]; i++) {
+            result.add(categories[childPositions[i]]);
+        }
+        return result;
+    }
+
+    public List<Long> subtreeIds(Long id) {
+        Integer position = position(id);
+        if (position == null) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(subtreeSizes[position]);
+        for (int i = position; i < position + subtreeSizes[position]; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    public List<Long> ancestorIds(Long id) {
+        Integer position = position(id);
+        if (position == null) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(depths[position]);
+        for (int parent = parents[position]; parent >= 0; parent = parents[parent]) {
+            result.add(0, ids[parent]);
+        }
+        return result;
+    }
+
+    public boolean isInSubtree(Long id, Long ancestorId) {
+        Integer position = position(id);
+        Integer ancestor = position(ancestorId);
+        return position != null && ancestor != null
+                && position >= ancestor && position < ancestor + subtreeSizes[ancestor];
+    }
+
+    public int depth(Long id) {
+        Integer position = position(id);
+        return position == null ? -1 : depths[position];
+    }
+
+    public String path(Long id) {
+        Integer position = position(id);
+        return position == null ? null : paths[position];
+    }
+
+    private Integer position(Long id) {
+        return id == null ? null : positionById.get(id);
+    }
+}
@@ -0,0 +1,50 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.common.TtlCache;
+import com.nexashop.application.port.out.CategoryRepository;
+import java.time.Duration;
+import java.util.function.Function;
+
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final TtlCache<Long, CategoryTree> treesByTenant;
+    private final Function<Long, CategoryTree> treeLoader = this::loadTree;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, Duration ttl, int maxTenants) {
+        this.categoryRepository = categoryRepository;
+        this.treesByTenant = new TtlCache<>(ttl, maxTenants);
+    }
+
+    public CategoryTree tree(Long tenantId) {
+        return treesByTenant.get(tenantId, treeLoader);
+    }
+
+    public String path(Long tenantId, Long categoryId) {
+        if (tenantId == null || categoryId == null) {
+            return null;
+        }
+        return tree(tenantId).path(categoryId);
+    }
+
+    // Readers keep the previous snapshot until the rebuilt one replaces it.
+    public synchronized void refresh(Long tenantId) {
+        if (tenantId != null) {
+            treesByTenant.put(tenantId, loadTree(tenantId));
+        }
+    }
+
+    public void invalidate(Long tenantId) {
+        if (tenantId != null) {
+            treesByTenant.invalidate(tenantId);
+        }
+    }
+
+    public int size() {
+        return treesByTenant.size();
+    }
+
+    private CategoryTree loadTree(Long tenantId) {
+        return CategoryTree.build(categoryRepository.findByTenantId(tenantId));
+    }
+}
@@ -0,0 +1,88 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.common.TtlCache;
+import com.nexashop.application.port.out.PlanFeatureRepository;
+import com.nexashop.application.port.out.PremiumFeatureRepository;
+import com.nexashop.application.port.out.TenantSubscriptionRepository;
+import com.nexashop.domain.billing.entity.PlanFeature;
+import com.nexashop.domain.billing.entity.PremiumFeature;
+import com.nexashop.domain.billing.entity.TenantSubscription;
+import com.nexashop.domain.billing.enums.SubscriptionStatus;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class EntitlementService {
+
+    private final TenantSubscriptionRepository subscriptionRepository;
+    private final PlanFeatureRepository planFeatureRepository;
+    private final PremiumFeatureRepository featureRepository;
+    private final TtlCache<Long, Set<String>> featureCodesByTenant;
+
+    public EntitlementService(
+            TenantSubscriptionRepository subscriptionRepository,
+            PlanFeatureRepository planFeatureRepository,
+            PremiumFeatureRepository featureRepository,
+            Duration ttl,
+            int maxTenants
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.planFeatureRepository = planFeatureRepository;
+        this.featureRepository = featureRepository;
+        this.featureCodesByTenant = new TtlCache<>(ttl, maxTenants);
+    }
+
+    public Set<String> featureCodes(Long tenantId) {
+        if (tenantId == null) {
+            return Set.of();
+        }
+        return featureCodesByTenant.get(tenantId, this::loadFeatureCodes);
+    }
+
+    public boolean hasFeature(Long tenantId, String featureCode) {
+        if (featureCode == null) {
+            return false;
+        }
+        return featureCodes(tenantId).contains(featureCode.toUpperCase(Locale.ROOT));
+    }
+
+    public void invalidateTenant(Long tenantId) {
+        if (tenantId != null) {
+            featureCodesByTenant.invalidate(tenantId);
+        }
+    }
+
+    public void invalidateAll() {
+        featureCodesByTenant.invalidateAll();
+    }
+
+    private Set<String> loadFeatureCodes(Long tenantId) {
+        TenantSubscription subscription = subscriptionRepository
+                .findByTenantIdAndStatus(tenantId, SubscriptionStatus.ACTIVE)
+                .orElseGet(() -> subscriptionRepository
+                        .findByTenantIdAndStatus(tenantId, SubscriptionStatus.PENDING_ACTIVATION)
+                        .orElse(null));
+        if (subscription == null || subscription.getPlanId() == null) {
+            return Set.of();
+        }
+        List<PlanFeature> planFeatures = planFeatureRepository.findByPlanId(subscription.getPlanId());
+        if (planFeatures.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> featureIds = new HashSet<>();
+        for (PlanFeature planFeature : planFeatures) {
+            if (planFeature != null && planFeature.getFeatureId() != null) {
+                featureIds.add(planFeature.getFeatureId());
+            }
+        }
+        Set<String> codes = new HashSet<>();
+        for (PremiumFeature feature : featureRepository.findByActiveTrueOrderByDisplayOrderAsc()) {
+            if (feature.getCode() != null && featureIds.contains(feature.getId())) {
+                codes.add(feature.getCode().toUpperCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(codes);
+    }
+}
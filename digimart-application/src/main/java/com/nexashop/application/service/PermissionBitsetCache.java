@@ -0,0 +1,183 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.common.TtlCache;
+import com.nexashop.application.port.out.PermissionRepository;
+import com.nexashop.application.port.out.RolePermissionRepository;
+import com.nexashop.application.port.out.RoleRepository;
+import com.nexashop.domain.user.entity.Permission;
+import com.nexashop.domain.user.entity.Role;
+import com.nexashop.domain.user.entity.RolePermission;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class PermissionBitsetCache {
+
+    private final PermissionRepository permissionRepository;
+    private final RoleRepository roleRepository;
+    private final RolePermissionRepository rolePermissionRepository;
+    private final TtlCache<Long, TenantPermissions> permissionsByTenant;
+    private final Function<Long, TenantPermissions> tenantLoader = this::loadTenantPermissions;
+    private volatile PermissionIndex index;
+
+    public PermissionBitsetCache(
+            PermissionRepository permissionRepository,
+            RoleRepository roleRepository,
+            RolePermissionRepository rolePermissionRepository,
+            Duration ttl,
+            int maxTenants
+    ) {
+        this.permissionRepository = permissionRepository;
+        this.roleRepository = roleRepository;
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.permissionsByTenant = new TtlCache<>(ttl, maxTenants);
+    }
+
+    public boolean hasPermission(Long tenantId, Set<String> roleCodes, String permissionCode) {
+        if (tenantId == null || roleCodes == null || roleCodes.isEmpty()) {
+            return false;
+        }
+        TenantPermissions permissions = permissionsByTenant.get(tenantId, tenantLoader);
+        Integer position = permissions.index().positionByCode().get(permissionCode);
+        if (position == null) {
+            return false;
+        }
+        int word = position >>> 6;
+        long mask = 1L << position;
+        for (String roleCode : roleCodes) {
+            long[] bits = permissions.bitsByRoleCode().get(roleCode);
+            if (bits != null && (bits[word] & mask) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<String> permissionCodes(Long tenantId, Set<String> roleCodes) {
+        if (tenantId == null || roleCodes == null || roleCodes.isEmpty()) {
+            return Set.of();
+        }
+        TenantPermissions permissions = permissionsByTenant.get(tenantId, tenantLoader);
+        String[] codes = permissions.index().codes();
+        long[] granted = new long[wordCount(codes.length)];
+        for (String roleCode : roleCodes) {
+            long[] bits = permissions.bitsByRoleCode().get(roleCode);
+            if (bits != null) {
+                for (int i = 0; i < granted.length; i++) {
+                    granted[i] |= bits[i];
+                }
+            }
+        }
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < codes.length; i++) {
+            if ((granted[i >>> 6] & (1L << i)) != 0) {
+                result.add(codes[i]);
+            }
+        }
+        return result;
+    }
+
+    public Set<String> allPermissionCodes() {
+        return index().allCodes();
+    }
+
+    public void onRolePermissionsChanged(Long tenantId) {
+        if (tenantId != null) {
+            permissionsByTenant.invalidate(tenantId);
+        }
+    }
+
+    public synchronized void onPermissionsChanged() {
+        index = null;
+        permissionsByTenant.invalidateAll();
+    }
+
+    private PermissionIndex index() {
+        PermissionIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (index == null) {
+                index = buildIndex();
+            }
+            return index;
+        }
+    }
+
+    private PermissionIndex buildIndex() {
+        List<Permission> permissions = permissionRepository.findAll().stream()
+                .filter(permission -> permission.getId() != null)
+                .sorted(Comparator.comparing(Permission::getId))
+                .toList();
+        Map<String, Integer> positionByCode = new HashMap<>();
+        Map<Long, Integer> positionById = new HashMap<>();
+        String[] codes = new String[permissions.size()];
+        int size = 0;
+        for (Permission permission : permissions) {
+            String code = normalizeCode(permission.getCode());
+            if (code.isBlank() || positionByCode.containsKey(code)) {
+                continue;
+            }
+            positionByCode.put(code, size);
+            positionById.put(permission.getId(), size);
+            codes[size++] = code;
+        }
+        String[] indexedCodes = Arrays.copyOf(codes, size);
+        return new PermissionIndex(
+                Map.copyOf(positionByCode),
+                Map.copyOf(positionById),
+                indexedCodes,
+                Set.copyOf(List.of(indexedCodes))
+        );
+    }
+
+    private TenantPermissions loadTenantPermissions(Long tenantId) {
+        PermissionIndex currentIndex = index();
+        int words = wordCount(currentIndex.codes().length);
+        Map<Long, long[]> bitsByRoleId = new HashMap<>();
+        for (RolePermission rolePermission : rolePermissionRepository.findByTenantId(tenantId)) {
+            Integer position = currentIndex.positionById().get(rolePermission.getPermissionId());
+            if (position == null || rolePermission.getRoleId() == null) {
+                continue;
+            }
+            long[] bits = bitsByRoleId.computeIfAbsent(rolePermission.getRoleId(), roleId -> new long[words]);
+            bits[position >>> 6] |= 1L << position;
+        }
+        Map<String, long[]> bitsByRoleCode = new HashMap<>();
+        if (!bitsByRoleId.isEmpty()) {
+            for (Role role : roleRepository.findByTenantIdAndIdIn(tenantId, bitsByRoleId.keySet())) {
+                if (role.getCode() != null) {
+                    bitsByRoleCode.put(role.getCode(), bitsByRoleId.get(role.getId()));
+                }
+            }
+        }
+        return new TenantPermissions(currentIndex, Map.copyOf(bitsByRoleCode));
+    }
+
+    private static int wordCount(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+
+    private static String normalizeCode(String code) {
+        return code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record PermissionIndex(
+            Map<String, Integer> positionByCode,
+            Map<Long, Integer> positionById,
+            String[] codes,
+            Set<String> allCodes
+    ) {
+    }
+
+    private record TenantPermissions(PermissionIndex index, Map<String, long[]> bitsByRoleCode) {
+    }
+}
@@ -0,0 +1,335 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.port.out.ProductImageRepository;
+import com.nexashop.application.port.out.ProductPriceHistoryRepository;
+import com.nexashop.application.port.out.ProductStoreInventoryRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.application.usecase.ProductUseCase.StoreRef;
+import com.nexashop.domain.catalog.entity.Product;
+import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductStoreInventory;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantStatus;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import com.nexashop.domain.store.entity.Store;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ProductListAssembler {
+
+    private static final int LOWEST_PRICE_WINDOW_DAYS = 30;
+
+    private final ProductImageRepository productImageRepository;
+    private final ProductPriceHistoryRepository priceHistoryRepository;
+    private final ProductStoreInventoryRepository inventoryRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final VariantStoreInventoryRepository variantStoreInventoryRepository;
+    private final StoreDirectoryCache storeDirectoryCache;
+
+    public ProductListAssembler(
+            ProductImageRepository productImageRepository,
+            ProductPriceHistoryRepository priceHistoryRepository,
+            ProductStoreInventoryRepository inventoryRepository,
+            ProductVariantRepository productVariantRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository,
+            StoreDirectoryCache storeDirectoryCache
+    ) {
+        this.productImageRepository = productImageRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.productVariantRepository = productVariantRepository;
+        this.variantStoreInventoryRepository = variantStoreInventoryRepository;
+        this.storeDirectoryCache = storeDirectoryCache;
+    }
+
+    public record ProductListItem(
+            Product product,
+            ProductImage primaryImage,
+            List<StoreRef> stores,
+            BigDecimal lowestPrice,
+            boolean lowStock
+    ) {
+    }
+
+    private record StockSnapshot(
+            Map<Long, List<ProductVariant>> variantsByProductId,
+            Map<Long, List<VariantStoreInventory>> inventoriesByVariantId,
+            Map<Long, List<ProductStoreInventory>> inventoriesByProductId
+    ) {
+    }
+
+    public List<ProductListItem> assemble(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return List.of();
+        }
+        List<Long> productIds = collectIds(products);
+        StockSnapshot stock = loadStock(products, productIds);
+        Map<Long, List<StoreRef>> storesByProductId = resolveActiveStores(products, stock);
+        Map<Long, ProductImage> primaryImages = loadPrimaryImages(productIds);
+        Map<Long, BigDecimal> lowestPrices = loadLowestPrices(products);
+
+        List<ProductListItem> items = new ArrayList<>(products.size());
+        for (Product product : products) {
+            items.add(new ProductListItem(
+                    product,
+                    primaryImages.get(product.getId()),
+                    storesByProductId.getOrDefault(product.getId(), List.of()),
+                    lowestPrices.get(product.getId()),
+                    product.isLowStock()
+            ));
+        }
+        return items;
+    }
+
+    public Map<Long, List<StoreRef>> listActiveStores(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return Map.of();
+        }
+        return resolveActiveStores(products, loadStock(products, collectIds(products)));
+    }
+
+    public Set<Long> findLowStockProductIds(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return Set.of();
+        }
+        StockSnapshot stock = loadStock(products, collectIds(products));
+        Set<Long> lowStockIds = new LinkedHashSet<>();
+        for (Product product : products) {
+            if (isLowStock(product, stock)) {
+                lowStockIds.add(product.getId());
+            }
+        }
+        return lowStockIds;
+    }
+
+    private List<Long> collectIds(List<Product> products) {
+        return products.stream()
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private StockSnapshot loadStock(List<Product> products, List<Long> productIds) {
+        List<ProductVariant> variants = productVariantRepository.findByProductIds(productIds);
+        Map<Long, List<ProductVariant>> variantsByProductId = variants.stream()
+                .collect(Collectors.groupingBy(ProductVariant::getProductId));
+
+        List<Long> trackedVariantIds = variants.stream()
+                .filter(ProductVariant::isTrackStock)
+                .map(ProductVariant::getId)
+                .toList();
+        Map<Long, List<VariantStoreInventory>> inventoriesByVariantId = trackedVariantIds.isEmpty()
+                ? Map.of()
+                : variantStoreInventoryRepository.findByVariantIds(trackedVariantIds).stream()
+                        .filter(inventory -> inventory != null && inventory.getVariantId() != null)
+                        .collect(Collectors.groupingBy(VariantStoreInventory::getVariantId));
+
+        List<Long> trackedProductIds = products.stream()
+                .filter(product -> product.getId() != null
+                        && product.isTrackStock()
+                        && !variantsByProductId.containsKey(product.getId()))
+                .map(Product::getId)
+                .distinct()
+                .toList();
+        Map<Long, List<ProductStoreInventory>> inventoriesByProductId = trackedProductIds.isEmpty()
+                ? Map.of()
+                : inventoryRepository.findByProductIds(trackedProductIds).stream()
+                        .filter(inventory -> inventory != null && inventory.getProductId() != null)
+                        .collect(Collectors.groupingBy(ProductStoreInventory::getProductId));
+
+        return new StockSnapshot(variantsByProductId, inventoriesByVariantId, inventoriesByProductId);
+    }
+
+    private Map<Long, List<StoreRef>> resolveActiveStores(List<Product> products, StockSnapshot stock) {
+        Map<Long, Set<Long>> storeIdsByTenantId = new LinkedHashMap<>();
+        Set<Long> globalStockTenantIds = new LinkedHashSet<>();
+        for (Product product : products) {
+            List<ProductVariant> variants = stock.variantsByProductId().get(product.getId());
+            if (variants != null) {
+                if (variants.stream().anyMatch(this::isVisibleGlobalVariant)) {
+                    globalStockTenantIds.add(product.getTenantId());
+                }
+                for (ProductVariant variant : variants) {
+                    for (VariantStoreInventory inventory : stock.inventoriesByVariantId()
+                            .getOrDefault(variant.getId(), List.of())) {
+                        if (isVisibleVariantStoreInventory(variant, inventory)) {
+                            storeIdsByTenantId.computeIfAbsent(product.getTenantId(), key -> new LinkedHashSet<>())
+                                    .add(inventory.getStoreId());
+                        }
+                    }
+                }
+            } else if (product.isTrackStock()) {
+                for (ProductStoreInventory inventory : stock.inventoriesByProductId()
+                        .getOrDefault(product.getId(), List.of())) {
+                    if (isVisibleProductStoreInventory(inventory)) {
+                        storeIdsByTenantId.computeIfAbsent(product.getTenantId(), key -> new LinkedHashSet<>())
+                                .add(inventory.getStoreId());
+                    }
+                }
+            }
+        }
+
+        Map<Long, Store> storesById = new HashMap<>();
+        Map<Long, List<Store>> storesByTenantId = new LinkedHashMap<>();
+        for (Long tenantId : globalStockTenantIds) {
+            Map<Long, Store> directory = storeDirectoryCache.stores(tenantId);
+            storesById.putAll(directory);
+            storesByTenantId.put(tenantId, new ArrayList<>(directory.values()));
+        }
+        for (Map.Entry<Long, Set<Long>> entry : storeIdsByTenantId.entrySet()) {
+            storesById.putAll(storeDirectoryCache.resolve(entry.getKey(), entry.getValue()));
+        }
+
+        Map<Long, List<StoreRef>> storesByProductId = new HashMap<>();
+        for (Product product : products) {
+            List<StoreRef> refs = new ArrayList<>();
+            Set<Long> visibleStoreIds = new LinkedHashSet<>();
+            List<ProductVariant> variants = stock.variantsByProductId().get(product.getId());
+            if (variants != null) {
+                if (variants.stream().anyMatch(this::isVisibleGlobalVariant)) {
+                    for (Store store : storesByTenantId.getOrDefault(product.getTenantId(), List.of())) {
+                        if (store.isActive() && visibleStoreIds.add(store.getId())) {
+                            refs.add(new StoreRef(store.getId(), store.getName()));
+                        }
+                    }
+                }
+                for (ProductVariant variant : variants) {
+                    for (VariantStoreInventory inventory : stock.inventoriesByVariantId()
+                            .getOrDefault(variant.getId(), List.of())) {
+                        if (!isVisibleVariantStoreInventory(variant, inventory)) {
+                            continue;
+                        }
+                        Store store = storesById.get(inventory.getStoreId());
+                        if (store != null && store.isActive() && visibleStoreIds.add(store.getId())) {
+                            refs.add(new StoreRef(store.getId(), store.getName()));
+                        }
+                    }
+                }
+            } else if (product.isTrackStock()) {
+                for (ProductStoreInventory inventory : stock.inventoriesByProductId()
+                        .getOrDefault(product.getId(), List.of())) {
+                    if (!isVisibleProductStoreInventory(inventory)) {
+                        continue;
+                    }
+                    Store store = storesById.get(inventory.getStoreId());
+                    if (store != null && store.isActive() && store.getName() != null
+                            && visibleStoreIds.add(store.getId())) {
+                        refs.add(new StoreRef(store.getId(), store.getName()));
+                    }
+                }
+            }
+            storesByProductId.put(product.getId(), refs);
+        }
+        return storesByProductId;
+    }
+
+    private Map<Long, ProductImage> loadPrimaryImages(List<Long> productIds) {
+        Map<Long, ProductImage> primaryImages = new HashMap<>();
+        for (ProductImage image : productImageRepository.findByProductIds(productIds)) {
+            ProductImage current = primaryImages.get(image.getProductId());
+            if (current == null || (image.isPrimary() && !current.isPrimary())) {
+                primaryImages.put(image.getProductId(), image);
+            }
+        }
+        return primaryImages;
+    }
+
+    private Map<Long, BigDecimal> loadLowestPrices(List<Product> products) {
+        List<Long> productIds = products.stream()
+                .filter(Product::isShowLowestPrice)
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime since = LocalDateTime.now().minusDays(LOWEST_PRICE_WINDOW_DAYS);
+        Map<Long, BigDecimal> lowestPrices = new HashMap<>(
+                priceHistoryRepository.findLowestPricesSince(productIds, since)
+        );
+        List<Long> missingIds = productIds.stream()
+                .filter(id -> !lowestPrices.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            lowestPrices.putAll(priceHistoryRepository.findLowestPricesAllTime(missingIds));
+        }
+        return lowestPrices;
+    }
+
+    private boolean isLowStock(Product product, StockSnapshot stock) {
+        List<ProductVariant> variants = stock.variantsByProductId().get(product.getId());
+        if (variants != null) {
+            for (ProductVariant variant : variants) {
+                if (variant.isTrackStock()) {
+                    for (VariantStoreInventory inventory : stock.inventoriesByVariantId()
+                            .getOrDefault(variant.getId(), List.of())) {
+                        if (isBelowThreshold(inventory.getQuantity(), inventory.getLowStockThreshold())) {
+                            return true;
+                        }
+                    }
+                } else if (isBelowThreshold(variant.getStockQuantity(), variant.getLowStockThreshold())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (!product.isTrackStock()) {
+            return isBelowThreshold(product.getStockQuantity(), product.getLowStockThreshold());
+        }
+        for (ProductStoreInventory inventory : stock.inventoriesByProductId()
+                .getOrDefault(product.getId(), List.of())) {
+            if (isBelowThreshold(inventory.getQuantity(), inventory.getLowStockThreshold())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBelowThreshold(Integer quantity, Integer threshold) {
+        return quantity != null && threshold != null && quantity <= threshold;
+    }
+
+    private boolean hasPositiveQuantity(Integer quantity) {
+        return quantity != null && quantity > 0;
+    }
+
+    private boolean isVariantActive(ProductVariant variant) {
+        return variant != null && (variant.getStatus() == null || variant.getStatus() == VariantStatus.ACTIVE);
+    }
+
+    private boolean isVisibleVariantStoreInventory(ProductVariant variant, VariantStoreInventory inventory) {
+        return variant != null
+                && variant.isTrackStock()
+                && isVariantActive(variant)
+                && inventory != null
+                && inventory.getStoreId() != null
+                && inventory.isActiveInStore()
+                && hasPositiveQuantity(inventory.getQuantity());
+    }
+
+    private boolean isVisibleGlobalVariant(ProductVariant variant) {
+        return variant != null
+                && !variant.isTrackStock()
+                && isVariantActive(variant)
+                && hasPositiveQuantity(variant.getStockQuantity());
+    }
+
+    private boolean isVisibleProductStoreInventory(ProductStoreInventory inventory) {
+        return inventory != null
+                && inventory.getStoreId() != null
+                && inventory.isActiveInStore()
+                && hasPositiveQuantity(inventory.getQuantity());
+    }
+}
@@ -0,0 +1,55 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.domain.catalog.entity.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class ProductLowStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductListAssembler productListAssembler;
+
+    public ProductLowStockService(
+            ProductRepository productRepository,
+            ProductListAssembler productListAssembler
+    ) {
+        this.productRepository = productRepository;
+        this.productListAssembler = productListAssembler;
+    }
+
+    public void refresh(Product product) {
+        if (product == null) {
+            return;
+        }
+        refresh(List.of(product));
+    }
+
+    public int refresh(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return 0;
+        }
+        Set<Long> lowStockIds = productListAssembler.findLowStockProductIds(products);
+        List<Long> becameLow = new ArrayList<>();
+        List<Long> becameOk = new ArrayList<>();
+        for (Product product : products) {
+            if (product.getId() == null) {
+                continue;
+            }
+            boolean lowStock = lowStockIds.contains(product.getId());
+            if (product.isLowStock() == lowStock) {
+                continue;
+            }
+            product.setLowStock(lowStock);
+            if (lowStock) {
+                becameLow.add(product.getId());
+            } else {
+                becameOk.add(product.getId());
+            }
+        }
+        productRepository.updateLowStock(becameLow, true);
+        productRepository.updateLowStock(becameOk, false);
+        return becameLow.size() + becameOk.size();
+    }
+}
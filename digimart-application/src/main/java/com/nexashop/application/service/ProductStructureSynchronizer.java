@@ -0,0 +1,602 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.port.out.ProductOptionRepository;
+import com.nexashop.application.port.out.ProductOptionValueRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.VariantOptionValueRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.application.usecase.ProductUseCase.ProductOptionGroup;
+import com.nexashop.application.usecase.ProductUseCase.ProductVariantGroup;
+import com.nexashop.application.usecase.ProductUseCase.StructureChanges;
+import com.nexashop.domain.catalog.entity.ProductOption;
+import com.nexashop.domain.catalog.entity.ProductOptionValue;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantOptionValue;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import com.nexashop.domain.common.BaseEntity;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Applies a requested option/variant structure as a diff against the stored rows.
+// Incoming entries are matched by id first, then by natural key (option name,
+// option value, variant SKU, variant option-value combination); only the rows
+// that differ are written. Deletes run before updates and inserts so that renamed
+// or re-used natural keys never collide with the unique constraints; kept rows that
+// trade keys with each other (swaps, rotations) go through a temporary key first.
+// Callers run a sync inside one transaction, so updates are flushed explicitly to
+// keep that order (Hibernate would otherwise issue inserts before updates).
+public class ProductStructureSynchronizer {
+
+    private static final String PARKED_KEY_PREFIX = "__sync_";
+
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductOptionValueRepository productOptionValueRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final VariantOptionValueRepository variantOptionValueRepository;
+    private final VariantStoreInventoryRepository variantStoreInventoryRepository;
+
+    public ProductStructureSynchronizer(
+            ProductOptionRepository productOptionRepository,
+            ProductOptionValueRepository productOptionValueRepository,
+            ProductVariantRepository productVariantRepository,
+            VariantOptionValueRepository variantOptionValueRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository
+    ) {
+        this.productOptionRepository = productOptionRepository;
+        this.productOptionValueRepository = productOptionValueRepository;
+        this.productVariantRepository = productVariantRepository;
+        this.variantOptionValueRepository = variantOptionValueRepository;
+        this.variantStoreInventoryRepository = variantStoreInventoryRepository;
+    }
+
+    public record OptionsResult(List<ProductOptionGroup> options, StructureChanges changes, boolean variantsRemoved) {
+    }
+
+    public record VariantsResult(List<ProductVariantGroup> variants, StructureChanges changes) {
+    }
+
+    public OptionsResult syncOptions(Long productId, List<ProductOptionGroup> desired) {
+        ChangeCounter counter = new ChangeCounter();
+        List<ProductOption> existingOptions = productOptionRepository.findByProductId(productId);
+        Map<Long, List<ProductOptionValue>> existingValuesByOption = existingOptions.isEmpty()
+                ? Map.of()
+                : productOptionValueRepository.findByOptionIds(ids(existingOptions)).stream()
+                        .collect(Collectors.groupingBy(ProductOptionValue::getOptionId));
+
+        Matcher<ProductOption> optionMatcher = new Matcher<>(existingOptions, List.of(option -> key(option.getName())));
+        Map<Long, String> storedOptionKeys = storedKeys(existingOptions, ProductStructureSynchronizer::optionKey);
+        Map<Long, String> storedValueKeys = new HashMap<>();
+        for (List<ProductOptionValue> values : existingValuesByOption.values()) {
+            storedValueKeys.putAll(storedKeys(values, ProductStructureSynchronizer::valueKey));
+        }
+        List<ProductOption> options = new ArrayList<>(desired.size());
+        List<ProductOption> optionsToUpdate = new ArrayList<>();
+        List<Integer> insertPositions = new ArrayList<>();
+        List<ProductOption> optionsToInsert = new ArrayList<>();
+        for (ProductOptionGroup group : desired) {
+            ProductOption wanted = group.option();
+            ProductOption option = optionMatcher.take(wanted.getId(), key(wanted.getName()));
+            if (option == null) {
+                wanted.setId(null);
+                insertPositions.add(options.size());
+                optionsToInsert.add(wanted);
+                options.add(wanted);
+                continue;
+            }
+            boolean changed = assign(option.getName(), wanted.getName(), option::setName);
+            changed |= assign(option.getType(), wanted.getType(), option::setType);
+            changed |= assign(option.isRequired(), wanted.isRequired(), option::setRequired);
+            changed |= assign(option.isUsedForVariants(), wanted.isUsedForVariants(), option::setUsedForVariants);
+            changed |= assign(option.getDisplayOrder(), wanted.getDisplayOrder(), option::setDisplayOrder);
+            if (changed) {
+                optionsToUpdate.add(option);
+            }
+            options.add(option);
+        }
+
+        List<ProductOption> removedOptions = optionMatcher.remaining();
+        Set<Long> removedValueIds = new HashSet<>();
+        for (ProductOption removed : removedOptions) {
+            for (ProductOptionValue value : existingValuesByOption.getOrDefault(removed.getId(), List.of())) {
+                removedValueIds.add(value.getId());
+            }
+        }
+        counter.deleted += removedValueIds.size() + removedOptions.size();
+        productOptionValueRepository.deleteByOptionIds(ids(removedOptions));
+        productOptionRepository.deleteByIdIn(ids(removedOptions));
+        storedOptionKeys.keySet().removeAll(ids(removedOptions));
+        storedValueKeys.keySet().removeAll(removedValueIds);
+        if (!optionsToUpdate.isEmpty()) {
+            parkMovedKeys(optionsToUpdate, storedOptionKeys, ProductStructureSynchronizer::optionKey,
+                    ProductOption::getName, ProductOption::setName, productOptionRepository::saveAllAndFlush);
+            productOptionRepository.saveAllAndFlush(optionsToUpdate);
+            counter.updated += optionsToUpdate.size();
+        }
+        if (!optionsToInsert.isEmpty()) {
+            List<ProductOption> inserted = productOptionRepository.saveAll(optionsToInsert);
+            for (int i = 0; i < inserted.size(); i++) {
+                options.set(insertPositions.get(i), inserted.get(i));
+            }
+            counter.inserted += inserted.size();
+        }
+
+        List<ProductOptionValue> valuesToDelete = new ArrayList<>();
+        List<ProductOptionValue> valuesToUpdate = new ArrayList<>();
+        List<ProductOptionValue> valuesToInsert = new ArrayList<>();
+        List<List<ProductOptionValue>> valuesByPosition = new ArrayList<>(options.size());
+        for (int i = 0; i < options.size(); i++) {
+            ProductOption option = options.get(i);
+            Matcher<ProductOptionValue> valueMatcher = new Matcher<>(
+                    existingValuesByOption.getOrDefault(option.getId(), List.of()),
+                    List.of(value -> key(value.getValue()))
+            );
+            List<ProductOptionValue> values = new ArrayList<>();
+            for (ProductOptionValue wanted : desired.get(i).values()) {
+                ProductOptionValue value = valueMatcher.take(wanted.getId(), key(wanted.getValue()));
+                if (value == null) {
+                    wanted.setId(null);
+                    wanted.setOptionId(option.getId());
+                    valuesToInsert.add(wanted);
+                    values.add(wanted);
+                    continue;
+                }
+                boolean changed = assign(value.getValue(), wanted.getValue(), value::setValue);
+                changed |= assign(value.getHexColor(), wanted.getHexColor(), value::setHexColor);
+                changed |= assign(value.getDisplayOrder(), wanted.getDisplayOrder(), value::setDisplayOrder);
+                if (changed) {
+                    valuesToUpdate.add(value);
+                }
+                values.add(value);
+            }
+            valuesToDelete.addAll(valueMatcher.remaining());
+            valuesByPosition.add(values);
+        }
+        removedValueIds.addAll(ids(valuesToDelete));
+        productOptionValueRepository.deleteByIdIn(ids(valuesToDelete));
+        storedValueKeys.keySet().removeAll(ids(valuesToDelete));
+        counter.deleted += valuesToDelete.size();
+        if (!valuesToUpdate.isEmpty()) {
+            parkMovedKeys(valuesToUpdate, storedValueKeys, ProductStructureSynchronizer::valueKey,
+                    ProductOptionValue::getValue, ProductOptionValue::setValue,
+                    productOptionValueRepository::saveAllAndFlush);
+            productOptionValueRepository.saveAllAndFlush(valuesToUpdate);
+            counter.updated += valuesToUpdate.size();
+        }
+        Map<ProductOptionValue, ProductOptionValue> insertedValues = new HashMap<>();
+        if (!valuesToInsert.isEmpty()) {
+            List<ProductOptionValue> inserted = productOptionValueRepository.saveAll(valuesToInsert);
+            for (int i = 0; i < inserted.size(); i++) {
+                insertedValues.put(valuesToInsert.get(i), inserted.get(i));
+            }
+            counter.inserted += inserted.size();
+        }
+
+        List<ProductOptionGroup> groups = new ArrayList<>(options.size());
+        Map<Long, Long> optionIdByValueId = new HashMap<>();
+        for (int i = 0; i < options.size(); i++) {
+            List<ProductOptionValue> values = valuesByPosition.get(i).stream()
+                    .map(value -> insertedValues.getOrDefault(value, value))
+                    .toList();
+            for (ProductOptionValue value : values) {
+                optionIdByValueId.put(value.getId(), value.getOptionId());
+            }
+            groups.add(new ProductOptionGroup(options.get(i), values));
+        }
+        Set<Long> requiredOptionIds = options.stream()
+                .filter(ProductOption::isUsedForVariants)
+                .map(ProductOption::getId)
+                .collect(Collectors.toSet());
+        int removedVariants = pruneVariants(productId, removedValueIds, optionIdByValueId, requiredOptionIds, counter);
+        return new OptionsResult(groups, counter.toChanges(), removedVariants > 0);
+    }
+
+    // Variants pointing at a removed value, or missing one of the variant options,
+    // no longer describe a valid combination and are dropped with their rows.
+    private int pruneVariants(
+            Long productId,
+            Set<Long> removedValueIds,
+            Map<Long, Long> optionIdByValueId,
+            Set<Long> requiredOptionIds,
+            ChangeCounter counter
+    ) {
+        List<ProductVariant> variants = productVariantRepository.findByProductId(productId);
+        if (variants.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<VariantOptionValue>> linksByVariant = variantOptionValueRepository.findByVariantIds(ids(variants))
+                .stream()
+                .collect(Collectors.groupingBy(VariantOptionValue::getVariantId));
+        List<ProductVariant> invalid = new ArrayList<>();
+        for (ProductVariant variant : variants) {
+            List<VariantOptionValue> links = linksByVariant.getOrDefault(variant.getId(), List.of());
+            Set<Long> coveredOptionIds = new HashSet<>();
+            boolean valid = true;
+            for (VariantOptionValue link : links) {
+                if (removedValueIds.contains(link.getOptionValueId())) {
+                    valid = false;
+                    break;
+                }
+                Long optionId = optionIdByValueId.get(link.getOptionValueId());
+                if (optionId != null) {
+                    coveredOptionIds.add(optionId);
+                }
+            }
+            if (!valid || !coveredOptionIds.containsAll(requiredOptionIds)) {
+                invalid.add(variant);
+            }
+        }
+        deleteVariants(invalid, linksByVariant, counter);
+        return invalid.size();
+    }
+
+    public VariantsResult syncVariants(Long productId, List<ProductVariantGroup> desired, Long updatedBy) {
+        ChangeCounter counter = new ChangeCounter();
+        List<ProductVariant> existing = productVariantRepository.findByProductId(productId);
+        List<Long> existingIds = ids(existing);
+        Map<Long, List<VariantOptionValue>> linksByVariant = existingIds.isEmpty()
+                ? Map.of()
+                : variantOptionValueRepository.findByVariantIds(existingIds).stream()
+                        .collect(Collectors.groupingBy(VariantOptionValue::getVariantId));
+        Map<Long, List<VariantStoreInventory>> inventoriesByVariant = existingIds.isEmpty()
+                ? Map.of()
+                : variantStoreInventoryRepository.findByVariantIds(existingIds).stream()
+                        .collect(Collectors.groupingBy(VariantStoreInventory::getVariantId));
+
+        Map<Long, String> storedSkus = storedKeys(existing, variant -> key(variant.getSku()));
+        Matcher<ProductVariant> matcher = new Matcher<>(existing, List.of(
+                variant -> key(variant.getSku()),
+                variant -> combinationKey(linksByVariant.getOrDefault(variant.getId(), List.of()).stream()
+                        .map(VariantOptionValue::getOptionValueId)
+                        .toList())
+        ));
+        List<ProductVariant> variants = new ArrayList<>(desired.size());
+        List<ProductVariant> variantsToUpdate = new ArrayList<>();
+        List<Integer> insertPositions = new ArrayList<>();
+        List<ProductVariant> variantsToInsert = new ArrayList<>();
+        for (ProductVariantGroup group : desired) {
+            ProductVariant wanted = group.variant();
+            ProductVariant variant = matcher.take(
+                    wanted.getId(),
+                    key(wanted.getSku()),
+                    combinationKey(group.optionValueIds())
+            );
+            if (variant == null) {
+                wanted.setId(null);
+                insertPositions.add(variants.size());
+                variantsToInsert.add(wanted);
+                variants.add(wanted);
+                continue;
+            }
+            if (applyVariant(variant, wanted)) {
+                variant.setUpdatedBy(updatedBy);
+                variantsToUpdate.add(variant);
+            }
+            variants.add(variant);
+        }
+
+        List<ProductVariant> removedVariants = matcher.remaining();
+        deleteVariants(removedVariants, linksByVariant, counter);
+        storedSkus.keySet().removeAll(ids(removedVariants));
+        if (!variantsToUpdate.isEmpty()) {
+            parkMovedKeys(variantsToUpdate, storedSkus, variant -> key(variant.getSku()),
+                    ProductVariant::getSku, ProductVariant::setSku, productVariantRepository::saveAllAndFlush);
+            productVariantRepository.saveAllAndFlush(variantsToUpdate);
+            counter.updated += variantsToUpdate.size();
+        }
+        if (!variantsToInsert.isEmpty()) {
+            List<ProductVariant> inserted = productVariantRepository.saveAll(variantsToInsert);
+            for (int i = 0; i < inserted.size(); i++) {
+                variants.set(insertPositions.get(i), inserted.get(i));
+            }
+            counter.inserted += inserted.size();
+        }
+
+        List<Long> linkIdsToDelete = new ArrayList<>();
+        List<VariantOptionValue> linksToInsert = new ArrayList<>();
+        List<Long> inventoryIdsToDelete = new ArrayList<>();
+        List<VariantStoreInventory> inventoriesToUpdate = new ArrayList<>();
+        List<VariantStoreInventory> inventoriesToInsert = new ArrayList<>();
+        List<Map<Long, VariantStoreInventory>> inventoriesByPosition = new ArrayList<>(variants.size());
+        for (int i = 0; i < variants.size(); i++) {
+            ProductVariant variant = variants.get(i);
+            ProductVariantGroup group = desired.get(i);
+
+            Set<Long> wantedValueIds = new LinkedHashSet<>(
+                    group.optionValueIds() == null ? List.of() : group.optionValueIds()
+            );
+            Set<Long> keptValueIds = new HashSet<>();
+            for (VariantOptionValue link : linksByVariant.getOrDefault(variant.getId(), List.of())) {
+                if (wantedValueIds.contains(link.getOptionValueId()) && keptValueIds.add(link.getOptionValueId())) {
+                    continue;
+                }
+                linkIdsToDelete.add(link.getId());
+            }
+            for (Long optionValueId : wantedValueIds) {
+                if (keptValueIds.contains(optionValueId)) {
+                    continue;
+                }
+                VariantOptionValue link = new VariantOptionValue();
+                link.setTenantId(variant.getTenantId());
+                link.setVariantId(variant.getId());
+                link.setOptionValueId(optionValueId);
+                linksToInsert.add(link);
+            }
+
+            Map<Long, VariantStoreInventory> wantedByStore = new LinkedHashMap<>();
+            if (variant.isTrackStock() && group.inventories() != null) {
+                for (VariantStoreInventory inventory : group.inventories()) {
+                    wantedByStore.put(inventory.getStoreId(), inventory);
+                }
+            }
+            Map<Long, VariantStoreInventory> finalByStore = new LinkedHashMap<>();
+            for (VariantStoreInventory inventory : inventoriesByVariant.getOrDefault(variant.getId(), List.of())) {
+                VariantStoreInventory wanted = wantedByStore.get(inventory.getStoreId());
+                if (wanted == null || finalByStore.containsKey(inventory.getStoreId())) {
+                    inventoryIdsToDelete.add(inventory.getId());
+                    continue;
+                }
+                boolean changed = assign(inventory.getQuantity(), wanted.getQuantity(), inventory::setQuantity);
+                changed |= assign(inventory.getLowStockThreshold(), wanted.getLowStockThreshold(),
+                        inventory::setLowStockThreshold);
+                changed |= assign(inventory.isActiveInStore(), wanted.isActiveInStore(), inventory::setActiveInStore);
+                if (changed) {
+                    inventoriesToUpdate.add(inventory);
+                }
+                finalByStore.put(inventory.getStoreId(), inventory);
+            }
+            for (VariantStoreInventory wanted : wantedByStore.values()) {
+                if (finalByStore.containsKey(wanted.getStoreId())) {
+                    continue;
+                }
+                wanted.setId(null);
+                wanted.setVariantId(variant.getId());
+                inventoriesToInsert.add(wanted);
+                finalByStore.put(wanted.getStoreId(), wanted);
+            }
+            inventoriesByPosition.add(finalByStore);
+        }
+
+        variantOptionValueRepository.deleteByIdIn(linkIdsToDelete);
+        variantStoreInventoryRepository.deleteByIdIn(inventoryIdsToDelete);
+        counter.deleted += linkIdsToDelete.size() + inventoryIdsToDelete.size();
+        if (!inventoriesToUpdate.isEmpty()) {
+            variantStoreInventoryRepository.saveAllAndFlush(inventoriesToUpdate);
+            counter.updated += inventoriesToUpdate.size();
+        }
+        if (!linksToInsert.isEmpty()) {
+            variantOptionValueRepository.saveAll(linksToInsert);
+            counter.inserted += linksToInsert.size();
+        }
+        Map<VariantStoreInventory, VariantStoreInventory> insertedInventories = new HashMap<>();
+        if (!inventoriesToInsert.isEmpty()) {
+            List<VariantStoreInventory> inserted = variantStoreInventoryRepository.saveAll(inventoriesToInsert);
+            for (int i = 0; i < inserted.size(); i++) {
+                insertedInventories.put(inventoriesToInsert.get(i), inserted.get(i));
+            }
+            counter.inserted += inserted.size();
+        }
+
+        List<ProductVariantGroup> groups = new ArrayList<>(variants.size());
+        for (int i = 0; i < variants.size(); i++) {
+            List<Long> optionValueIds = desired.get(i).optionValueIds() == null
+                    ? List.of()
+                    : List.copyOf(new LinkedHashSet<>(desired.get(i).optionValueIds()));
+            List<VariantStoreInventory> inventories = inventoriesByPosition.get(i).values().stream()
+                    .map(inventory -> insertedInventories.getOrDefault(inventory, inventory))
+                    .toList();
+            groups.add(new ProductVariantGroup(variants.get(i), optionValueIds, inventories));
+        }
+        return new VariantsResult(groups, counter.toChanges());
+    }
+
+    private boolean applyVariant(ProductVariant variant, ProductVariant wanted) {
+        boolean changed = assign(variant.getSku(), wanted.getSku(), variant::setSku);
+        changed |= assignAmount(variant.getPriceOverride(), wanted.getPriceOverride(), variant::setPriceOverride);
+        changed |= assignAmount(variant.getInitialPriceOverride(), wanted.getInitialPriceOverride(),
+                variant::setInitialPriceOverride);
+        changed |= assignAmount(variant.getFinalPriceOverride(), wanted.getFinalPriceOverride(),
+                variant::setFinalPriceOverride);
+        changed |= assignAmount(variant.getCostPriceOverride(), wanted.getCostPriceOverride(),
+                variant::setCostPriceOverride);
+        changed |= assignAmount(variant.getShippingPriceOverride(), wanted.getShippingPriceOverride(),
+                variant::setShippingPriceOverride);
+        changed |= assignAmount(variant.getShippingCostPriceOverride(), wanted.getShippingCostPriceOverride(),
+                variant::setShippingCostPriceOverride);
+        changed |= assign(variant.isTrackStock(), wanted.isTrackStock(), variant::setTrackStock);
+        changed |= assign(variant.getStockQuantity(), wanted.getStockQuantity(), variant::setStockQuantity);
+        changed |= assign(variant.getLowStockThreshold(), wanted.getLowStockThreshold(), variant::setLowStockThreshold);
+        changed |= assign(variant.getStatus(), wanted.getStatus(), variant::setStatus);
+        changed |= assign(variant.isDefaultVariant(), wanted.isDefaultVariant(), variant::setDefaultVariant);
+        changed |= assign(variant.getContinueSellingOverride(), wanted.getContinueSellingOverride(),
+                variant::setContinueSellingOverride);
+        changed |= assign(variant.getProductImageId(), wanted.getProductImageId(), variant::setProductImageId);
+        return changed;
+    }
+
+    private void deleteVariants(
+            List<ProductVariant> variants,
+            Map<Long, List<VariantOptionValue>> linksByVariant,
+            ChangeCounter counter
+    ) {
+        if (variants.isEmpty()) {
+            return;
+        }
+        List<Long> variantIds = ids(variants);
+        List<VariantStoreInventory> inventories = variantStoreInventoryRepository.findByVariantIds(variantIds);
+        int links = 0;
+        for (Long variantId : variantIds) {
+            links += linksByVariant.getOrDefault(variantId, List.of()).size();
+        }
+        variantStoreInventoryRepository.deleteByVariantIds(variantIds);
+        variantOptionValueRepository.deleteByVariantIds(variantIds);
+        productVariantRepository.deleteByIdIn(variantIds);
+        counter.deleted += inventories.size() + links + variantIds.size();
+    }
+
+    // When an updated row takes over a key still held by another kept row, every row
+    // whose key moves is first written under a temporary key, then the caller writes
+    // the final values. Keys left behind by deleted rows are free already.
+    private static <T extends BaseEntity> void parkMovedKeys(
+            List<T> updates,
+            Map<Long, String> storedKeys,
+            Function<T, String> naturalKey,
+            Function<T, String> column,
+            BiConsumer<T, String> setColumn,
+            Consumer<List<T>> write
+    ) {
+        Set<String> heldKeys = new HashSet<>(storedKeys.values());
+        List<T> moved = new ArrayList<>();
+        boolean collides = false;
+        for (T row : updates) {
+            String wanted = naturalKey.apply(row);
+            if (wanted == null || wanted.equals(storedKeys.get(row.getId()))) {
+                continue;
+            }
+            moved.add(row);
+            collides |= heldKeys.contains(wanted);
+        }
+        if (!collides) {
+            return;
+        }
+        List<String> finalValues = new ArrayList<>(moved.size());
+        for (T row : moved) {
+            finalValues.add(column.apply(row));
+            setColumn.accept(row, PARKED_KEY_PREFIX + row.getId());
+        }
+        write.accept(moved);
+        for (int i = 0; i < moved.size(); i++) {
+            setColumn.accept(moved.get(i), finalValues.get(i));
+        }
+    }
+
+    private static <T extends BaseEntity> Map<Long, String> storedKeys(List<T> rows, Function<T, String> naturalKey) {
+        Map<Long, String> keys = new HashMap<>();
+        for (T row : rows) {
+            String key = naturalKey.apply(row);
+            if (row.getId() != null && key != null) {
+                keys.put(row.getId(), key);
+            }
+        }
+        return keys;
+    }
+
+    private static String optionKey(ProductOption option) {
+        return key(option.getName());
+    }
+
+    // Option values are unique per option, so the key carries the option id.
+    private static String valueKey(ProductOptionValue value) {
+        String key = key(value.getValue());
+        return key == null ? null : value.getOptionId() + ":" + key;
+    }
+
+    private static <V> boolean assign(V current, V next, Consumer<V> setter) {
+        if (Objects.equals(current, next)) {
+            return false;
+        }
+        setter.accept(next);
+        return true;
+    }
+
+    private static boolean assignAmount(BigDecimal current, BigDecimal next, Consumer<BigDecimal> setter) {
+        if (current != null && next != null && current.compareTo(next) == 0) {
+            return false;
+        }
+        return assign(current, next, setter);
+    }
+
+    private static String key(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static String combinationKey(Collection<Long> optionValueIds) {
+        if (optionValueIds == null || optionValueIds.isEmpty()) {
+            return null;
+        }
+        return optionValueIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    private static List<Long> ids(Collection<? extends BaseEntity> entities) {
+        return entities.stream()
+                .map(BaseEntity::getId)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static final class Matcher<T extends BaseEntity> {
+
+        private final Map<Long, T> byId = new LinkedHashMap<>();
+        private final List<Function<T, String>> keyFunctions;
+        private final List<Map<String, T>> byKey;
+
+        private Matcher(List<T> existing, List<Function<T, String>> keyFunctions) {
+            this.keyFunctions = keyFunctions;
+            this.byKey = new ArrayList<>(keyFunctions.size());
+            for (int k = 0; k < keyFunctions.size(); k++) {
+                byKey.add(new HashMap<>());
+            }
+            for (T entity : existing) {
+                byId.put(entity.getId(), entity);
+                for (int k = 0; k < keyFunctions.size(); k++) {
+                    String key = keyFunctions.get(k).apply(entity);
+                    if (key != null) {
+                        byKey.get(k).putIfAbsent(key, entity);
+                    }
+                }
+            }
+        }
+
+        private T take(Long id, String... keys) {
+            T match = id == null ? null : byId.get(id);
+            for (int k = 0; match == null && k < keys.length; k++) {
+                match = keys[k] == null ? null : byKey.get(k).get(keys[k]);
+            }
+            if (match == null) {
+                return null;
+            }
+            byId.remove(match.getId());
+            for (int k = 0; k < keyFunctions.size(); k++) {
+                byKey.get(k).remove(keyFunctions.get(k).apply(match), match);
+            }
+            return match;
+        }
+
+        private List<T> remaining() {
+            return new ArrayList<>(byId.values());
+        }
+    }
+
+    private static final class ChangeCounter {
+
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        private StructureChanges toChanges() {
+            return new StructureChanges(inserted, updated, deleted);
+        }
+    }
+}
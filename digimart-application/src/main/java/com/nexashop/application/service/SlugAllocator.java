@@ -0,0 +1,76 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.exception.ConflictException;
+import com.nexashop.application.exception.DuplicateSlugException;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Picks the first free "base", "base-2", "base-3", ... from the slugs already
+// sharing the base prefix, so a single prefix query replaces one lookup per
+// candidate. The (tenant_id, slug) unique constraint stays the source of truth:
+// a save that loses a race reports DuplicateSlugException and is retried with
+// a freshly loaded prefix set.
+public final class SlugAllocator {
+
+    public static final int MAX_ATTEMPTS = 5;
+
+    private SlugAllocator() {
+    }
+
+    public static <T> T saveWithUniqueSlug(
+            String baseSlug,
+            Supplier<Collection<String>> takenSlugs,
+            Function<String, T> save
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            String slug = next(baseSlug, takenSlugs.get());
+            try {
+                return save.apply(slug);
+            } catch (DuplicateSlugException ex) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new ConflictException("Unable to generate unique slug");
+                }
+            }
+        }
+    }
+
+    public static String next(String baseSlug, Collection<String> takenSlugs) {
+        BitSet used = new BitSet();
+        String prefix = baseSlug + "-";
+        for (String taken : takenSlugs) {
+            if (taken == null) {
+                continue;
+            }
+            if (taken.equals(baseSlug)) {
+                used.set(1);
+            } else if (taken.startsWith(prefix)) {
+                int suffix = parseSuffix(taken, prefix.length());
+                if (suffix >= 2) {
+                    used.set(suffix);
+                }
+            }
+        }
+        if (!used.get(1)) {
+            return baseSlug;
+        }
+        return prefix + used.nextClearBit(2);
+    }
+
+    private static int parseSuffix(String slug, int start) {
+        int length = slug.length() - start;
+        if (length < 1 || length > 9 || slug.charAt(start) == '0') {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
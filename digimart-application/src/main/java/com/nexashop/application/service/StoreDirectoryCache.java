@@ -0,0 +1,80 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.common.TtlCache;
+import com.nexashop.application.port.out.StoreRepository;
+import com.nexashop.domain.store.entity.Store;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public class StoreDirectoryCache {
+
+    private final StoreRepository storeRepository;
+    private final TtlCache<Long, Map<Long, Store>> storesByTenant;
+    private final Function<Long, Map<Long, Store>> directoryLoader = this::loadDirectory;
+
+    public StoreDirectoryCache(StoreRepository storeRepository, Duration ttl, int maxTenants) {
+        this.storeRepository = storeRepository;
+        this.storesByTenant = new TtlCache<>(ttl, maxTenants);
+    }
+
+    public Map<Long, Store> stores(Long tenantId) {
+        if (tenantId == null) {
+            return Map.of();
+        }
+        return storesByTenant.get(tenantId, directoryLoader);
+    }
+
+    // Ids missing from the tenant directory are fetched in one query, so stores of
+    // another tenant still come back and callers can reject them explicitly.
+    public Map<Long, Store> resolve(Long tenantId, Collection<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Store> directory = stores(tenantId);
+        Map<Long, Store> resolved = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long storeId : storeIds) {
+            if (storeId == null || resolved.containsKey(storeId)) {
+                continue;
+            }
+            Store store = directory.get(storeId);
+            if (store != null) {
+                resolved.put(storeId, store);
+            } else {
+                missing.add(storeId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Store store : storeRepository.findByIdIn(new ArrayList<>(missing))) {
+                resolved.put(store.getId(), store);
+            }
+        }
+        return resolved;
+    }
+
+    public void invalidate(Long tenantId) {
+        if (tenantId != null) {
+            storesByTenant.invalidate(tenantId);
+        }
+    }
+
+    public int size() {
+        return storesByTenant.size();
+    }
+
+    private Map<Long, Store> loadDirectory(Long tenantId) {
+        Map<Long, Store> directory = new LinkedHashMap<>();
+        for (Store store : storeRepository.findByTenantId(tenantId)) {
+            directory.put(store.getId(), store);
+        }
+        return Collections.unmodifiableMap(directory);
+    }
+}
@@ -0,0 +1,154 @@
+package com.nexashop.application.service;
+
+import com.nexashop.application.port.out.ProductStoreInventoryRepository;
+import com.nexashop.application.port.out.ProductVariantRepository;
+import com.nexashop.application.port.out.StoreProductVisibilityRepository;
+import com.nexashop.application.port.out.VariantStoreInventoryRepository;
+import com.nexashop.domain.catalog.entity.Product;
+import com.nexashop.domain.catalog.entity.ProductStoreInventory;
+import com.nexashop.domain.catalog.entity.ProductVariant;
+import com.nexashop.domain.catalog.entity.VariantStatus;
+import com.nexashop.domain.catalog.entity.VariantStoreInventory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class StoreProductVisibilityService {
+
+    private final ProductVariantRepository productVariantRepository;
+    private final VariantStoreInventoryRepository variantStoreInventoryRepository;
+    private final ProductStoreInventoryRepository inventoryRepository;
+    private final StoreProductVisibilityRepository visibilityRepository;
+
+    public StoreProductVisibilityService(
+            ProductVariantRepository productVariantRepository,
+            VariantStoreInventoryRepository variantStoreInventoryRepository,
+            ProductStoreInventoryRepository inventoryRepository,
+            StoreProductVisibilityRepository visibilityRepository
+    ) {
+        this.productVariantRepository = productVariantRepository;
+        this.variantStoreInventoryRepository = variantStoreInventoryRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.visibilityRepository = visibilityRepository;
+    }
+
+    public void refresh(Product product) {
+        if (product == null) {
+            return;
+        }
+        refresh(List.of(product));
+    }
+
+    public int refresh(List<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return 0;
+        }
+        List<Product> persisted = products.stream()
+                .filter(product -> product.getId() != null && product.getTenantId() != null)
+                .toList();
+        if (persisted.isEmpty()) {
+            return 0;
+        }
+        List<Long> productIds = persisted.stream().map(Product::getId).toList();
+        Map<Long, List<ProductVariant>> variantsByProductId = productVariantRepository.findByProductIds(productIds)
+                .stream()
+                .collect(Collectors.groupingBy(ProductVariant::getProductId));
+
+        Map<Long, ProductVariant> trackedVariantById = new HashMap<>();
+        for (List<ProductVariant> variants : variantsByProductId.values()) {
+            for (ProductVariant variant : variants) {
+                if (variant.isTrackStock()) {
+                    trackedVariantById.put(variant.getId(), variant);
+                }
+            }
+        }
+        Map<Long, Set<Long>> storeIdsByProductId = new HashMap<>();
+        if (!trackedVariantById.isEmpty()) {
+            List<VariantStoreInventory> inventories = variantStoreInventoryRepository.findByVariantIds(
+                    new ArrayList<>(trackedVariantById.keySet())
+            );
+            for (VariantStoreInventory inventory : inventories) {
+                ProductVariant variant = trackedVariantById.get(inventory.getVariantId());
+                if (isVisibleVariantStoreInventory(variant, inventory)) {
+                    storeIdsByProductId.computeIfAbsent(variant.getProductId(), key -> new LinkedHashSet<>())
+                            .add(inventory.getStoreId());
+                }
+            }
+        }
+        List<Long> trackedProductIds = persisted.stream()
+                .filter(product -> product.isTrackStock() && !variantsByProductId.containsKey(product.getId()))
+                .map(Product::getId)
+                .toList();
+        if (!trackedProductIds.isEmpty()) {
+            for (ProductStoreInventory inventory : inventoryRepository.findByProductIds(trackedProductIds)) {
+                if (isVisibleProductStoreInventory(inventory)) {
+                    storeIdsByProductId.computeIfAbsent(inventory.getProductId(), key -> new LinkedHashSet<>())
+                            .add(inventory.getStoreId());
+                }
+            }
+        }
+
+        Map<Long, List<Long>> productIdsByTenant = new LinkedHashMap<>();
+        Map<Long, List<StoreProductVisibilityRepository.Entry>> entriesByTenant = new LinkedHashMap<>();
+        for (Product product : persisted) {
+            productIdsByTenant.computeIfAbsent(product.getTenantId(), key -> new ArrayList<>()).add(product.getId());
+            List<StoreProductVisibilityRepository.Entry> entries =
+                    entriesByTenant.computeIfAbsent(product.getTenantId(), key -> new ArrayList<>());
+            List<ProductVariant> variants = variantsByProductId.get(product.getId());
+            boolean visibleEverywhere = variants == null
+                    ? !product.isTrackStock()
+                    : variants.stream().anyMatch(this::isVisibleGlobalVariant);
+            if (visibleEverywhere) {
+                entries.add(new StoreProductVisibilityRepository.Entry(product.getId(), null));
+                continue;
+            }
+            for (Long storeId : storeIdsByProductId.getOrDefault(product.getId(), Set.of())) {
+                entries.add(new StoreProductVisibilityRepository.Entry(product.getId(), storeId));
+            }
+        }
+        int written = 0;
+        for (Map.Entry<Long, List<Long>> tenant : productIdsByTenant.entrySet()) {
+            List<StoreProductVisibilityRepository.Entry> entries = entriesByTenant.get(tenant.getKey());
+            visibilityRepository.replaceForProducts(tenant.getKey(), tenant.getValue(), entries);
+            written += entries.size();
+        }
+        return written;
+    }
+
+    private boolean hasPositiveQuantity(Integer quantity) {
+        return quantity != null && quantity > 0;
+    }
+
+    private boolean isVariantActive(ProductVariant variant) {
+        return variant != null && (variant.getStatus() == null || variant.getStatus() == VariantStatus.ACTIVE);
+    }
+
+    private boolean isVisibleVariantStoreInventory(ProductVariant variant, VariantStoreInventory inventory) {
+        return variant != null
+                && variant.isTrackStock()
+                && isVariantActive(variant)
+                && inventory != null
+                && inventory.getStoreId() != null
+                && inventory.isActiveInStore()
+                && hasPositiveQuantity(inventory.getQuantity());
+    }
+
+    private boolean isVisibleGlobalVariant(ProductVariant variant) {
+        return variant != null
+                && !variant.isTrackStock()
+                && isVariantActive(variant)
+                && hasPositiveQuantity(variant.getStockQuantity());
+    }
+
+    private boolean isVisibleProductStoreInventory(ProductStoreInventory inventory) {
+        return inventory != null
+                && inventory.getStoreId() != null
+                && inventory.isActiveInStore()
+                && hasPositiveQuantity(inventory.getQuantity());
+    }
+}
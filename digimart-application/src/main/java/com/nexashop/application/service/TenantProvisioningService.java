@@ -1,5 +1,6 @@
 package com.nexashop.application.service;
 
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.PlatformConfigRepository;
 import com.nexashop.application.port.out.SubscriptionHistoryRepository;
 import com.nexashop.application.port.out.SubscriptionPlanRepository;
@@ -28,6 +29,8 @@ public class TenantProvisioningService {
     private final WalletTransactionRepository transactionRepository;
     private final TenantSubscriptionRepository subscriptionRepository;
     private final SubscriptionHistoryRepository historyRepository;
+    private final EntitlementService entitlementService;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public TenantProvisioningService(
             PlatformConfigRepository configRepository,
@@ -35,7 +38,9 @@ public class TenantProvisioningService {
             TenantWalletRepository walletRepository,
             WalletTransactionRepository transactionRepository,
             TenantSubscriptionRepository subscriptionRepository,
-            SubscriptionHistoryRepository historyRepository
+            SubscriptionHistoryRepository historyRepository,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.configRepository = configRepository;
         this.planRepository = planRepository;
@@ -43,6 +48,8 @@ public class TenantProvisioningService {
         this.transactionRepository = transactionRepository;
         this.subscriptionRepository = subscriptionRepository;
         this.historyRepository = historyRepository;
+        this.entitlementService = entitlementService;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public void provisionTenant(Long tenantId) {
@@ -112,6 +119,7 @@ public class TenantProvisioningService {
         history.setAction(SubscriptionAction.CREATED);
         history.setPerformedAt(LocalDateTime.now());
         historyRepository.save(history);
+        afterCommitExecutor.afterCommit(() -> entitlementService.invalidateTenant(tenantId));
     }
 
     private LocalDateTime calculateEndDate(LocalDateTime start, BillingCycle cycle) {
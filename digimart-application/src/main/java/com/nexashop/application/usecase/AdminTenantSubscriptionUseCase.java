@@ -1,11 +1,13 @@
 package com.nexashop.application.usecase;
 
 import com.nexashop.application.exception.*;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.SubscriptionHistoryRepository;
 import com.nexashop.application.port.out.SubscriptionPlanRepository;
 import com.nexashop.application.port.out.TenantRepository;
 import com.nexashop.application.port.out.TenantSubscriptionRepository;
+import com.nexashop.application.service.EntitlementService;
 import com.nexashop.application.service.TenantProvisioningService;
 import com.nexashop.application.security.CurrentUser;
 import com.nexashop.domain.billing.entity.SubscriptionHistory;
@@ -28,6 +30,8 @@ public class AdminTenantSubscriptionUseCase {
     private final SubscriptionHistoryRepository historyRepository;
     private final TenantRepository tenantRepository;
     private final TenantProvisioningService provisioningService;
+    private final EntitlementService entitlementService;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public AdminTenantSubscriptionUseCase(
             CurrentUserProvider currentUserProvider,
@@ -35,7 +39,9 @@ public class AdminTenantSubscriptionUseCase {
             SubscriptionPlanRepository planRepository,
             SubscriptionHistoryRepository historyRepository,
             TenantRepository tenantRepository,
-            TenantProvisioningService provisioningService
+            TenantProvisioningService provisioningService,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.currentUserProvider = currentUserProvider;
         this.subscriptionRepository = subscriptionRepository;
@@ -43,6 +49,8 @@ public class AdminTenantSubscriptionUseCase {
         this.historyRepository = historyRepository;
         this.tenantRepository = tenantRepository;
         this.provisioningService = provisioningService;
+        this.entitlementService = entitlementService;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public SubscriptionDetails getCurrent(Long tenantId) {
@@ -124,6 +132,7 @@ public class AdminTenantSubscriptionUseCase {
                 null,
                 actorId
         ));
+        afterCommitExecutor.afterCommit(() -> entitlementService.invalidateTenant(tenantId));
         return new SubscriptionDetails(saved, plan);
     }
 
@@ -149,6 +158,7 @@ public class AdminTenantSubscriptionUseCase {
                 "Deactivated",
                 actorId
         ));
+        afterCommitExecutor.afterCommit(() -> entitlementService.invalidateTenant(tenantId));
         SubscriptionPlan plan = planRepository.findById(active.getPlanId()).orElse(null);
         return new SubscriptionDetails(active, plan);
     }
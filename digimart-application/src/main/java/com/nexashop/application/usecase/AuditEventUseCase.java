@@ -1,6 +1,6 @@
 package com.nexashop.application.usecase;
 
-import com.nexashop.application.port.out.AuditEventRepository;
+import com.nexashop.application.port.out.AuditEventSink;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.security.CurrentUser;
 import com.nexashop.domain.audit.entity.AuditAction;
@@ -11,14 +11,14 @@ import java.util.UUID;
 public class AuditEventUseCase {
 
     private final CurrentUserProvider currentUserProvider;
-    private final AuditEventRepository auditEventRepository;
+    private final AuditEventSink auditEventSink;
 
     public AuditEventUseCase(
             CurrentUserProvider currentUserProvider,
-            AuditEventRepository auditEventRepository
+            AuditEventSink auditEventSink
     ) {
         this.currentUserProvider = currentUserProvider;
-        this.auditEventRepository = auditEventRepository;
+        this.auditEventSink = auditEventSink;
     }
 
     public void recordSuccess(
@@ -40,7 +40,7 @@ public class AuditEventUseCase {
         auditEvent.setActorUserId(currentUser.userId());
         auditEvent.setCorrelationId(resolveCorrelationId(correlationId));
         auditEvent.setOccurredAt(LocalDateTime.now());
-        auditEventRepository.save(auditEvent);
+        auditEventSink.submit(auditEvent);
     }
 
     private String resolveCorrelationId(String correlationId) {
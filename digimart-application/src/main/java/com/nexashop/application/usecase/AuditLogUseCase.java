@@ -1,7 +1,9 @@
 package com.nexashop.application.usecase;
 
+import com.nexashop.application.common.ExportStream;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
+import com.nexashop.application.common.TtlCache;
 import com.nexashop.application.exception.BadRequestException;
 import com.nexashop.application.exception.ForbiddenException;
 import com.nexashop.application.port.out.AuditEventRepository;
@@ -13,31 +15,47 @@ import com.nexashop.domain.audit.entity.AuditAction;
 import com.nexashop.domain.audit.entity.AuditEvent;
 import com.nexashop.domain.tenant.entity.Tenant;
 import com.nexashop.domain.user.entity.User;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class AuditLogUseCase {
 
     private static final String SUPER_ADMIN_ROLE_CODE = "SUPER_ADMIN";
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final LocalDateTime UNBOUNDED_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     private final CurrentUserProvider currentUserProvider;
     private final AuditEventRepository auditEventRepository;
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
+    private final Duration defaultWindow;
+    private final TtlCache<Long, ActorSnapshot> actorCache;
+    private final TtlCache<Long, TenantSnapshot> tenantCache;
 
     public AuditLogUseCase(
             CurrentUserProvider currentUserProvider,
             AuditEventRepository auditEventRepository,
             UserRepository userRepository,
-            TenantRepository tenantRepository
+            TenantRepository tenantRepository,
+            Duration defaultWindow,
+            Duration enrichmentTtl,
+            int enrichmentMaxEntries
     ) {
         this.currentUserProvider = currentUserProvider;
         this.auditEventRepository = auditEventRepository;
         this.userRepository = userRepository;
         this.tenantRepository = tenantRepository;
+        this.defaultWindow = defaultWindow;
+        this.actorCache = new TtlCache<>(enrichmentTtl, enrichmentMaxEntries);
+        this.tenantCache = new TtlCache<>(enrichmentTtl, enrichmentMaxEntries);
     }
 
     public PageResult<AuditLogEntry> listAuditEvents(
@@ -50,53 +68,90 @@ public class AuditLogUseCase {
     ) {
         Long scopedTenantId = resolveScopedTenantId(tenantId);
         AuditAction resolvedAction = resolveAuditAction(action);
+        TimeWindow window = resolveTimeWindow(occurredFrom, occurredTo);
         PageResult<AuditEvent> page = auditEventRepository.findByFilters(
                 request,
                 scopedTenantId,
                 normalizeEntityType(entityType),
                 resolvedAction,
-                occurredFrom,
-                occurredTo
+                window.from(),
+                window.to()
         );
         Map<Long, ActorSnapshot> actorByUserId = loadActorSnapshots(page.items());
-        Map<Long, String> tenantNameById = loadTenantNames(page.items());
+        Map<Long, TenantSnapshot> tenantById = loadTenantSnapshots(page.items());
         List<AuditLogEntry> items = page.items().stream()
                 .map(event -> toAuditLogEntry(
                         event,
                         actorByUserId.get(event.getActorUserId()),
-                        tenantNameById.get(event.getTenantId())
+                        tenantById.get(event.getTenantId())
                 ))
                 .toList();
         return PageResult.of(items, page.page(), page.size(), page.totalItems());
     }
 
-    public List<AuditLogEntry> listAuditEventsForExport(
+    public long countAuditEvents(
             Long tenantId,
             String entityType,
             String action,
             LocalDateTime occurredFrom,
-            LocalDateTime occurredTo,
-            int limit
+            LocalDateTime occurredTo
     ) {
         Long scopedTenantId = resolveScopedTenantId(tenantId);
         AuditAction resolvedAction = resolveAuditAction(action);
-        List<AuditEvent> events = auditEventRepository.findByFiltersForExport(
+        TimeWindow window = resolveTimeWindow(occurredFrom, occurredTo);
+        return auditEventRepository.countByFilters(
                 scopedTenantId,
                 normalizeEntityType(entityType),
                 resolvedAction,
-                occurredFrom,
-                occurredTo,
-                limit
+                window.from(),
+                window.to()
         );
-        Map<Long, ActorSnapshot> actorByUserId = loadActorSnapshots(events);
-        Map<Long, String> tenantNameById = loadTenantNames(events);
-        return events.stream()
-                .map(event -> toAuditLogEntry(
-                        event,
-                        actorByUserId.get(event.getActorUserId()),
-                        tenantNameById.get(event.getTenantId())
-                ))
-                .toList();
+    }
+
+    public ExportStream<AuditLogEntry> exportAuditEvents(
+            Long tenantId,
+            String entityType,
+            String action,
+            LocalDateTime occurredFrom,
+            LocalDateTime occurredTo
+    ) {
+        Long scopedTenantId = resolveScopedTenantId(tenantId);
+        AuditAction resolvedAction = resolveAuditAction(action);
+        String normalizedEntityType = normalizeEntityType(entityType);
+        TimeWindow window = resolveTimeWindow(occurredFrom, occurredTo);
+        return consumer -> {
+            List<AuditEvent> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            auditEventRepository.streamByFilters(
+                    scopedTenantId,
+                    normalizedEntityType,
+                    resolvedAction,
+                    window.from(),
+                    window.to(),
+                    event -> {
+                        chunk.add(event);
+                        if (chunk.size() >= EXPORT_CHUNK_SIZE) {
+                            emitChunk(chunk, consumer);
+                        }
+                    }
+            );
+            emitChunk(chunk, consumer);
+        };
+    }
+
+    private void emitChunk(List<AuditEvent> chunk, Consumer<? super AuditLogEntry> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Long, ActorSnapshot> actorByUserId = loadActorSnapshots(chunk);
+        Map<Long, TenantSnapshot> tenantById = loadTenantSnapshots(chunk);
+        for (AuditEvent event : chunk) {
+            consumer.accept(toAuditLogEntry(
+                    event,
+                    actorByUserId.get(event.getActorUserId()),
+                    tenantById.get(event.getTenantId())
+            ));
+        }
+        chunk.clear();
     }
 
     private Long resolveScopedTenantId(Long requestedTenantId) {
@@ -123,6 +178,22 @@ public class AuditLogUseCase {
         }
     }
 
+    // Both bounds are always sent so Postgres can prune audit_events partitions.
+    // The default window only applies when the caller gives no bound at all;
+    // a lone "to" scans everything before it.
+    public TimeWindow resolveTimeWindow(LocalDateTime occurredFrom, LocalDateTime occurredTo) {
+        if (occurredFrom == null && occurredTo == null) {
+            LocalDateTime to = LocalDateTime.now();
+            return new TimeWindow(to.minus(defaultWindow), to, true);
+        }
+        LocalDateTime to = occurredTo == null ? LocalDateTime.now() : occurredTo;
+        LocalDateTime from = occurredFrom == null ? UNBOUNDED_FROM : occurredFrom;
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must be before to");
+        }
+        return new TimeWindow(from, to, false);
+    }
+
     private String normalizeEntityType(String entityType) {
         if (entityType == null || entityType.isBlank()) {
             return null;
@@ -131,47 +202,58 @@ public class AuditLogUseCase {
     }
 
     private Map<Long, ActorSnapshot> loadActorSnapshots(List<AuditEvent> events) {
-        Map<Long, ActorSnapshot> actorByUserId = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
         for (AuditEvent event : events) {
-            if (event == null || event.getActorUserId() == null) {
-                continue;
+            if (event != null && event.getActorUserId() != null) {
+                userIds.add(event.getActorUserId());
             }
-            actorByUserId.computeIfAbsent(event.getActorUserId(), this::resolveActorSnapshot);
         }
-        return actorByUserId;
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return actorCache.getAll(userIds, this::resolveActorSnapshots);
     }
 
-    private ActorSnapshot resolveActorSnapshot(Long userId) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
-            return new ActorSnapshot(userId, null, null);
+    private Map<Long, ActorSnapshot> resolveActorSnapshots(Set<Long> userIds) {
+        Map<Long, ActorSnapshot> snapshots = new HashMap<>();
+        for (User user : userRepository.findByIdIn(userIds)) {
+            String name = ((user.getFirstName() == null ? "" : user.getFirstName().trim()) + " "
+                    + (user.getLastName() == null ? "" : user.getLastName().trim())).trim();
+            snapshots.put(user.getId(), new ActorSnapshot(user.getId(), user.getEmail(), name.isBlank() ? null : name));
         }
-        String name = ((user.getFirstName() == null ? "" : user.getFirstName().trim()) + " "
-                + (user.getLastName() == null ? "" : user.getLastName().trim())).trim();
-        return new ActorSnapshot(userId, user.getEmail(), name.isBlank() ? null : name);
+        for (Long userId : userIds) {
+            snapshots.putIfAbsent(userId, new ActorSnapshot(userId, null, null));
+        }
+        return snapshots;
     }
 
-    private Map<Long, String> loadTenantNames(List<AuditEvent> events) {
-        Map<Long, String> tenantNames = new HashMap<>();
+    private Map<Long, TenantSnapshot> loadTenantSnapshots(List<AuditEvent> events) {
+        Set<Long> tenantIds = new HashSet<>();
         for (AuditEvent event : events) {
-            if (event == null || event.getTenantId() == null) {
-                continue;
+            if (event != null && event.getTenantId() != null) {
+                tenantIds.add(event.getTenantId());
             }
-            tenantNames.computeIfAbsent(event.getTenantId(), this::resolveTenantName);
         }
-        return tenantNames;
+        if (tenantIds.isEmpty()) {
+            return Map.of();
+        }
+        return tenantCache.getAll(tenantIds, this::resolveTenantSnapshots);
     }
 
-    private String resolveTenantName(Long tenantId) {
-        Tenant tenant = tenantRepository.findById(tenantId).orElse(null);
-        if (tenant == null) {
-            return null;
+    private Map<Long, TenantSnapshot> resolveTenantSnapshots(Set<Long> tenantIds) {
+        Map<Long, TenantSnapshot> snapshots = new HashMap<>();
+        for (Tenant tenant : tenantRepository.findByIdIn(tenantIds)) {
+            String name = tenant.getName() == null ? "" : tenant.getName().trim();
+            snapshots.put(tenant.getId(), new TenantSnapshot(tenant.getId(), name.isBlank() ? null : name));
+        }
+        for (Long tenantId : tenantIds) {
+            snapshots.putIfAbsent(tenantId, new TenantSnapshot(tenantId, null));
         }
-        String name = tenant.getName() == null ? "" : tenant.getName().trim();
-        return name.isBlank() ? null : name;
+        return snapshots;
     }
 
-    private AuditLogEntry toAuditLogEntry(AuditEvent event, ActorSnapshot actor, String tenantName) {
+    private AuditLogEntry toAuditLogEntry(AuditEvent event, ActorSnapshot actor, TenantSnapshot tenant) {
+        String tenantName = tenant == null ? null : tenant.name();
         String actorEmail = actor == null ? null : actor.email();
         String actorName = actor == null ? null : actor.name();
         return new AuditLogEntry(
@@ -195,6 +277,12 @@ public class AuditLogUseCase {
     private record ActorSnapshot(Long userId, String email, String name) {
     }
 
+    private record TenantSnapshot(Long tenantId, String name) {
+    }
+
+    public record TimeWindow(LocalDateTime from, LocalDateTime to, boolean defaulted) {
+    }
+
     public record AuditLogEntry(
             Long id,
             Long tenantId,
@@ -1,20 +1,177 @@
 package com.nexashop.application.usecase;
 
 import com.nexashop.application.port.out.AuditEventRepository;
+import com.nexashop.application.port.out.AuditPartitionManager;
+import com.nexashop.application.port.out.AuditRetentionPolicyRepository;
+import com.nexashop.domain.audit.entity.AuditRetentionPolicy;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class AuditMaintenanceUseCase {
 
+    public record PurgeProgress(
+            Long tenantId,
+            LocalDateTime cutoff,
+            long fromId,
+            long toIdExclusive,
+            long deleted,
+            long totalDeleted
+    ) {}
+
+    public record PurgeReport(
+            long deleted,
+            int chunks,
+            int tenantPolicies,
+            List<String> removedPartitions,
+            Duration elapsed
+    ) {
+        public double rowsPerSecond() {
+            long millis = elapsed.toMillis();
+            return millis <= 0 ? deleted : deleted * 1000.0 / millis;
+        }
+    }
+
     private final AuditEventRepository auditEventRepository;
+    private final AuditRetentionPolicyRepository retentionPolicyRepository;
+    private final AuditPartitionManager partitionManager;
+    private final int chunkSize;
+    private final Duration pauseBetweenChunks;
+    private final boolean archiveBeforeDelete;
 
-    public AuditMaintenanceUseCase(AuditEventRepository auditEventRepository) {
+    public AuditMaintenanceUseCase(
+            AuditEventRepository auditEventRepository,
+            AuditRetentionPolicyRepository retentionPolicyRepository,
+            AuditPartitionManager partitionManager,
+            int chunkSize,
+            Duration pauseBetweenChunks,
+            boolean archiveBeforeDelete
+    ) {
         this.auditEventRepository = auditEventRepository;
+        this.retentionPolicyRepository = retentionPolicyRepository;
+        this.partitionManager = partitionManager;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseBetweenChunks = pauseBetweenChunks;
+        this.archiveBeforeDelete = archiveBeforeDelete;
+    }
+
+    public List<String> ensurePartitions(YearMonth currentMonth, int monthsAhead) {
+        return partitionManager.ensurePartitions(currentMonth, currentMonth.plusMonths(Math.max(0, monthsAhead)));
+    }
+
+    public PurgeReport purge(
+            LocalDateTime defaultCutoff,
+            LocalDateTime now,
+            Consumer<PurgeProgress> progressListener
+    ) {
+        long startedAt = System.nanoTime();
+        List<AuditRetentionPolicy> policies = retentionPolicyRepository.findAll();
+        Set<Long> policyTenantIds = new HashSet<>();
+        List<String> removedPartitions = removeExpiredPartitions(defaultCutoff, now, policies);
+        PurgeRun run = new PurgeRun(progressListener);
+        for (AuditRetentionPolicy policy : policies) {
+            if (policy.getTenantId() == null) {
+                continue;
+            }
+            policyTenantIds.add(policy.getTenantId());
+            Integer retentionDays = policy.getRetentionDays();
+            if (retentionDays == null || retentionDays <= 0 || run.interrupted) {
+                continue;
+            }
+            purgeScope(run, policy.getTenantId(), Set.of(), now.minusDays(retentionDays));
+        }
+        if (defaultCutoff != null && !run.interrupted) {
+            purgeScope(run, null, policyTenantIds, defaultCutoff);
+        }
+        return new PurgeReport(
+                run.totalDeleted,
+                run.chunks,
+                policyTenantIds.size(),
+                removedPartitions,
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+    }
+
+    // A monthly partition holds every tenant's rows, so it can only go once the
+    // longest-retained tenant no longer needs any of it; the chunked purge handles the rest.
+    private List<String> removeExpiredPartitions(
+            LocalDateTime defaultCutoff,
+            LocalDateTime now,
+            List<AuditRetentionPolicy> policies
+    ) {
+        if (defaultCutoff == null || !partitionManager.isPartitioned()) {
+            return List.of();
+        }
+        LocalDateTime dropCutoff = defaultCutoff;
+        for (AuditRetentionPolicy policy : policies) {
+            if (policy.getTenantId() == null) {
+                continue;
+            }
+            Integer retentionDays = policy.getRetentionDays();
+            if (retentionDays == null || retentionDays <= 0) {
+                return List.of();
+            }
+            LocalDateTime policyCutoff = now.minusDays(retentionDays);
+            if (policyCutoff.isBefore(dropCutoff)) {
+                dropCutoff = policyCutoff;
+            }
+        }
+        return partitionManager.dropPartitionsBefore(YearMonth.from(dropCutoff), archiveBeforeDelete);
+    }
+
+    private void purgeScope(PurgeRun run, Long tenantId, Set<Long> excludedTenantIds, LocalDateTime cutoff) {
+        Long nextId = auditEventRepository.findFirstIdBefore(cutoff, tenantId, excludedTenantIds, Long.MIN_VALUE);
+        while (nextId != null) {
+            long fromId = nextId;
+            long toId = fromId + chunkSize;
+            long deleted = auditEventRepository.purgeChunk(
+                    fromId,
+                    toId,
+                    cutoff,
+                    tenantId,
+                    excludedTenantIds,
+                    archiveBeforeDelete
+            );
+            run.chunks++;
+            run.totalDeleted += deleted;
+            if (run.progressListener != null) {
+                run.progressListener.accept(
+                        new PurgeProgress(tenantId, cutoff, fromId, toId, deleted, run.totalDeleted)
+                );
+            }
+            nextId = auditEventRepository.findFirstIdBefore(cutoff, tenantId, excludedTenantIds, toId);
+            if (nextId != null && !pause()) {
+                run.interrupted = true;
+                return;
+            }
+        }
     }
 
-    public long purgeBefore(LocalDateTime cutoff) {
-        if (cutoff == null) {
-            return 0L;
+    private boolean pause() {
+        if (pauseBetweenChunks == null || pauseBetweenChunks.isZero() || pauseBetweenChunks.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunks.toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class PurgeRun {
+        private final Consumer<PurgeProgress> progressListener;
+        private long totalDeleted;
+        private int chunks;
+        private boolean interrupted;
+
+        private PurgeRun(Consumer<PurgeProgress> progressListener) {
+            this.progressListener = progressListener;
         }
-        return auditEventRepository.deleteByOccurredAtBefore(cutoff);
     }
 }
@@ -101,6 +101,13 @@ public class AuthUseCase {
         return new LoginResult(token, user.getId(), user.getTenantId(), sectorId, sectorLabel, roles);
     }
 
+    public void logout(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        tokenService.revokeToken(rawToken);
+    }
+
     public RegisterTenantStep1Result registerTenantStep1(
             String tenantName,
             String contactEmail,
@@ -2,36 +2,24 @@ package com.nexashop.application.usecase;
 
 import com.nexashop.application.exception.ForbiddenException;
 import com.nexashop.application.port.out.CurrentUserProvider;
-import com.nexashop.application.port.out.PermissionRepository;
-import com.nexashop.application.port.out.RolePermissionRepository;
-import com.nexashop.application.port.out.UserRoleAssignmentRepository;
 import com.nexashop.application.security.CurrentUser;
-import com.nexashop.domain.user.entity.Permission;
-import com.nexashop.domain.user.entity.RolePermission;
-import com.nexashop.domain.user.entity.UserRoleAssignment;
+import com.nexashop.application.service.PermissionBitsetCache;
 import java.util.Locale;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class AuthorizationUseCase {
 
     private static final String SUPER_ADMIN_ROLE_CODE = "SUPER_ADMIN";
 
     private final CurrentUserProvider currentUserProvider;
-    private final UserRoleAssignmentRepository userRoleAssignmentRepository;
-    private final RolePermissionRepository rolePermissionRepository;
-    private final PermissionRepository permissionRepository;
+    private final PermissionBitsetCache permissionBitsetCache;
 
     public AuthorizationUseCase(
             CurrentUserProvider currentUserProvider,
-            UserRoleAssignmentRepository userRoleAssignmentRepository,
-            RolePermissionRepository rolePermissionRepository,
-            PermissionRepository permissionRepository
+            PermissionBitsetCache permissionBitsetCache
     ) {
         this.currentUserProvider = currentUserProvider;
-        this.userRoleAssignmentRepository = userRoleAssignmentRepository;
-        this.rolePermissionRepository = rolePermissionRepository;
-        this.permissionRepository = permissionRepository;
+        this.permissionBitsetCache = permissionBitsetCache;
     }
 
     public void requirePermission(String permissionCode) {
@@ -50,46 +38,18 @@ public class AuthorizationUseCase {
         if (currentUser.hasRole(SUPER_ADMIN_ROLE_CODE)) {
             return true;
         }
-        return resolvePermissionCodes(currentUser).contains(normalized);
+        return permissionBitsetCache.hasPermission(currentUser.tenantId(), currentUser.roles(), normalized);
     }
 
     public Set<String> resolveCurrentUserPermissionCodes() {
         CurrentUser currentUser = currentUserProvider.requireUser();
-        return resolvePermissionCodes(currentUser);
-    }
-
-    private Set<String> resolvePermissionCodes(CurrentUser currentUser) {
         if (currentUser.hasRole(SUPER_ADMIN_ROLE_CODE)) {
-            return permissionRepository.findAll().stream()
-                    .map(Permission::getCode)
-                    .map(this::normalizePermissionCode)
-                    .filter(code -> !code.isBlank())
-                    .collect(Collectors.toSet());
+            return permissionBitsetCache.allPermissionCodes();
         }
         if (currentUser.tenantId() == null || currentUser.userId() == null) {
             return Set.of();
         }
-        Set<Long> roleIds = userRoleAssignmentRepository
-                .findByTenantIdAndUserIdAndActiveTrue(currentUser.tenantId(), currentUser.userId())
-                .stream()
-                .map(UserRoleAssignment::getRoleId)
-                .collect(Collectors.toSet());
-        if (roleIds.isEmpty()) {
-            return Set.of();
-        }
-        Set<Long> permissionIds = rolePermissionRepository
-                .findByTenantIdAndRoleIdIn(currentUser.tenantId(), roleIds)
-                .stream()
-                .map(RolePermission::getPermissionId)
-                .collect(Collectors.toSet());
-        if (permissionIds.isEmpty()) {
-            return Set.of();
-        }
-        return permissionRepository.findByIdIn(permissionIds).stream()
-                .map(Permission::getCode)
-                .map(this::normalizePermissionCode)
-                .filter(code -> !code.isBlank())
-                .collect(Collectors.toSet());
+        return permissionBitsetCache.permissionCodes(currentUser.tenantId(), currentUser.roles());
     }
 
     private String normalizePermissionCode(String permissionCode) {
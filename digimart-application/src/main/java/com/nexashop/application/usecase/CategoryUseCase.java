@@ -7,19 +7,20 @@ import com.nexashop.application.exception.ConflictException;
 import com.nexashop.application.exception.ForbiddenException;
 import com.nexashop.application.exception.NotFoundException;
 import com.nexashop.application.port.out.AiTextProvider;
+import com.nexashop.application.port.out.CategoryClosureRepository;
 import com.nexashop.application.port.out.CategoryRepository;
 import com.nexashop.application.port.out.CurrentUserProvider;
-import com.nexashop.application.port.out.PlanFeatureRepository;
-import com.nexashop.application.port.out.PremiumFeatureRepository;
 import com.nexashop.application.port.out.TenantRepository;
-import com.nexashop.application.port.out.TenantSubscriptionRepository;
 import com.nexashop.application.security.CurrentUser;
-import com.nexashop.domain.billing.entity.PlanFeature;
-import com.nexashop.domain.billing.entity.PremiumFeature;
-import com.nexashop.domain.billing.entity.TenantSubscription;
-import com.nexashop.domain.billing.enums.SubscriptionStatus;
+import com.nexashop.application.service.CategoryTree;
+import com.nexashop.application.service.CategoryTreeCache;
+import com.nexashop.application.service.EntitlementService;
+import com.nexashop.application.service.SlugAllocator;
 import com.nexashop.domain.catalog.entity.Category;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.text.Normalizer;
 
 public class CategoryUseCase {
@@ -30,26 +31,26 @@ public class CategoryUseCase {
     private final CategoryRepository categoryRepository;
     private final TenantRepository tenantRepository;
     private final AiTextProvider aiTextProvider;
-    private final TenantSubscriptionRepository subscriptionRepository;
-    private final PlanFeatureRepository planFeatureRepository;
-    private final PremiumFeatureRepository featureRepository;
+    private final EntitlementService entitlementService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryClosureRepository categoryClosureRepository;
 
     public CategoryUseCase(
             CurrentUserProvider currentUserProvider,
             CategoryRepository categoryRepository,
             TenantRepository tenantRepository,
             AiTextProvider aiTextProvider,
-            TenantSubscriptionRepository subscriptionRepository,
-            PlanFeatureRepository planFeatureRepository,
-            PremiumFeatureRepository featureRepository
+            EntitlementService entitlementService,
+            CategoryTreeCache categoryTreeCache,
+            CategoryClosureRepository categoryClosureRepository
     ) {
         this.currentUserProvider = currentUserProvider;
         this.categoryRepository = categoryRepository;
         this.tenantRepository = tenantRepository;
         this.aiTextProvider = aiTextProvider;
-        this.subscriptionRepository = subscriptionRepository;
-        this.planFeatureRepository = planFeatureRepository;
-        this.featureRepository = featureRepository;
+        this.entitlementService = entitlementService;
+        this.categoryTreeCache = categoryTreeCache;
+        this.categoryClosureRepository = categoryClosureRepository;
     }
 
     public Category createCategory(Category category, Long targetTenantId) {
@@ -72,8 +73,6 @@ public class CategoryUseCase {
         if (baseSlug.isBlank()) {
             throw new BadRequestException("Category slug cannot be empty");
         }
-        String resolvedSlug = resolveUniqueSlug(tenantId, baseSlug, null);
-        category.setSlug(resolvedSlug);
         if (category.getParentCategoryId() != null) {
             Category parent = categoryRepository.findById(category.getParentCategoryId())
                     .orElseThrow(() -> new NotFoundException("Parent category not found"));
@@ -87,7 +86,10 @@ public class CategoryUseCase {
             category.setCreatedBy(currentUser.userId());
         }
         category.setUpdatedBy(currentUser.userId());
-        return categoryRepository.save(category);
+        Category saved = saveWithUniqueSlug(category, baseSlug);
+        categoryTreeCache.refresh(tenantId);
+        syncClosure(tenantId, List.of(saved.getId()));
+        return saved;
     }
 
     public Category getCategory(Long id) {
@@ -109,13 +111,14 @@ public class CategoryUseCase {
         if (!isSuperAdmin && !tenantId.equals(requesterTenantId)) {
             throw new ForbiddenException("Tenant access required");
         }
+        CategoryTree tree = categoryTreeCache.tree(tenantId);
         if (rootOnly) {
-            return categoryRepository.findByTenantIdAndParentCategoryIdIsNull(tenantId);
+            return tree.roots();
         }
         if (parentId != null) {
-            return categoryRepository.findByTenantIdAndParentCategoryId(tenantId, parentId);
+            return tree.children(parentId);
         }
-        return categoryRepository.findByTenantId(tenantId);
+        return tree.all();
     }
 
     public PageResult<Category> listCategories(PageRequest request, Long tenantId, Long parentId, boolean rootOnly) {
@@ -149,14 +152,14 @@ public class CategoryUseCase {
         if (!isSuperAdmin && !category.getTenantId().equals(requesterTenantId)) {
             throw new ForbiddenException("Tenant access required");
         }
+        String newBaseSlug = null;
         if (slug != null && !slug.isBlank()) {
             String baseSlug = slugify(slug);
             if (baseSlug.isBlank()) {
                 throw new BadRequestException("Category slug cannot be empty");
             }
             if (!baseSlug.equals(category.getSlug())) {
-                String resolvedSlug = resolveUniqueSlug(category.getTenantId(), baseSlug, id);
-                category.setSlug(resolvedSlug);
+                newBaseSlug = baseSlug;
             }
         }
         if (updates.getParentCategoryId() != null) {
@@ -168,8 +171,12 @@ public class CategoryUseCase {
             if (!category.getTenantId().equals(parent.getTenantId())) {
                 throw new ForbiddenException("Parent category belongs to another tenant");
             }
+            if (categoryTreeCache.tree(category.getTenantId()).isInSubtree(parent.getId(), id)) {
+                throw new ConflictException("Category cannot be moved under one of its descendants");
+            }
         }
 
+        boolean parentChanged = !Objects.equals(category.getParentCategoryId(), updates.getParentCategoryId());
         category.setName(updates.getName());
         category.setDescription(updates.getDescription());
         category.setParentCategoryId(updates.getParentCategoryId());
@@ -180,7 +187,14 @@ public class CategoryUseCase {
             category.setActive(active);
         }
         category.setUpdatedBy(currentUser.userId());
-        return categoryRepository.save(category);
+        Category saved = newBaseSlug == null
+                ? categoryRepository.save(category)
+                : saveWithUniqueSlug(category, newBaseSlug);
+        categoryTreeCache.refresh(saved.getTenantId());
+        if (parentChanged) {
+            syncClosure(saved.getTenantId(), categoryTreeCache.tree(saved.getTenantId()).subtreeIds(id));
+        }
+        return saved;
     }
 
     public Category setCategoryActive(Long id, boolean active) {
@@ -194,7 +208,9 @@ public class CategoryUseCase {
         }
         category.setActive(active);
         category.setUpdatedBy(currentUser.userId());
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        categoryTreeCache.refresh(saved.getTenantId());
+        return saved;
     }
 
     public void deleteCategory(Long id) {
@@ -206,7 +222,13 @@ public class CategoryUseCase {
         if (!isSuperAdmin && !category.getTenantId().equals(requesterTenantId)) {
             throw new ForbiddenException("Tenant access required");
         }
+        List<Long> subtreeIds = new ArrayList<>(categoryTreeCache.tree(category.getTenantId()).subtreeIds(id));
+        if (subtreeIds.isEmpty()) {
+            subtreeIds.add(id);
+        }
         categoryRepository.delete(category);
+        categoryTreeCache.refresh(category.getTenantId());
+        syncClosure(category.getTenantId(), subtreeIds);
     }
 
     public String suggestCategoryDescription(
@@ -236,47 +258,39 @@ public class CategoryUseCase {
         return aiTextProvider.generateText(prompt);
     }
 
-    private void ensureFeatureEnabled(Long tenantId, String featureCode) {
-        TenantSubscription subscription = subscriptionRepository
-                .findByTenantIdAndStatus(tenantId, SubscriptionStatus.ACTIVE)
-                .orElseGet(() -> subscriptionRepository
-                        .findByTenantIdAndStatus(tenantId, SubscriptionStatus.PENDING_ACTIVATION)
-                        .orElse(null));
-        if (subscription == null || subscription.getPlanId() == null) {
-            throw new ForbiddenException("Feature not available in current plan");
-        }
-        List<PlanFeature> planFeatures = planFeatureRepository.findByPlanId(subscription.getPlanId());
-        for (PlanFeature planFeature : planFeatures) {
-            if (planFeature == null || planFeature.getFeatureId() == null) {
-                continue;
-            }
-            PremiumFeature feature = featureRepository.findById(planFeature.getFeatureId()).orElse(null);
-            if (feature == null || feature.getCode() == null) {
+    private void syncClosure(Long tenantId, Collection<Long> categoryIds) {
+        CategoryTree tree = categoryTreeCache.tree(tenantId);
+        List<CategoryClosureRepository.Link> links = new ArrayList<>();
+        for (Long categoryId : categoryIds) {
+            if (!tree.contains(categoryId)) {
                 continue;
             }
-            if (featureCode.equalsIgnoreCase(feature.getCode()) && feature.isActive()) {
-                return;
+            List<Long> ancestorIds = tree.ancestorIds(categoryId);
+            for (int i = 0; i < ancestorIds.size(); i++) {
+                links.add(new CategoryClosureRepository.Link(ancestorIds.get(i), categoryId, ancestorIds.size() - i));
             }
+            links.add(new CategoryClosureRepository.Link(categoryId, categoryId, 0));
         }
-        throw new ForbiddenException("Feature not available in current plan");
+        categoryClosureRepository.replaceForDescendants(tenantId, categoryIds, links);
     }
 
-    private String resolveUniqueSlug(Long tenantId, String baseSlug, Long currentId) {
-        String candidate = baseSlug;
-        int suffix = 2;
-        while (true) {
-            Category existing = categoryRepository.findByTenantIdAndSlug(tenantId, candidate).orElse(null);
-            if (existing == null || (currentId != null && existing.getId().equals(currentId))) {
-                return candidate;
-            }
-            candidate = baseSlug + "-" + suffix;
-            suffix += 1;
-            if (suffix > 9999) {
-                throw new ConflictException("Unable to generate unique slug");
-            }
+    private void ensureFeatureEnabled(Long tenantId, String featureCode) {
+        if (!entitlementService.hasFeature(tenantId, featureCode)) {
+            throw new ForbiddenException("Feature not available in current plan");
         }
     }
 
+    private Category saveWithUniqueSlug(Category category, String baseSlug) {
+        return SlugAllocator.saveWithUniqueSlug(
+                baseSlug,
+                () -> categoryRepository.findSlugsByTenantIdAndPrefix(category.getTenantId(), baseSlug, category.getId()),
+                slug -> {
+                    category.setSlug(slug);
+                    return categoryRepository.save(category);
+                }
+        );
+    }
+
     private String slugify(String input) {
         if (input == null) {
             return "";
@@ -3,6 +3,7 @@ package com.nexashop.application.usecase;
 import com.nexashop.application.exception.*;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.PermissionRepository;
+import com.nexashop.application.service.PermissionBitsetCache;
 import com.nexashop.domain.user.entity.Permission;
 import java.util.Comparator;
 import java.util.List;
@@ -12,10 +13,16 @@ public class PermissionUseCase {
 
     private final CurrentUserProvider currentUserProvider;
     private final PermissionRepository permissionRepository;
+    private final PermissionBitsetCache permissionBitsetCache;
 
-    public PermissionUseCase(CurrentUserProvider currentUserProvider, PermissionRepository permissionRepository) {
+    public PermissionUseCase(
+            CurrentUserProvider currentUserProvider,
+            PermissionRepository permissionRepository,
+            PermissionBitsetCache permissionBitsetCache
+    ) {
         this.currentUserProvider = currentUserProvider;
         this.permissionRepository = permissionRepository;
+        this.permissionBitsetCache = permissionBitsetCache;
     }
 
     public List<Permission> listPermissions() {
@@ -35,7 +42,9 @@ public class PermissionUseCase {
         permission.setCode(code);
         permission.setDomain(domain);
         permission.setDescription(description);
-        return permissionRepository.save(permission);
+        Permission saved = permissionRepository.save(permission);
+        permissionBitsetCache.onPermissionsChanged();
+        return saved;
     }
 }
 
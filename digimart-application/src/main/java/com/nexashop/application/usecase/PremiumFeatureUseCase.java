@@ -7,6 +7,7 @@ import com.nexashop.application.exception.NotFoundException;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.PlanFeatureRepository;
 import com.nexashop.application.port.out.PremiumFeatureRepository;
+import com.nexashop.application.service.EntitlementService;
 import com.nexashop.domain.billing.entity.PremiumFeature;
 import com.nexashop.domain.billing.enums.FeatureCategory;
 import java.util.List;
@@ -16,15 +17,18 @@ public class PremiumFeatureUseCase {
     private final CurrentUserProvider currentUserProvider;
     private final PremiumFeatureRepository featureRepository;
     private final PlanFeatureRepository planFeatureRepository;
+    private final EntitlementService entitlementService;
 
     public PremiumFeatureUseCase(
             CurrentUserProvider currentUserProvider,
             PremiumFeatureRepository featureRepository,
-            PlanFeatureRepository planFeatureRepository
+            PlanFeatureRepository planFeatureRepository,
+            EntitlementService entitlementService
     ) {
         this.currentUserProvider = currentUserProvider;
         this.featureRepository = featureRepository;
         this.planFeatureRepository = planFeatureRepository;
+        this.entitlementService = entitlementService;
     }
 
     public record FeatureUpdate(
@@ -74,7 +78,9 @@ public class PremiumFeatureUseCase {
                     .orElse(0) + 1;
             feature.setDisplayOrder(nextDisplayOrder);
         }
-        return featureRepository.save(feature);
+        PremiumFeature saved = featureRepository.save(feature);
+        entitlementService.invalidateAll();
+        return saved;
     }
 
     public PremiumFeature update(Long id, FeatureUpdate update) {
@@ -94,7 +100,9 @@ public class PremiumFeatureUseCase {
         if (update.active() != null) existing.setActive(update.active());
         if (update.displayOrder() != null) existing.setDisplayOrder(update.displayOrder());
 
-        return featureRepository.save(existing);
+        PremiumFeature saved = featureRepository.save(existing);
+        entitlementService.invalidateAll();
+        return saved;
     }
 
     public void delete(Long id) {
@@ -105,6 +113,7 @@ public class PremiumFeatureUseCase {
             throw new ConflictException("Feature is used by at least one plan and cannot be deleted");
         }
         featureRepository.delete(existing);
+        entitlementService.invalidateAll();
     }
 }
 
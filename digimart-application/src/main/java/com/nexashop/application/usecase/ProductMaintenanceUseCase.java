@@ -0,0 +1,62 @@
+package com.nexashop.application.usecase;
+
+import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.application.service.ProductLowStockService;
+import com.nexashop.application.service.StoreProductVisibilityService;
+import com.nexashop.domain.catalog.entity.Product;
+import java.util.List;
+
+public class ProductMaintenanceUseCase {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductLowStockService productLowStockService;
+    private final StoreProductVisibilityService storeProductVisibilityService;
+
+    public ProductMaintenanceUseCase(
+            ProductRepository productRepository,
+            ProductLowStockService productLowStockService,
+            StoreProductVisibilityService storeProductVisibilityService
+    ) {
+        this.productRepository = productRepository;
+        this.productLowStockService = productLowStockService;
+        this.storeProductVisibilityService = storeProductVisibilityService;
+    }
+
+    public int reconcileLowStock(int batchSize) {
+        int resolvedBatchSize = batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+        int corrected = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Product> batch = productRepository.findBatchAfterId(afterId, resolvedBatchSize);
+            if (batch.isEmpty()) {
+                return corrected;
+            }
+            corrected += productLowStockService.refresh(batch);
+            if (batch.size() < resolvedBatchSize) {
+                return corrected;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    public int rebuildStoreVisibility(Long tenantId, int batchSize) {
+        int resolvedBatchSize = batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+        int written = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Product> batch = tenantId == null
+                    ? productRepository.findBatchAfterId(afterId, resolvedBatchSize)
+                    : productRepository.findBatchByTenantIdAfterId(tenantId, afterId, resolvedBatchSize);
+            if (batch.isEmpty()) {
+                return written;
+            }
+            written += storeProductVisibilityService.refresh(batch);
+            if (batch.size() < resolvedBatchSize) {
+                return written;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.nexashop.application.usecase;
 
+import com.nexashop.application.common.CursorPageRequest;
+import com.nexashop.application.common.CursorPageResult;
+import com.nexashop.application.common.ExportStream;
+import com.nexashop.application.common.KeysetCursor;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.application.exception.BadRequestException;
 import com.nexashop.application.exception.ConflictException;
+import com.nexashop.application.exception.DuplicateSlugException;
 import com.nexashop.application.exception.ForbiddenException;
 import com.nexashop.application.exception.NotFoundException;
 import com.nexashop.application.port.out.AiTextProvider;
@@ -15,6 +20,7 @@ import com.nexashop.application.port.out.ProductOptionRepository;
 import com.nexashop.application.port.out.ProductOptionValueRepository;
 import com.nexashop.application.port.out.ProductPriceHistoryRepository;
 import com.nexashop.application.port.out.ProductRepository;
+import com.nexashop.application.port.out.ProductSearchIndex;
 import com.nexashop.application.port.out.ProductStoreInventoryRepository;
 import com.nexashop.application.port.out.ProductVariantRepository;
 import com.nexashop.application.port.out.StoreRepository;
@@ -22,12 +28,21 @@ import com.nexashop.application.port.out.TenantRepository;
 import com.nexashop.application.port.out.VariantOptionValueRepository;
 import com.nexashop.application.port.out.VariantStoreInventoryRepository;
 import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.CategoryTree;
+import com.nexashop.application.service.CategoryTreeCache;
+import com.nexashop.application.service.ProductListAssembler;
+import com.nexashop.application.service.ProductLowStockService;
+import com.nexashop.application.service.ProductStructureSynchronizer;
+import com.nexashop.application.service.SlugAllocator;
+import com.nexashop.application.service.StoreDirectoryCache;
+import com.nexashop.application.service.StoreProductVisibilityService;
 import com.nexashop.domain.catalog.entity.Category;
 import com.nexashop.domain.catalog.entity.OptionType;
 import com.nexashop.domain.catalog.entity.Product;
 import com.nexashop.domain.catalog.entity.ProductAvailability;
 import com.nexashop.domain.catalog.entity.ProductCategory;
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import com.nexashop.domain.catalog.entity.ProductOption;
 import com.nexashop.domain.catalog.entity.ProductOptionValue;
 import com.nexashop.domain.catalog.entity.ProductPriceHistory;
@@ -40,10 +55,13 @@ import com.nexashop.domain.catalog.entity.VariantStoreInventory;
 import com.nexashop.domain.store.entity.Store;
 import java.text.Normalizer;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
@@ -51,6 +69,9 @@ import java.math.BigDecimal;
 
 public class ProductUseCase {
 
+    private static final int MAX_SEARCH_HITS = 500;
+    private static final int STORE_PRODUCTS_BATCH_SIZE = 500;
+
     private final CurrentUserProvider currentUserProvider;
     private final AiTextProvider aiTextProvider;
     private final ProductRepository productRepository;
@@ -66,6 +87,13 @@ public class ProductUseCase {
     private final TenantRepository tenantRepository;
     private final CategoryRepository categoryRepository;
     private final StoreRepository storeRepository;
+    private final ProductListAssembler productListAssembler;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductLowStockService productLowStockService;
+    private final StoreProductVisibilityService storeProductVisibilityService;
+    private final CategoryTreeCache categoryTreeCache;
+    private final StoreDirectoryCache storeDirectoryCache;
+    private final ProductStructureSynchronizer productStructureSynchronizer;
 
     public ProductUseCase(
             CurrentUserProvider currentUserProvider,
@@ -82,7 +110,14 @@ public class ProductUseCase {
             VariantStoreInventoryRepository variantStoreInventoryRepository,
             TenantRepository tenantRepository,
             CategoryRepository categoryRepository,
-            StoreRepository storeRepository
+            StoreRepository storeRepository,
+            ProductListAssembler productListAssembler,
+            ProductSearchIndex productSearchIndex,
+            ProductLowStockService productLowStockService,
+            StoreProductVisibilityService storeProductVisibilityService,
+            CategoryTreeCache categoryTreeCache,
+            StoreDirectoryCache storeDirectoryCache,
+            ProductStructureSynchronizer productStructureSynchronizer
     ) {
         this.currentUserProvider = currentUserProvider;
         this.aiTextProvider = aiTextProvider;
@@ -99,6 +134,13 @@ public class ProductUseCase {
         this.tenantRepository = tenantRepository;
         this.categoryRepository = categoryRepository;
         this.storeRepository = storeRepository;
+        this.productListAssembler = productListAssembler;
+        this.productSearchIndex = productSearchIndex;
+        this.productLowStockService = productLowStockService;
+        this.storeProductVisibilityService = storeProductVisibilityService;
+        this.categoryTreeCache = categoryTreeCache;
+        this.storeDirectoryCache = storeDirectoryCache;
+        this.productStructureSynchronizer = productStructureSynchronizer;
     }
 
     public record ProductDetails(
@@ -120,6 +162,36 @@ public class ProductUseCase {
     ) {
     }
 
+    public record StructureChanges(int inserted, int updated, int deleted) {
+    }
+
+    public record OptionsReplacement(List<ProductOptionGroup> options, StructureChanges changes) {
+    }
+
+    public record VariantsReplacement(List<ProductVariantGroup> variants, StructureChanges changes) {
+    }
+
+    public record ProductSearchResult(Product product, double score, String highlight) {
+    }
+
+    public record BulkItemOutcome(Long productId, boolean success, String error) {
+    }
+
+    public record BulkActionResult(int affected, List<BulkItemOutcome> outcomes) {
+    }
+
+    public record ImportSession(Long tenantId, Long userId, Set<String> slugs, Set<String> skus) {
+    }
+
+    public record ImportRow(int rowNumber, Product product) {
+    }
+
+    public record ImportRowError(int rowNumber, String message) {
+    }
+
+    public record ImportBatchResult(int imported, List<ImportRowError> errors) {
+    }
+
     public record StoreRef(Long id, String name) {
     }
 
@@ -150,9 +222,6 @@ public class ProductUseCase {
         if (baseSlug.isBlank()) {
             throw new BadRequestException("Product slug cannot be empty");
         }
-        String resolvedSlug = resolveUniqueSlug(tenantId, baseSlug, null);
-        product.setSlug(resolvedSlug);
-
         String sku = product.getSku();
         if (sku != null && !sku.isBlank()) {
             if (productRepository.existsByTenantIdAndSku(tenantId, sku.trim())) {
@@ -179,7 +248,7 @@ public class ProductUseCase {
         }
         product.setUpdatedBy(currentUser.userId());
 
-        Product saved = productRepository.save(product);
+        Product saved = saveWithUniqueSlug(product, baseSlug);
         recordPriceHistory(saved, currentUser.userId());
 
         if (categoryIds != null) {
@@ -192,6 +261,159 @@ public class ProductUseCase {
             }
         }
 
+        refreshStockProjections(saved);
+        productSearchIndex.index(saved);
+        return saved;
+    }
+
+    public ImportSession openImport(Long targetTenantId) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        Long requesterTenantId = currentUser.tenantId();
+        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
+        Long tenantId = targetTenantId == null ? requesterTenantId : targetTenantId;
+
+        if (!isSuperAdmin && !tenantId.equals(requesterTenantId)) {
+            throw new ForbiddenException("Tenant access required");
+        }
+        if (!tenantRepository.existsById(tenantId)) {
+            throw new NotFoundException("Tenant not found");
+        }
+        return new ImportSession(
+                tenantId,
+                currentUser.userId(),
+                new HashSet<>(productRepository.findSlugsByTenantId(tenantId)),
+                new HashSet<>(productRepository.findSkusByTenantId(tenantId))
+        );
+    }
+
+    public ImportBatchResult importBatch(ImportSession session, List<ImportRow> rows) {
+        List<ImportRowError> errors = new ArrayList<>();
+        List<Product> toSave = new ArrayList<>();
+        List<String> baseSlugs = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>();
+        Set<String> reservedSlugs = new HashSet<>();
+        Set<String> reservedSkus = new HashSet<>();
+        for (ImportRow row : rows) {
+            Product product = row.product();
+            try {
+                String slugInput = product.getSlug();
+                if (slugInput == null || slugInput.isBlank()) {
+                    slugInput = product.getName();
+                }
+                String baseSlug = slugify(slugInput);
+                if (baseSlug.isBlank()) {
+                    throw new BadRequestException("Product slug cannot be empty");
+                }
+                String sku = product.getSku();
+                if (sku != null && !sku.isBlank()) {
+                    sku = sku.trim();
+                    if (session.skus().contains(sku) || reservedSkus.contains(sku)) {
+                        throw new ConflictException("Product SKU already exists");
+                    }
+                } else {
+                    sku = null;
+                }
+                if (product.getStatus() == null) {
+                    product.setStatus(ProductStatus.ACTIVE);
+                }
+                if (product.getAvailability() == null) {
+                    product.setAvailability(ProductAvailability.IN_STOCK);
+                }
+                validatePricing(product.getInitialPrice(), product.getFinalPrice());
+                validatePreorder(product.getStatus(), product.getAvailability(), product.getAvailabilityText());
+
+                String slug = resolveUniqueSlug(baseSlug, session.slugs(), reservedSlugs);
+                reservedSlugs.add(slug);
+                if (sku != null) {
+                    reservedSkus.add(sku);
+                }
+                product.setSlug(slug);
+                product.setSku(sku);
+                product.setTenantId(session.tenantId());
+                if (product.getCreatedBy() == null) {
+                    product.setCreatedBy(session.userId());
+                }
+                product.setUpdatedBy(session.userId());
+                toSave.add(product);
+                baseSlugs.add(baseSlug);
+                rowNumbers.add(row.rowNumber());
+            } catch (RuntimeException ex) {
+                errors.add(new ImportRowError(row.rowNumber(), ex.getMessage()));
+            }
+        }
+        if (toSave.isEmpty()) {
+            return new ImportBatchResult(0, errors);
+        }
+
+        List<Product> saved;
+        try {
+            saved = saveImportChunk(session, toSave, baseSlugs, reservedSlugs);
+            session.slugs().addAll(reservedSlugs);
+            session.skus().addAll(reservedSkus);
+        } catch (ConflictException ex) {
+            // The chunk is rolled back as a whole; save row by row so only the offending rows fail.
+            saved = saveImportRows(session, toSave, baseSlugs, rowNumbers, errors);
+            if (saved.isEmpty()) {
+                return new ImportBatchResult(0, errors);
+            }
+        }
+        List<ProductPriceHistory> histories = new ArrayList<>(saved.size());
+        for (Product product : saved) {
+            histories.add(buildPriceHistory(product, session.userId()));
+        }
+        priceHistoryRepository.saveAll(histories);
+        refreshStockProjections(saved);
+        productSearchIndex.indexAll(saved);
+        return new ImportBatchResult(saved.size(), errors);
+    }
+
+    private List<Product> saveImportChunk(
+            ImportSession session,
+            List<Product> toSave,
+            List<String> baseSlugs,
+            Set<String> reservedSlugs
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return productRepository.saveAll(toSave);
+            } catch (DuplicateSlugException ex) {
+                // Another writer took one of the slugs since the session was opened.
+                if (attempt >= SlugAllocator.MAX_ATTEMPTS) {
+                    throw new ConflictException("Unable to generate unique slug");
+                }
+                session.slugs().clear();
+                session.slugs().addAll(productRepository.findSlugsByTenantId(session.tenantId()));
+                reservedSlugs.clear();
+                for (int i = 0; i < toSave.size(); i++) {
+                    String slug = resolveUniqueSlug(baseSlugs.get(i), session.slugs(), reservedSlugs);
+                    reservedSlugs.add(slug);
+                    toSave.get(i).setSlug(slug);
+                }
+            }
+        }
+    }
+
+    private List<Product> saveImportRows(
+            ImportSession session,
+            List<Product> toSave,
+            List<String> baseSlugs,
+            List<Integer> rowNumbers,
+            List<ImportRowError> errors
+    ) {
+        List<Product> saved = new ArrayList<>();
+        for (int i = 0; i < toSave.size(); i++) {
+            try {
+                Product product = saveWithUniqueSlug(toSave.get(i), baseSlugs.get(i));
+                session.slugs().add(product.getSlug());
+                if (product.getSku() != null) {
+                    session.skus().add(product.getSku());
+                }
+                saved.add(product);
+            } catch (ConflictException ex) {
+                errors.add(new ImportRowError(rowNumbers.get(i), ex.getMessage()));
+            }
+        }
+        errors.sort(Comparator.comparingInt(ImportRowError::rowNumber));
         return saved;
     }
 
@@ -213,14 +435,14 @@ public class ProductUseCase {
             throw new ForbiddenException("Tenant access required");
         }
 
+        String newBaseSlug = null;
         if (slug != null && !slug.isBlank()) {
             String baseSlug = slugify(slug);
             if (baseSlug.isBlank()) {
                 throw new BadRequestException("Product slug cannot be empty");
             }
             if (!baseSlug.equals(product.getSlug())) {
-                String resolvedSlug = resolveUniqueSlug(product.getTenantId(), baseSlug, id);
-                product.setSlug(resolvedSlug);
+                newBaseSlug = baseSlug;
             }
         }
 
@@ -260,7 +482,9 @@ public class ProductUseCase {
         validatePricing(product.getInitialPrice(), product.getFinalPrice());
         validatePreorder(product.getStatus(), product.getAvailability(), product.getAvailabilityText());
 
-        Product saved = productRepository.save(product);
+        Product saved = newBaseSlug == null
+                ? productRepository.save(product)
+                : saveWithUniqueSlug(product, newBaseSlug);
 
         if (priceChanged(previousInitial, saved.getInitialPrice())
                 || priceChanged(previousFinal, saved.getFinalPrice())) {
@@ -277,6 +501,8 @@ public class ProductUseCase {
             replaceInventory(saved.getId(), saved.getTenantId(), inventories);
         }
 
+        refreshStockProjections(saved);
+        productSearchIndex.index(saved);
         return saved;
     }
 
@@ -329,7 +555,7 @@ public class ProductUseCase {
                 .toList();
     }
 
-    public List<ProductOptionGroup> replaceProductOptions(Long productId, List<ProductOptionGroup> groups) {
+    public OptionsReplacement replaceProductOptions(Long productId, List<ProductOptionGroup> groups) {
         CurrentUser currentUser = currentUserProvider.requireUser();
         Product product = getProduct(productId);
         Long tenantId = product.getTenantId();
@@ -359,6 +585,7 @@ public class ProductUseCase {
                     continue;
                 }
                 ProductOptionValue cleaned = new ProductOptionValue();
+                cleaned.setId(value.getId());
                 cleaned.setValue(val);
                 cleaned.setHexColor(value.getHexColor());
                 cleaned.setDisplayOrder(value.getDisplayOrder() == null ? order : value.getDisplayOrder());
@@ -369,6 +596,7 @@ public class ProductUseCase {
                 continue;
             }
             ProductOption cleanedOption = new ProductOption();
+            cleanedOption.setId(incoming.getId());
             cleanedOption.setName(name);
             cleanedOption.setType(incoming.getType());
             cleanedOption.setRequired(incoming.isRequired());
@@ -380,17 +608,11 @@ public class ProductUseCase {
 
         validateOptionGroups(requested);
 
-        deleteVariantsForProduct(productId);
-        deleteOptionsForProduct(productId);
-
-        if (requested.isEmpty()) {
-            return List.of();
-        }
-
-        List<ProductOption> optionsToSave = new ArrayList<>();
+        List<ProductOptionGroup> desired = new ArrayList<>();
         for (int i = 0; i < requested.size(); i++) {
             ProductOption incoming = requested.get(i).option();
             ProductOption option = new ProductOption();
+            option.setId(incoming.getId());
             option.setTenantId(tenantId);
             option.setProductId(productId);
             option.setName(incoming.getName().trim());
@@ -399,40 +621,33 @@ public class ProductUseCase {
             option.setUsedForVariants(incoming.isUsedForVariants());
             option.setDisplayOrder(resolveDisplayOrder(incoming.getDisplayOrder(), i));
             option.setCreatedBy(currentUser.userId());
-            optionsToSave.add(option);
-        }
-        List<ProductOption> savedOptions = productOptionRepository.saveAll(optionsToSave);
 
-        List<ProductOptionValue> valuesToSave = new ArrayList<>();
-        for (int i = 0; i < savedOptions.size(); i++) {
-            ProductOption savedOption = savedOptions.get(i);
-            List<ProductOptionValue> incomingValues = requested.get(i).values();
+            List<ProductOptionValue> values = new ArrayList<>();
             int valueOrder = 0;
-            for (ProductOptionValue incomingValue : incomingValues) {
+            for (ProductOptionValue incomingValue : requested.get(i).values()) {
                 ProductOptionValue value = new ProductOptionValue();
+                value.setId(incomingValue.getId());
                 value.setTenantId(tenantId);
-                value.setOptionId(savedOption.getId());
                 value.setValue(incomingValue.getValue().trim());
                 value.setHexColor(normalizeHex(incomingValue.getHexColor()));
                 value.setDisplayOrder(resolveDisplayOrder(incomingValue.getDisplayOrder(), valueOrder));
                 value.setCreatedBy(currentUser.userId());
-                valuesToSave.add(value);
+                values.add(value);
                 valueOrder += 1;
             }
+            desired.add(new ProductOptionGroup(option, values));
         }
-        List<ProductOptionValue> savedValues = valuesToSave.isEmpty()
-                ? List.of()
-                : productOptionValueRepository.saveAll(valuesToSave);
 
-        var valuesByOption = savedValues.stream()
-                .collect(Collectors.groupingBy(ProductOptionValue::getOptionId));
-
-        return savedOptions.stream()
-                .map(option -> new ProductOptionGroup(
-                        option,
-                        valuesByOption.getOrDefault(option.getId(), List.of())
-                ))
-                .toList();
+        ProductStructureSynchronizer.OptionsResult result = productStructureSynchronizer.syncOptions(productId, desired);
+        if (result.variantsRemoved()) {
+            List<ProductVariant> remaining = productVariantRepository.findByProductId(productId);
+            if (remaining.isEmpty()) {
+                refreshStockProjections(product);
+            } else {
+                refreshProductGlobalStockFromVariants(product, remaining, currentUser.userId());
+            }
+        }
+        return new OptionsReplacement(result.options(), result.changes());
     }
 
     public List<ProductVariantGroup> listProductVariants(Long productId) {
@@ -459,27 +674,26 @@ public class ProductUseCase {
                 .toList();
     }
 
-    public List<ProductVariantGroup> replaceProductVariants(Long productId, List<ProductVariantGroup> groups) {
+    public VariantsReplacement replaceProductVariants(Long productId, List<ProductVariantGroup> groups) {
         CurrentUser currentUser = currentUserProvider.requireUser();
         Product product = getProduct(productId);
         Long tenantId = product.getTenantId();
         List<ProductVariantGroup> requested = groups == null ? List.of() : groups;
 
         validateVariantGroups(productId, tenantId, requested);
-
-        deleteVariantsForProduct(productId);
-
-        if (requested.isEmpty()) {
-            product.setStockQuantity(null);
-            product.setUpdatedBy(currentUser.userId());
-            productRepository.save(product);
-            return List.of();
-        }
-
-        List<ProductVariant> savedVariants = new ArrayList<>();
+        requireTenantStores(tenantId, requested.stream()
+                .filter(group -> group.variant() != null && group.variant().isTrackStock())
+                .filter(group -> group.inventories() != null)
+                .flatMap(group -> group.inventories().stream())
+                .filter(Objects::nonNull)
+                .map(VariantStoreInventory::getStoreId)
+                .toList());
+
+        List<ProductVariantGroup> desired = new ArrayList<>();
         for (ProductVariantGroup group : requested) {
             ProductVariant incoming = group.variant();
             ProductVariant variant = new ProductVariant();
+            variant.setId(incoming.getId());
             variant.setTenantId(tenantId);
             variant.setProductId(productId);
             variant.setSku(normalizeSku(incoming.getSku()));
@@ -507,35 +721,27 @@ public class ProductUseCase {
             variant.setProductImageId(incoming.getProductImageId());
             variant.setCreatedBy(currentUser.userId());
             variant.setUpdatedBy(currentUser.userId());
-            ProductVariant savedVariant = productVariantRepository.save(variant);
-            savedVariants.add(savedVariant);
-            if (trackStock) {
-                replaceVariantInventory(savedVariant.getId(), tenantId, group.inventories());
-            }
+            List<VariantStoreInventory> inventories = trackStock
+                    ? buildVariantInventory(null, tenantId, group.inventories())
+                    : List.of();
+            desired.add(new ProductVariantGroup(variant, group.optionValueIds(), inventories));
         }
 
-        List<VariantOptionValue> linksToSave = new ArrayList<>();
-        for (int i = 0; i < savedVariants.size(); i++) {
-            ProductVariant savedVariant = savedVariants.get(i);
-            List<Long> optionValueIds = requested.get(i).optionValueIds();
-            if (optionValueIds == null || optionValueIds.isEmpty()) {
-                continue;
-            }
-            Set<Long> uniqueOptionIds = new LinkedHashSet<>(optionValueIds);
-            for (Long optionValueId : uniqueOptionIds) {
-                VariantOptionValue link = new VariantOptionValue();
-                link.setTenantId(tenantId);
-                link.setVariantId(savedVariant.getId());
-                link.setOptionValueId(optionValueId);
-                linksToSave.add(link);
-            }
-        }
-        if (!linksToSave.isEmpty()) {
-            variantOptionValueRepository.saveAll(linksToSave);
+        ProductStructureSynchronizer.VariantsResult result =
+                productStructureSynchronizer.syncVariants(productId, desired, currentUser.userId());
+
+        if (result.variants().isEmpty()) {
+            product.setStockQuantity(null);
+            product.setUpdatedBy(currentUser.userId());
+            refreshStockProjections(productRepository.save(product));
+            return new VariantsReplacement(List.of(), result.changes());
         }
+        List<ProductVariant> savedVariants = result.variants().stream()
+                .map(ProductVariantGroup::variant)
+                .toList();
         refreshProductGlobalStockFromVariants(product, savedVariants, currentUser.userId());
 
-        return listProductVariants(productId);
+        return new VariantsReplacement(result.variants(), result.changes());
     }
 
     public String suggestProductDescription(
@@ -552,7 +758,7 @@ public class ProductUseCase {
         String resolvedLanguage = language == null || language.isBlank() ? "FR" : language.trim();
         int resolvedMaxSentences = maxSentences == null || maxSentences < 1 ? 2 : Math.min(maxSentences, 4);
         String resolvedTone = tone == null || tone.isBlank() ? "neutre" : tone.trim();
-        String categoryContext = resolvePrimaryCategoryContext(product.getId());
+        String categoryContext = resolvePrimaryCategoryContext(product);
         String prompt = buildProductDescriptionPrompt(
                 product.getName(),
                 product.getDescription(),
@@ -574,6 +780,16 @@ public class ProductUseCase {
         return productRepository.findByTenantId(tenantId);
     }
 
+    public ExportStream<Product> exportProducts(Long tenantId) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        Long requesterTenantId = currentUser.tenantId();
+        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
+        if (!isSuperAdmin && !tenantId.equals(requesterTenantId)) {
+            throw new ForbiddenException("Tenant access required");
+        }
+        return consumer -> productRepository.streamByTenantId(tenantId, consumer);
+    }
+
     public PageResult<Product> listProducts(PageRequest request, Long tenantId) {
         CurrentUser currentUser = currentUserProvider.requireUser();
         Long requesterTenantId = currentUser.tenantId();
@@ -594,7 +810,8 @@ public class ProductUseCase {
             BigDecimal minPrice,
             BigDecimal maxPrice,
             String search,
-            Long categoryId
+            Long categoryId,
+            boolean includeDescendants
     ) {
         CurrentUser currentUser = currentUserProvider.requireUser();
         Long requesterTenantId = currentUser.tenantId();
@@ -603,20 +820,213 @@ public class ProductUseCase {
             throw new ForbiddenException("Tenant access required");
         }
         PageRequest resolved = PageRequest.of(request.page(), request.size());
-        String normalizedSearch = search == null
-                ? ""
-                : search.trim().toLowerCase();
-        return productRepository.searchProducts(
-                resolved,
+        String query = normalizeSearch(search);
+        if (query == null) {
+            return productRepository.searchProducts(
+                    resolved,
+                    tenantId,
+                    status,
+                    availability,
+                    stockLow,
+                    minPrice,
+                    maxPrice,
+                    null,
+                    categoryId,
+                    includeDescendants
+            );
+        }
+        if (productSearchIndex.matchesInDatabase()) {
+            return productRepository.searchProductsMatching(
+                    resolved,
+                    tenantId,
+                    status,
+                    availability,
+                    stockLow,
+                    minPrice,
+                    maxPrice,
+                    query,
+                    categoryId,
+                    includeDescendants
+            );
+        }
+        // Other indexes rank at most MAX_SEARCH_HITS candidates; filters, paging and
+        // the total apply to that capped set.
+        List<Long> ids = productSearchIndex.searchIds(tenantId, query, MAX_SEARCH_HITS);
+        if (ids.isEmpty()) {
+            return PageResult.of(List.of(), resolved.page(), resolved.size(), 0);
+        }
+        List<Product> ranked = rankByIds(productRepository.searchProducts(
+                PageRequest.of(0, ids.size()),
                 tenantId,
                 status,
                 availability,
                 stockLow,
                 minPrice,
                 maxPrice,
-                normalizedSearch,
-                categoryId
+                ids,
+                categoryId,
+                includeDescendants
+        ).items(), ids);
+        int from = (int) Math.min((long) resolved.page() * resolved.size(), ranked.size());
+        int to = Math.min(from + resolved.size(), ranked.size());
+        return PageResult.of(ranked.subList(from, to), resolved.page(), resolved.size(), ranked.size());
+    }
+
+    public List<ProductSearchResult> searchProducts(Long tenantId, String query, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        Long requesterTenantId = currentUser.tenantId();
+        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
+        if (!isSuperAdmin && !tenantId.equals(requesterTenantId)) {
+            throw new ForbiddenException("Tenant access required");
+        }
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        int resolvedLimit = limit == null || limit < 1 ? 20 : Math.min(limit, MAX_SEARCH_HITS);
+        List<ProductSearchIndex.SearchHit> hits = productSearchIndex.search(
+                tenantId,
+                query.trim().toLowerCase(),
+                resolvedLimit
         );
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> matchingIds = hits.stream().map(ProductSearchIndex.SearchHit::productId).toList();
+        Map<Long, Product> products = productRepository.searchProducts(
+                PageRequest.of(0, matchingIds.size()),
+                tenantId,
+                null,
+                null,
+                null,
+                null,
+                null,
+                matchingIds,
+                null,
+                false
+        ).items().stream().collect(Collectors.toMap(Product::getId, product -> product));
+        List<ProductSearchResult> results = new ArrayList<>();
+        for (ProductSearchIndex.SearchHit hit : hits) {
+            Product product = products.get(hit.productId());
+            if (product != null) {
+                results.add(new ProductSearchResult(product, hit.score(), hit.highlight()));
+            }
+        }
+        return results;
+    }
+
+    public CursorPageResult<Product> listProducts(
+            CursorPageRequest request,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String search,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        Long requesterTenantId = currentUser.tenantId();
+        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
+        if (!isSuperAdmin && !tenantId.equals(requesterTenantId)) {
+            throw new ForbiddenException("Tenant access required");
+        }
+        CursorPageRequest resolved = CursorPageRequest.of(request.after(), request.size(), request.skipTotal());
+        KeysetCursor after = KeysetCursor.decode(resolved.after());
+        String query = normalizeSearch(search);
+        List<Product> rows;
+        Long totalItems;
+        if (query != null && productSearchIndex.matchesInDatabase()) {
+            rows = productRepository.searchProductsMatchingAfter(
+                    after,
+                    resolved.size() + 1,
+                    tenantId,
+                    status,
+                    availability,
+                    stockLow,
+                    minPrice,
+                    maxPrice,
+                    query,
+                    categoryId,
+                    includeDescendants
+            );
+            totalItems = resolved.skipTotal()
+                    ? null
+                    : productRepository.countProductsMatching(
+                            tenantId,
+                            status,
+                            availability,
+                            stockLow,
+                            minPrice,
+                            maxPrice,
+                            query,
+                            categoryId,
+                            includeDescendants
+                    );
+        } else {
+            // Without a database-side match the cursor walks the capped candidate set.
+            List<Long> matchingIds = query == null
+                    ? null
+                    : productSearchIndex.searchIds(tenantId, query, MAX_SEARCH_HITS);
+            if (matchingIds != null && matchingIds.isEmpty()) {
+                rows = List.of();
+                totalItems = resolved.skipTotal() ? null : 0L;
+            } else {
+                rows = productRepository.searchProductsAfter(
+                        after,
+                        resolved.size() + 1,
+                        tenantId,
+                        status,
+                        availability,
+                        stockLow,
+                        minPrice,
+                        maxPrice,
+                        matchingIds,
+                        categoryId,
+                        includeDescendants
+                );
+                totalItems = resolved.skipTotal()
+                        ? null
+                        : productRepository.countProducts(
+                                tenantId,
+                                status,
+                                availability,
+                                stockLow,
+                                minPrice,
+                                maxPrice,
+                                matchingIds,
+                                categoryId,
+                                includeDescendants
+                        );
+            }
+        }
+        List<Product> items = rows.size() > resolved.size()
+                ? rows.subList(0, resolved.size())
+                : rows;
+        String nextCursor = null;
+        if (rows.size() > resolved.size()) {
+            Product last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResult.of(items, resolved.size(), nextCursor, totalItems);
+    }
+
+    private String normalizeSearch(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return search.trim().toLowerCase();
+    }
+
+    private List<Product> rankByIds(List<Product> products, List<Long> rankedIds) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            ranks.putIfAbsent(rankedIds.get(i), i);
+        }
+        List<Product> ranked = new ArrayList<>(products);
+        ranked.sort(Comparator.comparing(product -> ranks.getOrDefault(product.getId(), Integer.MAX_VALUE)));
+        return ranked;
     }
 
     public PageResult<ProductPriceHistory> listPriceHistory(PageRequest request, Long productId) {
@@ -645,18 +1055,7 @@ public class ProductUseCase {
     }
 
     public boolean isLowStock(Product product) {
-        if (product == null) {
-            return false;
-        }
-        if (productVariantRepository.existsByProductId(product.getId())) {
-            return productVariantRepository.existsLowStockByProductId(product.getId());
-        }
-        if (!product.isTrackStock()) {
-            Integer threshold = product.getLowStockThreshold();
-            Integer quantity = product.getStockQuantity();
-            return threshold != null && quantity != null && quantity <= threshold;
-        }
-        return inventoryRepository.existsLowStockByProductId(product.getId());
+        return product != null && product.isLowStock();
     }
 
     public void deleteProduct(Long id) {
@@ -668,12 +1067,8 @@ public class ProductUseCase {
         if (!isSuperAdmin && !product.getTenantId().equals(requesterTenantId)) {
             throw new ForbiddenException("Tenant access required");
         }
-        deleteVariantsForProduct(id);
-        deleteOptionsForProduct(id);
-        productCategoryRepository.deleteByProductId(id);
-        productImageRepository.deleteByProductId(id);
-        inventoryRepository.deleteByProductId(id);
-        productRepository.delete(product);
+        productRepository.deleteCascadeByIdIn(List.of(id));
+        productSearchIndex.remove(id);
     }
 
     public ProductImage addProductImage(Long productId, ProductImage image) {
@@ -722,6 +1117,18 @@ public class ProductUseCase {
         return productImageRepository.save(image);
     }
 
+    public boolean attachProductImageVariants(
+            Long imageId,
+            String imageUrl,
+            Integer focusX,
+            Integer focusY,
+            List<ProductImageVariant> variants
+    ) {
+        // Only the variants column is written, and only while url and focus still match
+        // what the derivatives were built from, so a concurrent focus edit is never lost.
+        return productImageRepository.updateVariantsIfUnchanged(imageId, imageUrl, focusX, focusY, variants);
+    }
+
     public List<ProductImage> listProductImages(Long productId) {
         getProduct(productId);
         return productImageRepository.findByProductId(productId);
@@ -729,58 +1136,7 @@ public class ProductUseCase {
 
     public List<StoreRef> listActiveStores(Long productId) {
         Product product = getProduct(productId);
-        if (productVariantRepository.existsByProductId(productId)) {
-            List<ProductVariant> variants = productVariantRepository.findByProductId(productId);
-            Set<Long> visibleStoreIds = new LinkedHashSet<>();
-            List<StoreRef> stores = new ArrayList<>();
-
-            boolean hasGlobalVariantStock = variants.stream().anyMatch(this::isVisibleGlobalVariant);
-            if (hasGlobalVariantStock) {
-                List<Store> tenantStores = storeRepository.findByTenantId(product.getTenantId());
-                for (Store store : tenantStores) {
-                    if (store != null && store.isActive() && visibleStoreIds.add(store.getId())) {
-                        stores.add(new StoreRef(store.getId(), store.getName()));
-                    }
-                }
-            }
-
-            Map<Long, ProductVariant> variantsById = variants.stream()
-                    .collect(Collectors.toMap(ProductVariant::getId, variant -> variant, (a, b) -> a));
-            List<Long> variantIds = variants.stream()
-                    .filter(ProductVariant::isTrackStock)
-                    .map(ProductVariant::getId)
-                    .toList();
-            if (!variantIds.isEmpty()) {
-                List<VariantStoreInventory> inventories = variantStoreInventoryRepository.findByVariantIds(variantIds);
-                for (VariantStoreInventory inventory : inventories) {
-                    ProductVariant variant = inventory == null ? null : variantsById.get(inventory.getVariantId());
-                    if (!isVisibleVariantStoreInventory(variant, inventory)) {
-                        continue;
-                    }
-                    Store store = storeRepository.findById(inventory.getStoreId()).orElse(null);
-                    if (store != null && store.isActive() && visibleStoreIds.add(store.getId())) {
-                        stores.add(new StoreRef(store.getId(), store.getName()));
-                    }
-                }
-            }            
-            return stores;
-        }
-        if (!product.isTrackStock()) {
-            return List.of();
-        }
-        List<ProductStoreInventory> inventories = inventoryRepository.findByProductId(productId);
-        List<StoreRef> stores = new ArrayList<>();
-        Set<Long> visibleStoreIds = new LinkedHashSet<>();
-        for (ProductStoreInventory inventory : inventories) {
-            if (!isVisibleProductStoreInventory(inventory)) {
-                continue;
-            }
-            Store store = storeRepository.findById(inventory.getStoreId()).orElse(null);
-            if (store != null && store.isActive() && store.getName() != null && visibleStoreIds.add(store.getId())) {
-                stores.add(new StoreRef(store.getId(), store.getName()));
-            }
-        }
-        return stores;
+        return productListAssembler.listActiveStores(List.of(product)).getOrDefault(productId, List.of());
     }
 
     public void deleteProductImage(Long productId, Long imageId) {
@@ -840,30 +1196,6 @@ public class ProductUseCase {
         return variant != null && (variant.getStatus() == null || variant.getStatus() == VariantStatus.ACTIVE);
     }
 
-    private boolean isVisibleVariantStoreInventory(ProductVariant variant, VariantStoreInventory inventory) {
-        return variant != null
-                && variant.isTrackStock()
-                && isVariantActive(variant)
-                && inventory != null
-                && inventory.getStoreId() != null
-                && inventory.isActiveInStore()
-                && hasPositiveQuantity(inventory.getQuantity());
-    }
-
-    private boolean isVisibleGlobalVariant(ProductVariant variant) {
-        return variant != null
-                && !variant.isTrackStock()
-                && isVariantActive(variant)
-                && hasPositiveQuantity(variant.getStockQuantity());
-    }
-
-    private boolean isVisibleProductStoreInventory(ProductStoreInventory inventory) {
-        return inventory != null
-                && inventory.getStoreId() != null
-                && inventory.isActiveInStore()
-                && hasPositiveQuantity(inventory.getQuantity());
-    }
-
     private void refreshProductGlobalStockFromVariants(Product product, List<ProductVariant> variants, Long updatedBy) {
         if (product == null || variants == null || variants.isEmpty()) {
             return;
@@ -903,9 +1235,42 @@ public class ProductUseCase {
         product.setStockQuantity(totalGlobalStock);
         product.setUpdatedBy(updatedBy);
         productRepository.save(product);
+        refreshStockProjections(product);
+    }
+
+    private void refreshStockProjections(Product product) {
+        productLowStockService.refresh(product);
+        storeProductVisibilityService.refresh(product);
+    }
+
+    private void refreshStockProjections(List<Product> products) {
+        productLowStockService.refresh(products);
+        storeProductVisibilityService.refresh(products);
     }
 
     public List<Product> listProductsForStore(Long storeId) {
+        Store store = requireStoreAccess(storeId);
+        List<Product> products = new ArrayList<>();
+        int page = 0;
+        PageResult<Product> result;
+        do {
+            result = productRepository.findVisibleInStore(
+                    PageRequest.of(page++, STORE_PRODUCTS_BATCH_SIZE),
+                    store.getTenantId(),
+                    storeId
+            );
+            products.addAll(result.items());
+        } while (result.hasNext());
+        return products;
+    }
+
+    public PageResult<Product> listProductsForStore(PageRequest request, Long storeId) {
+        Store store = requireStoreAccess(storeId);
+        PageRequest resolved = PageRequest.of(request.page(), request.size());
+        return productRepository.findVisibleInStore(resolved, store.getTenantId(), storeId);
+    }
+
+    private Store requireStoreAccess(Long storeId) {
         CurrentUser currentUser = currentUserProvider.requireUser();
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new NotFoundException("Store not found"));
@@ -914,161 +1279,126 @@ public class ProductUseCase {
         if (!isSuperAdmin && !store.getTenantId().equals(requesterTenantId)) {
             throw new ForbiddenException("Tenant access required");
         }
-        List<Product> products = productRepository.findByTenantId(store.getTenantId());
-        if (products.isEmpty()) {
-            return List.of();
-        }
-        List<Long> productIds = products.stream().map(Product::getId).toList();
-        List<ProductVariant> variants = productVariantRepository.findByProductIds(productIds);
-        Map<Long, List<ProductVariant>> variantsByProductId = variants.stream()
-                .collect(Collectors.groupingBy(ProductVariant::getProductId));
-        Map<Long, ProductVariant> variantById = new HashMap<>();
-        for (ProductVariant variant : variants) {
-            variantById.put(variant.getId(), variant);
-        }
-
-        List<VariantStoreInventory> variantInventories = variantStoreInventoryRepository.findByStoreId(storeId);
-        Set<Long> variantVisibleProductIds = new LinkedHashSet<>();
-        for (VariantStoreInventory inventory : variantInventories) {
-            ProductVariant variant = variantById.get(inventory.getVariantId());
-            if (!isVisibleVariantStoreInventory(variant, inventory)) {
-                continue;
-            }
-            variantVisibleProductIds.add(variant.getProductId());
-        }
-        Set<Long> globalVariantVisibleProductIds = variants.stream()
-                .filter(this::isVisibleGlobalVariant)
-                .map(ProductVariant::getProductId)
-                .collect(Collectors.toSet());
-
-        List<ProductStoreInventory> inventories = inventoryRepository.findByStoreId(storeId);
-        Set<Long> activeProductIds = inventories.stream()
-                .filter(this::isVisibleProductStoreInventory)
-                .map(ProductStoreInventory::getProductId)
-                .collect(Collectors.toSet());
-
-        return products.stream()
-                .filter(product -> {
-                    List<ProductVariant> productVariants = variantsByProductId.get(product.getId());
-                    if (productVariants != null && !productVariants.isEmpty()) {
-                        return variantVisibleProductIds.contains(product.getId())
-                                || globalVariantVisibleProductIds.contains(product.getId());
-                    }
-                    if (!product.isTrackStock()) {
-                        return true;
-                    }
-                    return activeProductIds.contains(product.getId());
-                })
-                .toList();
+        return store;
     }
 
-    public int bulkUpdatePricing(
+    public BulkActionResult bulkUpdatePricing(
             List<Long> productIds,
             java.math.BigDecimal initialPrice,
             java.math.BigDecimal finalPrice,
             java.math.BigDecimal shippingPrice,
             java.math.BigDecimal shippingCostPrice
     ) {
-        if (productIds == null || productIds.isEmpty()) {
-            throw new BadRequestException("Product ids are required");
-        }
         CurrentUser currentUser = currentUserProvider.requireUser();
-        Long requesterTenantId = currentUser.tenantId();
-        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
-        List<Product> toUpdate = new ArrayList<>();
+        List<Long> requestedIds = normalizeBulkIds(productIds);
+        Map<Long, String> errors = new HashMap<>();
+        List<Long> toUpdate = new ArrayList<>();
         List<ProductPriceHistory> histories = new ArrayList<>();
-        for (Long id : productIds) {
-            Product product = productRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Product not found"));
-            if (!isSuperAdmin && !product.getTenantId().equals(requesterTenantId)) {
-                throw new ForbiddenException("Tenant access required");
-            }
+        for (Product product : loadBulkTargets(requestedIds, currentUser, errors)) {
             BigDecimal previousInitial = product.getInitialPrice();
             BigDecimal previousFinal = product.getFinalPrice();
-            BigDecimal nextInitial = initialPrice != null ? initialPrice : product.getInitialPrice();
-            BigDecimal nextFinal = finalPrice != null ? finalPrice : product.getFinalPrice();
-            validatePricing(nextInitial, nextFinal);
-            if (initialPrice != null) {
-                product.setInitialPrice(initialPrice);
-            }
-            if (finalPrice != null) {
-                product.setFinalPrice(finalPrice);
-            }
-            if (shippingPrice != null) {
-                product.setShippingPrice(shippingPrice);
-            }
-            if (shippingCostPrice != null) {
-                product.setShippingCostPrice(shippingCostPrice);
+            BigDecimal nextInitial = initialPrice != null ? initialPrice : previousInitial;
+            BigDecimal nextFinal = finalPrice != null ? finalPrice : previousFinal;
+            try {
+                validatePricing(nextInitial, nextFinal);
+            } catch (BadRequestException ex) {
+                errors.put(product.getId(), ex.getMessage());
+                continue;
             }
-            product.setUpdatedBy(currentUser.userId());
-            toUpdate.add(product);
+            toUpdate.add(product.getId());
             if (priceChanged(previousInitial, nextInitial)
                     || priceChanged(previousFinal, nextFinal)) {
+                product.setInitialPrice(nextInitial);
+                product.setFinalPrice(nextFinal);
                 histories.add(buildPriceHistory(product, currentUser.userId()));
             }
         }
-        if (!toUpdate.isEmpty()) {
-            productRepository.saveAll(toUpdate);
-        }
+        productRepository.updatePricingByIdIn(
+                toUpdate,
+                initialPrice,
+                finalPrice,
+                shippingPrice,
+                shippingCostPrice,
+                currentUser.userId()
+        );
         if (!histories.isEmpty()) {
             priceHistoryRepository.saveAll(histories);
         }
-        return toUpdate.size();
+        return toBulkResult(requestedIds, errors);
     }
 
-    public int bulkDeleteProducts(List<Long> productIds) {
-        if (productIds == null || productIds.isEmpty()) {
-            throw new BadRequestException("Product ids are required");
+    public BulkActionResult bulkDeleteProducts(List<Long> productIds) {
+        CurrentUser currentUser = currentUserProvider.requireUser();
+        List<Long> requestedIds = normalizeBulkIds(productIds);
+        Map<Long, String> errors = new HashMap<>();
+        List<Long> toDelete = loadBulkTargets(requestedIds, currentUser, errors).stream()
+                .map(Product::getId)
+                .toList();
+        productRepository.deleteCascadeByIdIn(toDelete);
+        productSearchIndex.removeAll(toDelete);
+        return toBulkResult(requestedIds, errors);
+    }
+
+    public BulkActionResult bulkUpdateStatus(List<Long> productIds, ProductStatus status) {
+        List<Long> requestedIds = normalizeBulkIds(productIds);
+        if (status == null) {
+            throw new BadRequestException("Status is required");
         }
         CurrentUser currentUser = currentUserProvider.requireUser();
-        Long requesterTenantId = currentUser.tenantId();
-        boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
-        List<Product> toDelete = new ArrayList<>();
-        for (Long id : productIds) {
-            Product product = productRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Product not found"));
-            if (!isSuperAdmin && !product.getTenantId().equals(requesterTenantId)) {
-                throw new ForbiddenException("Tenant access required");
+        Map<Long, String> errors = new HashMap<>();
+        List<Long> toUpdate = new ArrayList<>();
+        for (Product product : loadBulkTargets(requestedIds, currentUser, errors)) {
+            if (status == ProductStatus.ACTIVE) {
+                try {
+                    validatePreorder(status, product.getAvailability(), product.getAvailabilityText());
+                } catch (BadRequestException ex) {
+                    errors.put(product.getId(), ex.getMessage());
+                    continue;
+                }
             }
-            toDelete.add(product);
+            toUpdate.add(product.getId());
         }
-        for (Product product : toDelete) {
-            productCategoryRepository.deleteByProductId(product.getId());
-            productImageRepository.deleteByProductId(product.getId());
-            inventoryRepository.deleteByProductId(product.getId());
-            productRepository.delete(product);
-        }
-        return toDelete.size();
+        productRepository.updateStatusByIdIn(toUpdate, status, currentUser.userId());
+        return toBulkResult(requestedIds, errors);
     }
 
-    public int bulkUpdateStatus(List<Long> productIds, ProductStatus status) {
+    private List<Long> normalizeBulkIds(List<Long> productIds) {
         if (productIds == null || productIds.isEmpty()) {
             throw new BadRequestException("Product ids are required");
         }
-        if (status == null) {
-            throw new BadRequestException("Status is required");
+        List<Long> ids = productIds.stream()
+                .filter(id -> id != null)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            throw new BadRequestException("Product ids are required");
         }
-        CurrentUser currentUser = currentUserProvider.requireUser();
-        Long requesterTenantId = currentUser.tenantId();
+        return ids;
+    }
+
+    private List<Product> loadBulkTargets(List<Long> ids, CurrentUser currentUser, Map<Long, String> errors) {
         boolean isSuperAdmin = currentUser.hasRole("SUPER_ADMIN");
-        List<Product> toUpdate = new ArrayList<>();
-        for (Long id : productIds) {
-            Product product = productRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Product not found"));
-            if (!isSuperAdmin && !product.getTenantId().equals(requesterTenantId)) {
-                throw new ForbiddenException("Tenant access required");
-            }
-            if (status == ProductStatus.ACTIVE) {
-                validatePreorder(status, product.getAvailability(), product.getAvailabilityText());
+        Map<Long, Product> productsById = productRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+        List<Product> targets = new ArrayList<>();
+        for (Long id : ids) {
+            Product product = productsById.get(id);
+            if (product == null) {
+                errors.put(id, "Product not found");
+            } else if (!isSuperAdmin && !product.getTenantId().equals(currentUser.tenantId())) {
+                errors.put(id, "Tenant access required");
+            } else {
+                targets.add(product);
             }
-            product.setStatus(status);
-            product.setUpdatedBy(currentUser.userId());
-            toUpdate.add(product);
-        }
-        if (!toUpdate.isEmpty()) {
-            productRepository.saveAll(toUpdate);
         }
-        return toUpdate.size();
+        return targets;
+    }
+
+    private BulkActionResult toBulkResult(List<Long> ids, Map<Long, String> errors) {
+        List<BulkItemOutcome> outcomes = ids.stream()
+                .map(id -> new BulkItemOutcome(id, !errors.containsKey(id), errors.get(id)))
+                .toList();
+        return new BulkActionResult(ids.size() - errors.size(), outcomes);
     }
 
     public BigDecimal getLowestPrice(Long productId) {
@@ -1098,10 +1428,12 @@ public class ProductUseCase {
         }
         uniqueIds.addAll(categoryIds);
 
+        CategoryTree tree = categoryTreeCache.tree(tenantId);
         List<ProductCategory> links = new ArrayList<>();
         int order = 0;
         for (Long categoryId : uniqueIds) {
-            Category category = categoryRepository.findById(categoryId)
+            Category category = tree.find(categoryId)
+                    .or(() -> categoryRepository.findById(categoryId))
                     .orElseThrow(() -> new NotFoundException("Category not found"));
             if (!tenantId.equals(category.getTenantId())) {
                 throw new ForbiddenException("Category belongs to another tenant");
@@ -1119,6 +1451,12 @@ public class ProductUseCase {
     }
 
     private void replaceInventory(Long productId, Long tenantId, List<ProductStoreInventory> inventories) {
+        if (inventories != null) {
+            requireTenantStores(tenantId, inventories.stream()
+                    .filter(Objects::nonNull)
+                    .map(ProductStoreInventory::getStoreId)
+                    .toList());
+        }
         inventoryRepository.deleteByProductId(productId);
         if (inventories == null || inventories.isEmpty()) {
             return;
@@ -1128,11 +1466,6 @@ public class ProductUseCase {
             if (inventory == null || inventory.getStoreId() == null) {
                 continue;
             }
-            Store store = storeRepository.findById(inventory.getStoreId())
-                    .orElseThrow(() -> new NotFoundException("Store not found"));
-            if (!tenantId.equals(store.getTenantId())) {
-                throw new ForbiddenException("Store belongs to another tenant");
-            }
             ProductStoreInventory entry = new ProductStoreInventory();
             entry.setTenantId(tenantId);
             entry.setProductId(productId);
@@ -1147,25 +1480,38 @@ public class ProductUseCase {
         }
     }
 
-    private void replaceVariantInventory(
+    private void requireTenantStores(Long tenantId, List<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Store> stores = storeDirectoryCache.resolve(tenantId, storeIds);
+        for (Long storeId : storeIds) {
+            if (storeId == null) {
+                continue;
+            }
+            Store store = stores.get(storeId);
+            if (store == null) {
+                throw new NotFoundException("Store not found");
+            }
+            if (!tenantId.equals(store.getTenantId())) {
+                throw new ForbiddenException("Store belongs to another tenant");
+            }
+        }
+    }
+
+    private List<VariantStoreInventory> buildVariantInventory(
             Long variantId,
             Long tenantId,
             List<VariantStoreInventory> inventories
     ) {
-        variantStoreInventoryRepository.deleteByVariantId(variantId);
         if (inventories == null || inventories.isEmpty()) {
-            return;
+            return List.of();
         }
         List<VariantStoreInventory> toSave = new ArrayList<>();
         for (VariantStoreInventory inventory : inventories) {
             if (inventory == null || inventory.getStoreId() == null) {
                 continue;
             }
-            Store store = storeRepository.findById(inventory.getStoreId())
-                    .orElseThrow(() -> new NotFoundException("Store not found"));
-            if (!tenantId.equals(store.getTenantId())) {
-                throw new ForbiddenException("Store belongs to another tenant");
-            }
             VariantStoreInventory entry = new VariantStoreInventory();
             entry.setTenantId(tenantId);
             entry.setVariantId(variantId);
@@ -1175,9 +1521,7 @@ public class ProductUseCase {
             entry.setActiveInStore(inventory.isActiveInStore());
             toSave.add(entry);
         }
-        if (!toSave.isEmpty()) {
-            variantStoreInventoryRepository.saveAll(toSave);
-        }
+        return toSave;
     }
 
     private void recordPriceHistory(Product product, Long changedBy) {
@@ -1222,23 +1566,25 @@ public class ProductUseCase {
         return previous.compareTo(next) != 0;
     }
 
-    private String resolveUniqueSlug(Long tenantId, String baseSlug, Long currentId) {
+    private Product saveWithUniqueSlug(Product product, String baseSlug) {
+        return SlugAllocator.saveWithUniqueSlug(
+                baseSlug,
+                () -> productRepository.findSlugsByTenantIdAndPrefix(product.getTenantId(), baseSlug, product.getId()),
+                slug -> {
+                    product.setSlug(slug);
+                    return productRepository.save(product);
+                }
+        );
+    }
+
+    private String resolveUniqueSlug(String baseSlug, Set<String> existing, Set<String> reserved) {
         String candidate = baseSlug;
         int suffix = 2;
-        while (true) {
-            boolean exists = productRepository.existsByTenantIdAndSlug(tenantId, candidate);
-            if (!exists) {
-                return candidate;
-            }
-            if (currentId != null) {
-                Product current = productRepository.findById(currentId).orElse(null);
-                if (current != null && candidate.equals(current.getSlug())) {
-                    return candidate;
-                }
-            }
+        while (existing.contains(candidate) || reserved.contains(candidate)) {
             candidate = baseSlug + "-" + suffix;
             suffix += 1;
         }
+        return candidate;
     }
 
     private String slugify(String value) {
@@ -1286,11 +1632,11 @@ public class ProductUseCase {
         );
     }
 
-    private String resolvePrimaryCategoryContext(Long productId) {
-        if (productId == null) {
+    private String resolvePrimaryCategoryContext(Product product) {
+        if (product.getId() == null) {
             return null;
         }
-        List<ProductCategory> links = productCategoryRepository.findByProductId(productId);
+        List<ProductCategory> links = productCategoryRepository.findByProductId(product.getId());
         Long primaryId = links.stream()
                 .filter(ProductCategory::isPrimary)
                 .map(ProductCategory::getCategoryId)
@@ -1299,54 +1645,12 @@ public class ProductUseCase {
         if (primaryId == null) {
             return null;
         }
-        Category category = categoryRepository.findById(primaryId).orElse(null);
+        CategoryTree tree = categoryTreeCache.tree(product.getTenantId());
+        Category category = tree.find(primaryId).orElse(null);
         if (category == null || category.getName() == null) {
             return null;
         }
-        return buildCategoryPath(category);
-    }
-
-    private String buildCategoryPath(Category category) {
-        List<String> parts = new ArrayList<>();
-        Category current = category;
-        int guard = 0;
-        while (current != null && guard < 10) {
-            if (current.getName() != null && !current.getName().isBlank()) {
-                parts.add(0, current.getName().trim());
-            }
-            Long parentId = current.getParentCategoryId();
-            if (parentId == null) {
-                break;
-            }
-            current = categoryRepository.findById(parentId).orElse(null);
-            guard += 1;
-        }
-        return parts.isEmpty() ? null : String.join(" > ", parts);
-    }
-
-    private void deleteVariantsForProduct(Long productId) {
-        List<ProductVariant> existing = productVariantRepository.findByProductId(productId);
-        if (existing.isEmpty()) {
-            return;
-        }
-        List<Long> variantIds = existing.stream()
-                .map(ProductVariant::getId)
-                .toList();
-        variantStoreInventoryRepository.deleteByVariantIds(variantIds);
-        variantOptionValueRepository.deleteByVariantIds(variantIds);
-        productVariantRepository.deleteByProductId(productId);
-    }
-
-    private void deleteOptionsForProduct(Long productId) {
-        List<ProductOption> options = productOptionRepository.findByProductId(productId);
-        if (options.isEmpty()) {
-            return;
-        }
-        List<Long> optionIds = options.stream()
-                .map(ProductOption::getId)
-                .toList();
-        productOptionValueRepository.deleteByOptionIds(optionIds);
-        productOptionRepository.deleteByProductId(productId);
+        return tree.path(primaryId);
     }
 
     private void validateOptionGroups(List<ProductOptionGroup> groups) {
@@ -1,12 +1,15 @@
 package com.nexashop.application.usecase;
 
 import com.nexashop.application.exception.*;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.port.out.PrincipalCache;
 import com.nexashop.application.port.out.RolePermissionRepository;
 import com.nexashop.application.port.out.RoleRepository;
 import com.nexashop.application.port.out.PermissionRepository;
 import com.nexashop.application.port.out.UserRoleAssignmentRepository;
 import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.PermissionBitsetCache;
 import com.nexashop.domain.user.entity.Permission;
 import com.nexashop.domain.user.entity.Role;
 import com.nexashop.domain.user.entity.RolePermission;
@@ -28,19 +31,28 @@ public class RoleUseCase {
     private final RolePermissionRepository rolePermissionRepository;
     private final PermissionRepository permissionRepository;
     private final UserRoleAssignmentRepository userRoleAssignmentRepository;
+    private final PrincipalCache principalCache;
+    private final PermissionBitsetCache permissionBitsetCache;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public RoleUseCase(
             CurrentUserProvider currentUserProvider,
             RoleRepository roleRepository,
             RolePermissionRepository rolePermissionRepository,
             PermissionRepository permissionRepository,
-            UserRoleAssignmentRepository userRoleAssignmentRepository
+            UserRoleAssignmentRepository userRoleAssignmentRepository,
+            PrincipalCache principalCache,
+            PermissionBitsetCache permissionBitsetCache,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.currentUserProvider = currentUserProvider;
         this.roleRepository = roleRepository;
         this.rolePermissionRepository = rolePermissionRepository;
         this.permissionRepository = permissionRepository;
         this.userRoleAssignmentRepository = userRoleAssignmentRepository;
+        this.principalCache = principalCache;
+        this.permissionBitsetCache = permissionBitsetCache;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public List<RoleDetails> listRoles(Long tenantId) {
@@ -97,6 +109,8 @@ public class RoleUseCase {
             rolePermission.setPermissionId(templatePerm.getPermissionId());
             rolePermissionRepository.save(rolePermission);
         }
+        Long savedTenantId = saved.getTenantId();
+        afterCommitExecutor.afterCommit(() -> permissionBitsetCache.onRolePermissionsChanged(savedTenantId));
 
         return toDetails(saved);
     }
@@ -190,6 +204,7 @@ public class RoleUseCase {
             rolePermissionRepository.save(rolePermission);
         }
         rolePermissionRepository.flush();
+        invalidateTenantAfterCommit(role.getTenantId());
 
         return toDetails(role);
     }
@@ -214,6 +229,15 @@ public class RoleUseCase {
         rolePermissionRepository.deleteByRoleId(role.getId());
         userRoleAssignmentRepository.deleteByRoleId(role.getId());
         roleRepository.delete(role);
+        invalidateTenantAfterCommit(role.getTenantId());
+    }
+
+    // Invalidating before commit would let concurrent requests re-cache the old grants.
+    private void invalidateTenantAfterCommit(Long tenantId) {
+        afterCommitExecutor.afterCommit(() -> {
+            principalCache.invalidateTenant(tenantId);
+            permissionBitsetCache.onRolePermissionsChanged(tenantId);
+        });
     }
 
     private RoleDetails toDetails(Role role) {
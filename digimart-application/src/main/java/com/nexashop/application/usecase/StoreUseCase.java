@@ -7,6 +7,7 @@ import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.StoreRepository;
 import com.nexashop.application.port.out.TenantRepository;
 import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.StoreDirectoryCache;
 import com.nexashop.domain.audit.entity.AuditAction;
 import com.nexashop.domain.store.entity.Store;
 import java.math.BigDecimal;
@@ -30,19 +31,22 @@ public class StoreUseCase {
     private final TenantRepository tenantRepository;
     private final AuthorizationUseCase authorizationUseCase;
     private final AuditEventUseCase auditEventUseCase;
+    private final StoreDirectoryCache storeDirectoryCache;
 
     public StoreUseCase(
             CurrentUserProvider currentUserProvider,
             StoreRepository storeRepository,
             TenantRepository tenantRepository,
             AuthorizationUseCase authorizationUseCase,
-            AuditEventUseCase auditEventUseCase
+            AuditEventUseCase auditEventUseCase,
+            StoreDirectoryCache storeDirectoryCache
     ) {
         this.currentUserProvider = currentUserProvider;
         this.storeRepository = storeRepository;
         this.tenantRepository = tenantRepository;
         this.authorizationUseCase = authorizationUseCase;
         this.auditEventUseCase = auditEventUseCase;
+        this.storeDirectoryCache = storeDirectoryCache;
     }
 
     public Store createStore(Store store, Long targetTenantId) {
@@ -62,6 +66,7 @@ public class StoreUseCase {
         }
         store.setTenantId(tenantId);
         Store saved = storeRepository.save(store);
+        storeDirectoryCache.invalidate(saved.getTenantId());
         auditEventUseCase.recordSuccess(
                 AuditAction.CREATE,
                 AUDIT_ENTITY_TYPE_STORE,
@@ -148,6 +153,7 @@ public class StoreUseCase {
             store.setActive(active);
         }
         Store saved = storeRepository.save(store);
+        storeDirectoryCache.invalidate(saved.getTenantId());
         AuditDiff diff = buildStoreDiff(before, saved);
         if (diff.hasChanges()) {
             auditEventUseCase.recordSuccess(
@@ -175,6 +181,7 @@ public class StoreUseCase {
         Store before = copyStore(store);
         store.setImageUrl(imageUrl);
         Store saved = storeRepository.save(store);
+        storeDirectoryCache.invalidate(saved.getTenantId());
         AuditDiff diff = buildStoreDiff(before, saved);
         if (diff.hasChanges()) {
             auditEventUseCase.recordSuccess(
@@ -202,6 +209,7 @@ public class StoreUseCase {
         Store before = copyStore(store);
         store.setActive(active);
         Store saved = storeRepository.save(store);
+        storeDirectoryCache.invalidate(saved.getTenantId());
         AuditDiff diff = buildStoreDiff(before, saved);
         if (diff.hasChanges()) {
             auditEventUseCase.recordSuccess(
@@ -228,6 +236,7 @@ public class StoreUseCase {
         authorizationUseCase.requirePermission(STORE_DELETE_PERMISSION);
         Store before = copyStore(store);
         storeRepository.delete(store);
+        storeDirectoryCache.invalidate(before.getTenantId());
         auditEventUseCase.recordSuccess(
                 AuditAction.DELETE,
                 AUDIT_ENTITY_TYPE_STORE,
@@ -3,12 +3,14 @@ package com.nexashop.application.usecase;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.application.exception.*;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.PlanFeatureRepository;
 import com.nexashop.application.port.out.PremiumFeatureRepository;
 import com.nexashop.application.port.out.SubscriptionPlanRepository;
 import com.nexashop.application.port.out.TenantSubscriptionRepository;
 import com.nexashop.application.security.CurrentUser;
+import com.nexashop.application.service.EntitlementService;
 import com.nexashop.domain.billing.entity.PlanFeature;
 import com.nexashop.domain.billing.entity.PremiumFeature;
 import com.nexashop.domain.billing.entity.SubscriptionPlan;
@@ -45,19 +47,25 @@ public class SubscriptionPlanUseCase {
     private final PremiumFeatureRepository featureRepository;
     private final PlanFeatureRepository planFeatureRepository;
     private final TenantSubscriptionRepository tenantSubscriptionRepository;
+    private final EntitlementService entitlementService;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public SubscriptionPlanUseCase(
             CurrentUserProvider currentUserProvider,
             SubscriptionPlanRepository planRepository,
             PremiumFeatureRepository featureRepository,
             PlanFeatureRepository planFeatureRepository,
-            TenantSubscriptionRepository tenantSubscriptionRepository
+            TenantSubscriptionRepository tenantSubscriptionRepository,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.currentUserProvider = currentUserProvider;
         this.planRepository = planRepository;
         this.featureRepository = featureRepository;
         this.planFeatureRepository = planFeatureRepository;
         this.tenantSubscriptionRepository = tenantSubscriptionRepository;
+        this.entitlementService = entitlementService;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public List<PlanDetails> listPlans(boolean onlyActive) {
@@ -127,7 +135,9 @@ public class SubscriptionPlanUseCase {
         SubscriptionPlan plan = planRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Plan not found"));
         plan.setActive(active);
-        return toDetails(planRepository.save(plan));
+        SubscriptionPlan saved = planRepository.save(plan);
+        afterCommitExecutor.afterCommit(entitlementService::invalidateAll);
+        return toDetails(saved);
     }
 
     public void deletePlan(Long id) {
@@ -145,28 +155,31 @@ public class SubscriptionPlanUseCase {
             planFeatureRepository.deleteAll(links);
         }
         planRepository.delete(plan);
+        afterCommitExecutor.afterCommit(entitlementService::invalidateAll);
     }
 
     private void savePlanFeatures(Long planId, List<Long> featureIds) {
-        List<PlanFeature> existing = planFeatureRepository.findByPlanId(planId);
-        planFeatureRepository.deleteAll(existing);
-        if (featureIds == null || featureIds.isEmpty()) {
-            return;
-        }
-        Set<Long> availableFeatures = featureRepository.findAll().stream()
-                .map(PremiumFeature::getId)
-                .collect(Collectors.toSet());
         List<PlanFeature> toSave = new ArrayList<>();
-        for (Long fid : featureIds) {
-            if (!availableFeatures.contains(fid)) {
-                throw new NotFoundException("Feature not found: " + fid);
+        if (featureIds != null && !featureIds.isEmpty()) {
+            Set<Long> availableFeatures = featureRepository.findAll().stream()
+                    .map(PremiumFeature::getId)
+                    .collect(Collectors.toSet());
+            for (Long fid : featureIds) {
+                if (!availableFeatures.contains(fid)) {
+                    throw new NotFoundException("Feature not found: " + fid);
+                }
+                PlanFeature pf = new PlanFeature();
+                pf.setPlanId(planId);
+                pf.setFeatureId(fid);
+                toSave.add(pf);
             }
-            PlanFeature pf = new PlanFeature();
-            pf.setPlanId(planId);
-            pf.setFeatureId(fid);
-            toSave.add(pf);
         }
-        planFeatureRepository.saveAll(toSave);
+        // Unknown features are rejected before the old links go, so one invalidation covers the swap.
+        planFeatureRepository.deleteAll(planFeatureRepository.findByPlanId(planId));
+        if (!toSave.isEmpty()) {
+            planFeatureRepository.saveAll(toSave);
+        }
+        afterCommitExecutor.afterCommit(entitlementService::invalidateAll);
     }
 
     private PlanDetails toDetails(SubscriptionPlan plan) {
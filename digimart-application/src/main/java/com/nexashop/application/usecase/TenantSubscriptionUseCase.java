@@ -1,11 +1,13 @@
 package com.nexashop.application.usecase;
 
 import com.nexashop.application.exception.*;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.CurrentUserProvider;
 import com.nexashop.application.port.out.SubscriptionHistoryRepository;
 import com.nexashop.application.port.out.SubscriptionPlanRepository;
 import com.nexashop.application.port.out.TenantRepository;
 import com.nexashop.application.port.out.TenantSubscriptionRepository;
+import com.nexashop.application.service.EntitlementService;
 import com.nexashop.application.service.TenantProvisioningService;
 import com.nexashop.application.security.CurrentUser;
 import com.nexashop.domain.billing.entity.SubscriptionHistory;
@@ -28,6 +30,8 @@ public class TenantSubscriptionUseCase {
     private final SubscriptionHistoryRepository historyRepository;
     private final TenantRepository tenantRepository;
     private final TenantProvisioningService provisioningService;
+    private final EntitlementService entitlementService;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public TenantSubscriptionUseCase(
             CurrentUserProvider currentUserProvider,
@@ -35,7 +39,9 @@ public class TenantSubscriptionUseCase {
             SubscriptionPlanRepository planRepository,
             SubscriptionHistoryRepository historyRepository,
             TenantRepository tenantRepository,
-            TenantProvisioningService provisioningService
+            TenantProvisioningService provisioningService,
+            EntitlementService entitlementService,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.currentUserProvider = currentUserProvider;
         this.subscriptionRepository = subscriptionRepository;
@@ -43,6 +49,8 @@ public class TenantSubscriptionUseCase {
         this.historyRepository = historyRepository;
         this.tenantRepository = tenantRepository;
         this.provisioningService = provisioningService;
+        this.entitlementService = entitlementService;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public SubscriptionDetails getCurrent(Long tenantId) {
@@ -106,6 +114,7 @@ public class TenantSubscriptionUseCase {
 
         TenantSubscription saved = subscriptionRepository.save(sub);
         historyRepository.save(historyEntry(saved, null, SubscriptionAction.CREATED, null, actorUserId));
+        afterCommitExecutor.afterCommit(() -> entitlementService.invalidateTenant(tenantId));
         return new SubscriptionDetails(saved, plan);
     }
 
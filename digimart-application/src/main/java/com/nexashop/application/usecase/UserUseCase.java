@@ -3,7 +3,9 @@ package com.nexashop.application.usecase;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
 import com.nexashop.application.exception.*;
+import com.nexashop.application.port.out.AfterCommitExecutor;
 import com.nexashop.application.port.out.CurrentUserProvider;
+import com.nexashop.application.port.out.PrincipalCache;
 import com.nexashop.application.port.out.RoleRepository;
 import com.nexashop.application.port.out.TenantRepository;
 import com.nexashop.application.port.out.UserRepository;
@@ -28,6 +30,8 @@ public class UserUseCase {
     private final RoleRepository roleRepository;
     private final UserRoleAssignmentRepository assignmentRepository;
     private final AuthorizationUseCase authorizationUseCase;
+    private final PrincipalCache principalCache;
+    private final AfterCommitExecutor afterCommitExecutor;
 
     public UserUseCase(
             CurrentUserProvider currentUserProvider,
@@ -35,7 +39,9 @@ public class UserUseCase {
             UserRepository userRepository,
             RoleRepository roleRepository,
             UserRoleAssignmentRepository assignmentRepository,
-            AuthorizationUseCase authorizationUseCase
+            AuthorizationUseCase authorizationUseCase,
+            PrincipalCache principalCache,
+            AfterCommitExecutor afterCommitExecutor
     ) {
         this.currentUserProvider = currentUserProvider;
         this.tenantRepository = tenantRepository;
@@ -43,6 +49,8 @@ public class UserUseCase {
         this.roleRepository = roleRepository;
         this.assignmentRepository = assignmentRepository;
         this.authorizationUseCase = authorizationUseCase;
+        this.principalCache = principalCache;
+        this.afterCommitExecutor = afterCommitExecutor;
     }
 
     public User createUser(User user, Long targetTenantId) {
@@ -282,6 +290,7 @@ public class UserUseCase {
             }
         }
 
+        invalidateUserAfterCommit(user.getId());
         return user;
     }
 
@@ -344,6 +353,13 @@ public class UserUseCase {
                     assignment.setActive(true);
                     return assignmentRepository.save(assignment);
                 });
+        invalidateUserAfterCommit(user.getId());
+    }
+
+    // Cached principals carry their roles; dropping them before commit would let a
+    // concurrent request reload the old assignments.
+    private void invalidateUserAfterCommit(Long userId) {
+        afterCommitExecutor.afterCommit(() -> principalCache.invalidateUser(userId));
     }
 
     private String normalizeRoleCode(String roleCode) {
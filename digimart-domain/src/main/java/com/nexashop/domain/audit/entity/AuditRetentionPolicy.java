@@ -0,0 +1,12 @@
+package com.nexashop.domain.audit.entity;
+
+import com.nexashop.domain.common.TenantEntity;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AuditRetentionPolicy extends TenantEntity {
+
+    private Integer retentionDays;
+}
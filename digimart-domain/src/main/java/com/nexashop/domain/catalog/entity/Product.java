@@ -33,6 +33,8 @@ public class Product extends TenantEntity {
 
     private Integer lowStockThreshold;
 
+    private boolean lowStock = false;
+
     private ProductStatus status = ProductStatus.ACTIVE;
 
     private ProductAvailability availability = ProductAvailability.IN_STOCK;
@@ -1,6 +1,8 @@
 package com.nexashop.domain.catalog.entity;
 
 import com.nexashop.domain.common.TenantEntity;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -21,4 +23,6 @@ public class ProductImage extends TenantEntity {
     private Integer focusX = 50;
 
     private Integer focusY = 50;
+
+    private List<ProductImageVariant> variants = new ArrayList<>();
 }
@@ -0,0 +1,21 @@
+package com.nexashop.domain.catalog.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageVariant {
+
+    private int width;
+
+    private int height;
+
+    private String contentType;
+
+    private String url;
+}
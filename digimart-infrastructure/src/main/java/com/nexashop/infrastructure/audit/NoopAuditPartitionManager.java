@@ -0,0 +1,23 @@
+package com.nexashop.infrastructure.audit;
+
+import com.nexashop.application.port.out.AuditPartitionManager;
+import java.time.YearMonth;
+import java.util.List;
+
+public class NoopAuditPartitionManager implements AuditPartitionManager {
+
+    @Override
+    public boolean isPartitioned() {
+        return false;
+    }
+
+    @Override
+    public List<String> ensurePartitions(YearMonth fromMonth, YearMonth toMonth) {
+        return List.of();
+    }
+
+    @Override
+    public List<String> dropPartitionsBefore(YearMonth firstKeptMonth, boolean detachOnly) {
+        return List.of();
+    }
+}
@@ -0,0 +1,110 @@
+package com.nexashop.infrastructure.audit;
+
+import com.nexashop.application.port.out.AuditPartitionManager;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class PostgresAuditPartitionManager implements AuditPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresAuditPartitionManager.class);
+
+    private static final String PARENT_TABLE = "audit_events";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String IS_PARTITIONED_SQL = """
+            select count(*) from pg_partitioned_table pt
+            where pt.partrelid = to_regclass('audit_events')
+            """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            select child.relname
+            from pg_inherits i
+            join pg_class child on child.oid = i.inhrelid
+            where i.inhparent = to_regclass('audit_events')
+            order by child.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresAuditPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Integer.class);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<String> ensurePartitions(YearMonth fromMonth, YearMonth toMonth) {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        List<String> existing = listPartitions();
+        List<String> created = new ArrayList<>();
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("create table if not exists " + name
+                        + " partition of " + PARENT_TABLE
+                        + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')");
+                created.add(name);
+            } catch (DataAccessException ex) {
+                // Usually rows for that month already landed in the default partition.
+                log.warn("Unable to create audit partition {}", name, ex);
+            }
+        }
+        return created;
+    }
+
+    @Override
+    public List<String> dropPartitionsBefore(YearMonth firstKeptMonth, boolean detachOnly) {
+        if (!isPartitioned()) {
+            return List.of();
+        }
+        List<String> removed = new ArrayList<>();
+        for (String name : listPartitions()) {
+            YearMonth month = parseMonth(name);
+            if (month == null || !month.isBefore(firstKeptMonth)) {
+                continue;
+            }
+            jdbcTemplate.execute("alter table " + PARENT_TABLE + " detach partition " + name);
+            if (!detachOnly) {
+                jdbcTemplate.execute("drop table " + name);
+            }
+            removed.add(name);
+        }
+        return removed;
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static YearMonth parseMonth(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
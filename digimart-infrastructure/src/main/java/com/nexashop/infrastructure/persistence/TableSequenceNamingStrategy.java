@@ -0,0 +1,50 @@
+package com.nexashop.infrastructure.persistence;
+
+import java.util.Map;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.service.ServiceRegistry;
+
+public class TableSequenceNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+
+    private static final String SEQUENCE_SUFFIX = "_seq";
+
+    @Override
+    public QualifiedName determineSequenceName(
+            Identifier catalogName,
+            Identifier schemaName,
+            Map<?, ?> configValues,
+            ServiceRegistry serviceRegistry
+    ) {
+        Object table = configValues.get(PersistentIdentifierGenerator.TABLE);
+        if (table == null) {
+            throw new IllegalStateException("Sequence generator is missing its target table");
+        }
+        return new QualifiedSequenceName(
+                catalogName,
+                schemaName,
+                toIdentifier(serviceRegistry, table + SEQUENCE_SUFFIX)
+        );
+    }
+
+    @Override
+    public QualifiedName determineTableName(
+            Identifier catalogName,
+            Identifier schemaName,
+            Map<?, ?> configValues,
+            ServiceRegistry serviceRegistry
+    ) {
+        return new QualifiedTableName(catalogName, schemaName, toIdentifier(serviceRegistry, "hibernate_sequences"));
+    }
+
+    private Identifier toIdentifier(ServiceRegistry serviceRegistry, String name) {
+        return serviceRegistry.requireService(JdbcEnvironment.class)
+                .getIdentifierHelper()
+                .toIdentifier(name);
+    }
+}
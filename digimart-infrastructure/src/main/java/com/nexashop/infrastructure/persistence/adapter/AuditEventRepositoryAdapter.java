@@ -8,12 +8,17 @@ import com.nexashop.domain.audit.entity.AuditEvent;
 import com.nexashop.infrastructure.persistence.jpa.AuditEventJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.AuditMapper;
 import com.nexashop.infrastructure.persistence.model.audit.AuditEventJpaEntity;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class AuditEventRepositoryAdapter
@@ -23,10 +28,12 @@ public class AuditEventRepositoryAdapter
     private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("occurredAt"), Sort.Order.desc("id"));
 
     private final AuditEventJpaRepository repository;
+    private final EntityManager entityManager;
 
-    public AuditEventRepositoryAdapter(AuditEventJpaRepository repository) {
+    public AuditEventRepositoryAdapter(AuditEventJpaRepository repository, EntityManager entityManager) {
         super(repository);
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -68,27 +75,44 @@ public class AuditEventRepositoryAdapter
     }
 
     @Override
-    public List<AuditEvent> findByFiltersForExport(
+    public long countByFilters(
+            Long tenantId,
+            String entityType,
+            AuditAction action,
+            LocalDateTime occurredFrom,
+            LocalDateTime occurredTo
+    ) {
+        return repository.count(buildSpecification(
+                tenantId,
+                entityType,
+                action,
+                occurredFrom,
+                occurredTo
+        ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByFilters(
             Long tenantId,
             String entityType,
             AuditAction action,
             LocalDateTime occurredFrom,
             LocalDateTime occurredTo,
-            int limit
+            Consumer<? super AuditEvent> consumer
     ) {
-        int safeLimit = Math.max(1, Math.min(limit, 10_000));
-        Specification<AuditEventJpaEntity> specification = buildSpecification(
+        try (Stream<AuditEventJpaEntity> stream = repository.streamByFilters(
                 tenantId,
                 entityType,
                 action,
                 occurredFrom,
                 occurredTo
-        );
-        Page<AuditEventJpaEntity> page = repository.findAll(
-                specification,
-                org.springframework.data.domain.PageRequest.of(0, safeLimit, DEFAULT_SORT)
-        );
-        return toDomainList(page.getContent());
+        )) {
+            stream.forEach((entity) -> {
+                consumer.accept(toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
     }
 
     @Override
@@ -99,6 +123,42 @@ public class AuditEventRepositoryAdapter
         return repository.deleteByOccurredAtLessThan(occurredBefore);
     }
 
+    @Override
+    public Long findFirstIdBefore(
+            LocalDateTime occurredBefore,
+            Long tenantId,
+            Collection<Long> excludedTenantIds,
+            long fromId
+    ) {
+        return repository.findFirstIdBefore(
+                occurredBefore,
+                tenantId,
+                excludedOrSentinel(excludedTenantIds),
+                fromId
+        );
+    }
+
+    @Override
+    @Transactional
+    public long purgeChunk(
+            long fromId,
+            long toIdExclusive,
+            LocalDateTime occurredBefore,
+            Long tenantId,
+            Collection<Long> excludedTenantIds,
+            boolean archive
+    ) {
+        Collection<Long> excluded = excludedOrSentinel(excludedTenantIds);
+        if (archive) {
+            repository.archiveChunk(fromId, toIdExclusive, occurredBefore, tenantId, excluded);
+        }
+        return repository.deleteChunk(fromId, toIdExclusive, occurredBefore, tenantId, excluded);
+    }
+
+    private static Collection<Long> excludedOrSentinel(Collection<Long> excludedTenantIds) {
+        return excludedTenantIds == null || excludedTenantIds.isEmpty() ? List.of(-1L) : excludedTenantIds;
+    }
+
     private Specification<AuditEventJpaEntity> buildSpecification(
             Long tenantId,
             String entityType,
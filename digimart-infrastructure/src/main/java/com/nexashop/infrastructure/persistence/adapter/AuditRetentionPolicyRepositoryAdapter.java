@@ -0,0 +1,28 @@
+package com.nexashop.infrastructure.persistence.adapter;
+
+import com.nexashop.application.port.out.AuditRetentionPolicyRepository;
+import com.nexashop.domain.audit.entity.AuditRetentionPolicy;
+import com.nexashop.infrastructure.persistence.jpa.AuditRetentionPolicyJpaRepository;
+import com.nexashop.infrastructure.persistence.mapper.AuditMapper;
+import com.nexashop.infrastructure.persistence.model.audit.AuditRetentionPolicyJpaEntity;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AuditRetentionPolicyRepositoryAdapter
+        extends JpaRepositoryAdapter<AuditRetentionPolicy, AuditRetentionPolicyJpaEntity, Long>
+        implements AuditRetentionPolicyRepository {
+
+    public AuditRetentionPolicyRepositoryAdapter(AuditRetentionPolicyJpaRepository repository) {
+        super(repository);
+    }
+
+    @Override
+    protected AuditRetentionPolicyJpaEntity toJpa(AuditRetentionPolicy domain) {
+        return AuditMapper.toJpa(domain);
+    }
+
+    @Override
+    protected AuditRetentionPolicy toDomain(AuditRetentionPolicyJpaEntity entity) {
+        return AuditMapper.toDomain(entity);
+    }
+}
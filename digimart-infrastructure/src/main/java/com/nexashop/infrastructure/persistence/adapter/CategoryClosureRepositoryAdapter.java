@@ -0,0 +1,42 @@
+package com.nexashop.infrastructure.persistence.adapter;
+
+import com.nexashop.application.port.out.CategoryClosureRepository;
+import com.nexashop.infrastructure.persistence.jpa.CategoryClosureJpaRepository;
+import com.nexashop.infrastructure.persistence.model.catalog.CategoryClosureJpaEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class CategoryClosureRepositoryAdapter implements CategoryClosureRepository {
+
+    private final CategoryClosureJpaRepository repository;
+
+    public CategoryClosureRepositoryAdapter(CategoryClosureJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void replaceForDescendants(Long tenantId, Collection<Long> descendantIds, List<Link> links) {
+        if (descendantIds == null || descendantIds.isEmpty()) {
+            return;
+        }
+        repository.deleteByTenantIdAndDescendantIdIn(tenantId, descendantIds);
+        if (links == null || links.isEmpty()) {
+            return;
+        }
+        List<CategoryClosureJpaEntity> entities = new ArrayList<>(links.size());
+        for (Link link : links) {
+            CategoryClosureJpaEntity entity = new CategoryClosureJpaEntity();
+            entity.setTenantId(tenantId);
+            entity.setAncestorId(link.ancestorId());
+            entity.setDescendantId(link.descendantId());
+            entity.setDepth(link.depth());
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+    }
+}
@@ -3,12 +3,14 @@ package com.nexashop.infrastructure.persistence.adapter;
 import com.nexashop.application.port.out.CategoryRepository;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
+import com.nexashop.application.exception.DuplicateSlugException;
 import com.nexashop.domain.catalog.entity.Category;
 import com.nexashop.infrastructure.persistence.jpa.CategoryJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.CategoryMapper;
 import com.nexashop.infrastructure.persistence.model.catalog.CategoryJpaEntity;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
 
@@ -44,6 +46,23 @@ public class CategoryRepositoryAdapter
         return repository.findByTenantIdAndSlug(tenantId, slug).map(CategoryMapper::toDomain);
     }
 
+    @Override
+    public <S extends Category> S save(S category) {
+        try {
+            return super.save(category);
+        } catch (DataIntegrityViolationException ex) {
+            if (slugTakenByAnotherRow(category)) {
+                throw new DuplicateSlugException("Category slug already exists");
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<String> findSlugsByTenantIdAndPrefix(Long tenantId, String baseSlug, Long excludeId) {
+        return repository.findSlugsByTenantIdAndPrefix(tenantId, baseSlug, escapeLike(baseSlug) + "-%", excludeId);
+    }
+
     @Override
     public Optional<Category> findByIdAndTenantId(Long id, Long tenantId) {
         return repository.findByIdAndTenantId(id, tenantId).map(CategoryMapper::toDomain);
@@ -110,4 +129,22 @@ public class CategoryRepositoryAdapter
                 page.getTotalElements()
         );
     }
+
+    // A unique violation does not say which constraint fired; the slug is the one
+    // callers can recover from, so it is checked explicitly.
+    private boolean slugTakenByAnotherRow(Category category) {
+        if (category == null || category.getTenantId() == null || category.getSlug() == null) {
+            return false;
+        }
+        if (category.getId() == null) {
+            return repository.existsByTenantIdAndSlug(category.getTenantId(), category.getSlug());
+        }
+        return repository.existsByTenantIdAndSlugAndIdNot(category.getTenantId(), category.getSlug(), category.getId());
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
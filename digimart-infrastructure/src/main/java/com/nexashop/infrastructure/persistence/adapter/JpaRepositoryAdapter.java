@@ -37,15 +37,27 @@ public abstract class JpaRepositoryAdapter<D, E, ID> implements CrudRepositoryPo
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <S extends D> List<S> saveAll(Iterable<S> entities) {
+        return toDomainResults(repository.saveAll(toJpaList(entities)));
+    }
+
+    @Override
+    public <S extends D> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return toDomainResults(repository.saveAllAndFlush(toJpaList(entities)));
+    }
+
+    private List<E> toJpaList(Iterable<? extends D> entities) {
         List<E> toSave = new ArrayList<>();
         if (entities != null) {
-            for (S entity : entities) {
+            for (D entity : entities) {
                 toSave.add(toJpa(entity));
             }
         }
-        List<E> saved = repository.saveAll(toSave);
+        return toSave;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends D> List<S> toDomainResults(List<E> saved) {
         List<S> results = new ArrayList<>(saved.size());
         for (E entity : saved) {
             results.add((S) toDomain(entity));
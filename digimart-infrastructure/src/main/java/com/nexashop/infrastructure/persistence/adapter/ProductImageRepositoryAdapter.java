@@ -2,6 +2,7 @@ package com.nexashop.infrastructure.persistence.adapter;
 
 import com.nexashop.application.port.out.ProductImageRepository;
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import com.nexashop.infrastructure.persistence.jpa.ProductImageJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.ProductImageMapper;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductImageJpaEntity;
@@ -36,9 +37,38 @@ public class ProductImageRepositoryAdapter
         return toDomainList(repository.findByProductIdOrderByDisplayOrderAsc(productId));
     }
 
+    @Override
+    public List<ProductImage> findByProductIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findByProductIdInOrderByProductIdAscDisplayOrderAsc(productIds));
+    }
+
     @Override
     @Transactional
     public void deleteByProductId(Long productId) {
         repository.deleteByProductId(productId);
     }
+
+    @Override
+    @Transactional
+    public boolean updateVariantsIfUnchanged(
+            Long imageId,
+            String imageUrl,
+            Integer focusX,
+            Integer focusY,
+            List<ProductImageVariant> variants
+    ) {
+        if (imageId == null || imageUrl == null || focusX == null || focusY == null) {
+            return false;
+        }
+        return repository.updateVariantsIfUnchanged(
+                imageId,
+                imageUrl,
+                focusX,
+                focusY,
+                ProductImageMapper.writeVariants(variants)
+        ) > 0;
+    }
 }
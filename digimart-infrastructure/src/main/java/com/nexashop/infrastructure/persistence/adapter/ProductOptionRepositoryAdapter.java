@@ -41,4 +41,13 @@ public class ProductOptionRepositoryAdapter
     public void deleteByProductId(Long productId) {
         repository.deleteByProductId(productId);
     }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
 }
@@ -58,4 +58,13 @@ public class ProductOptionValueRepositoryAdapter
         }
         repository.deleteByOptionIdIn(optionIds);
     }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
 }
@@ -9,7 +9,9 @@ import com.nexashop.infrastructure.persistence.mapper.ProductPriceHistoryMapper;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductPriceHistoryJpaEntity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
@@ -77,4 +79,30 @@ public class ProductPriceHistoryRepositoryAdapter
     public BigDecimal findLowestPriceSince(Long productId, LocalDateTime since) {
         return repository.findLowestPriceSince(productId, since);
     }
+
+    @Override
+    public Map<Long, BigDecimal> findLowestPricesAllTime(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return toPriceMap(repository.findLowestPricesAllTime(productIds));
+    }
+
+    @Override
+    public Map<Long, BigDecimal> findLowestPricesSince(List<Long> productIds, LocalDateTime since) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return toPriceMap(repository.findLowestPricesSince(productIds, since));
+    }
+
+    private Map<Long, BigDecimal> toPriceMap(List<Object[]> rows) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                prices.put((Long) row[0], (BigDecimal) row[1]);
+            }
+        }
+        return prices;
+    }
 }
@@ -1,7 +1,10 @@
 package com.nexashop.infrastructure.persistence.adapter;
 
+import com.nexashop.application.common.KeysetCursor;
 import com.nexashop.application.common.PageRequest;
 import com.nexashop.application.common.PageResult;
+import com.nexashop.application.exception.ConflictException;
+import com.nexashop.application.exception.DuplicateSlugException;
 import com.nexashop.application.port.out.ProductRepository;
 import com.nexashop.domain.catalog.entity.ProductAvailability;
 import com.nexashop.domain.catalog.entity.ProductStatus;
@@ -9,11 +12,20 @@ import com.nexashop.domain.catalog.entity.Product;
 import com.nexashop.infrastructure.persistence.jpa.ProductJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.ProductMapper;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductJpaEntity;
+import com.nexashop.infrastructure.search.PostgresProductSearchIndex;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class ProductRepositoryAdapter
@@ -21,10 +33,12 @@ public class ProductRepositoryAdapter
         implements ProductRepository {
 
     private final ProductJpaRepository repository;
+    private final EntityManager entityManager;
 
-    public ProductRepositoryAdapter(ProductJpaRepository repository) {
+    public ProductRepositoryAdapter(ProductJpaRepository repository, EntityManager entityManager) {
         super(repository);
         this.repository = repository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -42,11 +56,48 @@ public class ProductRepositoryAdapter
         return repository.existsByTenantIdAndSlug(tenantId, slug);
     }
 
+    @Override
+    public <S extends Product> S save(S product) {
+        try {
+            return super.save(product);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateViolation(product == null ? List.of() : List.of(product));
+        }
+    }
+
+    @Override
+    public <S extends Product> List<S> saveAll(Iterable<S> products) {
+        try {
+            return super.saveAll(products);
+        } catch (DataIntegrityViolationException ex) {
+            List<Product> batch = new ArrayList<>();
+            if (products != null) {
+                products.forEach(batch::add);
+            }
+            throw translateViolation(batch);
+        }
+    }
+
+    @Override
+    public List<String> findSlugsByTenantIdAndPrefix(Long tenantId, String baseSlug, Long excludeId) {
+        return repository.findSlugsByTenantIdAndPrefix(tenantId, baseSlug, escapeLike(baseSlug) + "-%", excludeId);
+    }
+
     @Override
     public boolean existsByTenantIdAndSku(Long tenantId, String sku) {
         return repository.existsByTenantIdAndSku(tenantId, sku);
     }
 
+    @Override
+    public List<String> findSlugsByTenantId(Long tenantId) {
+        return repository.findSlugsByTenantId(tenantId);
+    }
+
+    @Override
+    public List<String> findSkusByTenantId(Long tenantId) {
+        return repository.findSkusByTenantId(tenantId);
+    }
+
     @Override
     public Optional<Product> findByIdAndTenantId(Long id, Long tenantId) {
         return repository.findByIdAndTenantId(id, tenantId).map(ProductMapper::toDomain);
@@ -71,6 +122,118 @@ public class ProductRepositoryAdapter
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByTenantId(Long tenantId, Consumer<? super Product> consumer) {
+        try (Stream<ProductJpaEntity> stream = repository.streamByTenantId(tenantId)) {
+            stream.forEach((entity) -> {
+                consumer.accept(toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    @Override
+    public List<Product> findBatchAfterId(Long afterId, int limit) {
+        return toDomainList(repository.findByIdGreaterThanOrderByIdAsc(
+                afterId == null ? 0L : afterId,
+                org.springframework.data.domain.PageRequest.of(0, limit)
+        ));
+    }
+
+    @Override
+    public List<Product> findBatchByTenantIdAfterId(Long tenantId, Long afterId, int limit) {
+        return toDomainList(repository.findByTenantIdAndIdGreaterThanOrderByIdAsc(
+                tenantId,
+                afterId == null ? 0L : afterId,
+                org.springframework.data.domain.PageRequest.of(0, limit)
+        ));
+    }
+
+    @Override
+    public PageResult<Product> findVisibleInStore(PageRequest request, Long tenantId, Long storeId) {
+        Page<ProductJpaEntity> page = repository.findVisibleInStore(
+                tenantId,
+                storeId,
+                org.springframework.data.domain.PageRequest.of(request.page(), request.size())
+        );
+        return PageResult.of(
+                toDomainList(page.getContent()),
+                request.page(),
+                request.size(),
+                page.getTotalElements()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void updateLowStock(Collection<Long> productIds, boolean lowStock) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        repository.updateLowStock(productIds, lowStock);
+    }
+
+    @Override
+    public List<Product> findAllByIdIn(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findAllByIdIn(ids));
+    }
+
+    @Override
+    @Transactional
+    public int updateStatusByIdIn(Collection<Long> ids, ProductStatus status, Long updatedBy) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return repository.updateStatusByIdIn(ids, status, updatedBy, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int updatePricingByIdIn(
+            Collection<Long> ids,
+            BigDecimal initialPrice,
+            BigDecimal finalPrice,
+            BigDecimal shippingPrice,
+            BigDecimal shippingCostPrice,
+            Long updatedBy
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return repository.updatePricingByIdIn(
+                ids,
+                initialPrice,
+                finalPrice,
+                shippingPrice,
+                shippingCostPrice,
+                updatedBy,
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    @Transactional
+    public int deleteCascadeByIdIn(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        repository.deleteVariantInventoriesByProductIds(ids);
+        repository.deleteVariantOptionValuesByProductIds(ids);
+        repository.deleteVariantsByProductIds(ids);
+        repository.deleteOptionValuesByProductIds(ids);
+        repository.deleteOptionsByProductIds(ids);
+        repository.deleteCategoriesByProductIds(ids);
+        repository.deleteImagesByProductIds(ids);
+        repository.deleteInventoriesByProductIds(ids);
+        repository.deletePriceHistoryByProductIds(ids);
+        repository.deleteStoreVisibilityByProductIds(ids);
+        return repository.deleteByIdIn(ids);
+    }
+
     @Override
     public PageResult<Product> searchProducts(
             PageRequest request,
@@ -80,8 +243,9 @@ public class ProductRepositoryAdapter
             Boolean stockLow,
             BigDecimal minPrice,
             BigDecimal maxPrice,
-            String search,
-            Long categoryId
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
     ) {
         Page<ProductJpaEntity> page = repository.searchProducts(
                 tenantId,
@@ -90,8 +254,10 @@ public class ProductRepositoryAdapter
                 stockLow,
                 minPrice,
                 maxPrice,
-                search,
+                matchingIds != null,
+                matchingIds == null ? List.of() : matchingIds,
                 categoryId,
+                includeDescendants,
                 org.springframework.data.domain.PageRequest.of(request.page(), request.size())
         );
         return PageResult.of(
@@ -101,4 +267,222 @@ public class ProductRepositoryAdapter
                 page.getTotalElements()
         );
     }
+
+    @Override
+    public List<Product> searchProductsAfter(
+            KeysetCursor after,
+            int limit,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        return toDomainList(repository.searchProductsAfter(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                matchingIds != null,
+                matchingIds == null ? List.of() : matchingIds,
+                categoryId,
+                includeDescendants,
+                after == null ? null : after.sortKey(),
+                after == null ? null : after.id(),
+                org.springframework.data.domain.PageRequest.of(0, limit)
+        ));
+    }
+
+    @Override
+    public long countProducts(
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            List<Long> matchingIds,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        return repository.countProducts(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                matchingIds != null,
+                matchingIds == null ? List.of() : matchingIds,
+                categoryId,
+                includeDescendants
+        );
+    }
+
+    @Override
+    public PageResult<Product> searchProductsMatching(
+            PageRequest request,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        String tsQuery = PostgresProductSearchIndex.toTsQuery(query);
+        if (tsQuery == null) {
+            return PageResult.of(List.of(), request.page(), request.size(), 0);
+        }
+        String pattern = PostgresProductSearchIndex.likePattern(query);
+        List<ProductJpaEntity> rows = repository.searchProductsMatching(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                false,
+                List.of(),
+                categoryId,
+                includeDescendants,
+                tsQuery,
+                pattern,
+                org.springframework.data.domain.PageRequest.of(request.page(), request.size())
+        );
+        long total = repository.countProductsMatching(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                false,
+                List.of(),
+                categoryId,
+                includeDescendants,
+                tsQuery,
+                pattern
+        );
+        return PageResult.of(toDomainList(rows), request.page(), request.size(), total);
+    }
+
+    @Override
+    public List<Product> searchProductsMatchingAfter(
+            KeysetCursor after,
+            int limit,
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        String tsQuery = PostgresProductSearchIndex.toTsQuery(query);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        return toDomainList(repository.searchProductsMatchingAfter(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                false,
+                List.of(),
+                categoryId,
+                includeDescendants,
+                tsQuery,
+                PostgresProductSearchIndex.likePattern(query),
+                after == null ? null : after.sortKey(),
+                after == null ? null : after.id(),
+                org.springframework.data.domain.PageRequest.of(0, limit)
+        ));
+    }
+
+    @Override
+    public long countProductsMatching(
+            Long tenantId,
+            ProductStatus status,
+            ProductAvailability availability,
+            Boolean stockLow,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            String query,
+            Long categoryId,
+            boolean includeDescendants
+    ) {
+        String tsQuery = PostgresProductSearchIndex.toTsQuery(query);
+        if (tsQuery == null) {
+            return 0;
+        }
+        return repository.countProductsMatching(
+                tenantId,
+                status,
+                availability,
+                stockLow,
+                minPrice,
+                maxPrice,
+                false,
+                List.of(),
+                categoryId,
+                includeDescendants,
+                tsQuery,
+                PostgresProductSearchIndex.likePattern(query)
+        );
+    }
+
+    // A unique violation does not say which constraint fired; slug and SKU are the
+    // ones callers can act on, so they are checked explicitly.
+    private ConflictException translateViolation(List<? extends Product> products) {
+        for (Product product : products) {
+            if (slugTakenByAnotherRow(product)) {
+                return new DuplicateSlugException("Product slug already exists");
+            }
+        }
+        for (Product product : products) {
+            if (skuTakenByAnotherRow(product)) {
+                return new ConflictException("Product SKU already exists");
+            }
+        }
+        return new ConflictException("Product conflicts with existing data");
+    }
+
+    private boolean slugTakenByAnotherRow(Product product) {
+        if (product == null || product.getTenantId() == null || product.getSlug() == null) {
+            return false;
+        }
+        if (product.getId() == null) {
+            return repository.existsByTenantIdAndSlug(product.getTenantId(), product.getSlug());
+        }
+        return repository.existsByTenantIdAndSlugAndIdNot(product.getTenantId(), product.getSlug(), product.getId());
+    }
+
+    private boolean skuTakenByAnotherRow(Product product) {
+        if (product == null || product.getTenantId() == null || product.getSku() == null) {
+            return false;
+        }
+        if (product.getId() == null) {
+            return repository.existsByTenantIdAndSku(product.getTenantId(), product.getSku());
+        }
+        return repository.existsByTenantIdAndSkuAndIdNot(product.getTenantId(), product.getSku(), product.getId());
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
 }
@@ -36,6 +36,14 @@ public class ProductStoreInventoryRepositoryAdapter
         return toDomainList(repository.findByProductId(productId));
     }
 
+    @Override
+    public List<ProductStoreInventory> findByProductIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findByProductIdIn(productIds));
+    }
+
     @Override
     public List<ProductStoreInventory> findByStoreId(Long storeId) {
         return toDomainList(repository.findByStoreId(storeId));
@@ -80,4 +80,13 @@ public class ProductVariantRepositoryAdapter
     public void clearProductImage(Long productId, Long productImageId) {
         repository.clearProductImage(productId, productImageId);
     }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
 }
@@ -31,6 +31,11 @@ public class RolePermissionRepositoryAdapter
         return UserMapper.toDomain(entity);
     }
 
+    @Override
+    public List<RolePermission> findByTenantId(Long tenantId) {
+        return toDomainList(repository.findByTenantId(tenantId));
+    }
+
     @Override
     public List<RolePermission> findByTenantIdAndRoleId(Long tenantId, Long roleId) {
         return toDomainList(repository.findByTenantIdAndRoleId(tenantId, roleId));
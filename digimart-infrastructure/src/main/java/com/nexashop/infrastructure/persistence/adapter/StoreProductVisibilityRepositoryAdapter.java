@@ -0,0 +1,41 @@
+package com.nexashop.infrastructure.persistence.adapter;
+
+import com.nexashop.application.port.out.StoreProductVisibilityRepository;
+import com.nexashop.infrastructure.persistence.jpa.StoreProductVisibilityJpaRepository;
+import com.nexashop.infrastructure.persistence.model.catalog.StoreProductVisibilityJpaEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class StoreProductVisibilityRepositoryAdapter implements StoreProductVisibilityRepository {
+
+    private final StoreProductVisibilityJpaRepository repository;
+
+    public StoreProductVisibilityRepositoryAdapter(StoreProductVisibilityJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public void replaceForProducts(Long tenantId, Collection<Long> productIds, List<Entry> entries) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        repository.deleteByTenantIdAndProductIdIn(tenantId, productIds);
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        List<StoreProductVisibilityJpaEntity> entities = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            StoreProductVisibilityJpaEntity entity = new StoreProductVisibilityJpaEntity();
+            entity.setTenantId(tenantId);
+            entity.setProductId(entry.productId());
+            entity.setStoreId(entry.storeId());
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+    }
+}
@@ -67,4 +67,12 @@ public class StoreRepositoryAdapter
     public List<Store> findByTenantIdIn(List<Long> tenantIds) {
         return toDomainList(repository.findByTenantIdIn(tenantIds));
     }
+
+    @Override
+    public List<Store> findByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findByIdIn(ids));
+    }
 }
@@ -7,6 +7,7 @@ import com.nexashop.domain.tenant.entity.Tenant;
 import com.nexashop.infrastructure.persistence.jpa.TenantJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.TenantMapper;
 import com.nexashop.infrastructure.persistence.model.tenant.TenantJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Repository;
@@ -48,6 +49,14 @@ public class TenantRepositoryAdapter
         return toDomainList(repository.findBySectorIdIn(sectorIds));
     }
 
+    @Override
+    public List<Tenant> findByIdIn(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findByIdIn(ids));
+    }
+
     @Override
     public PageResult<Tenant> findAll(PageRequest request) {
         Page<TenantJpaEntity> page = repository.findAll(
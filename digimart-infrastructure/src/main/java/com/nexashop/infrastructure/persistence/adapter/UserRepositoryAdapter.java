@@ -7,6 +7,7 @@ import com.nexashop.domain.user.entity.User;
 import com.nexashop.infrastructure.persistence.jpa.UserJpaRepository;
 import com.nexashop.infrastructure.persistence.mapper.UserMapper;
 import com.nexashop.infrastructure.persistence.model.user.UserJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -54,6 +55,14 @@ public class UserRepositoryAdapter
         return toDomainList(repository.findByTenantId(tenantId));
     }
 
+    @Override
+    public List<User> findByIdIn(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return toDomainList(repository.findByIdIn(ids));
+    }
+
     @Override
     public PageResult<User> findByTenantId(PageRequest request, Long tenantId) {
         Page<UserJpaEntity> page = repository.findByTenantId(
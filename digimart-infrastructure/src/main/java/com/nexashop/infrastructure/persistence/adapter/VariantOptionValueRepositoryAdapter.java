@@ -58,4 +58,13 @@ public class VariantOptionValueRepositoryAdapter
         }
         repository.deleteByVariantIdIn(variantIds);
     }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
 }
@@ -57,4 +57,13 @@ public class VariantStoreInventoryRepositoryAdapter
     public void deleteByVariantIds(List<Long> variantIds) {
         repository.deleteByVariantIdIn(variantIds);
     }
+
+    @Override
+    @Transactional
+    public void deleteByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        repository.deleteByIdIn(ids);
+    }
 }
@@ -1,12 +1,90 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
+import com.nexashop.domain.audit.entity.AuditAction;
 import com.nexashop.infrastructure.persistence.model.audit.AuditEventJpaEntity;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface AuditEventJpaRepository
         extends JpaRepository<AuditEventJpaEntity, Long>, JpaSpecificationExecutor<AuditEventJpaEntity> {
 
     long deleteByOccurredAtLessThan(LocalDateTime occurredAt);
+
+    @Query("""
+            select min(e.id) from AuditEventJpaEntity e
+            where e.id >= :fromId
+              and e.occurredAt < :occurredBefore
+              and (:tenantId is null or e.tenantId = :tenantId)
+              and e.tenantId not in :excludedTenantIds
+            """)
+    Long findFirstIdBefore(
+            @Param("occurredBefore") LocalDateTime occurredBefore,
+            @Param("tenantId") Long tenantId,
+            @Param("excludedTenantIds") Collection<Long> excludedTenantIds,
+            @Param("fromId") long fromId
+    );
+
+    @Modifying
+    @Query("""
+            delete from AuditEventJpaEntity e
+            where e.id >= :fromId and e.id < :toId
+              and e.occurredAt < :occurredBefore
+              and (:tenantId is null or e.tenantId = :tenantId)
+              and e.tenantId not in :excludedTenantIds
+            """)
+    int deleteChunk(
+            @Param("fromId") long fromId,
+            @Param("toId") long toId,
+            @Param("occurredBefore") LocalDateTime occurredBefore,
+            @Param("tenantId") Long tenantId,
+            @Param("excludedTenantIds") Collection<Long> excludedTenantIds
+    );
+
+    @Modifying
+    @Query(value = """
+            insert into audit_events_archive
+            select * from audit_events e
+            where e.id >= :fromId and e.id < :toId
+              and e.occurred_at < :occurredBefore
+              and (cast(:tenantId as bigint) is null or e.tenant_id = :tenantId)
+              and e.tenant_id not in (:excludedTenantIds)
+            on conflict (id, occurred_at) do nothing
+            """, nativeQuery = true)
+    int archiveChunk(
+            @Param("fromId") long fromId,
+            @Param("toId") long toId,
+            @Param("occurredBefore") LocalDateTime occurredBefore,
+            @Param("tenantId") Long tenantId,
+            @Param("excludedTenantIds") Collection<Long> excludedTenantIds
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select e from AuditEventJpaEntity e
+            where (:tenantId is null or e.tenantId = :tenantId)
+              and (:entityType is null or e.entityType = :entityType)
+              and (:action is null or e.action = :action)
+              and e.occurredAt >= :occurredFrom
+              and e.occurredAt <= :occurredTo
+            order by e.occurredAt desc, e.id desc
+            """)
+    Stream<AuditEventJpaEntity> streamByFilters(
+            @Param("tenantId") Long tenantId,
+            @Param("entityType") String entityType,
+            @Param("action") AuditAction action,
+            @Param("occurredFrom") LocalDateTime occurredFrom,
+            @Param("occurredTo") LocalDateTime occurredTo
+    );
 }
@@ -0,0 +1,7 @@
+package com.nexashop.infrastructure.persistence.jpa;
+
+import com.nexashop.infrastructure.persistence.model.audit.AuditRetentionPolicyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditRetentionPolicyJpaRepository extends JpaRepository<AuditRetentionPolicyJpaEntity, Long> {
+}
@@ -0,0 +1,22 @@
+package com.nexashop.infrastructure.persistence.jpa;
+
+import com.nexashop.infrastructure.persistence.model.catalog.CategoryClosureJpaEntity;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CategoryClosureJpaRepository extends JpaRepository<CategoryClosureJpaEntity, Long> {
+
+    @Modifying
+    @Query("""
+            delete from CategoryClosureJpaEntity c
+            where c.tenantId = :tenantId
+              and c.descendantId in :descendantIds
+            """)
+    int deleteByTenantIdAndDescendantIdIn(
+            @Param("tenantId") Long tenantId,
+            @Param("descendantIds") Collection<Long> descendantIds
+    );
+}
@@ -6,13 +6,30 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, Long> {
 
     boolean existsByTenantIdAndSlug(Long tenantId, String slug);
 
+    boolean existsByTenantIdAndSlugAndIdNot(Long tenantId, String slug, Long id);
+
     Optional<CategoryJpaEntity> findByTenantIdAndSlug(Long tenantId, String slug);
 
+    @Query("""
+            select c.slug from CategoryJpaEntity c
+            where c.tenantId = :tenantId
+              and (c.slug = :slug or c.slug like :prefix escape '\\')
+              and (:excludeId is null or c.id <> :excludeId)
+            """)
+    List<String> findSlugsByTenantIdAndPrefix(
+            @Param("tenantId") Long tenantId,
+            @Param("slug") String slug,
+            @Param("prefix") String prefix,
+            @Param("excludeId") Long excludeId
+    );
+
     Optional<CategoryJpaEntity> findByIdAndTenantId(Long id, Long tenantId);
 
     List<CategoryJpaEntity> findByTenantId(Long tenantId);
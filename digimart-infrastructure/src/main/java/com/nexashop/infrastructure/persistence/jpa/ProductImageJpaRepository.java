@@ -3,10 +3,32 @@ package com.nexashop.infrastructure.persistence.jpa;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductImageJpaEntity;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductImageJpaRepository extends JpaRepository<ProductImageJpaEntity, Long> {
 
     List<ProductImageJpaEntity> findByProductIdOrderByDisplayOrderAsc(Long productId);
 
+    List<ProductImageJpaEntity> findByProductIdInOrderByProductIdAscDisplayOrderAsc(List<Long> productIds);
+
     void deleteByProductId(Long productId);
+
+    @Modifying
+    @Query("""
+            update ProductImageJpaEntity i
+            set i.variants = :variants
+            where i.id = :id
+              and i.imageUrl = :imageUrl
+              and i.focusX = :focusX
+              and i.focusY = :focusY
+            """)
+    int updateVariantsIfUnchanged(
+            @Param("id") Long id,
+            @Param("imageUrl") String imageUrl,
+            @Param("focusX") Integer focusX,
+            @Param("focusY") Integer focusY,
+            @Param("variants") String variants
+    );
 }
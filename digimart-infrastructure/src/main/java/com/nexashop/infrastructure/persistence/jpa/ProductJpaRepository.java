@@ -3,93 +3,225 @@ package com.nexashop.infrastructure.persistence.jpa;
 import com.nexashop.domain.catalog.entity.ProductAvailability;
 import com.nexashop.domain.catalog.entity.ProductStatus;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductJpaEntity;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
 
     boolean existsByTenantIdAndSlug(Long tenantId, String slug);
 
+    boolean existsByTenantIdAndSlugAndIdNot(Long tenantId, String slug, Long id);
+
     boolean existsByTenantIdAndSku(Long tenantId, String sku);
 
+    boolean existsByTenantIdAndSkuAndIdNot(Long tenantId, String sku, Long id);
+
+    @Query("select p.slug from ProductJpaEntity p where p.tenantId = :tenantId")
+    List<String> findSlugsByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("""
+            select p.slug from ProductJpaEntity p
+            where p.tenantId = :tenantId
+              and (p.slug = :slug or p.slug like :prefix escape '\\')
+              and (:excludeId is null or p.id <> :excludeId)
+            """)
+    List<String> findSlugsByTenantIdAndPrefix(
+            @Param("tenantId") Long tenantId,
+            @Param("slug") String slug,
+            @Param("prefix") String prefix,
+            @Param("excludeId") Long excludeId
+    );
+
+    @Query("select p.sku from ProductJpaEntity p where p.tenantId = :tenantId and p.sku is not null")
+    List<String> findSkusByTenantId(@Param("tenantId") Long tenantId);
+
     Optional<ProductJpaEntity> findByIdAndTenantId(Long id, Long tenantId);
 
     List<ProductJpaEntity> findByTenantId(Long tenantId);
 
     Page<ProductJpaEntity> findByTenantId(Long tenantId, Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from ProductJpaEntity p where p.tenantId = :tenantId order by p.id")
+    Stream<ProductJpaEntity> streamByTenantId(@Param("tenantId") Long tenantId);
+
+    List<ProductJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<ProductJpaEntity> findByTenantIdAndIdGreaterThanOrderByIdAsc(Long tenantId, Long id, Pageable pageable);
+
+    @Query(value = """
+            select p from StoreProductVisibilityJpaEntity v
+            join ProductJpaEntity p on p.id = v.productId
+            where v.tenantId = :tenantId
+              and (v.storeId = :storeId or v.storeId is null)
+            order by v.productId
+            """,
+            countQuery = """
+            select count(distinct v.productId) from StoreProductVisibilityJpaEntity v
+            where v.tenantId = :tenantId
+              and (v.storeId = :storeId or v.storeId is null)
+            """)
+    Page<ProductJpaEntity> findVisibleInStore(
+            @Param("tenantId") Long tenantId,
+            @Param("storeId") Long storeId,
+            Pageable pageable
+    );
+
+    List<ProductJpaEntity> findAllByIdIn(Collection<Long> ids);
+
+    @Modifying
     @Query("""
-            select distinct p
-            from ProductJpaEntity p
-            left join ProductCategoryJpaEntity pc on pc.productId = p.id
-            where p.tenantId = :tenantId
+            update ProductJpaEntity p
+            set p.status = :status,
+                p.updatedBy = :updatedBy,
+                p.updatedAt = :updatedAt
+            where p.id in :ids
+            """)
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ProductStatus status,
+            @Param("updatedBy") Long updatedBy,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("""
+            update ProductJpaEntity p
+            set p.initialPrice = coalesce(:initialPrice, p.initialPrice),
+                p.finalPrice = coalesce(:finalPrice, p.finalPrice),
+                p.shippingPrice = coalesce(:shippingPrice, p.shippingPrice),
+                p.shippingCostPrice = coalesce(:shippingCostPrice, p.shippingCostPrice),
+                p.updatedBy = :updatedBy,
+                p.updatedAt = :updatedAt
+            where p.id in :ids
+            """)
+    int updatePricingByIdIn(
+            @Param("ids") Collection<Long> ids,
+            @Param("initialPrice") BigDecimal initialPrice,
+            @Param("finalPrice") BigDecimal finalPrice,
+            @Param("shippingPrice") BigDecimal shippingPrice,
+            @Param("shippingCostPrice") BigDecimal shippingCostPrice,
+            @Param("updatedBy") Long updatedBy,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("""
+            delete from VariantStoreInventoryJpaEntity i
+            where i.variantId in (
+              select v.id from ProductVariantJpaEntity v
+              where v.productId in :productIds
+            )
+            """)
+    int deleteVariantInventoriesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("""
+            delete from VariantOptionValueJpaEntity vov
+            where vov.variantId in (
+              select v.id from ProductVariantJpaEntity v
+              where v.productId in :productIds
+            )
+            """)
+    int deleteVariantOptionValuesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductVariantJpaEntity v where v.productId in :productIds")
+    int deleteVariantsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("""
+            delete from ProductOptionValueJpaEntity ov
+            where ov.optionId in (
+              select o.id from ProductOptionJpaEntity o
+              where o.productId in :productIds
+            )
+            """)
+    int deleteOptionValuesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductOptionJpaEntity o where o.productId in :productIds")
+    int deleteOptionsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductCategoryJpaEntity pc where pc.productId in :productIds")
+    int deleteCategoriesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductImageJpaEntity i where i.productId in :productIds")
+    int deleteImagesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductStoreInventoryJpaEntity i where i.productId in :productIds")
+    int deleteInventoriesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductPriceHistoryJpaEntity h where h.productId in :productIds")
+    int deletePriceHistoryByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from StoreProductVisibilityJpaEntity v where v.productId in :productIds")
+    int deleteStoreVisibilityByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("delete from ProductJpaEntity p where p.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+            update ProductJpaEntity p
+            set p.lowStock = :lowStock
+            where p.id in :ids
+            """)
+    int updateLowStock(@Param("ids") Collection<Long> ids, @Param("lowStock") boolean lowStock);
+
+    String SEARCH_FILTER = """
+            p.tenantId = :tenantId
               and (:status is null or p.status = :status)
               and (:availability is null or p.availability = :availability)
-              and (
-                :search = ''
-                or lower(p.name) like concat('%', :search, '%')
-                or lower(p.description) like concat('%', :search, '%')
-                or lower(p.sku) like concat('%', :search, '%')
-              )
+              and (:searchEnabled = false or p.id in :matchingIds)
               and (:minPrice is null or coalesce(p.finalPrice, p.initialPrice) >= :minPrice)
               and (:maxPrice is null or coalesce(p.finalPrice, p.initialPrice) <= :maxPrice)
-              and (:categoryId is null or pc.categoryId = :categoryId)
               and (
-                :stockLow is null
-                or :stockLow = false
+                :categoryId is null
                 or (
-                  not exists (
-                    select 1 from ProductVariantJpaEntity v
-                    where v.productId = p.id
-                  )
-                  and (
-                    (
-                      p.trackStock = false
-                      and p.lowStockThreshold is not null
-                      and p.stockQuantity is not null
-                      and p.stockQuantity <= p.lowStockThreshold
-                    )
-                    or (
-                      p.trackStock = true
-                      and exists (
-                        select 1 from ProductStoreInventoryJpaEntity inv
-                        where inv.productId = p.id
-                          and inv.lowStockThreshold is not null
-                          and inv.quantity <= inv.lowStockThreshold
-                      )
-                    )
+                  :includeDescendants = false
+                  and exists (
+                    select 1 from ProductCategoryJpaEntity pc
+                    where pc.productId = p.id
+                      and pc.categoryId = :categoryId
                   )
                 )
-                or exists (
-                  select 1
-                  from ProductVariantJpaEntity v
-                  where v.productId = p.id
-                    and (
-                      (
-                        (v.trackStock = false or v.trackStock is null)
-                        and v.stockQuantity is not null
-                        and v.lowStockThreshold is not null
-                        and v.stockQuantity <= v.lowStockThreshold
-                      )
-                      or (
-                        v.trackStock = true
-                        and exists (
-                          select 1 from VariantStoreInventoryJpaEntity vinv
-                          where vinv.variantId = v.id
-                            and vinv.lowStockThreshold is not null
-                            and vinv.quantity <= vinv.lowStockThreshold
-                        )
-                      )
-                    )
+                or (
+                  :includeDescendants = true
+                  and exists (
+                    select 1 from CategoryClosureJpaEntity cc, ProductCategoryJpaEntity pc
+                    where cc.ancestorId = :categoryId
+                      and pc.categoryId = cc.descendantId
+                      and pc.productId = p.id
+                  )
                 )
               )
-            """)
+              and (:stockLow is null or :stockLow = false or p.lowStock = true)
+            """;
+
+    @Query("select p from ProductJpaEntity p where " + SEARCH_FILTER)
     Page<ProductJpaEntity> searchProducts(
             @Param("tenantId") Long tenantId,
             @Param("status") ProductStatus status,
@@ -97,8 +229,125 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Lo
             @Param("stockLow") Boolean stockLow,
             @Param("minPrice") BigDecimal minPrice,
             @Param("maxPrice") BigDecimal maxPrice,
-            @Param("search") String search,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
             @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants,
             Pageable pageable
     );
+
+    @Query("select p from ProductJpaEntity p where " + SEARCH_FILTER + """
+              and (
+                :afterId is null
+                or p.createdAt > :afterCreatedAt
+                or (p.createdAt = :afterCreatedAt and p.id > :afterId)
+              )
+            order by p.createdAt asc, p.id asc
+            """)
+    List<ProductJpaEntity> searchProductsAfter(
+            @Param("tenantId") Long tenantId,
+            @Param("status") ProductStatus status,
+            @Param("availability") ProductAvailability availability,
+            @Param("stockLow") Boolean stockLow,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
+            @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("select count(p) from ProductJpaEntity p where " + SEARCH_FILTER)
+    long countProducts(
+            @Param("tenantId") Long tenantId,
+            @Param("status") ProductStatus status,
+            @Param("availability") ProductAvailability availability,
+            @Param("stockLow") Boolean stockLow,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
+            @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants
+    );
+
+    // Postgres-only: the document and name/sku expressions match the GIN indexes in
+    // MIGRATION_2026_10_17_product_search_index.sql so matching stays index-backed.
+    String TEXT_MATCH = """
+              and (
+                cast(sql('to_tsvector(''simple'', coalesce(?, '''') || '' '' || coalesce(?, '''') || '' '' || coalesce(?, '''')) @@ to_tsquery(''simple'', ?)',
+                    p.name, p.description, p.sku, :tsQuery) as Boolean) = true
+                or lower(p.name) like :pattern escape '\\'
+                or lower(p.sku) like :pattern escape '\\'
+              )
+            """;
+
+    String TEXT_RANK = """
+            cast(sql('ts_rank(to_tsvector(''simple'', coalesce(?, '''') || '' '' || coalesce(?, '''') || '' '' || coalesce(?, '''')), to_tsquery(''simple'', ?))',
+                p.name, p.description, p.sku, :tsQuery) as Double)
+              + case when lower(p.name) like :pattern escape '\\' then 0.5 else 0 end
+            """;
+
+    @Query("select p from ProductJpaEntity p where " + SEARCH_FILTER + TEXT_MATCH
+            + " order by " + TEXT_RANK + " desc, p.id asc")
+    List<ProductJpaEntity> searchProductsMatching(
+            @Param("tenantId") Long tenantId,
+            @Param("status") ProductStatus status,
+            @Param("availability") ProductAvailability availability,
+            @Param("stockLow") Boolean stockLow,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
+            @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants,
+            @Param("tsQuery") String tsQuery,
+            @Param("pattern") String pattern,
+            Pageable pageable
+    );
+
+    @Query("select p from ProductJpaEntity p where " + SEARCH_FILTER + TEXT_MATCH + """
+              and (
+                :afterId is null
+                or p.createdAt > :afterCreatedAt
+                or (p.createdAt = :afterCreatedAt and p.id > :afterId)
+              )
+            order by p.createdAt asc, p.id asc
+            """)
+    List<ProductJpaEntity> searchProductsMatchingAfter(
+            @Param("tenantId") Long tenantId,
+            @Param("status") ProductStatus status,
+            @Param("availability") ProductAvailability availability,
+            @Param("stockLow") Boolean stockLow,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
+            @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants,
+            @Param("tsQuery") String tsQuery,
+            @Param("pattern") String pattern,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("select count(p) from ProductJpaEntity p where " + SEARCH_FILTER + TEXT_MATCH)
+    long countProductsMatching(
+            @Param("tenantId") Long tenantId,
+            @Param("status") ProductStatus status,
+            @Param("availability") ProductAvailability availability,
+            @Param("stockLow") Boolean stockLow,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("searchEnabled") boolean searchEnabled,
+            @Param("matchingIds") Collection<Long> matchingIds,
+            @Param("categoryId") Long categoryId,
+            @Param("includeDescendants") boolean includeDescendants,
+            @Param("tsQuery") String tsQuery,
+            @Param("pattern") String pattern
+    );
 }
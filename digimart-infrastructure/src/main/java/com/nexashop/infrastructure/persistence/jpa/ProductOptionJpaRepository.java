@@ -1,12 +1,20 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
 import com.nexashop.infrastructure.persistence.model.catalog.ProductOptionJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductOptionJpaRepository extends JpaRepository<ProductOptionJpaEntity, Long> {
 
     List<ProductOptionJpaEntity> findByProductId(Long productId);
 
     void deleteByProductId(Long productId);
+
+    @Modifying
+    @Query("delete from ProductOptionJpaEntity o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
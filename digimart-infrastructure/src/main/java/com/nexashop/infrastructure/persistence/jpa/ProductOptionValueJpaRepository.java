@@ -1,8 +1,12 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
 import com.nexashop.infrastructure.persistence.model.catalog.ProductOptionValueJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductOptionValueJpaRepository extends JpaRepository<ProductOptionValueJpaEntity, Long> {
 
@@ -13,4 +17,8 @@ public interface ProductOptionValueJpaRepository extends JpaRepository<ProductOp
     void deleteByOptionId(Long optionId);
 
     void deleteByOptionIdIn(List<Long> optionIds);
+
+    @Modifying
+    @Query("delete from ProductOptionValueJpaEntity v where v.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
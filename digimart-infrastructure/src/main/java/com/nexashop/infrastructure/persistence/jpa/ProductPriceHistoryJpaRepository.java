@@ -3,6 +3,7 @@ package com.nexashop.infrastructure.persistence.jpa;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductPriceHistoryJpaEntity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,5 +27,25 @@ public interface ProductPriceHistoryJpaRepository extends JpaRepository<ProductP
             """)
     BigDecimal findLowestPriceSince(@Param("productId") Long productId, @Param("since") LocalDateTime since);
 
+    @Query("""
+            select h.productId, min(coalesce(h.finalPrice, h.initialPrice))
+            from ProductPriceHistoryJpaEntity h
+            where h.productId in :productIds
+            group by h.productId
+            """)
+    List<Object[]> findLowestPricesAllTime(@Param("productIds") List<Long> productIds);
+
+    @Query("""
+            select h.productId, min(coalesce(h.finalPrice, h.initialPrice))
+            from ProductPriceHistoryJpaEntity h
+            where h.productId in :productIds
+              and h.changedAt >= :since
+            group by h.productId
+            """)
+    List<Object[]> findLowestPricesSince(
+            @Param("productIds") List<Long> productIds,
+            @Param("since") LocalDateTime since
+    );
+
     Page<ProductPriceHistoryJpaEntity> findByProductId(Long productId, Pageable pageable);
 }
@@ -10,6 +10,8 @@ public interface ProductStoreInventoryJpaRepository extends JpaRepository<Produc
 
     List<ProductStoreInventoryJpaEntity> findByProductId(Long productId);
 
+    List<ProductStoreInventoryJpaEntity> findByProductIdIn(List<Long> productIds);
+
     List<ProductStoreInventoryJpaEntity> findByStoreId(Long storeId);
 
     @Query("""
@@ -1,6 +1,7 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
 import com.nexashop.infrastructure.persistence.model.catalog.ProductVariantJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -62,4 +63,8 @@ public interface ProductVariantJpaRepository extends JpaRepository<ProductVarian
               and v.productImageId = :productImageId
             """)
     void clearProductImage(@Param("productId") Long productId, @Param("productImageId") Long productImageId);
+
+    @Modifying
+    @Query("delete from ProductVariantJpaEntity v where v.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -9,6 +9,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 public interface RolePermissionJpaRepository extends JpaRepository<RolePermissionJpaEntity, Long> {
 
+    List<RolePermissionJpaEntity> findByTenantId(Long tenantId);
+
     List<RolePermissionJpaEntity> findByTenantIdAndRoleId(Long tenantId, Long roleId);
 
     List<RolePermissionJpaEntity> findByTenantIdAndRoleIdIn(Long tenantId, Collection<Long> roleIds);
@@ -17,5 +17,7 @@ public interface StoreJpaRepository extends JpaRepository<StoreJpaEntity, Long>
     Page<StoreJpaEntity> findByTenantId(Long tenantId, Pageable pageable);
 
     List<StoreJpaEntity> findByTenantIdIn(List<Long> tenantIds);
+
+    List<StoreJpaEntity> findByIdIn(List<Long> ids);
 }
 
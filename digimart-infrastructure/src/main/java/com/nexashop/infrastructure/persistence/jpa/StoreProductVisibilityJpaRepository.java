@@ -0,0 +1,22 @@
+package com.nexashop.infrastructure.persistence.jpa;
+
+import com.nexashop.infrastructure.persistence.model.catalog.StoreProductVisibilityJpaEntity;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoreProductVisibilityJpaRepository extends JpaRepository<StoreProductVisibilityJpaEntity, Long> {
+
+    @Modifying
+    @Query("""
+            delete from StoreProductVisibilityJpaEntity v
+            where v.tenantId = :tenantId
+              and v.productId in :productIds
+            """)
+    int deleteByTenantIdAndProductIdIn(
+            @Param("tenantId") Long tenantId,
+            @Param("productIds") Collection<Long> productIds
+    );
+}
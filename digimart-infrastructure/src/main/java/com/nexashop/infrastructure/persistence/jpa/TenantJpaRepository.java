@@ -1,5 +1,6 @@
 package com.nexashop.infrastructure.persistence.jpa;
 import com.nexashop.infrastructure.persistence.model.tenant.TenantJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -10,5 +11,7 @@ public interface TenantJpaRepository extends JpaRepository<TenantJpaEntity, Long
     List<TenantJpaEntity> findBySectorId(Long sectorId);
 
     List<TenantJpaEntity> findBySectorIdIn(List<Long> sectorIds);
+
+    List<TenantJpaEntity> findByIdIn(Collection<Long> ids);
 }
 
@@ -15,6 +15,8 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
     java.util.List<UserJpaEntity> findByTenantId(Long tenantId);
 
+    java.util.List<UserJpaEntity> findByIdIn(java.util.Collection<Long> ids);
+
     Page<UserJpaEntity> findByTenantId(Long tenantId, Pageable pageable);
 
     java.util.Optional<UserJpaEntity> findFirstByTenantIdOrderByIdAsc(Long tenantId);
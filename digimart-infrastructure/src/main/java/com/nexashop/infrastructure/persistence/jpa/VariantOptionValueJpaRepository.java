@@ -1,8 +1,12 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
 import com.nexashop.infrastructure.persistence.model.catalog.VariantOptionValueJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface VariantOptionValueJpaRepository extends JpaRepository<VariantOptionValueJpaEntity, Long> {
 
@@ -13,4 +17,8 @@ public interface VariantOptionValueJpaRepository extends JpaRepository<VariantOp
     void deleteByVariantId(Long variantId);
 
     void deleteByVariantIdIn(List<Long> variantIds);
+
+    @Modifying
+    @Query("delete from VariantOptionValueJpaEntity l where l.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,8 +1,12 @@
 package com.nexashop.infrastructure.persistence.jpa;
 
 import com.nexashop.infrastructure.persistence.model.catalog.VariantStoreInventoryJpaEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface VariantStoreInventoryJpaRepository extends JpaRepository<VariantStoreInventoryJpaEntity, Long> {
 
@@ -15,4 +19,8 @@ public interface VariantStoreInventoryJpaRepository extends JpaRepository<Varian
     void deleteByVariantId(Long variantId);
 
     void deleteByVariantIdIn(List<Long> variantIds);
+
+    @Modifying
+    @Query("delete from VariantStoreInventoryJpaEntity i where i.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,7 +1,9 @@
 package com.nexashop.infrastructure.persistence.mapper;
 
 import com.nexashop.domain.audit.entity.AuditEvent;
+import com.nexashop.domain.audit.entity.AuditRetentionPolicy;
 import com.nexashop.infrastructure.persistence.model.audit.AuditEventJpaEntity;
+import com.nexashop.infrastructure.persistence.model.audit.AuditRetentionPolicyJpaEntity;
 
 public final class AuditMapper {
 
@@ -45,4 +47,24 @@ public final class AuditMapper {
         entity.setOccurredAt(domain.getOccurredAt());
         return entity;
     }
+
+    public static AuditRetentionPolicy toDomain(AuditRetentionPolicyJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        AuditRetentionPolicy domain = new AuditRetentionPolicy();
+        MapperUtils.mapTenantToDomain(entity, domain);
+        domain.setRetentionDays(entity.getRetentionDays());
+        return domain;
+    }
+
+    public static AuditRetentionPolicyJpaEntity toJpa(AuditRetentionPolicy domain) {
+        if (domain == null) {
+            return null;
+        }
+        AuditRetentionPolicyJpaEntity entity = new AuditRetentionPolicyJpaEntity();
+        MapperUtils.mapTenantToJpa(domain, entity);
+        entity.setRetentionDays(domain.getRetentionDays());
+        return entity;
+    }
 }
@@ -1,10 +1,20 @@
 package com.nexashop.infrastructure.persistence.mapper;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nexashop.domain.catalog.entity.ProductImage;
+import com.nexashop.domain.catalog.entity.ProductImageVariant;
 import com.nexashop.infrastructure.persistence.model.catalog.ProductImageJpaEntity;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class ProductImageMapper {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<ProductImageVariant>> VARIANT_LIST = new TypeReference<>() {
+    };
+
     private ProductImageMapper() {
     }
 
@@ -21,6 +31,7 @@ public final class ProductImageMapper {
         domain.setPrimary(entity.isPrimary());
         domain.setFocusX(entity.getFocusX());
         domain.setFocusY(entity.getFocusY());
+        domain.setVariants(readVariants(entity.getVariants()));
         return domain;
     }
 
@@ -37,6 +48,29 @@ public final class ProductImageMapper {
         entity.setPrimary(domain.isPrimary());
         entity.setFocusX(domain.getFocusX());
         entity.setFocusY(domain.getFocusY());
+        entity.setVariants(writeVariants(domain.getVariants()));
         return entity;
     }
+
+    private static List<ProductImageVariant> readVariants(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return new ArrayList<>(OBJECT_MAPPER.readValue(json, VARIANT_LIST));
+        } catch (JsonProcessingException ex) {
+            return new ArrayList<>();
+        }
+    }
+
+    public static String writeVariants(List<ProductImageVariant> variants) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(variants);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize image variants", ex);
+        }
+    }
 }
@@ -26,6 +26,7 @@ public final class ProductMapper {
         domain.setTrackStock(entity.isTrackStock());
         domain.setStockQuantity(entity.getStockQuantity());
         domain.setLowStockThreshold(entity.getLowStockThreshold());
+        domain.setLowStock(entity.isLowStock());
         domain.setStatus(entity.getStatus());
         domain.setAvailability(entity.getAvailability());
         domain.setAvailabilityText(entity.getAvailabilityText());
@@ -54,6 +55,7 @@ public final class ProductMapper {
         entity.setTrackStock(domain.isTrackStock());
         entity.setStockQuantity(domain.getStockQuantity());
         entity.setLowStockThreshold(domain.getLowStockThreshold());
+        entity.setLowStock(domain.isLowStock());
         entity.setStatus(domain.getStatus());
         entity.setAvailability(domain.getAvailability());
         entity.setAvailabilityText(domain.getAvailabilityText());
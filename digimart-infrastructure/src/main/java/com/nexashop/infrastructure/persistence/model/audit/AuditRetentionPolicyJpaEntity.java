@@ -0,0 +1,24 @@
+package com.nexashop.infrastructure.persistence.model.audit;
+
+import com.nexashop.infrastructure.persistence.model.common.TenantScopedJpaEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "audit_retention_policies",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"tenant_id"})
+        }
+)
+@Getter
+@Setter
+public class AuditRetentionPolicyJpaEntity extends TenantScopedJpaEntity {
+
+    @Column(name = "retention_days", nullable = false)
+    private Integer retentionDays;
+}
@@ -0,0 +1,40 @@
+package com.nexashop.infrastructure.persistence.model.catalog;
+
+import com.nexashop.infrastructure.persistence.model.common.BaseJpaEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "category_closure",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_category_closure_ancestor_descendant",
+                        columnNames = {"ancestor_id", "descendant_id"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_category_closure_descendant", columnList = "descendant_id")
+        }
+)
+@Getter
+@Setter
+public class CategoryClosureJpaEntity extends BaseJpaEntity {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -3,6 +3,7 @@ package com.nexashop.infrastructure.persistence.model.catalog;
 import com.nexashop.infrastructure.persistence.model.common.TenantScopedJpaEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
@@ -13,6 +14,9 @@ import lombok.Setter;
         name = "product_categories",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"tenant_id", "product_id", "category_id"})
+        },
+        indexes = {
+                @Index(name = "idx_product_categories_category_product", columnList = "category_id, product_id")
         }
 )
 @Getter
@@ -33,4 +33,7 @@ public class ProductImageJpaEntity extends TenantScopedJpaEntity {
 
     @Column(name = "focus_y", nullable = false)
     private Integer focusY = 50;
+
+    @Column(name = "variants", columnDefinition = "TEXT")
+    private String variants;
 }
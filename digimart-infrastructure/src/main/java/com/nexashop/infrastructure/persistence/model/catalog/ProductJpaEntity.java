@@ -7,6 +7,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.math.BigDecimal;
@@ -19,6 +20,10 @@ import lombok.Setter;
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"tenant_id", "slug"}),
                 @UniqueConstraint(columnNames = {"tenant_id", "sku"})
+        },
+        indexes = {
+                @Index(name = "idx_products_tenant_created_id", columnList = "tenant_id, created_at, id"),
+                @Index(name = "idx_products_tenant_low_stock", columnList = "tenant_id, low_stock")
         }
 )
 @Getter
@@ -61,6 +66,9 @@ public class ProductJpaEntity extends TenantScopedJpaEntity {
     @Column
     private Integer lowStockThreshold;
 
+    @Column(name = "low_stock", nullable = false)
+    private boolean lowStock = false;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProductStatus status = ProductStatus.ACTIVE;
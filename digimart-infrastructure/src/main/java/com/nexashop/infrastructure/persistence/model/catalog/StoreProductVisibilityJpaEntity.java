@@ -0,0 +1,31 @@
+package com.nexashop.infrastructure.persistence.model.catalog;
+
+import com.nexashop.infrastructure.persistence.model.common.BaseJpaEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(
+        name = "store_product_visibility",
+        indexes = {
+                @Index(name = "idx_store_product_visibility_tenant_store", columnList = "tenant_id, store_id, product_id"),
+                @Index(name = "idx_store_product_visibility_product", columnList = "product_id")
+        }
+)
+@Getter
+@Setter
+public class StoreProductVisibilityJpaEntity extends BaseJpaEntity {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "store_id")
+    private Long storeId;
+}
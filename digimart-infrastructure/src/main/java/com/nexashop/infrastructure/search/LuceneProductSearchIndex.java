@@ -0,0 +1,234 @@
+package com.nexashop.infrastructure.search;
+
+import com.nexashop.application.port.out.ProductSearchIndex;
+import com.nexashop.domain.catalog.entity.Product;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+public class LuceneProductSearchIndex implements ProductSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TENANT_ID = "tenantId";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String SKU = "sku";
+
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LuceneProductSearchIndex() {
+        this.analyzer = new StandardAnalyzer();
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to open product search index", ex);
+        }
+    }
+
+    @Override
+    public void index(Product product) {
+        indexAll(List.of(product));
+    }
+
+    @Override
+    public void indexAll(Collection<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return;
+        }
+        try {
+            for (Product product : products) {
+                if (product.getId() == null) {
+                    continue;
+                }
+                writer.updateDocument(new Term(ID, product.getId().toString()), toDocument(product));
+            }
+            refresh();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to index products", ex);
+        }
+    }
+
+    @Override
+    public void remove(Long productId) {
+        removeAll(List.of(productId));
+    }
+
+    @Override
+    public void removeAll(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+        try {
+            Term[] terms = productIds.stream()
+                    .map(id -> new Term(ID, id.toString()))
+                    .toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+            refresh();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to remove products from search index", ex);
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(Long tenantId, String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Query textQuery = buildTextQuery(terms);
+        Query filtered = new BooleanQuery.Builder()
+                .add(LongPoint.newExactQuery(TENANT_ID, tenantId), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .build();
+        Highlighter highlighter = new Highlighter(
+                new SimpleHTMLFormatter("<mark>", "</mark>"),
+                new QueryScorer(textQuery)
+        );
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                List<SearchHit> hits = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(filtered, limit).scoreDocs) {
+                    Document document = searcher.storedFields().document(scoreDoc.doc);
+                    hits.add(new SearchHit(
+                            Long.valueOf(document.get(ID)),
+                            scoreDoc.score,
+                            highlight(highlighter, document)
+                    ));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to search products", ex);
+        }
+    }
+
+    @Override
+    public List<Long> searchIds(Long tenantId, String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Query filtered = new BooleanQuery.Builder()
+                .add(LongPoint.newExactQuery(TENANT_ID, tenantId), BooleanClause.Occur.FILTER)
+                .add(buildTextQuery(terms), BooleanClause.Occur.MUST)
+                .build();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] scoreDocs = searcher.search(filtered, limit).scoreDocs;
+                List<Long> ids = new ArrayList<>(scoreDocs.length);
+                for (ScoreDoc scoreDoc : scoreDocs) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to search products", ex);
+        }
+    }
+
+    @Override
+    public boolean matchesInDatabase() {
+        return false;
+    }
+
+    private Document toDocument(Product product) {
+        Document document = new Document();
+        document.add(new StringField(ID, product.getId().toString(), Field.Store.YES));
+        document.add(new LongPoint(TENANT_ID, product.getTenantId()));
+        document.add(new TextField(NAME, valueOrEmpty(product.getName()), Field.Store.YES));
+        document.add(new TextField(DESCRIPTION, valueOrEmpty(product.getDescription()), Field.Store.YES));
+        document.add(new TextField(SKU, valueOrEmpty(product.getSku()), Field.Store.NO));
+        return document;
+    }
+
+    private Query buildTextQuery(List<String> terms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            Query termQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, term)), 3f), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(NAME, term)), 2f), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(SKU, term)), BooleanClause.Occur.SHOULD)
+                    .build();
+            builder.add(termQuery, BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private String highlight(Highlighter highlighter, Document document) throws IOException {
+        String name = document.get(NAME);
+        String description = document.get(DESCRIPTION);
+        try {
+            String fragment = highlighter.getBestFragment(analyzer, NAME, name);
+            if (fragment == null && !description.isEmpty()) {
+                fragment = highlighter.getBestFragment(analyzer, DESCRIPTION, description);
+            }
+            return fragment == null ? name : fragment;
+        } catch (InvalidTokenOffsetsException ex) {
+            return name;
+        }
+    }
+
+    private List<String> tokenize(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, query)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to parse search query", ex);
+        }
+        return terms;
+    }
+
+    private void refresh() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private String valueOrEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
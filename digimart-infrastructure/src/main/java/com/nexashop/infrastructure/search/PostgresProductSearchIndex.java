@@ -0,0 +1,140 @@
+package com.nexashop.infrastructure.search;
+
+import com.nexashop.application.port.out.ProductSearchIndex;
+import com.nexashop.domain.catalog.entity.Product;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class PostgresProductSearchIndex implements ProductSearchIndex {
+
+    private static final String DOCUMENT =
+            "to_tsvector('simple', coalesce(p.name, '') || ' ' || coalesce(p.description, '') || ' ' || coalesce(p.sku, ''))";
+
+    private static final String SEARCH_SQL = """
+            select p.id as id,
+                   ts_rank(%1$s, q) + case when lower(p.name) like :pattern escape '\\' then 0.5 else 0 end as score,
+                   ts_headline(
+                     'simple',
+                     coalesce(p.name, '') || ' ' || coalesce(p.description, ''),
+                     q,
+                     'StartSel=<mark>, StopSel=</mark>, MaxFragments=1, MaxWords=20, MinWords=5'
+                   ) as highlight
+            from products p, to_tsquery('simple', :tsQuery) q
+            where p.tenant_id = :tenantId
+              and (
+                %1$s @@ q
+                or lower(p.name) like :pattern escape '\\'
+                or lower(p.sku) like :pattern escape '\\'
+              )
+            order by score desc, p.id asc
+            limit :limit
+            """.formatted(DOCUMENT);
+
+    private static final String SEARCH_IDS_SQL = """
+            select p.id as id
+            from products p, to_tsquery('simple', :tsQuery) q
+            where p.tenant_id = :tenantId
+              and (
+                %1$s @@ q
+                or lower(p.name) like :pattern escape '\\'
+                or lower(p.sku) like :pattern escape '\\'
+              )
+            order by ts_rank(%1$s, q) + case when lower(p.name) like :pattern escape '\\' then 0.5 else 0 end desc,
+                     p.id asc
+            limit :limit
+            """.formatted(DOCUMENT);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresProductSearchIndex(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // The tsvector and trigram indexes are expression indexes on products, so Postgres keeps them current.
+    @Override
+    public void index(Product product) {
+    }
+
+    @Override
+    public void indexAll(Collection<Product> products) {
+    }
+
+    @Override
+    public void remove(Long productId) {
+    }
+
+    @Override
+    public void removeAll(Collection<Long> productIds) {
+    }
+
+    @Override
+    public List<SearchHit> search(Long tenantId, String query, int limit) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery == null || limit < 1) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("tsQuery", tsQuery)
+                .addValue("pattern", likePattern(query))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new SearchHit(
+                rs.getLong("id"),
+                rs.getDouble("score"),
+                rs.getString("highlight")
+        ));
+    }
+
+    @Override
+    public List<Long> searchIds(Long tenantId, String query, int limit) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery == null || limit < 1) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("tsQuery", tsQuery)
+                .addValue("pattern", likePattern(query))
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(SEARCH_IDS_SQL, params, Long.class);
+    }
+
+    @Override
+    public boolean matchesInDatabase() {
+        return true;
+    }
+
+    // Shared with the product listing queries, which apply the same match inline.
+    public static String toTsQuery(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    public static String likePattern(String query) {
+        return "%" + escapeLike(query.trim().toLowerCase()) + "%";
+    }
+
+    private static List<String> tokenize(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(query.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isBlank())
+                .toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
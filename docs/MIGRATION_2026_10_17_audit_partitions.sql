@@ -0,0 +1,57 @@
+-- Migration: audit_events -> monthly range partitions on occurred_at (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase, during a quiet window.
+-- Run after MIGRATION_2026_10_17_pooled_sequences.sql (ids come from audit_events_seq).
+-- Then set audit.partitioning.enabled=true: the cleanup job creates
+-- partitions ahead of time and detaches/drops expired months.
+
+BEGIN;
+
+ALTER TABLE audit_events RENAME TO audit_events_legacy;
+
+CREATE TABLE audit_events (
+  LIKE audit_events_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS
+) PARTITION BY RANGE (occurred_at);
+
+-- The partition key has to be part of the primary key.
+ALTER TABLE audit_events ADD PRIMARY KEY (id, occurred_at);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_tenant_occurred
+  ON audit_events (tenant_id, occurred_at DESC, id DESC);
+
+-- Catches rows outside the managed months (clock skew, late replays).
+CREATE TABLE IF NOT EXISTS audit_events_default PARTITION OF audit_events DEFAULT;
+
+DO $$
+DECLARE
+  m DATE;
+  last_month DATE;
+BEGIN
+  SELECT date_trunc('month', COALESCE(MIN(occurred_at), now()))::date INTO m FROM audit_events_legacy;
+  last_month := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+  WHILE m <= last_month LOOP
+    EXECUTE format(
+      'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+      'audit_events_' || to_char(m, 'YYYY_MM'),
+      m,
+      (m + INTERVAL '1 month')::date
+    );
+    m := (m + INTERVAL '1 month')::date;
+  END LOOP;
+END $$;
+
+INSERT INTO audit_events SELECT * FROM audit_events_legacy;
+
+-- The retention purge archives with "on conflict (id, occurred_at)"; give the
+-- archive the same key as the partitioned table.
+ALTER TABLE IF EXISTS audit_events_archive DROP CONSTRAINT IF EXISTS audit_events_archive_pkey;
+ALTER TABLE IF EXISTS audit_events_archive ADD PRIMARY KEY (id, occurred_at);
+
+COMMIT;
+
+-- The chunked purge index from MIGRATION_2026_10_17_audit_retention.sql stays on
+-- the legacy table; recreate it on the partitioned parent.
+CREATE INDEX IF NOT EXISTS idx_audit_events_occurred_at_id
+  ON audit_events (occurred_at, id);
+
+-- After verifying row counts:
+-- DROP TABLE audit_events_legacy;
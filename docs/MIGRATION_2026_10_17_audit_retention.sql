@@ -0,0 +1,27 @@
+-- Migration: chunked audit retention purge (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- Tenants without a row in audit_retention_policies keep the default
+-- (current month only). retention_days <= 0 keeps the tenant's events forever.
+
+CREATE SEQUENCE IF NOT EXISTS audit_retention_policies_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS audit_retention_policies (
+  id BIGINT PRIMARY KEY,
+  tenant_id BIGINT NOT NULL,
+  retention_days INTEGER NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  CONSTRAINT uk_audit_retention_policies_tenant UNIQUE (tenant_id)
+);
+
+-- Only required when audit.cleanup.archive-enabled=true.
+CREATE TABLE IF NOT EXISTS audit_events_archive (LIKE audit_events INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+-- Keyed like the partitioned audit_events so the archive insert's conflict
+-- target stays valid before and after MIGRATION_2026_10_17_audit_partitions.sql.
+ALTER TABLE audit_events_archive DROP CONSTRAINT IF EXISTS audit_events_archive_pkey;
+ALTER TABLE audit_events_archive ADD PRIMARY KEY (id, occurred_at);
+
+-- The purge walks audit_events by primary key; this keeps the
+-- "first id older than the cutoff" probe cheap.
+CREATE INDEX IF NOT EXISTS idx_audit_events_occurred_at_id
+  ON audit_events (occurred_at, id);
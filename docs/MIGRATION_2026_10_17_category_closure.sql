@@ -0,0 +1,39 @@
+-- Migration: category closure table for subtree product filtering (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- One row per (ancestor, descendant) pair including the depth-0 self row.
+-- CategoryUseCase keeps it in sync on create, parent change and delete;
+-- the backfill below seeds it from the existing parent_category_id links.
+
+CREATE SEQUENCE IF NOT EXISTS category_closure_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS category_closure (
+  id BIGINT PRIMARY KEY,
+  tenant_id BIGINT NOT NULL,
+  ancestor_id BIGINT NOT NULL,
+  descendant_id BIGINT NOT NULL,
+  depth INTEGER NOT NULL,
+  CONSTRAINT uk_category_closure_ancestor_descendant UNIQUE (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant
+  ON category_closure (descendant_id);
+
+-- Lets the closure semi-join reach product ids without touching products first.
+CREATE INDEX IF NOT EXISTS idx_product_categories_category_product
+  ON product_categories (category_id, product_id);
+
+INSERT INTO category_closure (id, tenant_id, ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure (tenant_id, ancestor_id, descendant_id, depth, trail) AS (
+  SELECT c.tenant_id, c.id, c.id, 0, ARRAY[c.id]
+  FROM categories c
+  UNION ALL
+  SELECT cl.tenant_id, parent.id, cl.descendant_id, cl.depth + 1, cl.trail || parent.id
+  FROM closure cl
+  JOIN categories child ON child.id = cl.ancestor_id
+  JOIN categories parent ON parent.id = child.parent_category_id
+   AND parent.tenant_id = cl.tenant_id
+  WHERE NOT parent.id = ANY (cl.trail)
+)
+SELECT nextval('category_closure_seq'), tenant_id, ancestor_id, descendant_id, depth
+FROM closure
+ON CONFLICT (ancestor_id, descendant_id) DO NOTHING;
@@ -0,0 +1,30 @@
+-- Migration: IDENTITY ids -> pooled sequences (<table>_seq, increment 50) (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- Run BEFORE starting the new build: ddl-auto=update would otherwise create
+-- the sequences starting at 1 and collide with existing ids.
+
+DO $$
+DECLARE
+  t TEXT;
+  max_id BIGINT;
+BEGIN
+  FOREACH t IN ARRAY ARRAY[
+    'activity_sectors', 'audit_events', 'categories', 'permissions', 'plan_features',
+    'platform_config', 'premium_features', 'product_categories', 'product_images',
+    'product_option_values', 'product_options', 'product_price_history',
+    'product_store_inventory', 'product_variants', 'products', 'refresh_tokens',
+    'role_permissions', 'roles', 'stores', 'subscription_history', 'subscription_plans',
+    'tenant_subscriptions', 'tenant_wallets', 'tenants', 'user_role_assignments', 'users',
+    'variant_option_values', 'variant_store_inventory', 'wallet_transactions'
+  ] LOOP
+    IF to_regclass(t) IS NULL THEN
+      CONTINUE;
+    END IF;
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', t || '_seq');
+    EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', t) INTO max_id;
+    -- pooled optimizer hands out (value - 49 .. value), so keep the first block above max(id)
+    PERFORM setval(t || '_seq', max_id + 50, true);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', t);
+  END LOOP;
+END $$;
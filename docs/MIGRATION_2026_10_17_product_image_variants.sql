@@ -0,0 +1,6 @@
+-- Migration: responsive product image derivatives (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- variants holds a JSON array of {width, height, contentType, url} written by the
+-- upload-time derivative pipeline; NULL means no derivatives have been generated yet.
+
+ALTER TABLE product_images ADD COLUMN IF NOT EXISTS variants TEXT;
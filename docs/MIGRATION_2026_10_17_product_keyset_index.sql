@@ -0,0 +1,5 @@
+-- Migration: keyset index for cursor pagination on products (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+
+CREATE INDEX IF NOT EXISTS idx_products_tenant_created_id
+  ON products (tenant_id, created_at, id);
@@ -0,0 +1,9 @@
+-- Migration: denormalized low-stock flag on products (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- Existing rows start at FALSE; the low-stock reconciliation job rebuilds the flag.
+
+ALTER TABLE products
+  ADD COLUMN IF NOT EXISTS low_stock BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_products_tenant_low_stock
+  ON products (tenant_id, low_stock);
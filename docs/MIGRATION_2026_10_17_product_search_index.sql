@@ -0,0 +1,15 @@
+-- Migration: full-text and trigram indexes for product search (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector
+  ON products USING GIN (
+    to_tsvector('simple', coalesce(name, '') || ' ' || coalesce(description, '') || ' ' || coalesce(sku, ''))
+  );
+
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm
+  ON products USING GIN (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_products_sku_trgm
+  ON products USING GIN (lower(sku) gin_trgm_ops);
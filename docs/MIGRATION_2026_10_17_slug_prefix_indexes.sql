@@ -0,0 +1,12 @@
+-- Migration: slug prefix indexes (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- Slug allocation loads every "<base>" / "<base>-N" slug of a tenant with one
+-- LIKE 'base-%' query. The (tenant_id, slug) unique indexes use the database
+-- collation and cannot serve prefix matches outside the C locale, so add
+-- pattern-ops indexes alongside them.
+
+CREATE INDEX IF NOT EXISTS idx_products_tenant_slug_pattern
+    ON products (tenant_id, slug varchar_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_categories_tenant_slug_pattern
+    ON categories (tenant_id, slug varchar_pattern_ops);
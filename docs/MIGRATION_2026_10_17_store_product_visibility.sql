@@ -0,0 +1,68 @@
+-- Migration: store product visibility projection (PostgreSQL)
+-- Run manually if not using Flyway/Liquibase.
+-- One row per (product, store) where the product is visible; a NULL store_id
+-- means the product is visible in every store of the tenant. ProductUseCase
+-- refreshes the rows on product, variant and inventory writes; the backfill
+-- below applies the same rules to existing data.
+
+CREATE SEQUENCE IF NOT EXISTS store_product_visibility_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS store_product_visibility (
+  id BIGINT PRIMARY KEY,
+  tenant_id BIGINT NOT NULL,
+  product_id BIGINT NOT NULL,
+  store_id BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_product_visibility_tenant_store
+  ON store_product_visibility (tenant_id, store_id, product_id);
+
+CREATE INDEX IF NOT EXISTS idx_store_product_visibility_product
+  ON store_product_visibility (product_id);
+
+INSERT INTO store_product_visibility (id, tenant_id, product_id, store_id)
+SELECT nextval('store_product_visibility_seq'), tenant_id, product_id, store_id
+FROM (
+  -- Products without variants that do not track stock
+  SELECT p.tenant_id, p.id AS product_id, NULL::BIGINT AS store_id
+  FROM products p
+  WHERE p.track_stock = FALSE
+    AND NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+  UNION
+  -- Products with an active, in-stock variant that does not track stock
+  SELECT p.tenant_id, p.id, NULL::BIGINT
+  FROM products p
+  WHERE EXISTS (
+    SELECT 1 FROM product_variants v
+    WHERE v.product_id = p.id
+      AND v.track_stock = FALSE
+      AND v.status = 'ACTIVE'
+      AND v.stock_quantity > 0
+  )
+  UNION
+  -- Products with an active tracked variant stocked in a store
+  SELECT p.tenant_id, p.id, i.store_id
+  FROM products p
+  JOIN product_variants v ON v.product_id = p.id
+  JOIN variant_store_inventory i ON i.variant_id = v.id
+  WHERE v.track_stock = TRUE
+    AND v.status = 'ACTIVE'
+    AND i.is_active_in_store = TRUE
+    AND i.quantity > 0
+    AND NOT EXISTS (
+      SELECT 1 FROM product_variants g
+      WHERE g.product_id = p.id
+        AND g.track_stock = FALSE
+        AND g.status = 'ACTIVE'
+        AND g.stock_quantity > 0
+    )
+  UNION
+  -- Tracked products without variants stocked in a store
+  SELECT p.tenant_id, p.id, i.store_id
+  FROM products p
+  JOIN product_store_inventory i ON i.product_id = p.id
+  WHERE p.track_stock = TRUE
+    AND NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+    AND i.is_active_in_store = TRUE
+    AND i.quantity > 0
+) visible;